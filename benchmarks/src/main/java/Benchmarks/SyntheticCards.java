@@ -0,0 +1,500 @@
+package Benchmarks;
+
+import Model.CardsLists.*;
+import Model.Database.Database;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Deterministic generator of card data for the benchmarks: a card pool the
+ * size of the live database, and owned collections, decks and theme
+ * collections of any size drawn from it, all built in memory so that no
+ * network access or local {@code Database} directory is needed.
+ *
+ * <p>Everything is derived from the seed: each method draws from its own
+ * {@link Random}, seeded from the generator's seed, the method and the
+ * requested size, so the same call returns the same data whatever was
+ * generated before it, in any JVM.
+ *
+ * <p>The pool mimics the shape of the real data where the benchmarked code
+ * cares about it: two thirds monsters with stats, link markers and scales,
+ * some cards with a second artwork (another passCode for the same Konami ID),
+ * multi-language names, archetypes, rarities, prices, and effect texts of
+ * realistic length.
+ */
+public final class SyntheticCards {
+
+    /**
+     * The seed every benchmark uses, so results are comparable between runs
+     * and machines.
+     */
+    public static final long DEFAULT_SEED = 0x5EEDCA4DL;
+
+    /**
+     * Number of Konami IDs in the pool, about as many as the live database.
+     */
+    public static final int DEFAULT_POOL_SIZE = 13_000;
+
+    private static final int FIRST_KONAMI_ID = 4_007;
+    private static final int FIRST_PASS_CODE = 10_000_000;
+    private static final int ALTERNATE_ARTWORK_PERCENT = 8;
+
+    private static final String[] ADJECTIVES = {
+            "Ancient", "Blazing", "Celestial", "Dark", "Elemental", "Frozen", "Gilded", "Hidden",
+            "Infernal", "Jade", "Lunar", "Mystic", "Noble", "Obsidian", "Phantom", "Radiant",
+            "Savage", "Thunder", "Umbral", "Valiant", "Wicked", "Crimson", "Silent", "Iron"};
+    private static final String[] NOUNS = {
+            "Dragon", "Magician", "Knight", "Serpent", "Golem", "Phoenix", "Warrior", "Sorceress",
+            "Beast", "Titan", "Specter", "Guardian", "Paladin", "Wyrm", "Fiend", "Angel",
+            "Ritual", "Barrier", "Storm", "Reborn", "Force", "Trap Hole", "Sanctuary", "Cyclone"};
+    private static final String[] FRENCH_NOUNS = {
+            "Dragon", "Magicien", "Chevalier", "Serpent", "Golem", "Phénix", "Guerrier", "Sorcière",
+            "Bête", "Titan", "Spectre", "Gardien", "Paladin", "Wyrm", "Démon", "Ange",
+            "Rituel", "Barrière", "Tempête", "Renaissance", "Force", "Trappe", "Sanctuaire", "Cyclone"};
+    private static final String[] ARCHETYPES = {
+            "Blue-Eyes", "Dark Magician", "Elemental HERO", "Sky Striker", "Branded", "Tearlaments",
+            "Kashtira", "Labrynth", "Snake-Eye", "Yubel", "Swordsoul", "Dragonmaid"};
+    private static final String[] MONSTER_CARD_TYPES = {
+            "Effect Monster", "Effect Monster", "Effect Monster", "Normal Monster", "Fusion Monster",
+            "Synchro Monster", "XYZ Monster", "Link Monster", "Pendulum Effect Monster", "Ritual Effect Monster"};
+    private static final String[] MONSTER_TYPES = {
+            "Dragon", "Spellcaster", "Warrior", "Machine", "Fiend", "Zombie", "Beast", "Fairy", "Aqua", "Wyrm"};
+    private static final String[] ATTRIBUTES = {"DARK", "LIGHT", "EARTH", "WATER", "FIRE", "WIND", "DIVINE"};
+    private static final String[] SPELL_TRAP_PROPERTIES = {
+            "Normal", "Quick-Play", "Continuous", "Field", "Equip", "Counter"};
+    private static final String[] LINK_MARKERS = {
+            "Top", "Bottom", "Left", "Right", "Top-Left", "Top-Right", "Bottom-Left", "Bottom-Right"};
+    private static final String[] EFFECT_WORDS = {
+            "target", "monster", "card", "your", "opponent", "field", "destroy", "special", "summon",
+            "from", "hand", "deck", "graveyard", "banish", "once", "per", "turn", "you", "can", "then",
+            "add", "it", "to", "negate", "activation", "effect", "this", "during", "either", "player's"};
+    private static final String[] CONDITION_CODES = {"M", "NM", "NM", "NM", "EX", "GD", "PL"};
+    private static final String[] RARITY_CODES = {"C", "C", "C", "R", "SR", "UR", "ScR", "StR"};
+    private static final String[] TAGS = {"trade", "binder", "foil", "signed", "graded"};
+
+    private final long seed;
+    /**
+     * Every card of the pool, one per artwork, keyed by passCode, in passCode order.
+     */
+    private final Map<Integer, Card> cards;
+    /**
+     * The pool, one entry per artwork, in passCode order; picks draw from it.
+     */
+    private final List<Card> artworks;
+
+    /**
+     * Generates a pool of {@code poolSize} Konami IDs.
+     *
+     * @param seed     the seed everything this generator returns is derived from
+     * @param poolSize the number of distinct cards (Konami IDs) in the pool
+     */
+    public SyntheticCards(long seed, int poolSize) {
+        this.seed = seed;
+        Random random = random("pool", poolSize);
+        Map<Integer, Card> pool = new LinkedHashMap<>();
+        int passCode = FIRST_PASS_CODE;
+        for (int index = 0; index < poolSize; index++) {
+            Card card = newCard(random, index, passCode++, "1");
+            pool.put(Integer.parseInt(card.getPassCode()), card);
+            if (random.nextInt(100) < ALTERNATE_ARTWORK_PERCENT) {
+                Card alternate = copyWithArtwork(card, passCode++, "2");
+                pool.put(Integer.parseInt(alternate.getPassCode()), alternate);
+            }
+        }
+        this.cards = Collections.unmodifiableMap(pool);
+        this.artworks = List.copyOf(pool.values());
+    }
+
+    /**
+     * The pool every benchmark uses: {@link #DEFAULT_POOL_SIZE} cards from
+     * {@link #DEFAULT_SEED}.
+     */
+    public static SyntheticCards standard() {
+        return new SyntheticCards(DEFAULT_SEED, DEFAULT_POOL_SIZE);
+    }
+
+    // ── The pool ─────────────────────────────────────────────────────────────
+
+    /**
+     * Returns every card of the pool, one per artwork, keyed by passCode.
+     */
+    public Map<Integer, Card> cards() {
+        return cards;
+    }
+
+    /**
+     * Installs the pool as the application's card database (see
+     * {@link Database#replaceAllCardsList(Map)}), so that code resolving
+     * passCodes through {@link Database#getAllCardsList()}, such as
+     * {@link CardElement#CardElement(String)}, finds them offline.
+     */
+    public void installAsDatabase() {
+        Database.replaceAllCardsList(cards);
+    }
+
+    /**
+     * Returns {@code count} cards picked from the pool with repetition, as a
+     * collection or a search result would hold them.
+     */
+    public List<Card> pickCards(int count) {
+        Random random = random("pickCards", count);
+        List<Card> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(pick(random));
+        }
+        return picked;
+    }
+
+    // ── Collections and decks ────────────────────────────────────────────────
+
+    /**
+     * Returns {@code count} elements picked from the pool, with the flags,
+     * conditions, rarities and tags of a saved collection file.
+     *
+     * @param ownedPercent the share of elements marked as owned, {@code 0} to {@code 100}
+     */
+    public List<CardElement> elements(int count, int ownedPercent) {
+        Random random = random("elements" + ownedPercent, count);
+        List<CardElement> elements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            elements.add(element(random, random.nextInt(100) < ownedPercent));
+        }
+        return elements;
+    }
+
+    /**
+     * Returns an owned collection of {@code cardCount} cards, sorted into
+     * boxes of up to twenty categories of up to a hundred cards each.
+     */
+    public OwnedCardsCollection ownedCollection(int cardCount) {
+        Random random = random("ownedCollection", cardCount);
+        List<Box> boxes = new ArrayList<>();
+        int remaining = cardCount;
+        while (remaining > 0) {
+            Box box = new Box("Box " + (boxes.size() + 1));
+            List<CardsGroup> categories = new ArrayList<>();
+            for (int category = 0; category < 20 && remaining > 0; category++) {
+                int size = Math.min(remaining, 20 + random.nextInt(81));
+                List<CardElement> categoryCards = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    categoryCards.add(element(random, true));
+                }
+                categories.add(new CardsGroup("Category " + (category + 1), categoryCards));
+                remaining -= size;
+            }
+            box.setContent(categories);
+            boxes.add(box);
+        }
+        OwnedCardsCollection collection = new OwnedCardsCollection();
+        collection.setOwnedCollection(boxes);
+        return collection;
+    }
+
+    /**
+     * Returns decks and theme collections holding about {@code cardCount}
+     * cards in total, with the mix the OuicheList computation distinguishes:
+     * standalone decks, collections whose decks are grouped into linked
+     * alternatives, collection card lists with {@code dontRemove} cards, and
+     * loose collections.
+     */
+    public DecksAndCollectionsList decksAndCollections(int cardCount) {
+        Random random = random("decksAndCollections", cardCount);
+        List<Deck> decks = new ArrayList<>();
+        List<ThemeCollection> collections = new ArrayList<>();
+        int remaining = cardCount;
+        while (remaining > 0) {
+            int kind = random.nextInt(10);
+            if (kind < 3) {
+                Deck deck = deck(random, "Deck " + (decks.size() + 1));
+                decks.add(deck);
+                remaining -= deck.toList().size();
+                continue;
+            }
+            ThemeCollection collection = new ThemeCollection();
+            collection.setName("Collection " + (collections.size() + 1));
+            collection.setConnectToWholeCollection(kind == 9);
+            List<List<Deck>> linkedDecks = new ArrayList<>();
+            int groupCount = 1 + random.nextInt(3);
+            for (int group = 0; group < groupCount; group++) {
+                // Decks of one group are alternative builds of the same strategy.
+                List<Deck> deckGroup = new ArrayList<>();
+                int alternatives = 1 + random.nextInt(2);
+                for (int i = 0; i < alternatives; i++) {
+                    Deck deck = deck(random, collection.getName() + " deck " + (group + 1) + "." + (i + 1));
+                    deckGroup.add(deck);
+                    remaining -= deck.toList().size();
+                }
+                linkedDecks.add(deckGroup);
+            }
+            collection.setLinkedDecks(linkedDecks);
+            int listSize = 10 + random.nextInt(31);
+            List<CardElement> cardsList = new ArrayList<>(listSize);
+            for (int i = 0; i < listSize; i++) {
+                CardElement element = element(random, false);
+                element.setDontRemove(random.nextInt(4) == 0);
+                cardsList.add(element);
+            }
+            collection.setCardsList(cardsList);
+            remaining -= listSize;
+            collections.add(collection);
+        }
+        DecksAndCollectionsList decksAndCollections = new DecksAndCollectionsList();
+        decksAndCollections.setDecks(decks);
+        decksAndCollections.setCollections(collections);
+        return decksAndCollections;
+    }
+
+    // ── Serialized forms ─────────────────────────────────────────────────────
+
+    /**
+     * Returns {@code count} collection-file lines, in the
+     * {@code code,flags|condition|rarity|tags} format
+     * {@link CardElement#CardElement(String)} parses, referring to pool cards
+     * by passCode.
+     */
+    public List<String> elementLines(int count) {
+        Random random = random("elementLines", count);
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Card card = pick(random);
+            StringBuilder line = new StringBuilder(card.getPassCode()).append(',');
+            if (random.nextBoolean()) {
+                line.append('O');
+            }
+            if (random.nextInt(5) == 0) {
+                line.append('+');
+            }
+            if (!"1".equals(card.getArtNumber())) {
+                line.append('*').append(card.getArtNumber());
+            }
+            line.append('|').append(CONDITION_CODES[random.nextInt(CONDITION_CODES.length)]);
+            line.append('|').append(RARITY_CODES[random.nextInt(RARITY_CODES.length)]);
+            line.append('|');
+            if (random.nextInt(4) == 0) {
+                line.append(TAGS[random.nextInt(TAGS.length)]);
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the pool as a {@code cardinfo.json} document, one entry per
+     * Konami ID with one {@code card_images} entry per artwork, in the
+     * layout the application downloads.
+     */
+    public void writeCardInfo(Path file) throws IOException {
+        Map<String, List<Card>> artworksByKonamiId = new LinkedHashMap<>();
+        for (Card card : cards.values()) {
+            artworksByKonamiId.computeIfAbsent(card.getKonamiId(), unusedKey -> new ArrayList<>(1)).add(card);
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\"data\":[");
+            boolean first = true;
+            for (List<Card> cardArtworks : artworksByKonamiId.values()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                out.write(cardInfoEntry(cardArtworks).toString());
+            }
+            out.write("]}");
+        }
+    }
+
+    private static JSONObject cardInfoEntry(List<Card> cardArtworks) {
+        Card card = cardArtworks.get(0);
+        JSONObject entry = new JSONObject();
+        entry.put("id", Integer.parseInt(card.getPassCode()));
+        entry.put("name", card.getName_EN());
+        entry.put("type", card.getCardType());
+        entry.put("desc", card.getDescription());
+        entry.put("archetype", card.getArchetypes().get(0));
+        if (card.getCardType().contains("Monster")) {
+            entry.put("race", card.getMonsterType());
+            entry.put("attribute", card.getAttribute());
+            entry.put("atk", card.getAtk());
+            entry.put("def", card.getDef());
+            entry.put("level", card.getLevel());
+            entry.put("scale", card.getScale());
+            if (card.getLinkMarker() != null) {
+                entry.put("linkval", card.getLinkVal());
+                entry.put("linkmarkers", card.getLinkMarker());
+            }
+        } else {
+            entry.put("race", card.getCardProperties().get(0));
+        }
+        entry.put("typeline", card.getCardProperties());
+        List<JSONObject> sets = new ArrayList<>();
+        for (CardRarity rarity : card.getAvailableRarities()) {
+            sets.add(new JSONObject()
+                    .put("set_code", card.getPrintCode())
+                    .put("set_rarity_code", rarity.getCode()));
+        }
+        entry.put("card_sets", sets);
+        List<JSONObject> images = new ArrayList<>();
+        for (Card artwork : cardArtworks) {
+            images.add(new JSONObject().put("id", Integer.parseInt(artwork.getPassCode())));
+        }
+        entry.put("card_images", images);
+        entry.put("card_prices", List.of(new JSONObject().put("cardmarket_price", card.getPrice())));
+        return entry;
+    }
+
+    // ── Generation ───────────────────────────────────────────────────────────
+
+    private Random random(String purpose, int size) {
+        return new Random(seed * 31 + purpose.hashCode() * 1_000_003L + size);
+    }
+
+    private Card pick(Random random) {
+        return artworks.get(random.nextInt(artworks.size()));
+    }
+
+    private CardElement element(Random random, boolean owned) {
+        Card card = pick(random);
+        CardElement element = new CardElement(card, !"1".equals(card.getArtNumber()), owned, false, false);
+        if (owned) {
+            element.setCondition(CardCondition.fromCode(CONDITION_CODES[random.nextInt(CONDITION_CODES.length)]));
+            element.setRarity(CardRarity.fromCode(RARITY_CODES[random.nextInt(RARITY_CODES.length)]));
+        }
+        return element;
+    }
+
+    private Deck deck(Random random, String name) {
+        Deck deck = new Deck();
+        deck.setName(name);
+        deck.setMainDeck(deckSection(random, 40 + random.nextInt(21)));
+        deck.setExtraDeck(deckSection(random, random.nextInt(16)));
+        deck.setSideDeck(deckSection(random, random.nextInt(16)));
+        return deck;
+    }
+
+    /**
+     * Returns {@code size} missing slots, mostly in playsets of up to three
+     * copies like a real deck list.
+     */
+    private List<CardElement> deckSection(Random random, int size) {
+        List<CardElement> section = new ArrayList<>(size);
+        while (section.size() < size) {
+            Card card = pick(random);
+            int copies = Math.min(size - section.size(), 1 + random.nextInt(3));
+            for (int i = 0; i < copies; i++) {
+                section.add(new CardElement(card, !"1".equals(card.getArtNumber()), false, false, true));
+            }
+        }
+        return section;
+    }
+
+    private static Card newCard(Random random, int index, int passCode, String artNumber) {
+        Card card = new Card();
+        int konamiId = FIRST_KONAMI_ID + index;
+        String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+        int nounIndex = random.nextInt(NOUNS.length);
+        card.setKonamiId(String.valueOf(konamiId));
+        card.setPassCode(String.valueOf(passCode));
+        card.setImagePath(String.valueOf(passCode));
+        card.setArtNumber(artNumber);
+        card.setPrintCode(String.format("S%02d-EN%03d", index / 1000 % 100, index % 1000));
+        card.setName_EN(adjective + " " + NOUNS[nounIndex] + " " + konamiId);
+        card.setName_FR(FRENCH_NOUNS[nounIndex] + " " + adjective + " " + konamiId);
+        card.setName_JA("合成カード" + konamiId);
+        card.setName_DE(NOUNS[nounIndex] + " der " + adjective + " " + konamiId);
+        card.setDescription(effectText(random));
+        card.setArchetypes(new ArrayList<>(List.of(ARCHETYPES[random.nextInt(ARCHETYPES.length)])));
+        card.setPrice(String.format(Locale.ROOT, "%.2f", random.nextInt(5_000) / 100.0));
+        List<CardRarity> rarities = new ArrayList<>();
+        for (int i = 1 + random.nextInt(3); i > 0; i--) {
+            CardRarity rarity = CardRarity.fromCode(RARITY_CODES[random.nextInt(RARITY_CODES.length)]);
+            if (!rarities.contains(rarity)) {
+                rarities.add(rarity);
+            }
+        }
+        card.setAvailableRarities(rarities);
+
+        int kind = random.nextInt(3);
+        if (kind < 2) {
+            String cardType = MONSTER_CARD_TYPES[random.nextInt(MONSTER_CARD_TYPES.length)];
+            String monsterType = MONSTER_TYPES[random.nextInt(MONSTER_TYPES.length)];
+            card.setCardType(cardType);
+            card.setMonsterType(monsterType);
+            card.setAttribute(ATTRIBUTES[random.nextInt(ATTRIBUTES.length)]);
+            card.setAtk(random.nextInt(31) * 100);
+            List<String> properties = new ArrayList<>(List.of(monsterType));
+            if (cardType.startsWith("Link")) {
+                List<String> markers = new ArrayList<>(List.of(LINK_MARKERS));
+                Collections.shuffle(markers, random);
+                int linkVal = 1 + random.nextInt(4);
+                card.setLinkVal(linkVal);
+                card.setLinkMarker(new ArrayList<>(markers.subList(0, linkVal)));
+                properties.add("Link");
+            } else {
+                card.setDef(random.nextInt(31) * 100);
+                if (cardType.startsWith("XYZ")) {
+                    card.setRank(1 + random.nextInt(12));
+                    properties.add("Xyz");
+                } else {
+                    card.setLevel(1 + random.nextInt(12));
+                }
+                if (cardType.startsWith("Pendulum")) {
+                    card.setScale(random.nextInt(14));
+                    properties.add("Pendulum");
+                }
+            }
+            properties.add(cardType.startsWith("Normal") ? "Normal" : "Effect");
+            card.setCardProperties(properties);
+        } else {
+            card.setCardType(random.nextBoolean() ? "Trap Card" : "Spell Card");
+            card.setCardProperties(new ArrayList<>(List.of(
+                    SPELL_TRAP_PROPERTIES[random.nextInt(SPELL_TRAP_PROPERTIES.length)])));
+        }
+        return card;
+    }
+
+    private static Card copyWithArtwork(Card card, int passCode, String artNumber) {
+        Card copy = new Card();
+        copy.setKonamiId(card.getKonamiId());
+        copy.setPassCode(String.valueOf(passCode));
+        copy.setImagePath(String.valueOf(passCode));
+        copy.setArtNumber(artNumber);
+        copy.setPrintCode(card.getPrintCode());
+        copy.setName_EN(card.getName_EN());
+        copy.setName_FR(card.getName_FR());
+        copy.setName_JA(card.getName_JA());
+        copy.setName_DE(card.getName_DE());
+        copy.setDescription(card.getDescription());
+        copy.setArchetypes(new ArrayList<>(card.getArchetypes()));
+        copy.setPrice(card.getPrice());
+        copy.setAvailableRarities(new ArrayList<>(card.getAvailableRarities()));
+        copy.setCardType(card.getCardType());
+        copy.setCardProperties(new ArrayList<>(card.getCardProperties()));
+        copy.setMonsterType(card.getMonsterType());
+        copy.setAttribute(card.getAttribute());
+        copy.setAtk(card.getAtk());
+        copy.setDef(card.getDef());
+        copy.setLevel(card.getLevel());
+        copy.setRank(card.getRank());
+        copy.setLinkVal(card.getLinkVal());
+        copy.setLinkMarker(card.getLinkMarker() != null ? new ArrayList<>(card.getLinkMarker()) : null);
+        copy.setScale(card.getScale());
+        return copy;
+    }
+
+    private static String effectText(Random random) {
+        int wordCount = 15 + random.nextInt(60);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                text.append(i % 12 == 0 ? ". " : " ");
+            }
+            text.append(EFFECT_WORDS[random.nextInt(EFFECT_WORDS.length)]);
+        }
+        return text.append('.').toString();
+    }
+}
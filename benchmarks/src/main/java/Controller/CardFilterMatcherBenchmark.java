@@ -0,0 +1,64 @@
+package Controller;
+
+import Benchmarks.SyntheticCards;
+import Model.CardsLists.Card;
+import View.BenchmarkFilterPageStates;
+import View.FilterPane;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CardFilterMatcher#matchesPageFilter} over {@code cardCount} cards,
+ * as one keystroke in a filter field costs, for a name filter, a combination
+ * of monster stat filters and an effect-text filter.
+ *
+ * <p>Archetype and multiple-artwork filters are left out: they read the
+ * archetype lists and alias maps built from downloaded files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-Xms4g", "-Xmx4g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class CardFilterMatcherBenchmark {
+
+    @Param({"1000", "10000", "50000", "200000"})
+    public int cardCount;
+
+    @Param({"name", "monsterStats", "effect"})
+    public String filter;
+
+    private List<Card> cards;
+    private FilterPane.FilterPageState pageState;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        cards = SyntheticCards.standard().pickCards(cardCount);
+        pageState = BenchmarkFilterPageStates.enabledPage();
+        switch (filter) {
+            case "name" -> pageState.name = "dragon";
+            case "monsterStats" -> {
+                pageState.cardType = "Monster";
+                pageState.attribute = "DARK";
+                pageState.atk = "1500-2500";
+                pageState.level = "4-8";
+            }
+            case "effect" -> pageState.effect = "graveyard";
+            default -> throw new IllegalArgumentException("Unknown filter: " + filter);
+        }
+    }
+
+    @Benchmark
+    public int matchAll() {
+        int matches = 0;
+        for (Card card : cards) {
+            if (CardFilterMatcher.matchesPageFilter(card, pageState, false)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
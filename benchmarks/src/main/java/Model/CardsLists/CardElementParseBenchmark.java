@@ -0,0 +1,44 @@
+package Model.CardsLists;
+
+import Benchmarks.SyntheticCards;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing {@code lineCount} collection-file lines with
+ * {@link CardElement#CardElement(String)}, which is what loading a
+ * collection, a deck or a theme collection spends its time in. Each line
+ * resolves its passCode against the synthetic database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-Xms4g", "-Xmx4g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class CardElementParseBenchmark {
+
+    @Param({"1000", "10000", "50000", "200000"})
+    public int lineCount;
+
+    private List<String> lines;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        SyntheticCards cards = SyntheticCards.standard();
+        cards.installAsDatabase();
+        lines = cards.elementLines(lineCount);
+    }
+
+    @Benchmark
+    public List<CardElement> parse() throws Exception {
+        List<CardElement> elements = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            elements.add(new CardElement(line));
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,49 @@
+package Model.CardsLists;
+
+import Benchmarks.SyntheticCards;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ListDifferenceIntersection#ListDifIntersect} between an owned list
+ * and a wanted list of {@code listSize} elements each, matched by Konami ID as
+ * the OuicheList passes do, with and without a {@code mustNotContain} filter.
+ *
+ * <p>The matching is quadratic, so the default sizes stop at 50k; pass
+ * {@code -p listSize=200000} to measure larger lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-Xms4g", "-Xmx4g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class ListDifferenceIntersectionBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int listSize;
+
+    private List<CardElement> ownedList;
+    private List<CardElement> wantedList;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        SyntheticCards cards = SyntheticCards.standard();
+        ownedList = cards.elements(listSize, 100);
+        wantedList = cards.elements(listSize, 0);
+    }
+
+    @Benchmark
+    public List<List<CardElement>> byKonamiId() {
+        return ListDifferenceIntersection.ListDifIntersect(ownedList, wantedList,
+                (card1, card2) -> card1.getKonamiId().equals(card2.getKonamiId()), null, null);
+    }
+
+    @Benchmark
+    public List<List<CardElement>> byKonamiIdExceptDontRemove() {
+        return ListDifferenceIntersection.ListDifIntersect(ownedList, wantedList,
+                (card1, card2) -> card1.getKonamiId().equals(card2.getKonamiId()), null, List.of("+"));
+    }
+}
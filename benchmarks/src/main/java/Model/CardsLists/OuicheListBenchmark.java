@@ -0,0 +1,59 @@
+package Model.CardsLists;
+
+import Benchmarks.SyntheticCards;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full OuicheList generation ({@link OuicheList#createOuicheList}) and the
+ * compact-map pass it ends with
+ * ({@link OuicheListComputer#buildCompactMapForStatus}), on an owned
+ * collection and a set of decks and collections of {@code cardCount} cards
+ * each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-Xms4g", "-Xmx4g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class OuicheListBenchmark {
+
+    @Param({"1000", "10000", "50000", "200000"})
+    public int cardCount;
+
+    private OwnedCardsCollection ownedCollection;
+    private DecksAndCollectionsList decksAndCollections;
+
+    @Setup(Level.Trial)
+    public void generate() throws Exception {
+        SyntheticCards cards = SyntheticCards.standard();
+        cards.installAsDatabase();
+        ownedCollection = cards.ownedCollection(cardCount);
+        decksAndCollections = cards.decksAndCollections(cardCount);
+        OuicheList.setDetailedOuicheList(null);
+        OuicheList.createOuicheList(ownedCollection, decksAndCollections);
+    }
+
+    @TearDown(Level.Trial)
+    public void reset() {
+        OuicheList.setDetailedOuicheList(null);
+    }
+
+    @Benchmark
+    public LinkedHashMap<String, CardElement> createOuicheList() throws Exception {
+        // Cleared so the detailed list is computed again rather than reused.
+        OuicheList.setDetailedOuicheList(null);
+        OuicheList.createOuicheList(ownedCollection, decksAndCollections);
+        return OuicheList.getMaOuicheList();
+    }
+
+    @Benchmark
+    public LinkedHashMap<String, Integer> buildCompactMapForMissing() {
+        LinkedHashMap<String, Integer> counts = new LinkedHashMap<>();
+        OuicheListComputer.buildCompactMapForStatus(OwnershipStatus.MISSING, new LinkedHashMap<>(), counts);
+        return counts;
+    }
+}
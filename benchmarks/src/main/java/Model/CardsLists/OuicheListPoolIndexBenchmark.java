@@ -0,0 +1,69 @@
+package Model.CardsLists;
+
+import Benchmarks.SyntheticCards;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draining an {@link OuicheListPoolIndex} of {@code poolSize} owned cards the
+ * way the ownership passes do: one wanted slot per pool card, in random order,
+ * half taken by artwork and half by Konami ID, with and without the quality
+ * check.
+ *
+ * <p>The index's public entry points are unchanged by its rewrite, so the same
+ * benchmark run on the parent of that change measures the previous
+ * implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-Xms4g", "-Xmx4g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class OuicheListPoolIndexBenchmark {
+
+    @Param({"10000", "50000", "200000"})
+    public int poolSize;
+
+    private List<CardElement> pool;
+    private List<CardElement> wanted;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        pool = SyntheticCards.standard().elements(poolSize, 100);
+        wanted = new ArrayList<>(pool.size());
+        for (CardElement owned : pool) {
+            CardElement slot = new CardElement(owned.getCard());
+            slot.setCondition(owned.getCondition());
+            wanted.add(slot);
+        }
+        Collections.shuffle(wanted, new Random(SyntheticCards.DEFAULT_SEED));
+    }
+
+    @Benchmark
+    public List<CardElement> drain() {
+        return drain(false);
+    }
+
+    @Benchmark
+    public List<CardElement> drainWithQuality() {
+        return drain(true);
+    }
+
+    private List<CardElement> drain(boolean qualityRequired) {
+        OuicheListPoolIndex index = new OuicheListPoolIndex(pool);
+        List<CardElement> taken = new ArrayList<>(wanted.size());
+        for (int i = 0; i < wanted.size(); i++) {
+            CardElement slot = wanted.get(i);
+            taken.add(i % 2 == 0
+                    ? index.takeByImagePath(slot.getCard().getImagePath(), slot, qualityRequired)
+                    : index.takeByKonamiId(slot.getCard().getKonamiId(), slot, qualityRequired));
+        }
+        return taken;
+    }
+}
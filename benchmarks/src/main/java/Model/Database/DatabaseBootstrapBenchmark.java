@@ -0,0 +1,134 @@
+package Model.Database;
+
+import Benchmarks.SyntheticCards;
+import Model.CardsLists.Card;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * The offline steps of the {@link Database} bootstrap on a synthetic database
+ * of {@code cardCount} Konami IDs: streaming {@code cardinfo.json} through
+ * {@link CardInfoReader}, and writing and loading the {@link DatabaseSnapshot}
+ * that lets later launches skip that parse.
+ *
+ * <p>The rest of the bootstrap (downloads, the name index files, print-code
+ * maps) depends on the network and on ygoresources' files, and is left to the
+ * timings {@link Database#getBootstrapTimings()} logs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-Xms4g", "-Xmx4g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class DatabaseBootstrapBenchmark {
+
+    private static final int LANGUAGE_COUNT = KonamiIdToNames.NAME_INDEX_FILES.length;
+
+    @Param({"1000", "13000", "50000", "200000"})
+    public int cardCount;
+
+    private Path directory;
+    private Path cardInfoFile;
+    private Path snapshotFile;
+    private Path writtenSnapshotFile;
+    private DatabaseSnapshot.Contents contents;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        SyntheticCards cards = new SyntheticCards(SyntheticCards.DEFAULT_SEED, cardCount);
+        directory = Files.createTempDirectory("pot-of-greed-benchmark");
+        cardInfoFile = directory.resolve(Database.CARD_INFO_FILE);
+        cards.writeCardInfo(cardInfoFile);
+        contents = snapshotContents(cards.cards(), cardInfoFile);
+        snapshotFile = directory.resolve("cards.bin");
+        writtenSnapshotFile = directory.resolve("written.bin");
+        DatabaseSnapshot.writeTo(snapshotFile, contents);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public List<CardInfoReader.Entry> readCardInfo() throws IOException {
+        return CardInfoReader.read(cardInfoFile);
+    }
+
+    @Benchmark
+    public void writeSnapshot() throws IOException {
+        DatabaseSnapshot.writeTo(writtenSnapshotFile, contents);
+    }
+
+    @Benchmark
+    public DatabaseSnapshot.Contents loadSnapshot() throws IOException {
+        return DatabaseSnapshot.readFrom(snapshotFile, contents.fingerprint);
+    }
+
+    /**
+     * Builds what {@link DatabaseSnapshot#save(Map)} would write for
+     * {@code cards}, with the ID maps {@link CardDatabaseManager} derives from
+     * the real files.
+     */
+    private static DatabaseSnapshot.Contents snapshotContents(Map<Integer, Card> cards, Path cardInfoFile)
+            throws IOException {
+        DatabaseSnapshot.Contents contents = new DatabaseSnapshot.Contents();
+        contents.fingerprint = new DatabaseSnapshot.Fingerprint(1);
+        contents.fingerprint.add(cardInfoFile.toString(), Files.size(cardInfoFile),
+                Files.getLastModifiedTime(cardInfoFile).toMillis());
+
+        contents.namesByLanguage = new ArrayList<>();
+        for (int i = 0; i < LANGUAGE_COUNT; i++) {
+            contents.namesByLanguage.add(new HashMap<>());
+        }
+        contents.enNamesToKonamiId = new HashMap<>();
+        contents.passCodeToKonamiId = new HashMap<>();
+        contents.konamiIdToPassCode = new HashMap<>();
+        contents.passCodeToOtherPassCodes = new HashMap<>();
+        contents.konamiIdToOtherKonamiIds = new HashMap<>();
+        contents.konamiIdToArchetype = new HashMap<>();
+        contents.cardPasscodesList = new ArrayList<>();
+        Map<Integer, List<Integer>> passCodesByKonamiId = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Card> entry : cards.entrySet()) {
+            Card card = entry.getValue();
+            int passCode = entry.getKey();
+            int konamiId = Integer.parseInt(card.getKonamiId());
+            passCodesByKonamiId.computeIfAbsent(konamiId, unusedKey -> new ArrayList<>(1)).add(passCode);
+            contents.passCodeToKonamiId.put(passCode, konamiId);
+            contents.konamiIdToPassCode.putIfAbsent(konamiId, passCode);
+        }
+        for (Map.Entry<Integer, List<Integer>> entry : passCodesByKonamiId.entrySet()) {
+            int konamiId = entry.getKey();
+            List<Integer> passCodes = entry.getValue();
+            Card card = cards.get(passCodes.get(0));
+            String[] names = {card.getName_EN(), card.getName_FR(), card.getName_JA(), null,
+                    card.getName_DE(), null, null, null};
+            for (int i = 0; i < LANGUAGE_COUNT; i++) {
+                if (names[i] != null) {
+                    contents.namesByLanguage.get(i).put(konamiId, names[i]);
+                }
+            }
+            contents.enNamesToKonamiId.put(card.getName_EN(), konamiId);
+            for (int passCode : passCodes) {
+                contents.passCodeToOtherPassCodes.put(passCode, passCodes);
+            }
+            contents.konamiIdToOtherKonamiIds.put(konamiId, List.of(konamiId));
+            contents.konamiIdToArchetype.put(konamiId, card.getArchetypes().get(0));
+            contents.cardPasscodesList.add(passCodes.get(0));
+        }
+        contents.cards = cards;
+        return contents;
+    }
+}
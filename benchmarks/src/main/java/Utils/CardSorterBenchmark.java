@@ -0,0 +1,39 @@
+package Utils;
+
+import Benchmarks.SyntheticCards;
+import Model.CardsLists.Card;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CardSorter#sort} of {@code cardCount} cards, for a name-based and
+ * two stat-based orders.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-Xms4g", "-Xmx4g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class CardSorterBenchmark {
+
+    @Param({"1000", "10000", "50000", "200000"})
+    public int cardCount;
+
+    @Param({"AZ", "ATK_DESC", "LVL_ASC"})
+    public CardSorter.SortMode mode;
+
+    private List<Card> cards;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        cards = SyntheticCards.standard().pickCards(cardCount);
+    }
+
+    @Benchmark
+    public List<Card> sort() {
+        return CardSorter.sort(cards, mode);
+    }
+}
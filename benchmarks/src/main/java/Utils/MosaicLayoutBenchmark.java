@@ -0,0 +1,52 @@
+package Utils;
+
+import Benchmarks.SyntheticCards;
+import Model.CardsLists.Card;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MosaicLayout} splitting {@code cardCount} cards into mosaic rows:
+ * once at a fixed width, and once per step of a window being dragged wider,
+ * which is what a resize costs the mosaic before any cell is laid out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-Xms4g", "-Xmx4g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class MosaicLayoutBenchmark {
+
+    private static final double CELL_WIDTH = 100;
+    private static final double GAP = 5;
+    private static final double MIN_WIDTH = 800;
+    private static final double MAX_WIDTH = 2000;
+    private static final double RESIZE_STEP = 10;
+
+    @Param({"1000", "20000", "200000"})
+    public int cardCount;
+
+    private List<Card> cards;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        cards = SyntheticCards.standard().pickCards(cardCount);
+    }
+
+    @Benchmark
+    public List<List<Card>> layout() {
+        return MosaicLayout.rows(cards, MosaicLayout.cellsPerRow(MAX_WIDTH, CELL_WIDTH, GAP));
+    }
+
+    @Benchmark
+    public int resize() {
+        int rowCount = 0;
+        for (double width = MIN_WIDTH; width <= MAX_WIDTH; width += RESIZE_STEP) {
+            rowCount += MosaicLayout.rows(cards, MosaicLayout.cellsPerRow(width, CELL_WIDTH, GAP)).size();
+        }
+        return rowCount;
+    }
+}
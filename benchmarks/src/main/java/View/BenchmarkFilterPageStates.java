@@ -0,0 +1,20 @@
+package View;
+
+/**
+ * Creates {@link FilterPane.FilterPageState}s outside {@link FilterPane},
+ * whose constructor is package-private, for the filter benchmarks.
+ */
+public final class BenchmarkFilterPageStates {
+
+    private BenchmarkFilterPageStates() {
+    }
+
+    /**
+     * Returns an enabled page with every field at its "(All)" or empty default.
+     */
+    public static FilterPane.FilterPageState enabledPage() {
+        FilterPane.FilterPageState pageState = new FilterPane.FilterPageState(false, false);
+        pageState.enabled = true;
+        return pageState;
+    }
+}
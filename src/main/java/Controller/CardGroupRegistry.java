@@ -802,7 +802,7 @@ public final class CardGroupRegistry {
 
         // Otherwise (a My Collection group, or a non-cardsList collection section):
         // treat as an owned-card addition.
-        long onOwnedCardAddedStartNanos = Utils.PerfLog.start();
+        long onOwnedCardAddedStartNanos = Utils.Metrics.start();
         for (CardElement addedElement : addedElements) {
             try {
                 OuicheList.onOwnedCardAdded(addedElement);
@@ -810,13 +810,12 @@ public final class CardGroupRegistry {
                 logger.error("OuicheList update failed after adding to owned collection group", throwable);
             }
         }
-        Utils.PerfLog.stage(logger, "notifyOuicheListOfGroupAdditions: OuicheList.onOwnedCardAdded loop",
-                onOwnedCardAddedStartNanos);
+        Utils.Metrics.timer("ouicheList.groupAdditions.onOwnedCardAdded").recordSince(onOwnedCardAddedStartNanos);
 
-        long refreshOuicheListDispatchStartNanos = Utils.PerfLog.start();
+        long refreshOuicheListDispatchStartNanos = Utils.Metrics.start();
         Controller.UserInterfaceFunctions.refreshOuicheListView();
-        Utils.PerfLog.stage(logger, "notifyOuicheListOfGroupAdditions: refreshOuicheListView dispatch",
-                refreshOuicheListDispatchStartNanos);
+        Utils.Metrics.timer("ouicheList.groupAdditions.refreshDispatch")
+                .recordSince(refreshOuicheListDispatchStartNanos);
     }
 
     /**
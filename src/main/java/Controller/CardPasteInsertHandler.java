@@ -458,7 +458,7 @@ final class CardPasteInsertHandler {
             insertionIndex = observableList.size() - 1;
         }
         List<CardElement> addedToGroup = new ArrayList<>();
-        long observableListAddStartNanos = Utils.PerfLog.start();
+        long observableListAddStartNanos = Utils.Metrics.start();
         for (int i = 0; i < cardsToInsert.size(); i++) {
             Card card = cardsToInsert.get(i);
             if (card == null) {
@@ -472,18 +472,15 @@ final class CardPasteInsertHandler {
             observableList.add(targetIndex, newElement);
             addedToGroup.add(newElement);
         }
-        Utils.PerfLog.stage(logger, "handleInsertCardsAfterElement: observableList.add loop",
-                observableListAddStartNanos);
+        Utils.Metrics.timer("collection.insertAfterElement.listAdd").recordSince(observableListAddStartNanos);
 
-        long heightAdjustmentStartNanos = Utils.PerfLog.start();
+        long heightAdjustmentStartNanos = Utils.Metrics.start();
         CardGroupRegistry.triggerHeightAdjustment(hostGroup);
-        Utils.PerfLog.stage(logger, "handleInsertCardsAfterElement: triggerHeightAdjustment dispatch",
-                heightAdjustmentStartNanos);
+        Utils.Metrics.timer("collection.insertAfterElement.heightAdjustment").recordSince(heightAdjustmentStartNanos);
 
-        long ouicheNotifyStartNanos = Utils.PerfLog.start();
+        long ouicheNotifyStartNanos = Utils.Metrics.start();
         CardGroupRegistry.notifyOuicheListOfGroupAdditions(hostGroup, addedToGroup);
-        Utils.PerfLog.stage(logger, "handleInsertCardsAfterElement: notifyOuicheListOfGroupAdditions",
-                ouicheNotifyStartNanos);
+        Utils.Metrics.timer("collection.insertAfterElement.notifyOuicheList").recordSince(ouicheNotifyStartNanos);
 
         return !addedToGroup.isEmpty();
     }
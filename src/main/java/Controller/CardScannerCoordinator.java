@@ -5,6 +5,7 @@ import Model.CardScanner.ScanLockDebouncer;
 import Model.CardsLists.Card;
 import Model.Database.Database;
 import Utils.CardTextMatcher;
+import Utils.Metrics;
 import View.CardScannerArtworkGallery;
 import View.CardScannerPane;
 import View.FilterPane;
@@ -310,6 +311,10 @@ public class CardScannerCoordinator {
         // fresh from this instance's fields at call time, not from anything captured here.
         sharedCardScannerPane.setOnCandidateAdd(this::completeArtworkDisambiguationAdd);
         debouncer = new ScanLockDebouncer(DEBOUNCE_RELEASE_MILLIS);
+        // Built while the camera starts up rather than on the first detection.
+        Thread indexThread = new Thread(CardTextMatcher::prepareIndexes, "card-text-index-warmup");
+        indexThread.setDaemon(true);
+        indexThread.start();
 
         activeCardScannerBridge = new PythonCardScannerBridge(
                 sharedCardScannerPane::showPreviewFrame,
@@ -441,8 +446,11 @@ public class CardScannerCoordinator {
         if (activeCardScannerBridge == null || debouncer == null) {
             return; // a stray event arrived after the session already ended; ignore it
         }
+        Metrics.counter("scanner.detections").increment();
         try {
+            long matchStartNanos = Metrics.start();
             Optional<CardTextMatcher.Resolution> resolution = CardTextMatcher.matchCandidates(recognizedCandidates);
+            Metrics.timer("scanner.match").recordSince(matchStartNanos);
             if (resolution.isEmpty()) {
                 // The debounce lock releasing here (the card leaving frame for a continuous
                 // 0.5s+) deliberately does *not* clear any printCode buttons or artwork gallery
@@ -459,6 +467,7 @@ public class CardScannerCoordinator {
                 return; // still locked onto an earlier detection; this is a continuation, not a new add
             }
 
+            Metrics.counter("scanner.newDetections").increment();
             activeTabIndex = mainTabPane.getSelectionModel().getSelectedIndex();
             activeTreeView = activeMiddleTreeViewSupplier.get();
 
@@ -737,7 +746,9 @@ public class CardScannerCoordinator {
      * add another copy of the same card, or a different candidate from the same detection.
      */
     private void insertResolvedCard(Card card, int activeTabIndex, TreeView<String> activeTreeView) {
+        long insertStartNanos = Metrics.start();
         MiddleSelectionActionHandler.insertCardsAtQuickAddTarget(List.of(card), activeTabIndex, activeTreeView);
+        Metrics.timer("scanner.insert").recordSince(insertStartNanos);
         sharedCardScannerPane.setDetectionFeedbackText("Added: " + card.getNameOrNumber());
     }
 }
\ No newline at end of file
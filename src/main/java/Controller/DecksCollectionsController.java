@@ -155,6 +155,7 @@ public class DecksCollectionsController {
         decksAndCollectionsTreeView.setUserData("DECKS_COLLECTIONS");
         decksAndCollectionsTreeView.setCellFactory(
                 param -> new CardTreeCell(cardWidthProperty, cardHeightProperty));
+        CardImagePrefetcher.forCardTree(decksAndCollectionsTreeView, cardWidthProperty, cardHeightProperty);
         decksAndCollectionsTreeView.setStyle("-fx-background-color: #100317;");
         decksAndCollectionsTreeView.setShowRoot(false);
         decksAndCollectionsTreeView.addEventFilter(
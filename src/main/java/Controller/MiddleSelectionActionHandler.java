@@ -333,11 +333,11 @@ final class MiddleSelectionActionHandler {
         if (anchor == null || cards == null || cards.isEmpty()) {
             return false;
         }
-        long totalStartNanos = Utils.PerfLog.start();
+        long totalStartNanos = Utils.Metrics.start();
 
-        long insertStartNanos = Utils.PerfLog.start();
+        long insertStartNanos = Utils.Metrics.start();
         boolean inserted = MenuActionHandler.handleInsertCardsAfterElement(cards, anchor);
-        Utils.PerfLog.stage(logger, "pasteCardsAfterElement: model insert", insertStartNanos);
+        Utils.Metrics.timer("collection.pasteAfterElement.insert").recordSince(insertStartNanos);
         if (!inserted) {
             return false;
         }
@@ -345,10 +345,9 @@ final class MiddleSelectionActionHandler {
             MenuActionHandler.setLastAddedGroupTarget(findDirectContainerGroup(anchor));
             UserInterfaceFunctions.markMyCollectionDirty();
             UserInterfaceFunctions.triggerTabDirtyIndicatorUpdate();
-            long refreshStartNanos = Utils.PerfLog.start();
+            long refreshStartNanos = Utils.Metrics.start();
             UserInterfaceFunctions.refreshOwnedCollectionView();
-            Utils.PerfLog.stage(logger, "pasteCardsAfterElement: refreshOwnedCollectionView dispatch",
-                    refreshStartNanos);
+            Utils.Metrics.timer("collection.pasteAfterElement.refreshDispatch").recordSince(refreshStartNanos);
         } else if (activeTabIndex == 1) {
             Object owner = findDeckOrCollectionOwner(anchor);
             if (owner != null) {
@@ -357,7 +356,7 @@ final class MiddleSelectionActionHandler {
             UserInterfaceFunctions.triggerTabDirtyIndicatorUpdate();
             UserInterfaceFunctions.refreshDecksAndCollectionsView();
         }
-        Utils.PerfLog.stage(logger, "pasteCardsAfterElement: total", totalStartNanos);
+        Utils.Metrics.timer("collection.pasteAfterElement.total").recordSince(totalStartNanos);
         return true;
     }
 
@@ -462,7 +461,7 @@ final class MiddleSelectionActionHandler {
         }
 
         if (modelObj instanceof Box box) {
-            long totalStartNanos = Utils.PerfLog.start();
+            long totalStartNanos = Utils.Metrics.start();
             CardsGroup defaultGroup = MenuActionHandler.getOrCreateDefaultGroup(box);
             if (defaultGroup == null) {
                 return;
@@ -478,14 +477,13 @@ final class MiddleSelectionActionHandler {
             UserInterfaceFunctions.markMyCollectionDirty();
             UserInterfaceFunctions.triggerTabDirtyIndicatorUpdate();
             MenuActionHandler.setLastAddedGroupTarget(defaultGroup);
-            long refreshStartNanos = Utils.PerfLog.start();
+            long refreshStartNanos = Utils.Metrics.start();
             UserInterfaceFunctions.refreshOwnedCollectionView();
-            Utils.PerfLog.stage(logger, "pasteCardsIntoNavigationItem(Box): refreshOwnedCollectionView dispatch",
-                    refreshStartNanos);
-            Utils.PerfLog.stage(logger, "pasteCardsIntoNavigationItem(Box): total", totalStartNanos);
+            Utils.Metrics.timer("collection.pasteIntoBox.refreshDispatch").recordSince(refreshStartNanos);
+            Utils.Metrics.timer("collection.pasteIntoBox.total").recordSince(totalStartNanos);
 
         } else if (modelObj instanceof CardsGroup group) {
-            long totalStartNanos = Utils.PerfLog.start();
+            long totalStartNanos = Utils.Metrics.start();
             javafx.collections.ObservableList<CardElement> observableList =
                     CardGroupRegistry.observableListFor(group);
             for (Card card : cards) {
@@ -497,12 +495,10 @@ final class MiddleSelectionActionHandler {
             UserInterfaceFunctions.markMyCollectionDirty();
             UserInterfaceFunctions.triggerTabDirtyIndicatorUpdate();
             MenuActionHandler.setLastAddedGroupTarget(group);
-            long refreshStartNanos = Utils.PerfLog.start();
+            long refreshStartNanos = Utils.Metrics.start();
             UserInterfaceFunctions.refreshOwnedCollectionView();
-            Utils.PerfLog.stage(logger,
-                    "pasteCardsIntoNavigationItem(CardsGroup): refreshOwnedCollectionView dispatch",
-                    refreshStartNanos);
-            Utils.PerfLog.stage(logger, "pasteCardsIntoNavigationItem(CardsGroup): total", totalStartNanos);
+            Utils.Metrics.timer("collection.pasteIntoGroup.refreshDispatch").recordSince(refreshStartNanos);
+            Utils.Metrics.timer("collection.pasteIntoGroup.total").recordSince(totalStartNanos);
 
         } else if (modelObj instanceof Deck deck) {
             if (deck.getMainDeck() == null) {
@@ -103,7 +103,7 @@ public class MyCollectionController {
                 // in place instead of clearing and rebuilding the whole nav menu. Falls back to
                 // the full rebuild whenever anything can't be resolved (menu not built yet,
                 // structural mismatch, etc.).
-                long highlightStageStartNanos = Utils.PerfLog.start();
+                long highlightStageStartNanos = Utils.Metrics.start();
                 boolean highlightsUpdatedInPlace = false;
                 if (addedGroupTarget != null) {
                     OwnedCardsCollection collection = loadOwnedCollection();
@@ -114,23 +114,20 @@ public class MyCollectionController {
                     }
                 }
                 if (!highlightsUpdatedInPlace) {
-                    Utils.PerfLog.stage(logger,
-                            "content refresher: refreshHighlightsForAddedGroup (fell back)",
-                            highlightStageStartNanos);
-                    long populateMenuStartNanos = Utils.PerfLog.start();
+                    Utils.Metrics.timer("collection.contentRefresh.highlightsFellBack")
+                            .recordSince(highlightStageStartNanos);
+                    long populateMenuStartNanos = Utils.Metrics.start();
                     populateMyCollectionMenu();
-                    Utils.PerfLog.stage(logger, "content refresher: populateMyCollectionMenu fallback",
-                            populateMenuStartNanos);
+                    Utils.Metrics.timer("collection.contentRefresh.menuRebuild").recordSince(populateMenuStartNanos);
                 } else {
-                    Utils.PerfLog.stage(logger, "content refresher: refreshHighlightsForAddedGroup (in place)",
-                            highlightStageStartNanos);
+                    Utils.Metrics.timer("collection.contentRefresh.highlightsInPlace")
+                            .recordSince(highlightStageStartNanos);
                 }
 
                 if (myCollectionTreeView != null) {
-                    long treeRefreshStartNanos = Utils.PerfLog.start();
+                    long treeRefreshStartNanos = Utils.Metrics.start();
                     myCollectionTreeView.refresh();
-                    Utils.PerfLog.stage(logger, "content refresher: myCollectionTreeView.refresh()",
-                            treeRefreshStartNanos);
+                    Utils.Metrics.timer("collection.contentRefresh.treeRefresh").recordSince(treeRefreshStartNanos);
                 }
                 if (addedGroupTarget != null) {
                     scrollToNewCardInGroup(addedGroupTarget);
@@ -213,6 +210,7 @@ public class MyCollectionController {
         myCollectionTreeView.setUserData("MY_COLLECTION");
         myCollectionTreeView.setCellFactory(
                 param -> new CardTreeCell(cardWidthProperty, cardHeightProperty));
+        CardImagePrefetcher.forCardTree(myCollectionTreeView, cardWidthProperty, cardHeightProperty);
         myCollectionTreeView.setStyle("-fx-background-color: #100317;");
         myCollectionTreeView.setShowRoot(false);
         myCollectionTreeView.addEventFilter(
@@ -680,9 +680,9 @@ public class OuicheListController {
     }
 
     /**
-     * Loads a card image asynchronously into the given {@link ImageView}, using
-     * {@link Utils.LruImageCache} and {@code DataBaseUpdate.getAddresses} exactly
-     * like the other cell renderers in the application.
+     * Loads a card image asynchronously into the given {@link ImageView}
+     * through {@link CardImageLoader#loadInto}, on the loader threads shared
+     * with the other cell renderers in the application.
      *
      * @param card      the card whose image to load
      * @param imageView the ImageView to populate once the image is ready
@@ -694,37 +694,7 @@ public class OuicheListController {
         if (card == null || card.getImagePath() == null) {
             return;
         }
-
-        String imageKey = card.getImagePath();
-        String[] addresses =
-                Model.Database.DataBaseUpdate.getAddresses(imageKey + ".jpg");
-        if (addresses == null || addresses.length == 0) {
-            return;
-        }
-
-        final String resolvedPath = "file:" + addresses[0];
-
-        // Fast path: already cached on the FX thread.
-        Image cached = Utils.LruImageCache.getImage(resolvedPath);
-        if (cached != null) {
-            imageView.setImage(cached);
-            return;
-        }
-
-        // Background load — never block the FX thread.
-        Thread loaderThread = new Thread(() -> {
-            try {
-                Image loadedImage =
-                        new Image(resolvedPath, fitWidth, fitHeight, true, true);
-                Utils.LruImageCache.addImage(resolvedPath, loadedImage);
-                javafx.application.Platform.runLater(() -> imageView.setImage(loadedImage));
-            } catch (Exception exception) {
-                logger.debug("loadCardImageInto: failed to load image for {}",
-                        resolvedPath, exception);
-            }
-        }, "compact-ouiche-img-loader");
-        loaderThread.setDaemon(true);
-        loaderThread.start();
+        CardImageLoader.loadInto(card.getImagePath(), imageView, fitWidth, fitHeight);
     }
 
     // ── OuicheList action buttons ─────────────────────────────────────────────
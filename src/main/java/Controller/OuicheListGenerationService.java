@@ -3,6 +3,7 @@ package Controller;
 import Model.CardsLists.OuicheListIO;
 import Model.CardsLists.SubListCreator;
 import Model.FormatList.ArchetypesListsToHtml;
+import Utils.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,11 +58,13 @@ public class OuicheListGenerationService {
 
             Files.createDirectories(Paths.get(outputPathLists));
 
+            long exportStartNanos = Metrics.start();
             generateOuicheListAsListHtml(getDetailedOuicheList(), outputPathLists, "Detailed OuicheList");
             generateOuicheListAsMosaicHtml(getDetailedOuicheList(), outputPathLists, "Detailed OuicheList");
 
             generateHtmlWithOwned(getUnusedCards(), outputPathLists, "Available Cards - Complete", true);
             generateHtmlWithOwned(getUnusedCards(), outputPathLists, "Available Cards", false);
+            Metrics.timer("html.ouicheListExport").recordSince(exportStartNanos);
 
             CollectionFileIO.setDetailedOuicheListLoaded(true);
 
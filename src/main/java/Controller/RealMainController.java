@@ -174,8 +174,12 @@ public class RealMainController {
         try {
             Map<Integer, Card> allCards = Model.Database.Database.getAllCardsList();
             if (allCards != null && !allCards.isEmpty()) {
-                SubListCreator.CreateArchetypeLists(allCards);
-                SubListCreator.UpdateCardArchetypes();
+                // Already built by the database bootstrap unless the cards
+                // came from the startup snapshot.
+                if (SubListCreator.getArchetypesList().isEmpty()) {
+                    SubListCreator.CreateArchetypeLists(allCards);
+                    SubListCreator.UpdateCardArchetypes();
+                }
                 logger.info("SubListCreator archetypes loaded: names={}, lists={}",
                         SubListCreator.getArchetypesList() == null ? 0
                                 : SubListCreator.getArchetypesList().size(),
@@ -613,6 +617,7 @@ public class RealMainController {
                     new ListView<>(FXCollections.observableArrayList(rows));
             mosaicListView.setCellFactory(
                     param -> new CardsMosaicRowCell(mosaicImageWidth, mosaicImageHeight));
+            CardImagePrefetcher.forCardRows(mosaicListView, mosaicImageWidth, mosaicImageHeight);
             mosaicListView.setStyle(
                     "-fx-background-color: #100317; -fx-control-inner-background: #100317;");
             mosaicListView.addEventHandler(
@@ -624,6 +629,7 @@ public class RealMainController {
                     new ListView<>(FXCollections.observableArrayList(filteredCards));
             listView.setCellFactory(
                     param -> new CardsListCell(isPrintedMode, listImageWidth, listImageHeight));
+            CardImagePrefetcher.forCardList(listView, listImageWidth, listImageHeight);
             listView.setStyle(
                     "-fx-background-color: #100317; -fx-control-inner-background: #100317;");
             listView.addEventHandler(
@@ -774,16 +780,7 @@ public class RealMainController {
 
     private List<List<Card>> groupCardsIntoRows(List<Card> cards, double availableWidth,
                                                 double cellWidth, double gap) {
-        int cardsPerRow = (int) Math.floor((availableWidth + gap) / (cellWidth + gap));
-        if (cardsPerRow < 1) {
-            cardsPerRow = 1;
-        }
-        List<List<Card>> rows = new ArrayList<>();
-        for (int index = 0; index < cards.size(); index += cardsPerRow) {
-            int end = Math.min(index + cardsPerRow, cards.size());
-            rows.add(new ArrayList<>(cards.subList(index, end)));
-        }
-        return rows;
+        return Utils.MosaicLayout.rows(cards, Utils.MosaicLayout.cellsPerRow(availableWidth, cellWidth, gap));
     }
 
     // =========================================================================
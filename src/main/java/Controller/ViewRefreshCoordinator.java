@@ -29,29 +29,29 @@ public class ViewRefreshCoordinator {
     private static final Logger logger = LoggerFactory.getLogger(ViewRefreshCoordinator.class);
 
     private static final ViewRefresherRegistry explicitRefreshers =
-            new ViewRefresherRegistry("refreshOwnedCollectionView");
+            new ViewRefresherRegistry("ownedCollection");
 
     private static final ViewRefresherRegistry explicitStructureRefreshers =
-            new ViewRefresherRegistry("refreshOwnedCollectionStructure");
+            new ViewRefresherRegistry("ownedCollectionStructure");
 
     // ── Archetypes refreshers ──────────────────────────────────────────────────
     // Called whenever decks/collections or the owned collection change, because
     // archetype glow states depend on which cards are present in both.
     private static final ViewRefresherRegistry explicitArchetypesRefreshers =
-            new ViewRefresherRegistry("refreshArchetypesView");
+            new ViewRefresherRegistry("archetypes");
     // ── Decks tree-view refreshers ────────────────────────────────────────────
     // A lightweight tree.refresh() (no model rebuild) called on every model
     // change so that archetype-card glow states inside Collections stay in sync.
     private static final ViewRefresherRegistry decksTreeRefreshers =
-            new ViewRefresherRegistry("doRefreshArchetypesView (decksTree)");
+            new ViewRefresherRegistry("decksTree");
 
     // ── Decks and Collections refreshers (mirrors the owned-collection pattern) ──
     private static final ViewRefresherRegistry explicitDecksRefreshers =
-            new ViewRefresherRegistry("refreshDecksAndCollectionsView");
+            new ViewRefresherRegistry("decksAndCollections");
 
     // ── OuicheList refreshers ──────────────────────────────────────────────────
     private static final ViewRefresherRegistry explicitOuicheListRefreshers =
-            new ViewRefresherRegistry("refreshOuicheListView");
+            new ViewRefresherRegistry("ouicheList");
 
     // ── Tab dirty-indicator callback ──────────────────────────────────────────────
     private static Runnable tabDirtyIndicatorUpdater = null;
@@ -249,7 +249,13 @@ public class ViewRefreshCoordinator {
      * This method does not save the model; it only forces visible UI controls to refresh.
      */
     public static void refreshOwnedCollectionView() {
-        runOnFxThreadOrDefer(ViewRefreshCoordinator::doRefreshOwnedCollectionView);
+        long requestedNanos = Utils.Metrics.start();
+        runOnFxThreadOrDefer(() -> {
+            doRefreshOwnedCollectionView();
+            // Includes the wait for the FX thread, so this is what a card add costs until the
+            // Owned Collection shows it.
+            Utils.Metrics.timer("view.ownedCollection.requestToRefresh").recordSince(requestedNanos);
+        });
     }
 
     // Core implementation: tries explicit refreshers first, then falls back to scanning all
@@ -258,14 +264,13 @@ public class ViewRefreshCoordinator {
     // (across every open window, on every single card add) is a safety net for that one absent
     // registration case, not a step to run unconditionally alongside the explicit refresher.
     private static void doRefreshOwnedCollectionView() {
-        long totalStartNanos = Utils.PerfLog.start();
+        long totalStartNanos = Utils.Metrics.start();
         try {
             // 1) Call any explicit registered refreshers first (preferred)
             explicitRefreshers.runAll();
 
             if (!explicitRefreshers.isEmpty()) {
-                Utils.PerfLog.stage(logger, "doRefreshOwnedCollectionView: total (explicit refreshers)",
-                        totalStartNanos);
+                Utils.Metrics.timer("view.ownedCollection.refresh.explicit").recordSince(totalStartNanos);
                 return;
             }
 
@@ -336,11 +341,10 @@ public class ViewRefreshCoordinator {
             } else {
                 logger.debug("refreshOwnedCollectionView: refreshed visible controls");
             }
-            Utils.PerfLog.stage(logger, "doRefreshOwnedCollectionView: total (legacy BFS fallback)",
-                    totalStartNanos);
+            Utils.Metrics.timer("view.ownedCollection.refresh.legacyScan").recordSince(totalStartNanos);
         } catch (Throwable throwable) {
             logger.debug("refreshOwnedCollectionView failed", throwable);
-            Utils.PerfLog.stage(logger, "doRefreshOwnedCollectionView: total (failed)", totalStartNanos);
+            Utils.Metrics.timer("view.ownedCollection.refresh.failed").recordSince(totalStartNanos);
         }
     }
 
@@ -19,15 +19,18 @@ import java.util.concurrent.CopyOnWriteArrayList;
 final class ViewRefresherRegistry {
 
     private final String name;
+    private final Utils.Metrics.Timer refresherTimer;
     private final Logger logger = LoggerFactory.getLogger(ViewRefresherRegistry.class);
     private final CopyOnWriteArrayList<Runnable> refreshers = new CopyOnWriteArrayList<>();
 
     /**
      * @param name a short label identifying which view this registry belongs to,
-     *             used only to make debug log lines distinguishable
+     *             used in debug log lines and in the {@code view.<name>.refresher}
+     *             metric that times each callback
      */
     ViewRefresherRegistry(String name) {
         this.name = name;
+        this.refresherTimer = Utils.Metrics.timer("view." + name + ".refresher");
     }
 
     /**
@@ -66,16 +69,14 @@ final class ViewRefresherRegistry {
      * so one broken refresher cannot prevent the others from updating their view.
      */
     void runAll() {
-        int refresherIndex = 0;
         for (Runnable refresher : refreshers) {
-            long refresherStartNanos = Utils.PerfLog.start();
+            long refresherStartNanos = Utils.Metrics.start();
             try {
                 refresher.run();
             } catch (Throwable throwable) {
                 logger.debug("{}: a refresher threw", name, throwable);
             }
-            Utils.PerfLog.stage(logger, name + ": refresher #" + refresherIndex, refresherStartNanos);
-            refresherIndex++;
+            refresherTimer.recordSince(refresherStartNanos);
         }
     }
 }
\ No newline at end of file
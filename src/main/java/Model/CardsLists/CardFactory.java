@@ -1,11 +1,12 @@
 package Model.CardsLists;
 
+import Model.Database.CardDatabaseManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 
-import static Model.Database.CardDatabaseManager.getKonamiIdToPassCode;
+import static Model.Database.CardDatabaseManager.getPassCodeForKonamiId;
 import static Model.Database.Database.getAllCardsList;
 import static Model.Database.PrintCodeToKonamiId.getPrintCodeToKonamiId;
 
@@ -187,9 +188,9 @@ public class CardFactory {
         }
 
         // Step 2 — resolve Konami ID → passcode
-        Integer numericKonamiId;
+        int numericKonamiId;
         try {
-            numericKonamiId = Integer.valueOf(konamiIdStr);
+            numericKonamiId = Integer.parseInt(konamiIdStr);
         } catch (NumberFormatException exception) {
             logger.warn("createCardFromPrintCode: unparseable Konami ID '{}' for print code {}",
                     konamiIdStr, printCode);
@@ -198,9 +199,9 @@ public class CardFactory {
             return stub;
         }
 
-        Integer passCodeInt;
+        int passCodeInt;
         try {
-            passCodeInt = getKonamiIdToPassCode().get(numericKonamiId);
+            passCodeInt = getPassCodeForKonamiId(numericKonamiId);
         } catch (Exception exception) {
             logger.error("createCardFromPrintCode: database error resolving Konami ID {} — {}",
                     konamiIdStr, exception.getMessage());
@@ -209,7 +210,7 @@ public class CardFactory {
             return stub;
         }
 
-        if (passCodeInt == null) {
+        if (passCodeInt == CardDatabaseManager.MISSING_ID) {
             // Konami ID is known but not yet mapped to a passcode.
             logger.warn("createCardFromPrintCode: no passcode for Konami ID {} (print code {})",
                     konamiIdStr, printCode);
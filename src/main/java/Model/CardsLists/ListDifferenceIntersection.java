@@ -2,6 +2,7 @@ package Model.CardsLists;
 
 import java.util.*;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 public class ListDifferenceIntersection {
     /**
@@ -61,6 +62,99 @@ public class ListDifferenceIntersection {
         return returnValue;
     }
 
+    /**
+     * {@link #ListDifIntersect(List, List, BiPredicate, List, List)} for a comparator
+     * that matches two cards when they have the same non-null {@code key}: returns the
+     * same three lists, in the same order, in O(|A| + |B|) rather than O(|A| · |B|).
+     *
+     * <p>The cards of {@code listB} that can be matched are bucketed by key, in list
+     * order. Each eligible card of {@code listA}, in list order, then takes the first
+     * card left in its bucket, exactly as the nested scan takes the first matching card
+     * left in {@code listB}.
+     *
+     * @param key the key cards are matched on; cards whose key is {@code null} never match
+     */
+    public static List<List<CardElement>> ListDifIntersectByKey(List<CardElement> listA, List<CardElement> listB, Function<Card, String> key, List<String> mustContain, List<String> mustNotContain) {
+        Map<String, ArrayDeque<Integer>> candidatesByKey = bucketByKey(listB, key);
+        boolean[] matchedInA = new boolean[listA.size()];
+        boolean[] matchedInB = new boolean[listB.size()];
+
+        List<CardElement> listsIntersection = new ArrayList<>();
+
+        for (int i = 0; i < listA.size(); i++) {
+            CardElement listACard = listA.get(i);
+            if (listACard.getCard().getKonamiId() == null || !passesFilters(listACard.toString(), mustContain, mustNotContain)) {
+                continue;
+            }
+            String keyA = key.apply(listACard.getCard());
+            ArrayDeque<Integer> candidates = keyA == null ? null : candidatesByKey.get(keyA);
+            if (candidates == null || candidates.isEmpty()) {
+                continue;
+            }
+            int j = candidates.poll();
+            matchedInA[i] = true;
+            matchedInB[j] = true;
+            listsIntersection.add(listB.get(j));
+        }
+
+        List<List<CardElement>> returnValue = new ArrayList<>();
+        returnValue.add(unmatched(listA, matchedInA));
+        returnValue.add(unmatched(listB, matchedInB));
+        returnValue.add(listsIntersection);
+
+        return returnValue;
+    }
+
+    /**
+     * Returns the positions of the cards of {@code list} that have a Konami ID and a
+     * non-null {@code key}, by key, in list order.
+     */
+    private static Map<String, ArrayDeque<Integer>> bucketByKey(List<CardElement> list, Function<Card, String> key) {
+        Map<String, ArrayDeque<Integer>> positionsByKey = new HashMap<>();
+        for (int j = 0; j < list.size(); j++) {
+            Card card = list.get(j).getCard();
+            if (card.getKonamiId() == null) {
+                continue;
+            }
+            String cardKey = key.apply(card);
+            if (cardKey != null) {
+                positionsByKey.computeIfAbsent(cardKey, k -> new ArrayDeque<>()).add(j);
+            }
+        }
+        return positionsByKey;
+    }
+
+    private static boolean passesFilters(String value, List<String> mustContain, List<String> mustNotContain) {
+        if (value == null) {
+            return false;
+        }
+        if (mustContain != null) {
+            for (String required : mustContain) {
+                if (!value.contains(required)) {
+                    return false;
+                }
+            }
+        }
+        if (mustNotContain != null) {
+            for (String excluded : mustNotContain) {
+                if (value.contains(excluded)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static List<CardElement> unmatched(List<CardElement> list, boolean[] matched) {
+        List<CardElement> remaining = new ArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            if (!matched[i]) {
+                remaining.add(list.get(i));
+            }
+        }
+        return remaining;
+    }
+
     /**
      * A version of ListDifIntersect that ignores cards with IDs that have a '+' in them.
      * This is because the '+' character is used by the print code to indicate that a card
@@ -73,9 +167,7 @@ public class ListDifferenceIntersection {
      * third contains the cards that are in both.
      */
     public static List<List<CardElement>> ListDifIntersectArtworkWithExceptions(List<CardElement> mapA, List<CardElement> listB) {
-        return ListDifIntersect(mapA, listB,
-                (card1, card2) -> card1.getImagePath() != null && card2.getImagePath() != null && card1.getImagePath().equals(card2.getImagePath()),
-                List.of("*"), List.of("+"));
+        return ListDifIntersectByKey(mapA, listB, Card::getImagePath, List.of("*"), List.of("+"));
     }
 
     /**
@@ -91,9 +183,7 @@ public class ListDifferenceIntersection {
      *         third contains the cards that are in both.
      */
     public static List<List<CardElement>> ListDifIntersectKonamiIdWithExceptions(List<CardElement> mapA, List<CardElement> listB) {
-        return ListDifIntersect(mapA, listB,
-                (card1, card2) -> card1.getKonamiId().equals(card2.getKonamiId()),
-                List.of("*"), null);
+        return ListDifIntersectByKey(mapA, listB, Card::getKonamiId, List.of("*"), null);
     }
 
     /**
@@ -109,9 +199,7 @@ public class ListDifferenceIntersection {
      *     lists and that have the same artwork path).
      */
     public static List<List<CardElement>> ListDifIntersectArtwork(List<CardElement> listA, List<CardElement> listB) {
-        return ListDifIntersect(listA, listB,
-                (card1, card2) -> card1.getImagePath() != null && card2.getImagePath() != null && card1.getImagePath().equals(card2.getImagePath()),
-                null, null);
+        return ListDifIntersectByKey(listA, listB, Card::getImagePath, null, null);
     }
 
     /**
@@ -127,9 +215,7 @@ public class ListDifferenceIntersection {
      *     lists and that have the same print code).
      */
     public static List<List<CardElement>> ListDifIntersectPrintcode(List<CardElement> listA, List<CardElement> listB) {
-        return ListDifIntersect(listA, listB,
-                (card1, card2) -> card1.getPrintCode() != null && card2.getPrintCode() != null && card1.getPrintCode().equals(card2.getPrintCode()),
-                null, null);
+        return ListDifIntersectByKey(listA, listB, Card::getPrintCode, null, null);
     }
 
     /**
@@ -145,9 +231,7 @@ public class ListDifferenceIntersection {
      *     lists and have the same Konami ID).
      */
     public static List<List<CardElement>> ListDifIntersectKonamiId(List<CardElement> listA, List<CardElement> listB) {
-        return ListDifIntersect(listA, listB,
-                (card1, card2) -> card1.getKonamiId().equals(card2.getKonamiId()),
-                null, null);
+        return ListDifIntersectByKey(listA, listB, Card::getKonamiId, null, null);
     }
 
     /**
@@ -163,9 +247,7 @@ public class ListDifferenceIntersection {
      *     lists and have the same pass code).
      */
     public static List<List<CardElement>> ListDifIntersectPassCode(List<CardElement> listA, List<CardElement> listB) {
-        return ListDifIntersect(listA, listB,
-                (card1, card2) -> card1.getPassCode() != null && card2.getPassCode() != null && card1.getPassCode().equals(card2.getPassCode()),
-                null, null);
+        return ListDifIntersectByKey(listA, listB, Card::getPassCode, null, null);
     }
 
     /**
@@ -185,9 +267,7 @@ public class ListDifferenceIntersection {
      *     in their artwork).
      */
     public static List<List<CardElement>> ListDifIntersectArtworkWithExceptions(List<CardElement> listA, List<CardElement> listB, String character) {
-        return ListDifIntersect(listA, listB,
-                (card1, card2) -> card1.getImagePath() != null && card2.getImagePath() != null && card1.getImagePath().equals(card2.getImagePath()),
-                List.of("*"), List.of("+"), character);
+        return ListDifIntersectByKey(listA, listB, Card::getImagePath, List.of("*"), List.of("+"), character);
     }
 
     /**
@@ -207,9 +287,7 @@ public class ListDifferenceIntersection {
      *     in their artwork).
      */
     public static List<List<CardElement>> ListDifIntersectKonamiIdWithExceptions(List<CardElement> listA, List<CardElement> listB, String character) {
-        return ListDifIntersect(listA, listB,
-                (card1, card2) -> card1.getKonamiId().equals(card2.getKonamiId()),
-                null, Arrays.asList("+", "*"), character);
+        return ListDifIntersectByKey(listA, listB, Card::getKonamiId, null, Arrays.asList("+", "*"), character);
     }
 
     /**
@@ -226,11 +304,7 @@ public class ListDifferenceIntersection {
      */
     public static List<List<CardElement>> ListDifIntersectArtworkDontRemove(
             List<CardElement> listA, List<CardElement> listB, String character) {
-        return ListDifIntersect(listA, listB,
-                (card1, card2) -> card1.getImagePath() != null
-                        && card2.getImagePath() != null
-                        && card1.getImagePath().equals(card2.getImagePath()),
-                Arrays.asList("*", "+"), List.of(), character);
+        return ListDifIntersectByKey(listA, listB, Card::getImagePath, Arrays.asList("*", "+"), List.of(), character);
     }
 
     /**
@@ -247,11 +321,7 @@ public class ListDifferenceIntersection {
      */
     public static List<List<CardElement>> ListDifIntersectKonamiIdDontRemove(
             List<CardElement> listA, List<CardElement> listB, String character) {
-        return ListDifIntersect(listA, listB,
-                (card1, card2) -> card1.getKonamiId() != null
-                        && card2.getKonamiId() != null
-                        && card1.getKonamiId().equals(card2.getKonamiId()),
-                List.of("+"), List.of("*"), character);
+        return ListDifIntersectByKey(listA, listB, Card::getKonamiId, List.of("+"), List.of("*"), character);
     }
 
     /**
@@ -314,4 +384,52 @@ public class ListDifferenceIntersection {
 
         return returnValue;
     }
-}
\ No newline at end of file
+
+    /**
+     * {@link #ListDifIntersect(List, List, BiPredicate, List, List, String)} for a
+     * comparator that matches two cards when they have the same non-null {@code key}:
+     * marks the same cards, in O(|A| + |B|) rather than O(|A| · |B|).
+     *
+     * <p>A card of {@code listB} that can't be matched — already marked with
+     * {@code character}, or sharing its {@link Card} with a card matched before — never
+     * can again during the call, so each bucket drops such cards as it meets them at its
+     * head; the first card left is then the one the nested scan would have found.
+     *
+     * @param key the key cards are matched on; cards whose key is {@code null} never match
+     */
+    public static List<List<CardElement>> ListDifIntersectByKey(List<CardElement> listA, List<CardElement> listB, Function<Card, String> key, List<String> mustContain, List<String> mustNotContain, String character) {
+        List<CardElement> listAMinusB = new ArrayList<>(listA);
+        List<CardElement> listBMinusA = new ArrayList<>(listB);
+
+        Map<String, ArrayDeque<Integer>> candidatesByKey = bucketByKey(listB, key);
+        Set<Card> usedCardsInB = new HashSet<>();
+
+        for (int i = 0; i < listA.size(); i++) {
+            Card listACard = listA.get(i).getCard();
+            String valueA = listA.get(i).toString();
+            if (valueA == null || listACard.getKonamiId() == null || valueA.contains(character)
+                    || !passesFilters(valueA, mustContain, mustNotContain)) {
+                continue;
+            }
+            String keyA = key.apply(listACard);
+            ArrayDeque<Integer> candidates = keyA == null ? null : candidatesByKey.get(keyA);
+            while (candidates != null && !candidates.isEmpty()) {
+                int j = candidates.poll();
+                Card listBCard = listB.get(j).getCard();
+                String valueB = listB.get(j).toString();
+                if (valueB != null && !valueB.contains(character) && !usedCardsInB.contains(listBCard)) {
+                    listAMinusB.get(i).setValues(valueA + character);
+                    listBMinusA.get(j).setValues(valueB + character);
+                    usedCardsInB.add(listBCard);
+                    break; // Move to the next element in mapA
+                }
+            }
+        }
+
+        List<List<CardElement>> returnValue = new ArrayList<>();
+        returnValue.add(listAMinusB);
+        returnValue.add(listBMinusA);
+
+        return returnValue;
+    }
+}
@@ -1,5 +1,7 @@
 package Model.CardsLists;
 
+import Utils.Metrics;
+
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -171,6 +173,7 @@ public class OuicheList {
      */
     public static void setDetailedOuicheList(DecksAndCollectionsList detailedOuicheList) {
         OuicheList.detailedOuicheList = detailedOuicheList;
+        OuicheListUpdater.invalidateIndexes();
     }
 
     /**
@@ -355,6 +358,7 @@ public class OuicheList {
      */
     public static void createOuicheList(OwnedCardsCollection ownedCardsCollection,
                                         DecksAndCollectionsList decksList) throws Exception {
+        long startNanos = Metrics.start();
         listsIntersection = new ArrayList<>();
         if (detailedOuicheList == null) {
             createDetailedOuicheList(ownedCardsCollection, decksList);
@@ -370,6 +374,7 @@ public class OuicheList {
                 OwnershipStatus.OWNED_SUBSTANDARD,
                 maOuicheListSubstandard,
                 maOuicheListSubstandardCounts);
+        Metrics.timer("ouicheList.create").recordSince(startNanos);
     }
 
     // =========================================================================
@@ -560,7 +565,11 @@ public class OuicheList {
     public static DecksAndCollectionsList createDetailedOuicheList(
             OwnedCardsCollection ownedCardsCollection,
             DecksAndCollectionsList inputDecksList) {
-        return OuicheListComputer.createDetailedOuicheList(ownedCardsCollection, inputDecksList);
+        long startNanos = Metrics.start();
+        DecksAndCollectionsList detailed =
+                OuicheListComputer.createDetailedOuicheList(ownedCardsCollection, inputDecksList);
+        Metrics.timer("ouicheList.createDetailed").recordSince(startNanos);
+        return detailed;
     }
 
     static void buildCompactMapForStatus(
@@ -0,0 +1,402 @@
+package Model.CardsLists;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Live per-deck, per-group and per-collection counts behind one compact map of
+ * the OuicheList, so that {@link OuicheListUpdater} can keep that map equal to
+ * what {@link OuicheListComputer#buildCompactMapForStatus} would rebuild,
+ * recomputing only the deck group touched by a change.
+ *
+ * <p>One instance tracks the slots of a single {@link OwnershipStatus}:
+ * {@link OwnershipStatus#MISSING} for {@link OuicheList#getMaOuicheList()},
+ * {@link OwnershipStatus#OWNED_SUBSTANDARD} for
+ * {@link OuicheList#getMaOuicheListSubstandard()}. It holds, per card key:
+ * <ul>
+ *   <li>each grouped deck's count, and each deck group's max over its decks
+ *       (Rule 1);</li>
+ *   <li>each collection's sum of group maxes and its cardsList count, hence its
+ *       contribution, {@code max} of the two for non-dontRemove cards
+ *       (Rule 2);</li>
+ *   <li>the total over non-loose collections and standalone decks, and each
+ *       loose collection's contribution, the first of which counts only when
+ *       that total is zero (Rule 3).</li>
+ * </ul>
+ * A slot entering or leaving the tracked status adjusts its deck, the max of
+ * that deck's group, its collection and the totals for the one key concerned,
+ * then writes that key's count to the compact map.
+ *
+ * <p>Slots are located by identity: each must be registered with
+ * {@link #slotAdded} on entering a section and {@link #slotRemoved} on leaving
+ * it, while its status is what the compact map reflects. A deck or list
+ * reachable twice is only counted where first met.
+ *
+ * <p>Package-private: only {@link OuicheListUpdater} should use this class.
+ */
+final class OuicheListCompactAggregates {
+
+    private static final int NORMAL = 0;
+    private static final int DONT_REMOVE = 1;
+
+    private final OwnershipStatus status;
+    private final DecksAndCollectionsList source;
+    private final Map<List<CardElement>, Tally> tallyBySection = new IdentityHashMap<>();
+    private final Map<CardElement, Tally> tallyBySlot = new IdentityHashMap<>();
+    private final Map<String, Integer> nonLooseTotals = new HashMap<>();
+    private final Map<String, NavigableMap<Integer, Integer>> looseContributions = new HashMap<>();
+
+    OuicheListCompactAggregates(DecksAndCollectionsList source, OwnershipStatus status) {
+        this.source = source;
+        this.status = status;
+        List<ThemeCollection> collections = source.getCollections();
+        if (collections != null) {
+            for (ThemeCollection collection : collections) {
+                if (collection != null && !Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
+                    addCollection(collection, -1);
+                }
+            }
+        }
+        if (source.getDecks() != null) {
+            Tally standalone = new StandaloneTally();
+            for (Deck deck : source.getDecks()) {
+                if (deck != null) {
+                    addDeck(deck, standalone);
+                }
+            }
+        }
+        if (collections != null) {
+            int looseOrder = 0;
+            for (ThemeCollection collection : collections) {
+                if (collection != null && Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
+                    addCollection(collection, looseOrder++);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the list these aggregates were built from.
+     */
+    DecksAndCollectionsList source() {
+        return source;
+    }
+
+    private void addCollection(ThemeCollection collection, int looseOrder) {
+        CollectionTally collectionTally = new CollectionTally(looseOrder);
+        if (collection.getLinkedDecks() != null) {
+            for (List<Deck> deckGroup : collection.getLinkedDecks()) {
+                if (deckGroup == null) {
+                    continue;
+                }
+                GroupTally groupTally = new GroupTally(collectionTally);
+                for (Deck deck : deckGroup) {
+                    if (deck != null) {
+                        DeckTally deckTally = new DeckTally(groupTally);
+                        groupTally.decks.add(deckTally);
+                        addDeck(deck, deckTally);
+                    }
+                }
+            }
+        }
+        addSection(collection.getCardsList(), new CardsListTally(collectionTally));
+    }
+
+    private void addDeck(Deck deck, Tally tally) {
+        addSection(deck.getMainDeck(), tally);
+        addSection(deck.getExtraDeck(), tally);
+        addSection(deck.getSideDeck(), tally);
+    }
+
+    private void addSection(List<CardElement> slots, Tally tally) {
+        if (slots == null || tallyBySection.putIfAbsent(slots, tally) != null) {
+            return;
+        }
+        for (CardElement slot : slots) {
+            if (slot != null && tallyBySlot.putIfAbsent(slot, tally) == null
+                    && slot.getOwnershipStatus() == status && slot.getCard() != null) {
+                String key = OuicheList.cardKey(slot);
+                if (key != null) {
+                    tally.add(key, kind(tally, slot), 1);
+                }
+            }
+        }
+    }
+
+    // ── Upkeep ───────────────────────────────────────────────────────────────
+
+    /**
+     * Registers {@code slot}, just inserted into the section {@code slots}.
+     * Its status is not counted: report it with {@link #slotCounted}. Ignored
+     * if {@code slots} is not a section of the list.
+     */
+    void slotAdded(List<CardElement> slots, CardElement slot) {
+        Tally tally = tallyBySection.get(slots);
+        if (tally != null && slot != null) {
+            tallyBySlot.putIfAbsent(slot, tally);
+        }
+    }
+
+    /**
+     * Unregisters {@code slot}, just removed from its section. Its status must
+     * already have been uncounted with {@link #slotCounted}.
+     */
+    void slotRemoved(CardElement slot) {
+        tallyBySlot.remove(slot);
+    }
+
+    /**
+     * Counts {@code slot} as entering ({@code delta = 1}) or leaving
+     * ({@code delta = -1}) the tracked status, and updates the compact map
+     * entry of its card key.
+     *
+     * @return {@code false}, with nothing changed, if {@code slot} is not
+     *         registered
+     */
+    boolean slotCounted(CardElement slot, int delta) {
+        Tally tally = tallyBySlot.get(slot);
+        if (tally == null) {
+            return false;
+        }
+        String key = slot.getCard() == null ? null : OuicheList.cardKey(slot);
+        if (key == null) {
+            return true;
+        }
+        tally.add(key, kind(tally, slot), delta);
+        publish(key, slot);
+        return true;
+    }
+
+    /**
+     * Returns the count the compact map should hold for {@code key}, 0 meaning
+     * no entry.
+     */
+    int count(String key) {
+        int nonLoose = nonLooseTotals.getOrDefault(key, 0);
+        if (nonLoose > 0) {
+            return nonLoose;
+        }
+        NavigableMap<Integer, Integer> loose = looseContributions.get(key);
+        return loose == null ? 0 : loose.firstEntry().getValue();
+    }
+
+    private void publish(String key, CardElement representative) {
+        LinkedHashMap<String, CardElement> map;
+        LinkedHashMap<String, Integer> counts;
+        if (status == OwnershipStatus.OWNED_SUBSTANDARD) {
+            map = OuicheList.getMaOuicheListSubstandard();
+            counts = OuicheList.getMaOuicheListSubstandardCounts();
+        } else {
+            map = OuicheList.getMaOuicheList();
+            counts = OuicheList.getMaOuicheListCounts();
+        }
+        if (map == null || counts == null) {
+            return;
+        }
+        int count = count(key);
+        if (count <= 0) {
+            map.remove(key);
+            counts.remove(key);
+            return;
+        }
+        if (!map.containsKey(key)) {
+            map.put(key, new CardElement(representative));
+        }
+        counts.put(key, count);
+    }
+
+    /**
+     * dontRemove slots are counted apart, except in loose collections, which
+     * count every slot alike.
+     */
+    private static int kind(Tally tally, CardElement slot) {
+        return !tally.isLoose() && Boolean.TRUE.equals(slot.getDontRemove()) ? DONT_REMOVE : NORMAL;
+    }
+
+    private void addToNonLooseTotal(String key, int delta) {
+        if (delta != 0) {
+            nonLooseTotals.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+
+    private void setLooseContribution(String key, int looseOrder, int contribution) {
+        if (contribution > 0) {
+            looseContributions.computeIfAbsent(key, k -> new TreeMap<>()).put(looseOrder, contribution);
+            return;
+        }
+        NavigableMap<Integer, Integer> contributions = looseContributions.get(key);
+        if (contributions != null) {
+            contributions.remove(looseOrder);
+            if (contributions.isEmpty()) {
+                looseContributions.remove(key);
+            }
+        }
+    }
+
+    // ── Tallies ──────────────────────────────────────────────────────────────
+
+    /**
+     * Counts per card key and kind, dropping keys back to zero.
+     */
+    private static final class KeyCounts {
+        private final Map<String, int[]> counts = new HashMap<>();
+
+        int get(String key, int kind) {
+            int[] pair = counts.get(key);
+            return pair == null ? 0 : pair[kind];
+        }
+
+        void add(String key, int kind, int delta) {
+            int[] pair = counts.computeIfAbsent(key, k -> new int[2]);
+            pair[kind] += delta;
+            if (pair[NORMAL] == 0 && pair[DONT_REMOVE] == 0) {
+                counts.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Where the slots of a section are counted.
+     */
+    private abstract static class Tally {
+        abstract boolean isLoose();
+
+        abstract void add(String key, int kind, int delta);
+    }
+
+    /**
+     * Standalone decks: every slot counts towards the non-loose total.
+     */
+    private final class StandaloneTally extends Tally {
+        @Override
+        boolean isLoose() {
+            return false;
+        }
+
+        @Override
+        void add(String key, int kind, int delta) {
+            addToNonLooseTotal(key, delta);
+        }
+    }
+
+    /**
+     * A collection: the sum over its deck groups of each group's max, and its
+     * cardsList count. A non-loose collection needs the larger of the two, a loose
+     * one their sum.
+     */
+    private final class CollectionTally {
+        /** Position among loose collections, or -1 for a non-loose one. */
+        final int looseOrder;
+        final KeyCounts groupMaxSums = new KeyCounts();
+        final KeyCounts cardsList = new KeyCounts();
+
+        CollectionTally(int looseOrder) {
+            this.looseOrder = looseOrder;
+        }
+
+        boolean isLoose() {
+            return looseOrder >= 0;
+        }
+
+        int contribution(String key) {
+            if (isLoose()) {
+                // Loose collections count everything as NORMAL and add their parts up.
+                return groupMaxSums.get(key, NORMAL) + cardsList.get(key, NORMAL);
+            }
+            return Math.max(groupMaxSums.get(key, NORMAL), cardsList.get(key, NORMAL))
+                    + groupMaxSums.get(key, DONT_REMOVE) + cardsList.get(key, DONT_REMOVE);
+        }
+
+        /**
+         * Applies {@code change} to this collection's counts for {@code key},
+         * then passes the change of its contribution on to the totals.
+         */
+        void update(String key, Runnable change) {
+            int before = contribution(key);
+            change.run();
+            int after = contribution(key);
+            if (after == before) {
+                return;
+            }
+            if (isLoose()) {
+                setLooseContribution(key, looseOrder, after);
+            } else {
+                addToNonLooseTotal(key, after - before);
+            }
+        }
+    }
+
+    /**
+     * A deck group of a collection: the max over its decks, per key and kind.
+     */
+    private static final class GroupTally {
+        final CollectionTally collection;
+        final List<DeckTally> decks = new ArrayList<>();
+        final KeyCounts max = new KeyCounts();
+
+        GroupTally(CollectionTally collection) {
+            this.collection = collection;
+        }
+    }
+
+    /**
+     * A deck of a deck group.
+     */
+    private static final class DeckTally extends Tally {
+        final GroupTally group;
+        final KeyCounts counts = new KeyCounts();
+
+        DeckTally(GroupTally group) {
+            this.group = group;
+        }
+
+        @Override
+        boolean isLoose() {
+            return group.collection.isLoose();
+        }
+
+        @Override
+        void add(String key, int kind, int delta) {
+            counts.add(key, kind, delta);
+            int newMax = 0;
+            for (DeckTally deck : group.decks) {
+                newMax = Math.max(newMax, deck.counts.get(key, kind));
+            }
+            int maxDelta = newMax - group.max.get(key, kind);
+            if (maxDelta == 0) {
+                return;
+            }
+            group.collection.update(key, () -> {
+                group.max.add(key, kind, maxDelta);
+                group.collection.groupMaxSums.add(key, kind, maxDelta);
+            });
+        }
+    }
+
+    /**
+     * A collection's cardsList.
+     */
+    private static final class CardsListTally extends Tally {
+        final CollectionTally collection;
+
+        CardsListTally(CollectionTally collection) {
+            this.collection = collection;
+        }
+
+        @Override
+        boolean isLoose() {
+            return collection.isLoose();
+        }
+
+        @Override
+        void add(String key, int kind, int delta) {
+            collection.update(key, () -> collection.cardsList.add(key, kind, delta));
+        }
+    }
+}
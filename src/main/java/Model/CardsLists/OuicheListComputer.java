@@ -1,6 +1,8 @@
 package Model.CardsLists;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Pure computation for the OuicheList: building the detailed difference list,
@@ -33,51 +35,40 @@ final class OuicheListComputer {
             OwnershipStatus targetStatus,
             LinkedHashMap<String, CardElement> targetMap,
             LinkedHashMap<String, Integer> targetCounts) {
+        buildCompactMapForStatus(targetStatus, targetMap, targetCounts, true);
+    }
 
-        // ── Non-loose collections ─────────────────────────────────────────────────
-        if (OuicheList.getDetailedOuicheList().getCollections() != null) {
-            for (ThemeCollection col : OuicheList.getDetailedOuicheList().getCollections()) {
-                if (Boolean.TRUE.equals(col.getConnectToWholeCollection())) {
-                    continue;
-                }
+    /**
+     * {@link #buildCompactMapForStatus(OwnershipStatus, LinkedHashMap, LinkedHashMap)},
+     * counting each collection in parallel over the common fork/join pool when
+     * {@code parallel}. The counts of a collection only depend on its own slots; they
+     * are merged into the target map sequentially, in list order, so the result is the
+     * same in both modes.
+     */
+    static void buildCompactMapForStatus(
+            OwnershipStatus targetStatus,
+            LinkedHashMap<String, CardElement> targetMap,
+            LinkedHashMap<String, Integer> targetCounts,
+            boolean parallel) {
 
-                Map<String, Integer> deckNormalContrib = new LinkedHashMap<>();
-                Map<String, Integer> deckDontRemoveContrib = new LinkedHashMap<>();
-                Map<String, CardElement> repCards = new LinkedHashMap<>();
-
-                for (List<Deck> group : col.getLinkedDecks()) {
-                    Map<String, Integer> groupMaxNormal = new HashMap<>();
-                    Map<String, Integer> groupMaxDontRemove = new HashMap<>();
-
-                    for (Deck deck : group) {
-                        Map<String, Integer> deckNormal = new HashMap<>();
-                        Map<String, Integer> deckDontRemove = new HashMap<>();
-
-                        for (CardElement ce : deck.toList()) {
-                            if (ce.getOwnershipStatus() != targetStatus) {
-                                continue;
-                            }
-                            String key = OuicheList.cardKey(ce);
-                            if (key == null) {
-                                continue;
-                            }
-                            repCards.putIfAbsent(key, ce);
-                            if (Boolean.TRUE.equals(ce.getDontRemove())) {
-                                deckDontRemove.merge(key, 1, Integer::sum);
-                            } else {
-                                deckNormal.merge(key, 1, Integer::sum);
-                            }
-                        }
-                        deckNormal.forEach((k, v) -> groupMaxNormal.merge(k, v, Math::max));
-                        deckDontRemove.forEach((k, v) -> groupMaxDontRemove.merge(k, v, Math::max));
-                    }
-                    groupMaxNormal.forEach((k, v) -> deckNormalContrib.merge(k, v, Integer::sum));
-                    groupMaxDontRemove.forEach((k, v) -> deckDontRemoveContrib.merge(k, v, Integer::sum));
-                }
+        List<ThemeCollection> collections = OuicheList.getDetailedOuicheList().getCollections() != null
+                ? OuicheList.getDetailedOuicheList().getCollections() : List.of();
+
+        // ── Non-loose collections ─────────────────────────────────────────────────
+        List<ThemeCollection> nonLooseCollections = collections.stream()
+                .filter(col -> !Boolean.TRUE.equals(col.getConnectToWholeCollection()))
+                .toList();
+        for (List<CompactEntry> entries
+                : mapInOrder(nonLooseCollections, col -> nonLooseCompactEntries(col, targetStatus), parallel)) {
+            for (CompactEntry entry : entries) {
+                addToMap(targetMap, targetCounts, entry.key(), entry.count(), entry.rep());
+            }
+        }
 
-                Map<String, Integer> listNormal = new LinkedHashMap<>();
-                Map<String, Integer> listDontRemove = new LinkedHashMap<>();
-                for (CardElement ce : col.getCardsList()) {
+        // ── Standalone decks ─────────────────────────────────────────────────────
+        if (OuicheList.getDetailedOuicheList().getDecks() != null) {
+            for (Deck deck : OuicheList.getDetailedOuicheList().getDecks()) {
+                for (CardElement ce : deck.toList()) {
                     if (ce.getOwnershipStatus() != targetStatus) {
                         continue;
                     }
@@ -85,37 +76,51 @@ final class OuicheListComputer {
                     if (key == null) {
                         continue;
                     }
-                    repCards.putIfAbsent(key, ce);
-                    if (Boolean.TRUE.equals(ce.getDontRemove())) {
-                        listDontRemove.merge(key, 1, Integer::sum);
-                    } else {
-                        listNormal.merge(key, 1, Integer::sum);
-                    }
+                    addToMap(targetMap, targetCounts, key, 1, ce);
                 }
+            }
+        }
 
-                // Rule 2: non-dontRemove key needs max(deckContrib, cardsListContrib)
-                Set<String> allNormalKeys = new HashSet<>(deckNormalContrib.keySet());
-                allNormalKeys.addAll(listNormal.keySet());
-                for (String key : allNormalKeys) {
-                    int needed = Math.max(
-                            deckNormalContrib.getOrDefault(key, 0),
-                            listNormal.getOrDefault(key, 0));
-                    if (needed <= 0) {
-                        continue;
-                    }
-                    addToMap(targetMap, targetCounts, key, needed, repCards.get(key));
+        // ── Loose collections (Rule 3) ────────────────────────────────────────────
+        List<ThemeCollection> looseCollections = collections.stream()
+                .filter(col -> Boolean.TRUE.equals(col.getConnectToWholeCollection()))
+                .toList();
+        for (List<CompactEntry> entries
+                : mapInOrder(looseCollections, col -> looseCompactEntries(col, targetStatus), parallel)) {
+            // Rule 3: only add keys not already in the target map
+            for (CompactEntry entry : entries) {
+                if (!targetMap.containsKey(entry.key())) {
+                    targetMap.put(entry.key(), new CardElement(entry.rep()));
+                    targetCounts.put(entry.key(), entry.count());
                 }
-
-                deckDontRemoveContrib.forEach((key, needed) ->
-                        addToMap(targetMap, targetCounts, key, needed, repCards.get(key)));
-                listDontRemove.forEach((key, needed) ->
-                        addToMap(targetMap, targetCounts, key, needed, repCards.get(key)));
             }
         }
+    }
+
+    /**
+     * A count of a card key for a compact map, with the slot representing it.
+     */
+    private record CompactEntry(String key, int count, CardElement rep) {
+    }
+
+    /**
+     * Counts the slots of non-loose collection {@code col} with {@code targetStatus}
+     * under Rules 1 and 2, in the order they are added to the compact map.
+     */
+    private static List<CompactEntry> nonLooseCompactEntries(ThemeCollection col, OwnershipStatus targetStatus) {
+        List<CompactEntry> entries = new ArrayList<>();
+        Map<String, Integer> deckNormalContrib = new LinkedHashMap<>();
+        Map<String, Integer> deckDontRemoveContrib = new LinkedHashMap<>();
+        Map<String, CardElement> repCards = new LinkedHashMap<>();
+
+        for (List<Deck> group : col.getLinkedDecks()) {
+            Map<String, Integer> groupMaxNormal = new HashMap<>();
+            Map<String, Integer> groupMaxDontRemove = new HashMap<>();
+
+            for (Deck deck : group) {
+                Map<String, Integer> deckNormal = new HashMap<>();
+                Map<String, Integer> deckDontRemove = new HashMap<>();
 
-        // ── Standalone decks ─────────────────────────────────────────────────────
-        if (OuicheList.getDetailedOuicheList().getDecks() != null) {
-            for (Deck deck : OuicheList.getDetailedOuicheList().getDecks()) {
                 for (CardElement ce : deck.toList()) {
                     if (ce.getOwnershipStatus() != targetStatus) {
                         continue;
@@ -124,41 +129,71 @@ final class OuicheListComputer {
                     if (key == null) {
                         continue;
                     }
-                    addToMap(targetMap, targetCounts, key, 1, ce);
+                    repCards.putIfAbsent(key, ce);
+                    if (Boolean.TRUE.equals(ce.getDontRemove())) {
+                        deckDontRemove.merge(key, 1, Integer::sum);
+                    } else {
+                        deckNormal.merge(key, 1, Integer::sum);
+                    }
                 }
+                deckNormal.forEach((k, v) -> groupMaxNormal.merge(k, v, Math::max));
+                deckDontRemove.forEach((k, v) -> groupMaxDontRemove.merge(k, v, Math::max));
             }
+            groupMaxNormal.forEach((k, v) -> deckNormalContrib.merge(k, v, Integer::sum));
+            groupMaxDontRemove.forEach((k, v) -> deckDontRemoveContrib.merge(k, v, Integer::sum));
         }
 
-        // ── Loose collections (Rule 3) ────────────────────────────────────────────
-        if (OuicheList.getDetailedOuicheList().getCollections() != null) {
-            for (ThemeCollection col : OuicheList.getDetailedOuicheList().getCollections()) {
-                if (!Boolean.TRUE.equals(col.getConnectToWholeCollection())) {
-                    continue;
-                }
+        Map<String, Integer> listNormal = new LinkedHashMap<>();
+        Map<String, Integer> listDontRemove = new LinkedHashMap<>();
+        for (CardElement ce : col.getCardsList()) {
+            if (ce.getOwnershipStatus() != targetStatus) {
+                continue;
+            }
+            String key = OuicheList.cardKey(ce);
+            if (key == null) {
+                continue;
+            }
+            repCards.putIfAbsent(key, ce);
+            if (Boolean.TRUE.equals(ce.getDontRemove())) {
+                listDontRemove.merge(key, 1, Integer::sum);
+            } else {
+                listNormal.merge(key, 1, Integer::sum);
+            }
+        }
 
-                Map<String, Integer> looseContrib = new LinkedHashMap<>();
-                Map<String, CardElement> repCards = new LinkedHashMap<>();
-
-                for (List<Deck> group : col.getLinkedDecks()) {
-                    Map<String, Integer> groupMax = new HashMap<>();
-                    for (Deck deck : group) {
-                        Map<String, Integer> deckCounts = new HashMap<>();
-                        for (CardElement ce : deck.toList()) {
-                            if (ce.getOwnershipStatus() != targetStatus) {
-                                continue;
-                            }
-                            String key = OuicheList.cardKey(ce);
-                            if (key == null) {
-                                continue;
-                            }
-                            repCards.putIfAbsent(key, ce);
-                            deckCounts.merge(key, 1, Integer::sum);
-                        }
-                        deckCounts.forEach((k, v) -> groupMax.merge(k, v, Math::max));
-                    }
-                    groupMax.forEach((k, v) -> looseContrib.merge(k, v, Integer::sum));
-                }
-                for (CardElement ce : col.getCardsList()) {
+        // Rule 2: non-dontRemove key needs max(deckContrib, cardsListContrib)
+        Set<String> allNormalKeys = new HashSet<>(deckNormalContrib.keySet());
+        allNormalKeys.addAll(listNormal.keySet());
+        for (String key : allNormalKeys) {
+            int needed = Math.max(
+                    deckNormalContrib.getOrDefault(key, 0),
+                    listNormal.getOrDefault(key, 0));
+            if (needed <= 0) {
+                continue;
+            }
+            entries.add(new CompactEntry(key, needed, repCards.get(key)));
+        }
+
+        deckDontRemoveContrib.forEach((key, needed) ->
+                entries.add(new CompactEntry(key, needed, repCards.get(key))));
+        listDontRemove.forEach((key, needed) ->
+                entries.add(new CompactEntry(key, needed, repCards.get(key))));
+        return entries;
+    }
+
+    /**
+     * Counts the slots of loose collection {@code col} with {@code targetStatus}
+     * under Rule 1, in the order they are offered to the compact map.
+     */
+    private static List<CompactEntry> looseCompactEntries(ThemeCollection col, OwnershipStatus targetStatus) {
+        Map<String, Integer> looseContrib = new LinkedHashMap<>();
+        Map<String, CardElement> repCards = new LinkedHashMap<>();
+
+        for (List<Deck> group : col.getLinkedDecks()) {
+            Map<String, Integer> groupMax = new HashMap<>();
+            for (Deck deck : group) {
+                Map<String, Integer> deckCounts = new HashMap<>();
+                for (CardElement ce : deck.toList()) {
                     if (ce.getOwnershipStatus() != targetStatus) {
                         continue;
                     }
@@ -167,18 +202,27 @@ final class OuicheListComputer {
                         continue;
                     }
                     repCards.putIfAbsent(key, ce);
-                    looseContrib.merge(key, 1, Integer::sum);
+                    deckCounts.merge(key, 1, Integer::sum);
                 }
-
-                // Rule 3: only add keys not already in the target map
-                looseContrib.forEach((key, count) -> {
-                    if (!targetMap.containsKey(key)) {
-                        targetMap.put(key, new CardElement(repCards.get(key)));
-                        targetCounts.put(key, count);
-                    }
-                });
+                deckCounts.forEach((k, v) -> groupMax.merge(k, v, Math::max));
             }
+            groupMax.forEach((k, v) -> looseContrib.merge(k, v, Integer::sum));
         }
+        for (CardElement ce : col.getCardsList()) {
+            if (ce.getOwnershipStatus() != targetStatus) {
+                continue;
+            }
+            String key = OuicheList.cardKey(ce);
+            if (key == null) {
+                continue;
+            }
+            repCards.putIfAbsent(key, ce);
+            looseContrib.merge(key, 1, Integer::sum);
+        }
+
+        List<CompactEntry> entries = new ArrayList<>(looseContrib.size());
+        looseContrib.forEach((key, count) -> entries.add(new CompactEntry(key, count, repCards.get(key))));
+        return entries;
     }
 
     /**
@@ -225,6 +269,18 @@ final class OuicheListComputer {
      * @return the created detailed OuicheList
      */
     public static DecksAndCollectionsList createDetailedOuicheList(OwnedCardsCollection ownedCardsCollection, DecksAndCollectionsList decksList) {
+        return createDetailedOuicheList(ownedCardsCollection, decksList, true);
+    }
+
+    /**
+     * {@link #createDetailedOuicheList(OwnedCardsCollection, DecksAndCollectionsList)},
+     * with the deep-copy and pool-indexing work forked over the common fork/join pool
+     * when {@code parallel}, or all on the calling thread otherwise. The ownership
+     * passes, which consume the shared owned pool in a set order, always run
+     * sequentially, so both modes produce the same detailed OuicheList.
+     */
+    static DecksAndCollectionsList createDetailedOuicheList(
+            OwnedCardsCollection ownedCardsCollection, DecksAndCollectionsList decksList, boolean parallel) {
         OuicheList.setListsIntersection(new ArrayList<>());
 
         OuicheList.setDetailedOuicheList(new DecksAndCollectionsList());
@@ -233,78 +289,48 @@ final class OuicheListComputer {
         // Deep-copy phase — non-loose collections first, then standalone decks,
         // then loose collections. This ordering means OuicheList.getDetailedOuicheList().toList()
         // and the UI display already present loose collections last with no extra work.
+        //
+        // Every collection, deck group and deck is copied independently of the
+        // others, so the copies are made in parallel and added in list order.
         // -----------------------------------------------------------------------
 
         if (decksList.getCollections() != null) {
             // Non-loose collections first
-            for (ThemeCollection originalCollection : decksList.getCollections()) {
-                if (Boolean.TRUE.equals(originalCollection.getConnectToWholeCollection())) continue;
-                ThemeCollection collectionCopy = new ThemeCollection();
-                collectionCopy.setName(originalCollection.getName());
-                collectionCopy.setConnectToWholeCollection(false);
-                // Bug 1 fix: preserve deck-group boundaries so that within-group
-                // propagation (Bug 2) can work correctly on the copy.
-                for (List<Deck> deckGroup : originalCollection.getLinkedDecks()) {
-                    boolean firstInGroup = true;
-                    for (Deck originalDeck : deckGroup) {
-                        Deck deckCopy = new Deck();
-                        deckCopy.setName(originalDeck.getName());
-                        deckCopy.setMainDeck(OuicheList.copyCardElements(originalDeck.getMainDeck()));
-                        deckCopy.setExtraDeck(OuicheList.copyCardElements(originalDeck.getExtraDeck()));
-                        deckCopy.setSideDeck(OuicheList.copyCardElements(originalDeck.getSideDeck()));
-                        if (firstInGroup) {
-                            collectionCopy.addDeck(deckCopy);
-                            firstInGroup = false;
-                        } else {
-                            collectionCopy.addDeckToExistingUnit(deckCopy, collectionCopy.getLinkedDecks().size() - 1);
-                        }
-                    }
-                }
-                collectionCopy.setCardsList(OuicheList.copyCardElements(originalCollection.getCardsList()));
+            List<ThemeCollection> nonLooseCollections = decksList.getCollections().stream()
+                    .filter(collection -> !Boolean.TRUE.equals(collection.getConnectToWholeCollection()))
+                    .toList();
+            for (ThemeCollection collectionCopy
+                    : mapInOrder(nonLooseCollections, collection -> copyCollection(collection, false, parallel), parallel)) {
                 OuicheList.getDetailedOuicheList().addCollection(collectionCopy);
             }
         }
 
         if (decksList.getDecks() != null) {
-            for (Deck originalDeck : decksList.getDecks()) {
-                Deck deckCopy = new Deck();
-                deckCopy.setName(originalDeck.getName());
-                deckCopy.setMainDeck(OuicheList.copyCardElements(originalDeck.getMainDeck()));
-                deckCopy.setExtraDeck(OuicheList.copyCardElements(originalDeck.getExtraDeck()));
-                deckCopy.setSideDeck(OuicheList.copyCardElements(originalDeck.getSideDeck()));
+            for (Deck deckCopy : mapInOrder(decksList.getDecks(), OuicheListComputer::copyDeck, parallel)) {
                 OuicheList.getDetailedOuicheList().addDeck(deckCopy);
             }
         }
 
         if (decksList.getCollections() != null) {
             // Loose collections last
-            for (ThemeCollection originalCollection : decksList.getCollections()) {
-                if (!Boolean.TRUE.equals(originalCollection.getConnectToWholeCollection())) continue;
-                ThemeCollection collectionCopy = new ThemeCollection();
-                collectionCopy.setName(originalCollection.getName());
-                collectionCopy.setConnectToWholeCollection(true);
-                // Bug 1 fix: preserve deck-group boundaries for loose collections too.
-                for (List<Deck> deckGroup : originalCollection.getLinkedDecks()) {
-                    boolean firstInGroup = true;
-                    for (Deck originalDeck : deckGroup) {
-                        Deck deckCopy = new Deck();
-                        deckCopy.setName(originalDeck.getName());
-                        deckCopy.setMainDeck(OuicheList.copyCardElements(originalDeck.getMainDeck()));
-                        deckCopy.setExtraDeck(OuicheList.copyCardElements(originalDeck.getExtraDeck()));
-                        deckCopy.setSideDeck(OuicheList.copyCardElements(originalDeck.getSideDeck()));
-                        if (firstInGroup) {
-                            collectionCopy.addDeck(deckCopy);
-                            firstInGroup = false;
-                        } else {
-                            collectionCopy.addDeckToExistingUnit(deckCopy, collectionCopy.getLinkedDecks().size() - 1);
-                        }
-                    }
-                }
-                collectionCopy.setCardsList(OuicheList.copyCardElements(originalCollection.getCardsList()));
+            List<ThemeCollection> looseCollections = decksList.getCollections().stream()
+                    .filter(collection -> Boolean.TRUE.equals(collection.getConnectToWholeCollection()))
+                    .toList();
+            for (ThemeCollection collectionCopy
+                    : mapInOrder(looseCollections, collection -> copyCollection(collection, true, parallel), parallel)) {
                 OuicheList.getDetailedOuicheList().addCollection(collectionCopy);
             }
         }
 
+        // The owned pools only depend on the owned collection: the unused pool shared by
+        // both rounds, and each round's fresh loose pool (see (3) below), are copied and
+        // indexed up front, in parallel.
+        OwnershipStatus[] roundStatuses = {OwnershipStatus.OWNED, OwnershipStatus.OWNED_SUBSTANDARD};
+        List<CardElement> ownedCards = ownedCardsCollection.toList();
+        List<List<CardElement>> ownedCopies = mapInOrder(
+                Collections.nCopies(1 + roundStatuses.length, ownedCards), OuicheList::copyCardElements, parallel);
+        List<OuicheListPoolIndex> ownedPools = mapInOrder(ownedCopies, OuicheListPoolIndex::new, parallel);
+
         // -----------------------------------------------------------------------
         // Ownership-removal phase.
         //
@@ -329,10 +355,11 @@ final class OuicheListComputer {
         //   (2) Standalone decks: non-dontRemove then dontRemove (artwork then KonamiId)
         //   (3) Loose collections: looseOwnedPool first, then OuicheList.getUnusedCards() fallback
         // -----------------------------------------------------------------------
-        OuicheList.setUnusedCards(OuicheList.copyCardElements(ownedCardsCollection.toList()));
-        OuicheListPoolIndex unusedPool = new OuicheListPoolIndex(OuicheList.getUnusedCards());
+        OuicheList.setUnusedCards(ownedCopies.get(0));
+        OuicheListPoolIndex unusedPool = ownedPools.get(0);
 
-        for (OwnershipStatus roundStatus : new OwnershipStatus[]{OwnershipStatus.OWNED, OwnershipStatus.OWNED_SUBSTANDARD}) {
+        for (int round = 0; round < roundStatuses.length; round++) {
+            OwnershipStatus roundStatus = roundStatuses[round];
             boolean qualityRequired = (roundStatus == OwnershipStatus.OWNED);
 
             // --- (1) Non-loose collections ---
@@ -382,7 +409,7 @@ final class OuicheListComputer {
             // Unlike non-loose passes, matched slots are REPLACED by the actual owned
             // CardElement instance from the pool, preserving the identity link to the
             // original owned card so CreateOuicheList can deduplicate by instance.
-            OuicheListPoolIndex looseOwnedPool = new OuicheListPoolIndex(OuicheList.copyCardElements(ownedCardsCollection.toList()));
+            OuicheListPoolIndex looseOwnedPool = ownedPools.get(1 + round);
 
             if (OuicheList.getDetailedOuicheList().getCollections() != null) {
                 for (ThemeCollection col : OuicheList.getDetailedOuicheList().getCollections()) {
@@ -412,6 +439,52 @@ final class OuicheListComputer {
         return OuicheList.getDetailedOuicheList();
     }
 
+    /**
+     * Copies {@code original} for the detailed OuicheList, its deck groups in parallel
+     * when {@code parallel}.
+     */
+    private static ThemeCollection copyCollection(ThemeCollection original, boolean isLoose, boolean parallel) {
+        ThemeCollection collectionCopy = new ThemeCollection();
+        collectionCopy.setName(original.getName());
+        collectionCopy.setConnectToWholeCollection(isLoose);
+        // Bug 1 fix: preserve deck-group boundaries so that within-group
+        // propagation (Bug 2) can work correctly on the copy.
+        List<List<Deck>> deckGroupCopies = mapInOrder(original.getLinkedDecks(),
+                deckGroup -> mapInOrder(deckGroup, OuicheListComputer::copyDeck, false), parallel);
+        for (List<Deck> deckGroupCopy : deckGroupCopies) {
+            boolean firstInGroup = true;
+            for (Deck deckCopy : deckGroupCopy) {
+                if (firstInGroup) {
+                    collectionCopy.addDeck(deckCopy);
+                    firstInGroup = false;
+                } else {
+                    collectionCopy.addDeckToExistingUnit(deckCopy, collectionCopy.getLinkedDecks().size() - 1);
+                }
+            }
+        }
+        collectionCopy.setCardsList(OuicheList.copyCardElements(original.getCardsList()));
+        return collectionCopy;
+    }
+
+    private static Deck copyDeck(Deck original) {
+        Deck deckCopy = new Deck();
+        deckCopy.setName(original.getName());
+        deckCopy.setMainDeck(OuicheList.copyCardElements(original.getMainDeck()));
+        deckCopy.setExtraDeck(OuicheList.copyCardElements(original.getExtraDeck()));
+        deckCopy.setSideDeck(OuicheList.copyCardElements(original.getSideDeck()));
+        return deckCopy;
+    }
+
+    /**
+     * Maps {@code items} through {@code mapper}, in parallel over the common fork/join
+     * pool when {@code parallel}; the results are in the order of {@code items} either
+     * way. {@code mapper} must not depend on shared mutable state.
+     */
+    private static <T, R> List<R> mapInOrder(List<T> items, Function<T, R> mapper, boolean parallel) {
+        Stream<T> stream = parallel ? items.parallelStream() : items.stream();
+        return stream.map(mapper).toList();
+    }
+
     /**
      * Bug 2 fix — within-group propagation for non-loose collections.
      *
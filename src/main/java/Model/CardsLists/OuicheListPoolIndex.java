@@ -1,79 +1,56 @@
 package Model.CardsLists;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Indexed view over a pool of owned {@link CardElement} instances, allowing
  * artwork (imagePath) and KonamiId lookups in O(1) average instead of the
  * O(pool size) linear scans previously performed for every wanted slot.
  *
- * <p>Both indexes preserve the original pool ordering for each key, so that
+ * <p>The pool is held as an array in its original order, and each index maps
+ * a key to the ascending positions of its cards in that array, so that
  * "first eligible match" semantics are identical to the previous
- * implementation. Removing a card updates both indexes and the backing list
- * consistently.
+ * implementation. Taking a card tombstones its position, which removes it from
+ * both indexes at once in constant time: lookups skip tombstones, and each
+ * bucket moves its start past the ones at its head. Tombstones behind a card
+ * still in the pool, such as one rejected on quality, are not passed over
+ * for good: every later lookup in that bucket scans them again.
  *
  * <p>Package-private: only {@link OuicheList} and its siblings in
  * {@code Model.CardsLists} should instantiate this class.
  */
 final class OuicheListPoolIndex {
 
-    private final List<CardElement> cards;
-    private final LinkedHashMap<String, LinkedList<CardElement>> byImagePath;
-    private final LinkedHashMap<String, LinkedList<CardElement>> byKonamiId;
+    /** The pool in original order; {@code null} where a card was taken. */
+    private final CardElement[] cards;
+    private final Map<String, Bucket> byImagePath;
+    private final Map<String, Bucket> byKonamiId;
 
     OuicheListPoolIndex(List<CardElement> source) {
-        this.cards = new ArrayList<>(source);
-        this.byImagePath = new LinkedHashMap<>();
-        this.byKonamiId = new LinkedHashMap<>();
-        for (CardElement card : this.cards) {
-            index(card);
+        this.cards = source.toArray(new CardElement[0]);
+        this.byImagePath = new HashMap<>();
+        this.byKonamiId = new HashMap<>();
+        for (int position = 0; position < cards.length; position++) {
+            index(position);
         }
     }
 
-    private void index(CardElement card) {
+    private void index(int position) {
+        CardElement card = cards[position];
         if (card.getCard() == null) {
             return;
         }
         String imagePath = card.getCard().getImagePath();
         if (imagePath != null) {
-            byImagePath.computeIfAbsent(imagePath, key -> new LinkedList<>()).add(card);
+            byImagePath.computeIfAbsent(imagePath, key -> new Bucket()).add(position);
         }
         String konamiId = card.getCard().getKonamiId();
         if (konamiId != null) {
-            byKonamiId.computeIfAbsent(konamiId, key -> new LinkedList<>()).add(card);
-        }
-    }
-
-    /**
-     * Removes {@code card} from the backing list and from both indexes.
-     */
-    void remove(CardElement card) {
-        cards.remove(card);
-        if (card.getCard() == null) {
-            return;
-        }
-        String imagePath = card.getCard().getImagePath();
-        if (imagePath != null) {
-            LinkedList<CardElement> bucket = byImagePath.get(imagePath);
-            if (bucket != null) {
-                bucket.remove(card);
-                if (bucket.isEmpty()) {
-                    byImagePath.remove(imagePath);
-                }
-            }
-        }
-        String konamiId = card.getCard().getKonamiId();
-        if (konamiId != null) {
-            LinkedList<CardElement> bucket = byKonamiId.get(konamiId);
-            if (bucket != null) {
-                bucket.remove(card);
-                if (bucket.isEmpty()) {
-                    byKonamiId.remove(konamiId);
-                }
-            }
+            byKonamiId.computeIfAbsent(konamiId, key -> new Bucket()).add(position);
         }
     }
 
@@ -87,23 +64,7 @@ final class OuicheListPoolIndex {
      */
     CardElement takeByImagePath(String imagePath, CardElement wantedSlot,
                                 boolean qualityRequired, boolean requireKonamiId) {
-        LinkedList<CardElement> bucket = byImagePath.get(imagePath);
-        if (bucket == null) {
-            return null;
-        }
-        for (CardElement candidate : bucket) {
-            if (requireKonamiId
-                    && (candidate.getCard() == null
-                    || candidate.getCard().getKonamiId() == null)) {
-                continue;
-            }
-            if (qualityRequired && !OuicheList.ownedCopySatisfiesQuality(wantedSlot, candidate)) {
-                continue;
-            }
-            remove(candidate);
-            return candidate;
-        }
-        return null;
+        return take(byImagePath.get(imagePath), wantedSlot, qualityRequired, requireKonamiId);
     }
 
     CardElement takeByImagePath(String imagePath, CardElement wantedSlot, boolean qualityRequired) {
@@ -116,27 +77,67 @@ final class OuicheListPoolIndex {
      * order. Returns {@code null} if no eligible card is found.
      */
     CardElement takeByKonamiId(String konamiId, CardElement wantedSlot, boolean qualityRequired) {
-        LinkedList<CardElement> bucket = byKonamiId.get(konamiId);
+        return take(byKonamiId.get(konamiId), wantedSlot, qualityRequired, true);
+    }
+
+    private CardElement take(Bucket bucket, CardElement wantedSlot,
+                             boolean qualityRequired, boolean requireKonamiId) {
         if (bucket == null) {
             return null;
         }
-        for (CardElement candidate : bucket) {
-            if (candidate.getCard() == null || candidate.getCard().getKonamiId() == null) {
+        for (int i = bucket.head; i < bucket.size; i++) {
+            int position = bucket.positions[i];
+            CardElement candidate = cards[position];
+            if (candidate == null) {
+                if (i == bucket.head) {
+                    bucket.head++;
+                }
+                continue;
+            }
+            if (requireKonamiId
+                    && (candidate.getCard() == null
+                    || candidate.getCard().getKonamiId() == null)) {
                 continue;
             }
             if (qualityRequired && !OuicheList.ownedCopySatisfiesQuality(wantedSlot, candidate)) {
                 continue;
             }
-            remove(candidate);
+            cards[position] = null;
+            if (i == bucket.head) {
+                bucket.head++;
+            }
             return candidate;
         }
         return null;
     }
 
     /**
-     * Returns the remaining pool as a flat list, preserving original order.
+     * Returns the remaining pool as a new flat list, preserving original order.
      */
     List<CardElement> toList() {
-        return cards;
+        List<CardElement> remaining = new ArrayList<>(cards.length);
+        for (CardElement card : cards) {
+            if (card != null) {
+                remaining.add(card);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * The ascending pool positions of one key's cards. Positions before
+     * {@code head} are all taken.
+     */
+    private static final class Bucket {
+        int[] positions = new int[2];
+        int size;
+        int head;
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
     }
-}
\ No newline at end of file
+}
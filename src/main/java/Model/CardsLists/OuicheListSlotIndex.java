@@ -0,0 +1,297 @@
+package Model.CardsLists;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index over a detailed OuicheList, used by {@link OuicheListUpdater}
+ * to find the slots a card can fill or occupies without walking every
+ * collection, deck and section.
+ *
+ * <p>Every section of the list — a deck's main, extra or side list, or a
+ * collection's cardsList — is given a rank in the order
+ * {@link OuicheList#CreateDetailedOuicheList} generates them: non-loose
+ * collections (linked decks then cardsList), standalone decks, then loose
+ * collections. For each KonamiId and imagePath, the index keeps the sections
+ * holding a slot for it, by rank, with the number of such slots. A lookup
+ * returns only those sections, in generation order; callers scan each one as
+ * before, so the first-match and last-match semantics of the full walk are
+ * kept, at the cost of the matching sections only.
+ *
+ * <p>Slots are indexed whatever their {@link OwnershipStatus}, so status
+ * changes need no upkeep: only a slot entering or leaving a section does, via
+ * {@link #slotAdded} and {@link #slotRemoved}. Decks and collections are also
+ * indexed by name.
+ *
+ * <p>The index reflects the list as it was when built plus the changes
+ * reported to it. The list must therefore not be edited directly while the
+ * index is in use; {@link OuicheListUpdater} builds a new one whenever
+ * {@link OuicheList#setDetailedOuicheList} installs another list.
+ *
+ * <p>Package-private: only {@link OuicheListUpdater} should use this class.
+ */
+final class OuicheListSlotIndex {
+
+    /**
+     * A section of the detailed OuicheList.
+     *
+     * @param rank        the section's position in generation order
+     * @param slots       the live section list
+     * @param contextName the owning deck's name, or the collection's for a cardsList
+     * @param isLoose     whether the section belongs to a loose collection
+     */
+    record Section(int rank, List<CardElement> slots, String contextName, boolean isLoose) {
+    }
+
+    private final DecksAndCollectionsList source;
+    private final Map<List<CardElement>, Section> sectionsByList = new IdentityHashMap<>();
+    private final Map<String, NavigableMap<Integer, Counted>> byKonamiId = new HashMap<>();
+    private final Map<String, NavigableMap<Integer, Counted>> byImagePath = new HashMap<>();
+    private final Map<String, ThemeCollection> collectionsByName = new HashMap<>();
+    private final Map<String, Deck> standaloneDecksByName = new HashMap<>();
+    private final Map<String, Deck> linkedDecksByName = new HashMap<>();
+    private final Map<String, Map<String, Deck>> linkedDecksByCollection = new HashMap<>();
+
+    OuicheListSlotIndex(DecksAndCollectionsList source) {
+        this.source = source;
+        List<ThemeCollection> collections = source.getCollections();
+        if (collections != null) {
+            for (ThemeCollection collection : collections) {
+                if (collection == null) {
+                    continue;
+                }
+                if (collection.getName() != null) {
+                    collectionsByName.putIfAbsent(collection.getName(), collection);
+                }
+                indexLinkedDeckNames(collection);
+                if (!Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
+                    addCollectionSections(collection, false);
+                }
+            }
+        }
+        if (source.getDecks() != null) {
+            for (Deck deck : source.getDecks()) {
+                if (deck == null) {
+                    continue;
+                }
+                if (deck.getName() != null) {
+                    standaloneDecksByName.putIfAbsent(deck.getName(), deck);
+                }
+                addDeckSections(deck, false);
+            }
+        }
+        if (collections != null) {
+            for (ThemeCollection collection : collections) {
+                if (collection != null && Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
+                    addCollectionSections(collection, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the list this index was built from.
+     */
+    DecksAndCollectionsList source() {
+        return source;
+    }
+
+    private void indexLinkedDeckNames(ThemeCollection collection) {
+        if (collection.getLinkedDecks() == null) {
+            return;
+        }
+        Map<String, Deck> decksOfCollection = collection.getName() == null ? null
+                : linkedDecksByCollection.computeIfAbsent(collection.getName(), name -> new HashMap<>());
+        for (List<Deck> deckGroup : collection.getLinkedDecks()) {
+            if (deckGroup == null) {
+                continue;
+            }
+            for (Deck deck : deckGroup) {
+                if (deck == null || deck.getName() == null) {
+                    continue;
+                }
+                linkedDecksByName.putIfAbsent(deck.getName(), deck);
+                // Only the first collection of a name is ever looked up.
+                if (decksOfCollection != null && collectionsByName.get(collection.getName()) == collection) {
+                    decksOfCollection.putIfAbsent(deck.getName(), deck);
+                }
+            }
+        }
+    }
+
+    private void addCollectionSections(ThemeCollection collection, boolean isLoose) {
+        if (collection.getLinkedDecks() != null) {
+            for (List<Deck> deckGroup : collection.getLinkedDecks()) {
+                if (deckGroup == null) {
+                    continue;
+                }
+                for (Deck deck : deckGroup) {
+                    if (deck != null) {
+                        addDeckSections(deck, isLoose);
+                    }
+                }
+            }
+        }
+        addSection(collection.getCardsList(), collection.getName(), isLoose);
+    }
+
+    private void addDeckSections(Deck deck, boolean isLoose) {
+        addSection(deck.getMainDeck(), deck.getName(), isLoose);
+        addSection(deck.getExtraDeck(), deck.getName(), isLoose);
+        addSection(deck.getSideDeck(), deck.getName(), isLoose);
+    }
+
+    private void addSection(List<CardElement> slots, String contextName, boolean isLoose) {
+        // A list reachable twice (the same deck linked in two places) keeps its first rank.
+        if (slots == null || sectionsByList.containsKey(slots)) {
+            return;
+        }
+        Section section = new Section(sectionsByList.size(), slots, contextName, isLoose);
+        sectionsByList.put(slots, section);
+        for (CardElement slot : slots) {
+            slotAdded(section, slot);
+        }
+    }
+
+    // ── Upkeep ───────────────────────────────────────────────────────────────
+
+    /**
+     * Returns {@code true} if {@code slots} is a section of the indexed list.
+     */
+    boolean contains(List<CardElement> slots) {
+        return sectionsByList.containsKey(slots);
+    }
+
+    /**
+     * Records that {@code slot} was inserted into the section {@code slots}.
+     * Ignored if {@code slots} is not a section of the indexed list.
+     */
+    void slotAdded(List<CardElement> slots, CardElement slot) {
+        Section section = sectionsByList.get(slots);
+        if (section != null) {
+            slotAdded(section, slot);
+        }
+    }
+
+    /**
+     * Records that {@code slot} was removed from the section {@code slots}.
+     * Ignored if {@code slots} is not a section of the indexed list.
+     */
+    void slotRemoved(List<CardElement> slots, CardElement slot) {
+        Section section = sectionsByList.get(slots);
+        if (section == null || slot == null || slot.getCard() == null) {
+            return;
+        }
+        decrement(byKonamiId, slot.getCard().getKonamiId(), section);
+        decrement(byImagePath, slot.getCard().getImagePath(), section);
+    }
+
+    private void slotAdded(Section section, CardElement slot) {
+        if (slot == null || slot.getCard() == null) {
+            return;
+        }
+        increment(byKonamiId, slot.getCard().getKonamiId(), section);
+        increment(byImagePath, slot.getCard().getImagePath(), section);
+    }
+
+    private static void increment(Map<String, NavigableMap<Integer, Counted>> index, String key, Section section) {
+        if (key == null) {
+            return;
+        }
+        index.computeIfAbsent(key, k -> new TreeMap<>())
+                .computeIfAbsent(section.rank(), rank -> new Counted(section))
+                .count++;
+    }
+
+    private static void decrement(Map<String, NavigableMap<Integer, Counted>> index, String key, Section section) {
+        if (key == null) {
+            return;
+        }
+        NavigableMap<Integer, Counted> sections = index.get(key);
+        Counted counted = sections == null ? null : sections.get(section.rank());
+        if (counted == null) {
+            return;
+        }
+        if (--counted.count <= 0) {
+            sections.remove(section.rank());
+            if (sections.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    // ── Lookups ──────────────────────────────────────────────────────────────
+
+    /**
+     * Returns the sections holding a slot with {@code konamiId}, in generation
+     * order.
+     */
+    List<Section> sectionsWithKonamiId(String konamiId) {
+        return sectionsOf(byKonamiId.get(konamiId));
+    }
+
+    /**
+     * Returns the sections holding a slot with {@code konamiId} or one with
+     * {@code imagePath}, in generation order, each once.
+     */
+    List<Section> sectionsWithKonamiIdOrImagePath(String konamiId, String imagePath) {
+        NavigableMap<Integer, Counted> byId = konamiId == null ? null : byKonamiId.get(konamiId);
+        NavigableMap<Integer, Counted> byImage = imagePath == null ? null : byImagePath.get(imagePath);
+        if (byImage == null) {
+            return sectionsOf(byId);
+        }
+        if (byId == null) {
+            return sectionsOf(byImage);
+        }
+        TreeMap<Integer, Counted> merged = new TreeMap<>(byId);
+        merged.putAll(byImage);
+        return sectionsOf(merged);
+    }
+
+    private static List<Section> sectionsOf(NavigableMap<Integer, Counted> sections) {
+        if (sections == null) {
+            return List.of();
+        }
+        List<Section> result = new ArrayList<>(sections.size());
+        for (Counted counted : sections.values()) {
+            result.add(counted.section);
+        }
+        return result;
+    }
+
+    /**
+     * Finds a {@link Deck} by name, with the same precedence as a walk of the
+     * list: within the named collection's linked decks if {@code collectionName}
+     * is given, otherwise standalone decks first, then every collection's
+     * linked decks.
+     */
+    Deck findDeck(String deckName, String collectionName) {
+        if (collectionName != null) {
+            Map<String, Deck> decksOfCollection = linkedDecksByCollection.get(collectionName);
+            return decksOfCollection == null ? null : decksOfCollection.get(deckName);
+        }
+        Deck standalone = standaloneDecksByName.get(deckName);
+        return standalone != null ? standalone : linkedDecksByName.get(deckName);
+    }
+
+    /**
+     * Finds the first {@link ThemeCollection} of the list named {@code collectionName}.
+     */
+    ThemeCollection findCollection(String collectionName) {
+        return collectionsByName.get(collectionName);
+    }
+
+    private static final class Counted {
+        final Section section;
+        int count;
+
+        Counted(Section section) {
+            this.section = section;
+        }
+    }
+}
@@ -16,12 +16,92 @@ import java.util.List;
  *
  * <p>All methods are no-ops when called with a {@code null} detailed OuicheList; callers
  * (see {@link OuicheList#onOwnedCardAdded} and siblings) already guard for this.
+ *
+ * <p>Slots and decks/collections are looked up through an {@link OuicheListSlotIndex}
+ * of the detailed OuicheList rather than by walking it, so an update costs the
+ * sections holding the card concerned rather than the whole list. Likewise, the compact
+ * maps are updated through {@link OuicheListCompactAggregates}, which apply the same
+ * counting rules as a full {@link OuicheList#createOuicheList} by recomputing only the
+ * deck group and collection of the changed slot. Both are built when a hook first runs
+ * for a detailed OuicheList, before it changes any status, and kept current by the
+ * hooks that add or remove slots.
  */
 final class OuicheListUpdater {
 
+    /**
+     * Index of {@link OuicheList#getDetailedOuicheList()}, or {@code null} until first
+     * needed. See {@link #slotIndex()}.
+     */
+    private static OuicheListSlotIndex slotIndex;
+
+    /** Aggregates behind {@link OuicheList#getMaOuicheList()}, built with {@link #slotIndex}. */
+    private static OuicheListCompactAggregates missingAggregates;
+
+    /** Aggregates behind {@link OuicheList#getMaOuicheListSubstandard()}, built with {@link #slotIndex}. */
+    private static OuicheListCompactAggregates substandardAggregates;
+
     private OuicheListUpdater() {
     }
 
+    /**
+     * Returns the index of the current detailed OuicheList, building it, and the
+     * compact-map aggregates, if that list was replaced since the index was built.
+     *
+     * <p>Every hook calls this first: the aggregates count the slots of each status
+     * when built, so they must be built before the hook changes any.
+     */
+    private static OuicheListSlotIndex slotIndex() {
+        DecksAndCollectionsList detailedOuicheList = OuicheList.getDetailedOuicheList();
+        if (slotIndex == null || slotIndex.source() != detailedOuicheList) {
+            slotIndex = new OuicheListSlotIndex(detailedOuicheList);
+            missingAggregates = new OuicheListCompactAggregates(detailedOuicheList, OwnershipStatus.MISSING);
+            substandardAggregates =
+                    new OuicheListCompactAggregates(detailedOuicheList, OwnershipStatus.OWNED_SUBSTANDARD);
+        }
+        return slotIndex;
+    }
+
+    /**
+     * Returns the aggregates behind the compact map of {@code status}, which must be
+     * {@link OwnershipStatus#MISSING} or {@link OwnershipStatus#OWNED_SUBSTANDARD}.
+     */
+    private static OuicheListCompactAggregates compactAggregates(OwnershipStatus status) {
+        slotIndex();
+        return status == OwnershipStatus.OWNED_SUBSTANDARD ? substandardAggregates : missingAggregates;
+    }
+
+    /**
+     * Reports a slot added to or removed from {@code section} to the slot index and
+     * compact-map aggregates. A slot leaving must already be uncounted from its compact
+     * map. A section the index doesn't know (a deck or collection list replaced since
+     * it was built) drops both, so that they are rebuilt from the current lists.
+     */
+    private static void recordSlotChange(List<CardElement> section, CardElement slot, boolean added) {
+        OuicheListSlotIndex index = slotIndex();
+        if (!index.contains(section)) {
+            invalidateIndexes();
+        } else if (added) {
+            index.slotAdded(section, slot);
+            missingAggregates.slotAdded(section, slot);
+            substandardAggregates.slotAdded(section, slot);
+        } else {
+            index.slotRemoved(section, slot);
+            missingAggregates.slotRemoved(slot);
+            substandardAggregates.slotRemoved(slot);
+        }
+    }
+
+    /**
+     * Drops the slot index and compact-map aggregates, so that the next update builds
+     * them from the detailed OuicheList afresh. Called by
+     * {@link OuicheList#setDetailedOuicheList}.
+     */
+    static void invalidateIndexes() {
+        slotIndex = null;
+        missingAggregates = null;
+        substandardAggregates = null;
+    }
+
     // =========================================================================
     // My Collection — card added
     // =========================================================================
@@ -42,6 +122,7 @@ final class OuicheListUpdater {
      * @param addedCard the newly-owned {@link CardElement}
      */
     static void onOwnedCardAdded(CardElement addedCard) {
+        slotIndex();
         if (addedCard.getCard() == null || addedCard.getCard().getKonamiId() == null) {
             addToUnusedCards(addedCard);
             return;
@@ -78,8 +159,9 @@ final class OuicheListUpdater {
     }
 
     /**
-     * Walks the detailed OuicheList in generation order and returns the first MISSING
-     * slot that {@code ownedCopy} can fill.
+     * Returns the first MISSING slot, in detailed-OuicheList generation order, that
+     * {@code ownedCopy} can fill. Only the sections holding a slot with its KonamiId or
+     * artwork are searched: no other section can hold a match.
      *
      * @param ownedCopy       the newly-owned card
      * @param qualityRequired {@code true} to only accept slots whose quality requirement
@@ -88,91 +170,18 @@ final class OuicheListUpdater {
      * @return the matching slot, or {@code null} if none was found
      */
     private static CardElement findFillableSlot(CardElement ownedCopy, boolean qualityRequired) {
-        DecksAndCollectionsList detailedOuicheList = OuicheList.getDetailedOuicheList();
-
-        // (1) Non-loose collections: linked decks then cardsList.
-        if (detailedOuicheList.getCollections() != null) {
-            for (ThemeCollection collection : detailedOuicheList.getCollections()) {
-                if (Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
-                    continue;
-                }
-                CardElement found = findFillableSlotInCollection(collection, ownedCopy, qualityRequired);
-                if (found != null) {
-                    return found;
-                }
+        Card ownedCard = ownedCopy.getCard();
+        List<OuicheListSlotIndex.Section> sections =
+                slotIndex().sectionsWithKonamiIdOrImagePath(ownedCard.getKonamiId(), ownedCard.getImagePath());
+        for (OuicheListSlotIndex.Section section : sections) {
+            CardElement found = findFillableSlotInSection(section.slots(), ownedCopy, qualityRequired);
+            if (found != null) {
+                return found;
             }
         }
-
-        // (2) Standalone decks.
-        if (detailedOuicheList.getDecks() != null) {
-            for (Deck deck : detailedOuicheList.getDecks()) {
-                CardElement found = findFillableSlotInDeck(deck, ownedCopy, qualityRequired);
-                if (found != null) {
-                    return found;
-                }
-            }
-        }
-
-        // (3) Loose collections: linked decks then cardsList.
-        if (detailedOuicheList.getCollections() != null) {
-            for (ThemeCollection collection : detailedOuicheList.getCollections()) {
-                if (!Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
-                    continue;
-                }
-                CardElement found = findFillableSlotInCollection(collection, ownedCopy, qualityRequired);
-                if (found != null) {
-                    return found;
-                }
-            }
-        }
-
         return null;
     }
 
-    /**
-     * Searches the linked-deck groups (in order) and then the cardsList of a single
-     * collection for the first fillable MISSING slot.
-     */
-    private static CardElement findFillableSlotInCollection(
-            ThemeCollection collection, CardElement ownedCopy, boolean qualityRequired) {
-
-        if (collection.getLinkedDecks() != null) {
-            for (List<Deck> deckGroup : collection.getLinkedDecks()) {
-                if (deckGroup == null) {
-                    continue;
-                }
-                for (Deck deck : deckGroup) {
-                    CardElement found = findFillableSlotInDeck(deck, ownedCopy, qualityRequired);
-                    if (found != null) {
-                        return found;
-                    }
-                }
-            }
-        }
-
-        return findFillableSlotInSection(collection.getCardsList(), ownedCopy, qualityRequired);
-    }
-
-    /**
-     * Searches the main, extra, then side sections of {@code deck} for the first
-     * fillable MISSING slot.
-     */
-    private static CardElement findFillableSlotInDeck(
-            Deck deck, CardElement ownedCopy, boolean qualityRequired) {
-        if (deck == null) {
-            return null;
-        }
-        CardElement found = findFillableSlotInSection(deck.getMainDeck(), ownedCopy, qualityRequired);
-        if (found != null) {
-            return found;
-        }
-        found = findFillableSlotInSection(deck.getExtraDeck(), ownedCopy, qualityRequired);
-        if (found != null) {
-            return found;
-        }
-        return findFillableSlotInSection(deck.getSideDeck(), ownedCopy, qualityRequired);
-    }
-
     /**
      * Searches {@code section} for the first MISSING slot that {@code ownedCopy}
      * can fill, mirroring the artwork-then-KonamiId sub-pass order of
@@ -262,6 +271,7 @@ final class OuicheListUpdater {
      * @param removedCard the {@link CardElement} that was just removed from My Collection
      */
     static void onOwnedCardRemoved(CardElement removedCard) {
+        slotIndex();
         // The removed copy might simply have been sitting in the "Available cards" list
         // (an exact-attribute copy, since unusedCards holds copies built from the owned
         // collection — see OuicheList.CreateDetailedOuicheList).
@@ -270,37 +280,46 @@ final class OuicheListUpdater {
             return;
         }
 
-        List<OccupiedSlot> occupiedSlots = collectOccupiedSlots();
+        if (removedCard == null || removedCard.getCard() == null) {
+            return;
+        }
+        // Every slot sameCard accepts has the removed card's KonamiId: only the sections
+        // holding one are walked, last occupied slot first.
+        List<OuicheListSlotIndex.Section> sections =
+                slotIndex().sectionsWithKonamiId(removedCard.getCard().getKonamiId());
 
-        for (int index = occupiedSlots.size() - 1; index >= 0; index--) {
-            OccupiedSlot occupied = occupiedSlots.get(index);
-            CardElement slot = occupied.slot;
+        for (int sectionIndex = sections.size() - 1; sectionIndex >= 0; sectionIndex--) {
+            OuicheListSlotIndex.Section section = sections.get(sectionIndex);
+            List<CardElement> slots = section.slots();
+            for (int index = slots.size() - 1; index >= 0; index--) {
+                CardElement slot = slots.get(index);
 
-            if (!sameCard(slot, removedCard)) {
-                continue;
-            }
+                if (!isOccupiedSlot(slot) || !sameCard(slot, removedCard)) {
+                    continue;
+                }
 
-            if (occupied.isLoose) {
-                // Loose-collection slots hold a copy of the owned card with the same
-                // condition/rarity as the original — an exact cardKey match identifies
-                // this specific occurrence.
-                if (sameCardKey(slot, removedCard)) {
-                    unmarkSlot(slot);
-                    return;
+                if (section.isLoose()) {
+                    // Loose-collection slots hold a copy of the owned card with the same
+                    // condition/rarity as the original — an exact cardKey match identifies
+                    // this specific occurrence.
+                    if (sameCardKey(slot, removedCard)) {
+                        unmarkSlot(slot);
+                        return;
+                    }
+                    continue;
                 }
-                continue;
-            }
 
-            // Non-loose slot: check whether the deck/collection's matching named
-            // category in the owned collection still contains a copy of this card.
-            if (ownedCategoryStillHasCard(occupied.contextName, removedCard)) {
-                // Still covered by another owned copy — leave this slot marked and
-                // continue looking at the previous occurrence.
-                continue;
-            }
+                // Non-loose slot: check whether the deck/collection's matching named
+                // category in the owned collection still contains a copy of this card.
+                if (ownedCategoryStillHasCard(section.contextName(), removedCard)) {
+                    // Still covered by another owned copy — leave this slot marked and
+                    // continue looking at the previous occurrence.
+                    continue;
+                }
 
-            unmarkSlot(slot);
-            return;
+                unmarkSlot(slot);
+                return;
+            }
         }
 
         // No occupied slot matched: the removed card was never represented in the
@@ -450,45 +469,12 @@ final class OuicheListUpdater {
     }
 
     /**
-     * Collects every OWNED / OWNED_SUBSTANDARD slot in the detailed OuicheList,
-     * in the same generation order as {@link OuicheList#CreateDetailedOuicheList}:
-     * non-loose collections (linked decks then cardsList), standalone decks, then
-     * loose collections (linked decks then cardsList).
-     *
-     * <p>Each slot is paired with the name of its owning deck (preferred) or
-     * collection, used by {@link #ownedCategoryStillHasCard}.
+     * Returns {@code true} when {@code slot} is OWNED or OWNED_SUBSTANDARD.
      */
-    private static List<OccupiedSlot> collectOccupiedSlots() {
-        List<OccupiedSlot> occupiedSlots = new ArrayList<>();
-        DecksAndCollectionsList detailedOuicheList = OuicheList.getDetailedOuicheList();
-
-        if (detailedOuicheList.getCollections() != null) {
-            for (ThemeCollection collection : detailedOuicheList.getCollections()) {
-                if (Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
-                    continue;
-                }
-                collectOccupiedSlotsInCollection(collection, occupiedSlots, false);
-            }
-        }
-
-        if (detailedOuicheList.getDecks() != null) {
-            for (Deck deck : detailedOuicheList.getDecks()) {
-                collectOccupiedSlotsInSection(deck.getMainDeck(), deck.getName(), occupiedSlots, false);
-                collectOccupiedSlotsInSection(deck.getExtraDeck(), deck.getName(), occupiedSlots, false);
-                collectOccupiedSlotsInSection(deck.getSideDeck(), deck.getName(), occupiedSlots, false);
-            }
-        }
-
-        if (detailedOuicheList.getCollections() != null) {
-            for (ThemeCollection collection : detailedOuicheList.getCollections()) {
-                if (!Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
-                    continue;
-                }
-                collectOccupiedSlotsInCollection(collection, occupiedSlots, true);
-            }
-        }
-
-        return occupiedSlots;
+    private static boolean isOccupiedSlot(CardElement slot) {
+        return slot != null
+                && (slot.getOwnershipStatus() == OwnershipStatus.OWNED
+                || slot.getOwnershipStatus() == OwnershipStatus.OWNED_SUBSTANDARD);
     }
 
     /**
@@ -514,6 +500,7 @@ final class OuicheListUpdater {
      */
     static void onDeckCardMoved(CardElement movedCard, String deckName, String section,
                                 String collectionName, int newIndex, int sourceIndex) {
+        slotIndex();
 
         List<CardElement> targetSection = resolveTargetSection(deckName, section, collectionName);
         if (targetSection == null) {
@@ -614,7 +601,7 @@ final class OuicheListUpdater {
      */
     static void onDeckCardRemoved(CardElement removedCard, String deckName, String section,
                                   String collectionName, int sourceIndex) {
-
+        slotIndex();
         List<CardElement> targetSection = resolveTargetSection(deckName, section, collectionName);
         if (targetSection == null) {
             return;
@@ -624,18 +611,17 @@ final class OuicheListUpdater {
         if (removedSlot == null) {
             return;
         }
-
+        // Dropped from its compact map before leaving the aggregates, which locate it.
         OwnershipStatus removedStatus = removedSlot.getOwnershipStatus();
+        removeOneFromCompactMap(removedSlot, removedStatus);
+        recordSlotChange(targetSection, removedSlot, false);
 
         if (removedStatus == OwnershipStatus.MISSING) {
-            removeOneFromCompactMap(removedSlot, OwnershipStatus.MISSING);
             return;
         }
 
-        // The removed slot was OWNED or OWNED_SUBSTANDARD: drop it from its compact
-        // map, then propagate the freed ownership to the next eligible MISSING slot
-        // sharing the same KonamiId.
-        removeOneFromCompactMap(removedSlot, removedStatus);
+        // The removed slot was OWNED or OWNED_SUBSTANDARD: propagate the freed ownership
+        // to the next eligible MISSING slot sharing the same KonamiId.
 
         if (removedSlot.getCard() == null || removedSlot.getCard().getKonamiId() == null) {
             return;
@@ -661,44 +647,6 @@ final class OuicheListUpdater {
         moveSlotBetweenCompactMaps(nextMissing, OwnershipStatus.MISSING, OwnershipStatus.OWNED);
     }
 
-    private static void collectOccupiedSlotsInCollection(
-            ThemeCollection collection, List<OccupiedSlot> occupiedSlots, boolean isLoose) {
-
-        if (collection.getLinkedDecks() != null) {
-            for (List<Deck> deckGroup : collection.getLinkedDecks()) {
-                if (deckGroup == null) {
-                    continue;
-                }
-                for (Deck deck : deckGroup) {
-                    if (deck == null) {
-                        continue;
-                    }
-                    collectOccupiedSlotsInSection(deck.getMainDeck(), deck.getName(), occupiedSlots, isLoose);
-                    collectOccupiedSlotsInSection(deck.getExtraDeck(), deck.getName(), occupiedSlots, isLoose);
-                    collectOccupiedSlotsInSection(deck.getSideDeck(), deck.getName(), occupiedSlots, isLoose);
-                }
-            }
-        }
-
-        collectOccupiedSlotsInSection(collection.getCardsList(), collection.getName(), occupiedSlots, isLoose);
-    }
-
-    private static void collectOccupiedSlotsInSection(
-            List<CardElement> section, String contextName, List<OccupiedSlot> occupiedSlots, boolean isLoose) {
-        if (section == null) {
-            return;
-        }
-        for (CardElement element : section) {
-            if (element == null) {
-                continue;
-            }
-            if (element.getOwnershipStatus() == OwnershipStatus.OWNED
-                    || element.getOwnershipStatus() == OwnershipStatus.OWNED_SUBSTANDARD) {
-                occupiedSlots.add(new OccupiedSlot(element, contextName, isLoose));
-            }
-        }
-    }
-
     // =========================================================================
     // Decks and Collections — card added
     // =========================================================================
@@ -735,7 +683,7 @@ final class OuicheListUpdater {
      */
     static void onDeckCardAdded(CardElement addedCard, String deckName, String section,
                                 String collectionName, int insertionIndex) {
-
+        slotIndex();
         List<CardElement> targetSection = resolveTargetSection(deckName, section, collectionName);
         if (targetSection == null) {
             return;
@@ -751,6 +699,7 @@ final class OuicheListUpdater {
 
         int clampedIndex = Math.max(0, Math.min(insertionIndex, targetSection.size()));
         targetSection.add(clampedIndex, addedCard);
+        recordSlotChange(targetSection, addedCard, true);
 
         if (addedCard.getCard() == null || addedCard.getCard().getKonamiId() == null) {
             addNewMissingSlotToCompactMap(addedCard);
@@ -857,7 +806,7 @@ final class OuicheListUpdater {
         }
         String konamiId = resolvedCard.getCard().getKonamiId();
 
-        ThemeCollection collection = findCollectionByName(OuicheList.getDetailedOuicheList(), collectionName);
+        ThemeCollection collection = slotIndex().findCollection(collectionName);
         if (collection == null || Boolean.TRUE.equals(collection.getConnectToWholeCollection())
                 || collection.getLinkedDecks() == null) {
             return;
@@ -979,23 +928,6 @@ final class OuicheListUpdater {
     // Decks and Collections — card removed
     // =========================================================================
 
-    /**
-     * Pairs an OWNED / OWNED_SUBSTANDARD slot in the detailed OuicheList with the
-     * name of the deck or collection it belongs to (used to look up a matching
-     * category in the owned collection).
-     */
-    private static final class OccupiedSlot {
-        final CardElement slot;
-        final String contextName;
-        final boolean isLoose;
-
-        OccupiedSlot(CardElement slot, String contextName, boolean isLoose) {
-            this.slot = slot;
-            this.contextName = contextName;
-            this.isLoose = isLoose;
-        }
-    }
-
     /**
      * Removes the slot corresponding to {@code removedCard} from {@code section}.
      *
@@ -1033,80 +965,19 @@ final class OuicheListUpdater {
     }
 
     /**
-     * Searches the whole detailed OuicheList, in generation order, for the first
-     * MISSING slot whose card's KonamiId equals {@code konamiId}.
+     * Returns the first MISSING slot, in detailed-OuicheList generation order, whose
+     * card's KonamiId equals {@code konamiId}.
      */
     private static CardElement findNextMissingSlotByKonamiId(String konamiId) {
-        DecksAndCollectionsList detailedOuicheList = OuicheList.getDetailedOuicheList();
-
-        if (detailedOuicheList.getCollections() != null) {
-            for (ThemeCollection collection : detailedOuicheList.getCollections()) {
-                if (Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
-                    continue;
-                }
-                CardElement found = findMissingByKonamiIdInCollection(collection, konamiId);
-                if (found != null) {
-                    return found;
-                }
+        for (OuicheListSlotIndex.Section section : slotIndex().sectionsWithKonamiId(konamiId)) {
+            CardElement found = findMissingByKonamiIdInSection(section.slots(), konamiId);
+            if (found != null) {
+                return found;
             }
         }
-
-        if (detailedOuicheList.getDecks() != null) {
-            for (Deck deck : detailedOuicheList.getDecks()) {
-                CardElement found = findMissingByKonamiIdInDeck(deck, konamiId);
-                if (found != null) {
-                    return found;
-                }
-            }
-        }
-
-        if (detailedOuicheList.getCollections() != null) {
-            for (ThemeCollection collection : detailedOuicheList.getCollections()) {
-                if (!Boolean.TRUE.equals(collection.getConnectToWholeCollection())) {
-                    continue;
-                }
-                CardElement found = findMissingByKonamiIdInCollection(collection, konamiId);
-                if (found != null) {
-                    return found;
-                }
-            }
-        }
-
         return null;
     }
 
-    private static CardElement findMissingByKonamiIdInCollection(ThemeCollection collection, String konamiId) {
-        if (collection.getLinkedDecks() != null) {
-            for (List<Deck> deckGroup : collection.getLinkedDecks()) {
-                if (deckGroup == null) {
-                    continue;
-                }
-                for (Deck deck : deckGroup) {
-                    CardElement found = findMissingByKonamiIdInDeck(deck, konamiId);
-                    if (found != null) {
-                        return found;
-                    }
-                }
-            }
-        }
-        return findMissingByKonamiIdInSection(collection.getCardsList(), konamiId);
-    }
-
-    private static CardElement findMissingByKonamiIdInDeck(Deck deck, String konamiId) {
-        if (deck == null) {
-            return null;
-        }
-        CardElement found = findMissingByKonamiIdInSection(deck.getMainDeck(), konamiId);
-        if (found != null) {
-            return found;
-        }
-        found = findMissingByKonamiIdInSection(deck.getExtraDeck(), konamiId);
-        if (found != null) {
-            return found;
-        }
-        return findMissingByKonamiIdInSection(deck.getSideDeck(), konamiId);
-    }
-
     private static CardElement findMissingByKonamiIdInSection(List<CardElement> section, String konamiId) {
         if (section == null) {
             return null;
@@ -1143,13 +1014,11 @@ final class OuicheListUpdater {
     private static List<CardElement> resolveTargetSection(
             String deckName, String section, String collectionName) {
 
-        DecksAndCollectionsList detailedOuicheList = OuicheList.getDetailedOuicheList();
-
         if (deckName != null) {
             if (section == null) {
                 return null;
             }
-            Deck deck = findDeckByName(detailedOuicheList, deckName, collectionName);
+            Deck deck = slotIndex().findDeck(deckName, collectionName);
             if (deck == null) {
                 return null;
             }
@@ -1166,7 +1035,7 @@ final class OuicheListUpdater {
         }
 
         if (collectionName != null) {
-            ThemeCollection collection = findCollectionByName(detailedOuicheList, collectionName);
+            ThemeCollection collection = slotIndex().findCollection(collectionName);
             if (collection != null) {
                 return collection.getCardsList();
             }
@@ -1175,75 +1044,6 @@ final class OuicheListUpdater {
         return null;
     }
 
-    /**
-     * Finds a {@link Deck} by name within the detailed OuicheList.
-     *
-     * <p>If {@code collectionName} is non-{@code null}, only that collection's linked decks
-     * are searched. Otherwise, standalone decks are searched first, then every collection's
-     * linked decks.
-     */
-    private static Deck findDeckByName(
-            DecksAndCollectionsList detailedOuicheList, String deckName, String collectionName) {
-
-        if (collectionName != null) {
-            ThemeCollection collection = findCollectionByName(detailedOuicheList, collectionName);
-            return collection == null ? null : findDeckByNameInCollection(collection, deckName);
-        }
-
-        if (detailedOuicheList.getDecks() != null) {
-            for (Deck deck : detailedOuicheList.getDecks()) {
-                if (deck != null && deckName.equals(deck.getName())) {
-                    return deck;
-                }
-            }
-        }
-
-        if (detailedOuicheList.getCollections() != null) {
-            for (ThemeCollection collection : detailedOuicheList.getCollections()) {
-                Deck found = findDeckByNameInCollection(collection, deckName);
-                if (found != null) {
-                    return found;
-                }
-            }
-        }
-
-        return null;
-    }
-
-    private static Deck findDeckByNameInCollection(ThemeCollection collection, String deckName) {
-        if (collection == null || collection.getLinkedDecks() == null) {
-            return null;
-        }
-        for (List<Deck> deckGroup : collection.getLinkedDecks()) {
-            if (deckGroup == null) {
-                continue;
-            }
-            for (Deck deck : deckGroup) {
-                if (deck != null && deckName.equals(deck.getName())) {
-                    return deck;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Finds a {@link ThemeCollection} by name within the detailed OuicheList, searching
-     * non-loose collections first, then loose collections.
-     */
-    private static ThemeCollection findCollectionByName(
-            DecksAndCollectionsList detailedOuicheList, String collectionName) {
-        if (detailedOuicheList.getCollections() == null) {
-            return null;
-        }
-        for (ThemeCollection collection : detailedOuicheList.getCollections()) {
-            if (collection != null && collectionName.equals(collection.getName())) {
-                return collection;
-            }
-        }
-        return null;
-    }
-
     /**
      * Moves a single representative + count for {@code slot} from the compact map
      * corresponding to {@code fromStatus} to the compact map corresponding to
@@ -1267,8 +1067,9 @@ final class OuicheListUpdater {
     }
 
     /**
-     * Decrements (or removes) the entry for {@code slot} in the compact map
-     * corresponding to {@code status}.
+     * Uncounts {@code slot} from the compact map corresponding to {@code status}. Its
+     * key's entry is recomputed by the {@link OuicheListCompactAggregates}, so it only
+     * drops when no other slot still needs the card under the counting rules.
      *
      * <p>Map correspondence, mirroring {@link #addOneToCompactMap}'s symmetric
      * treatment of {@code OWNED} as untracked:
@@ -1287,6 +1088,10 @@ final class OuicheListUpdater {
         if (status == null || status == OwnershipStatus.OWNED || slot.getCard() == null) {
             return;
         }
+        if (compactAggregates(status).slotCounted(slot, -1)) {
+            return;
+        }
+        // A slot outside the detailed OuicheList: adjust the count alone.
         String key = OuicheList.cardKey(slot);
         if (key == null) {
             return;
@@ -1300,14 +1105,17 @@ final class OuicheListUpdater {
     }
 
     /**
-     * Increments (or inserts) the entry for {@code slot} in the compact map
-     * corresponding to {@code status}, using the same map correspondence as
-     * {@link #removeOneFromCompactMap}.
+     * Counts {@code slot} in the compact map corresponding to {@code status}, using the
+     * same map correspondence and recomputation as {@link #removeOneFromCompactMap}.
      */
     private static void addOneToCompactMap(CardElement slot, OwnershipStatus status) {
         if (status == OwnershipStatus.OWNED || slot.getCard() == null) {
             return;
         }
+        if (compactAggregates(status).slotCounted(slot, 1)) {
+            return;
+        }
+        // A slot outside the detailed OuicheList: adjust the count alone.
         String key = OuicheList.cardKey(slot);
         if (key == null) {
             return;
@@ -2,6 +2,7 @@ package Model.CardsLists;
 
 import Model.Database.CardDatabaseManager;
 import Model.Database.Database;
+import Model.Database.IntList;
 import Utils.PriceFormat;
 
 import java.io.BufferedWriter;
@@ -147,26 +148,21 @@ public class ThemeCollection {
      * requested artwork number, updates the card's imagePath and artNumber to
      * those of the requested alternate artwork.
      * <p>
-     * Uses passCodeToOtherPassCodes: imageId → ordered list of all imageIds for
-     * the same card.  The list is in API order, so index (artworkNumber-1) gives
-     * the imageId for the requested artwork.
+     * Uses {@link CardDatabaseManager#getOtherPassCodes(int)}: imageId → ordered
+     * list of all imageIds for the same card.  The list is in API order, so index
+     * (artworkNumber-1) gives the imageId for the requested artwork.
      */
     private static void updateCardToAlternateArtwork(Card card, int artworkNumber) {
         try {
             if (card.getPassCode() == null) return;
-            Integer baseImageId = Integer.valueOf(card.getPassCode());
+            int baseImageId = Integer.parseInt(card.getPassCode());
 
-            Map<Integer, List<Integer>> otherPassCodes =
-                    CardDatabaseManager.getPassCodeToOtherPassCodes();
-            if (otherPassCodes == null) return;
-
-            List<Integer> allImageIds = otherPassCodes.get(baseImageId);
-            if (allImageIds == null || allImageIds.size() < artworkNumber) {
+            IntList allImageIds = CardDatabaseManager.getOtherPassCodes(baseImageId);
+            if (allImageIds.size() < artworkNumber) {
                 return;  // Requested artwork doesn't exist in the database
             }
 
-            Integer altImageId = allImageIds.get(artworkNumber - 1);  // 0-indexed
-            if (altImageId == null) return;
+            int altImageId = allImageIds.getInt(artworkNumber - 1);  // 0-indexed
 
             Map<Integer, Card> allCards = Database.getAllCardsList();
             if (allCards == null) return;
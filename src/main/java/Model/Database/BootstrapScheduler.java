@@ -0,0 +1,253 @@
+package Model.Database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a set of named tasks forming a dependency graph (DAG) on a bounded
+ * thread pool.
+ *
+ * <p>A task is submitted as soon as every task it depends on has finished, so
+ * independent branches (e.g. downloading and parsing each language file) run
+ * side by side while dependent steps still see their inputs complete.
+ * {@link #run()} returns once every task has either run or been skipped.
+ *
+ * <p>A task that throws is logged and recorded in {@link #getFailedTasks()};
+ * the tasks depending on it, directly or not, are skipped, while unrelated
+ * branches carry on. This matches the rest of the database code, which
+ * degrades to "not available" rather than aborting startup.
+ *
+ * <p>The wall-clock time of each task that ran is available from
+ * {@link #getTimings()} afterwards.
+ */
+public final class BootstrapScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BootstrapScheduler.class);
+
+    /**
+     * The work of one task.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private static final class Task {
+        final String name;
+        final Action action;
+        final List<String> dependencies;
+        final List<Task> dependents = new ArrayList<>();
+        final AtomicInteger pendingDependencies = new AtomicInteger();
+        volatile boolean skipped;
+
+        Task(String name, Action action, List<String> dependencies) {
+            this.name = name;
+            this.action = action;
+            this.dependencies = dependencies;
+        }
+    }
+
+    private final String threadNamePrefix;
+    private final int parallelism;
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+    private final Map<String, Long> timings = new ConcurrentHashMap<>();
+    private final Set<String> failedTasks = ConcurrentHashMap.newKeySet();
+    private final Set<String> skippedTasks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param threadNamePrefix prefix of the pool's thread names, for thread dumps and logs
+     * @param parallelism      the maximum number of tasks running at once
+     */
+    public BootstrapScheduler(String threadNamePrefix, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.threadNamePrefix = threadNamePrefix;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Adds a task. Its dependencies may be added before or after it, but must
+     * all exist by the time {@link #run()} is called.
+     *
+     * @param name      unique task name, used in logs and timings
+     * @param action    the work to do
+     * @param dependsOn names of the tasks that must finish first
+     * @return this scheduler, for chaining
+     * @throws IllegalArgumentException if a task with that name already exists
+     */
+    public BootstrapScheduler addTask(String name, Action action, String... dependsOn) {
+        if (tasks.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate bootstrap task: " + name);
+        }
+        tasks.put(name, new Task(name, action, List.of(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Returns whether a task with that name has been added.
+     */
+    public boolean hasTask(String name) {
+        return tasks.containsKey(name);
+    }
+
+    /**
+     * Runs every task and waits for all of them to finish.
+     *
+     * @throws IllegalArgumentException if a dependency is unknown or the tasks form a cycle
+     * @throws InterruptedException     if the calling thread is interrupted while waiting;
+     *                                  tasks still running are interrupted too
+     */
+    public void run() throws InterruptedException {
+        List<Task> roots = link();
+        CountDownLatch remaining = new CountDownLatch(tasks.size());
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, tasks.size())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        long startNanos = System.nanoTime();
+        try {
+            for (Task root : roots) {
+                submit(executor, root, remaining);
+            }
+            remaining.await();
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("Bootstrap of {} task(s) took {} ms ({} failed, {} skipped)", tasks.size(),
+                (System.nanoTime() - startNanos) / 1_000_000, failedTasks.size(), skippedTasks.size());
+    }
+
+    /**
+     * Returns the wall-clock time, in milliseconds, of every task that ran,
+     * in the order the tasks were added.
+     */
+    public Map<String, Long> getTimings() {
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        for (String name : tasks.keySet()) {
+            Long millis = timings.get(name);
+            if (millis != null) {
+                ordered.put(name, millis);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Returns the names of the tasks that threw.
+     */
+    public Set<String> getFailedTasks() {
+        return Collections.unmodifiableSet(failedTasks);
+    }
+
+    /**
+     * Returns the names of the tasks that were not run because a task they
+     * depend on failed.
+     */
+    public Set<String> getSkippedTasks() {
+        return Collections.unmodifiableSet(skippedTasks);
+    }
+
+    // ── Scheduling ───────────────────────────────────────────────────────────
+
+    /**
+     * Resolves the dependency names, checks the graph is acyclic and returns
+     * the tasks without dependencies.
+     */
+    private List<Task> link() {
+        List<Task> roots = new ArrayList<>();
+        for (Task task : tasks.values()) {
+            task.dependents.clear();
+            task.skipped = false;
+            task.pendingDependencies.set(task.dependencies.size());
+        }
+        for (Task task : tasks.values()) {
+            for (String dependency : task.dependencies) {
+                Task required = tasks.get(dependency);
+                if (required == null) {
+                    throw new IllegalArgumentException("Bootstrap task " + task.name
+                            + " depends on unknown task " + dependency);
+                }
+                required.dependents.add(task);
+            }
+            if (task.dependencies.isEmpty()) {
+                roots.add(task);
+            }
+        }
+
+        // Kahn's algorithm: every task must be reachable by peeling off roots.
+        Map<Task, Integer> inDegree = new HashMap<>();
+        for (Task task : tasks.values()) {
+            inDegree.put(task, task.dependencies.size());
+        }
+        Deque<Task> ready = new ArrayDeque<>(roots);
+        int visited = 0;
+        while (!ready.isEmpty()) {
+            Task task = ready.pop();
+            visited++;
+            for (Task dependent : task.dependents) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.push(dependent);
+                }
+            }
+        }
+        if (visited != tasks.size()) {
+            List<String> cyclic = new ArrayList<>();
+            inDegree.forEach((task, degree) -> {
+                if (degree > 0) {
+                    cyclic.add(task.name);
+                }
+            });
+            throw new IllegalArgumentException("Bootstrap tasks form a cycle: " + cyclic);
+        }
+        return roots;
+    }
+
+    private void submit(ExecutorService executor, Task task, CountDownLatch remaining) {
+        executor.execute(() -> {
+            boolean succeeded = false;
+            try {
+                succeeded = execute(task);
+            } finally {
+                // Also reached when an Error escapes the task, so run() never hangs.
+                for (Task dependent : task.dependents) {
+                    if (!succeeded) {
+                        dependent.skipped = true;
+                    }
+                    if (dependent.pendingDependencies.decrementAndGet() == 0) {
+                        submit(executor, dependent, remaining);
+                    }
+                }
+                remaining.countDown();
+            }
+        });
+    }
+
+    private boolean execute(Task task) {
+        if (task.skipped) {
+            skippedTasks.add(task.name);
+            logger.warn("Bootstrap task {} skipped: a dependency failed", task.name);
+            return false;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            task.action.run();
+            return true;
+        } catch (Exception | LinkageError e) {
+            failedTasks.add(task.name);
+            logger.warn("Bootstrap task {} failed", task.name, e);
+            return false;
+        } finally {
+            long millis = (System.nanoTime() - startNanos) / 1_000_000;
+            timings.put(task.name, millis);
+            logger.debug("Bootstrap task {} took {} ms", task.name, millis);
+        }
+    }
+}
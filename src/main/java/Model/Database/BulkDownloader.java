@@ -0,0 +1,356 @@
+package Model.Database;
+
+import Utils.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Downloads a batch of files over a bounded number of concurrent connections,
+ * with a token-bucket rate limit per host and retries with exponential
+ * backoff.
+ *
+ * <p>Each item is handed to a {@link Download} action, which does the actual
+ * request and write (see {@link FileFetcher#fetchAllFiles()}). The action
+ * reports the outcome by how it returns:
+ * <ul>
+ *   <li>returning normally — the item is done;</li>
+ *   <li>{@link FileNotFoundException} — the server does not have it; not
+ *       retried, reported in {@link Result#notFound()};</li>
+ *   <li>{@link RetryLaterException} — the server asked to slow down (HTTP 429
+ *       or 503); retried after at least the delay it asked for;</li>
+ *   <li>any other {@link IOException} — a transient network failure; retried
+ *       after a backoff that doubles with each attempt, with full jitter;</li>
+ *   <li>anything else — a bug or bad data; not retried, reported in
+ *       {@link Result#failed()}.</li>
+ * </ul>
+ *
+ * <p>Retries are scheduled rather than slept on, so a backing-off item does
+ * not hold a connection slot while it waits.
+ */
+public final class BulkDownloader {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDownloader.class);
+
+    private static final int PROGRESS_LOG_INTERVAL = 500;
+
+    /**
+     * Downloads one item.
+     */
+    @FunctionalInterface
+    public interface Download {
+        void download(String item) throws Exception;
+    }
+
+    /**
+     * Receives a {@link Progress} after every item that finishes, from the
+     * downloader's threads.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(Progress progress);
+    }
+
+    /**
+     * How far a run has got.
+     *
+     * @param total     the number of distinct items queued
+     * @param completed items finished so far, whatever the outcome
+     * @param failed    items that finished without being downloaded
+     * @param retries   retry attempts made so far
+     */
+    public record Progress(int total, int completed, int failed, int retries) {
+    }
+
+    /**
+     * What a run did, item by item.
+     *
+     * @param downloaded the number of items downloaded
+     * @param notFound   items the server does not have, in no particular order
+     * @param failed     items that failed for any other reason, including
+     *                   running out of attempts, in no particular order
+     */
+    public record Result(int downloaded, List<String> notFound, List<String> failed) {
+    }
+
+    /**
+     * Tuning knobs, with defaults overridable by system properties.
+     *
+     * @param connections         the maximum number of downloads in flight at once
+     * @param requestsPerSecond   the sustained request rate allowed per host
+     * @param burst               requests allowed back to back per host after an idle period
+     * @param maxAttempts         attempts per item, the first one included
+     * @param initialBackoffMillis the backoff ceiling before the first retry
+     * @param maxBackoffMillis    the largest backoff ceiling
+     */
+    public record Settings(int connections, double requestsPerSecond, int burst, int maxAttempts,
+                           long initialBackoffMillis, long maxBackoffMillis) {
+
+        public Settings {
+            if (connections < 1 || burst < 1 || maxAttempts < 1) {
+                throw new IllegalArgumentException("connections, burst and maxAttempts must be at least 1");
+            }
+            if (!(requestsPerSecond > 0)) {
+                throw new IllegalArgumentException("requestsPerSecond must be positive");
+            }
+            if (initialBackoffMillis < 0 || maxBackoffMillis < initialBackoffMillis) {
+                throw new IllegalArgumentException("invalid backoff bounds");
+            }
+        }
+
+        /**
+         * Eight connections, 10 requests per second per host with bursts of
+         * 20, four attempts backing off from half a second up to 30 seconds.
+         * The first four can be overridden with the
+         * {@code potofgreed.download.connections},
+         * {@code potofgreed.download.requestsPerSecond},
+         * {@code potofgreed.download.burst} and
+         * {@code potofgreed.download.maxAttempts} system properties.
+         */
+        public static Settings defaults() {
+            return new Settings(
+                    Integer.getInteger("potofgreed.download.connections", 8),
+                    doubleProperty("potofgreed.download.requestsPerSecond", 10),
+                    Integer.getInteger("potofgreed.download.burst", 20),
+                    Integer.getInteger("potofgreed.download.maxAttempts", 4),
+                    500, 30_000);
+        }
+
+        private static double doubleProperty(String name, double defaultValue) {
+            String value = System.getProperty(name);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid {}={}", name, value);
+                return defaultValue;
+            }
+        }
+    }
+
+    /**
+     * Thrown by a {@link Download} when the server asked the client to back
+     * off (HTTP 429 or 503), optionally saying for how long.
+     */
+    public static final class RetryLaterException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long retryAfterMillis;
+
+        /**
+         * @param message          the detail message
+         * @param retryAfterMillis the delay the server asked for, {@code 0} if
+         *                         it did not say
+         */
+        public RetryLaterException(String message, long retryAfterMillis) {
+            super(message);
+            this.retryAfterMillis = Math.max(0, retryAfterMillis);
+        }
+
+        public long getRetryAfterMillis() {
+            return retryAfterMillis;
+        }
+    }
+
+    private final String threadNamePrefix;
+    private final Settings settings;
+    private final Function<String, String> hostOf;
+    private final Download download;
+    private final Set<String> queue = new LinkedHashSet<>();
+    private final Map<String, TokenBucket> bucketsByHost = new ConcurrentHashMap<>();
+    private ProgressListener progressListener = progress -> {
+    };
+
+    /**
+     * @param threadNamePrefix prefix of the pool's thread names, for thread dumps and logs
+     * @param settings         concurrency, rate limit and retry settings
+     * @param hostOf           maps an item to the host its request goes to; the rate
+     *                         limit applies per distinct value
+     * @param download         downloads one item
+     */
+    public BulkDownloader(String threadNamePrefix, Settings settings, Function<String, String> hostOf,
+                          Download download) {
+        this.threadNamePrefix = threadNamePrefix;
+        this.settings = settings;
+        this.hostOf = hostOf;
+        this.download = download;
+    }
+
+    /**
+     * Queues an item. Queuing the same item twice downloads it once.
+     *
+     * @return this downloader, for chaining
+     */
+    public BulkDownloader add(String item) {
+        queue.add(item);
+        return this;
+    }
+
+    /**
+     * Queues every item of {@code items}.
+     *
+     * @return this downloader, for chaining
+     */
+    public BulkDownloader addAll(Collection<String> items) {
+        queue.addAll(items);
+        return this;
+    }
+
+    /**
+     * Sets the listener told about each finished item.
+     *
+     * @return this downloader, for chaining
+     */
+    public BulkDownloader onProgress(ProgressListener listener) {
+        this.progressListener = Objects.requireNonNull(listener);
+        return this;
+    }
+
+    /**
+     * Downloads every queued item and waits for all of them to finish.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting; downloads still running are
+     *                              interrupted too
+     */
+    public Result run() throws InterruptedException {
+        Run run = new Run(new ArrayList<>(queue));
+        if (run.items.isEmpty()) {
+            return new Result(0, List.of(), List.of());
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                Math.min(settings.connections(), run.items.size()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        long startNanos = Metrics.start();
+        try {
+            for (String item : run.items) {
+                executor.execute(() -> attempt(executor, run, item, 1));
+            }
+            run.remaining.await();
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsedNanos = Metrics.timer("download.bulk").recordSince(startNanos);
+        Result result = new Result(run.downloaded.get(), List.copyOf(run.notFound), List.copyOf(run.failed));
+        logger.info("Downloaded {} of {} file(s) in {} ms ({} not found, {} failed, {} retries)",
+                result.downloaded(), run.items.size(), elapsedNanos / 1_000_000,
+                result.notFound().size(), result.failed().size(), run.retries.get());
+        return result;
+    }
+
+    private void attempt(ScheduledExecutorService executor, Run run, String item, int attempt) {
+        long retryDelayMillis;
+        try {
+            bucketFor(item).acquire();
+            long startNanos = Metrics.start();
+            download.download(item);
+            Metrics.timer("download.file").recordSince(startNanos);
+            run.downloaded.incrementAndGet();
+            finish(run, false);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.failed.add(item);
+            finish(run, true);
+            return;
+        } catch (FileNotFoundException e) {
+            logger.debug("Not found on the server: {}", item);
+            run.notFound.add(item);
+            finish(run, true);
+            return;
+        } catch (IOException e) {
+            if (attempt >= settings.maxAttempts()) {
+                logger.warn("Giving up on {} after {} attempt(s): {}", item, attempt, e.getMessage());
+                run.failed.add(item);
+                finish(run, true);
+                return;
+            }
+            retryDelayMillis = backoffMillis(attempt);
+            if (e instanceof RetryLaterException retryLater) {
+                retryDelayMillis = Math.max(retryDelayMillis, retryLater.getRetryAfterMillis());
+            }
+            logger.debug("Attempt {} for {} failed ({}), retrying in {} ms", attempt, item, e.getMessage(),
+                    retryDelayMillis);
+        } catch (Exception | LinkageError e) {
+            logger.warn("Download of {} failed", item, e);
+            run.failed.add(item);
+            finish(run, true);
+            return;
+        }
+        run.retries.incrementAndGet();
+        Metrics.counter("download.retries").increment();
+        try {
+            executor.schedule(() -> attempt(executor, run, item, attempt + 1), retryDelayMillis,
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The run was interrupted and the pool shut down.
+            run.failed.add(item);
+            finish(run, true);
+        }
+    }
+
+    /**
+     * Returns a random delay between zero and the attempt's backoff ceiling,
+     * which doubles from {@link Settings#initialBackoffMillis()} up to
+     * {@link Settings#maxBackoffMillis()}.
+     */
+    long backoffMillis(int attempt) {
+        long ceiling = settings.initialBackoffMillis() << Math.min(attempt - 1, 30);
+        ceiling = Math.min(Math.max(ceiling, settings.initialBackoffMillis()), settings.maxBackoffMillis());
+        return ceiling == 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private TokenBucket bucketFor(String item) {
+        String host = hostOf.apply(item);
+        return bucketsByHost.computeIfAbsent(host == null ? "" : host,
+                unusedHost -> new TokenBucket(settings.requestsPerSecond(), settings.burst(), System.nanoTime()));
+    }
+
+    private void finish(Run run, boolean failed) {
+        int failedCount = failed ? run.failedCount.incrementAndGet() : run.failedCount.get();
+        int completed = run.completed.incrementAndGet();
+        Progress progress = new Progress(run.items.size(), completed, failedCount, run.retries.get());
+        try {
+            progressListener.onProgress(progress);
+        } catch (RuntimeException e) {
+            logger.debug("Progress listener threw", e);
+        }
+        if (completed % PROGRESS_LOG_INTERVAL == 0) {
+            logger.info("Downloads: {}/{} done, {} failed", completed, run.items.size(), failedCount);
+        }
+        run.remaining.countDown();
+    }
+
+    /**
+     * The state of one {@link #run()}.
+     */
+    private static final class Run {
+        final List<String> items;
+        final CountDownLatch remaining;
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger downloaded = new AtomicInteger();
+        final AtomicInteger failedCount = new AtomicInteger();
+        final AtomicInteger retries = new AtomicInteger();
+        final Queue<String> notFound = new ConcurrentLinkedQueue<>();
+        final Queue<String> failed = new ConcurrentLinkedQueue<>();
+
+        Run(List<String> items) {
+            this.items = items;
+            this.remaining = new CountDownLatch(items.size());
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,53 +17,61 @@ public class CardDatabaseManager {
 
     private static final Logger logger = LoggerFactory.getLogger(CardDatabaseManager.class);
 
-    private static Map<Integer, Integer> passCodeToKonamiId;
-    private static Map<Integer, Integer> konamiIdToPassCode;
-    private static Map<Integer, List<Integer>> passCodeToOtherPassCodes;
-    private static Map<Integer, List<Integer>> konamiIdToOtherKonamiIds;
-    private static Map<Integer, String> konamiIdToArchetype;
-    private static List<Integer> cardPasscodesList;
+    /**
+     * Returned by the primitive lookups when an ID is unknown.
+     */
+    public static final int MISSING_ID = -1;
+
+    // Immutable primitive indexes, replaced wholesale by createDatabaseMaps() or the
+    // setters. The Map/List getters hand out read-only views of them, not copies.
+    private static volatile IntIntIndex passCodeToKonamiId;
+    private static volatile IntIntIndex konamiIdToPassCode;
+    private static volatile IntListIndex passCodeToOtherPassCodes;
+    private static volatile IntListIndex konamiIdToOtherKonamiIds;
+    private static volatile Map<Integer, String> konamiIdToArchetype;
+    private static volatile IntList cardPasscodesList;
 
     // Getter and setter methods
     public static Map<Integer, List<Integer>> getPassCodeToOtherPassCodes() throws Exception {
         if (passCodeToOtherPassCodes == null) {
             createDatabaseMaps();
         }
-        return passCodeToOtherPassCodes;
+        return passCodeToOtherPassCodes.asMap();
     }
 
     public static void setPassCodeToOtherPassCodes(Map<Integer, List<Integer>> map) {
-        passCodeToOtherPassCodes = map;
+        passCodeToOtherPassCodes = map == null ? null : IntListIndex.copyOf(map);
     }
 
     public static Map<Integer, Integer> getPassCodeToKonamiId() throws Exception {
         if (passCodeToKonamiId == null) {
             createDatabaseMaps();
         }
-        return passCodeToKonamiId;
+        return passCodeToKonamiId.asMap();
     }
 
     public static void setPassCodeToKonamiId(Map<Integer, Integer> map) {
-        passCodeToKonamiId = map;
+        passCodeToKonamiId = map == null ? null : IntIntIndex.copyOf(map);
     }
 
     public static Map<Integer, Integer> getKonamiIdToPassCode() throws Exception {
         if (konamiIdToPassCode == null) {
             createDatabaseMaps();
         }
-        return konamiIdToPassCode;
+        return konamiIdToPassCode.asMap();
     }
 
     public static void setKonamiIdToPassCode(Map<Integer, Integer> map) {
-        konamiIdToPassCode = map;
+        konamiIdToPassCode = map == null ? null : IntIntIndex.copyOf(map);
     }
 
     public static Map<Integer, List<Integer>> getKonamiIdToOtherKonamiIds() {
-        return konamiIdToOtherKonamiIds;
+        IntListIndex index = konamiIdToOtherKonamiIds;
+        return index == null ? null : index.asMap();
     }
 
     public static void setKonamiIdToOtherKonamiIds(Map<Integer, List<Integer>> map) {
-        konamiIdToOtherKonamiIds = map;
+        konamiIdToOtherKonamiIds = map == null ? null : IntListIndex.copyOf(map);
     }
 
     public static Map<Integer, String> getKonamiIdToArchetype() {
@@ -70,7 +79,7 @@ public class CardDatabaseManager {
     }
 
     public static void setKonamiIdToArchetype(Map<Integer, String> map) {
-        konamiIdToArchetype = map;
+        konamiIdToArchetype = map == null ? null : Collections.unmodifiableMap(map);
     }
 
     public static List<Integer> getCardPasscodesList() throws Exception {
@@ -81,7 +90,16 @@ public class CardDatabaseManager {
     }
 
     public static void setCardPasscodesList(List<Integer> list) {
-        cardPasscodesList = list;
+        cardPasscodesList = list == null ? null : IntList.copyOf(list);
+    }
+
+    /**
+     * Returns {@code true} once {@link #createDatabaseMaps()} has run (or the
+     * maps were restored from a {@link DatabaseSnapshot}).
+     */
+    static boolean hasDatabaseMaps() {
+        return passCodeToKonamiId != null && konamiIdToPassCode != null && passCodeToOtherPassCodes != null
+                && konamiIdToOtherKonamiIds != null && konamiIdToArchetype != null && cardPasscodesList != null;
     }
 
     // Added missing method to satisfy calls to getKonamiIdToOtherKonamiId(...)
@@ -89,7 +107,52 @@ public class CardDatabaseManager {
         if (konamiIdToOtherKonamiIds == null) {
             createDatabaseMaps();
         }
-        return konamiIdToOtherKonamiIds.get(konamiId);
+        return konamiId == null ? null : konamiIdToOtherKonamiIds.get(konamiId);
+    }
+
+    // ── Primitive lookups ────────────────────────────────────────────────────
+
+    /**
+     * Returns the Konami ID of a passCode (any artwork's image ID), without
+     * boxing.
+     *
+     * @return the Konami ID, or {@link #MISSING_ID} if the passCode is unknown
+     * @throws Exception if the maps had to be created and that failed
+     */
+    public static int getKonamiIdForPassCode(int passCode) throws Exception {
+        if (passCodeToKonamiId == null) {
+            createDatabaseMaps();
+        }
+        return passCodeToKonamiId.get(passCode, MISSING_ID);
+    }
+
+    /**
+     * Returns the passCode of the first artwork of a Konami ID, without
+     * boxing.
+     *
+     * @return the passCode, or {@link #MISSING_ID} if the Konami ID is unknown
+     * @throws Exception if the maps had to be created and that failed
+     */
+    public static int getPassCodeForKonamiId(int konamiId) throws Exception {
+        if (konamiIdToPassCode == null) {
+            createDatabaseMaps();
+        }
+        return konamiIdToPassCode.get(konamiId, MISSING_ID);
+    }
+
+    /**
+     * Returns the passCodes of every artwork of the card a passCode belongs
+     * to, in artwork order. The list is shared and read-only.
+     *
+     * @return the sibling passCodes, or an empty list if the passCode is unknown
+     * @throws Exception if the maps had to be created and that failed
+     */
+    public static IntList getOtherPassCodes(int passCode) throws Exception {
+        if (passCodeToOtherPassCodes == null) {
+            createDatabaseMaps();
+        }
+        IntList siblings = passCodeToOtherPassCodes.get(passCode);
+        return siblings != null ? siblings : IntList.empty();
     }
 
     /**
@@ -103,67 +166,93 @@ public class CardDatabaseManager {
      *   - konamiIdToArchetype: a map of Konami IDs to their corresponding archetypes
      *   - cardPasscodesList: a list of card passcodes as integers
      *
+     * cardinfo.json is streamed through {@link CardInfoReader}; callers that
+     * have already read it should use {@link #createDatabaseMaps(List)}.
+     *
      * @throws Exception if there is an issue during the map creation process
      */
     public static void createDatabaseMaps() throws Exception {
-        JSONObject enJsonObject = Database.openJson("en.json");
-        JSONObject cardinfoJsonObject = Database.openJson("cardinfo.json");
+        List<CardInfoReader.Entry> entries = Database.readCardInfo();
+        if (entries == null) {
+            throw new Exception("Database not found");
+        }
+        createDatabaseMaps(Database.toCardInfos(entries));
+    }
 
-        if (enJsonObject == null || cardinfoJsonObject == null) {
+    /**
+     * Creates the database maps from already-read cardinfo.json entries,
+     * so that the file is not parsed a second time.
+     *
+     * @param cardinfoJson the cardinfo.json entries
+     * @throws Exception if en.json is not available
+     */
+    public static void createDatabaseMaps(List<CardInfo> cardinfoJson) throws Exception {
+        JSONObject enJsonObject = Database.getJsonContent("en.json");
+
+        if (enJsonObject == null) {
             throw new Exception("Database not found");
         }
-        Map<String, List<Integer>> enJson = parseEnJson(enJsonObject);
-        List<CardInfo> cardinfoJson = parseCardInfoJson(cardinfoJsonObject);
+        Map<String, IntList> enJson = parseEnJson(enJsonObject);
 
-        passCodeToKonamiId = new HashMap<>();
-        konamiIdToPassCode = new HashMap<>();
+        IntIntIndex.Builder passCodeToKonamiIdBuilder = new IntIntIndex.Builder(cardinfoJson.size() * 2);
+        IntIntIndex.Builder konamiIdToPassCodeBuilder = new IntIntIndex.Builder(enJson.size());
         createPassCodeToIdMap();
-        passCodeToOtherPassCodes = new HashMap<>();
-        konamiIdToOtherKonamiIds = new HashMap<>();
-        konamiIdToArchetype = new HashMap<>();
-        cardPasscodesList = new ArrayList<>();
-
-        for (CardInfo card : cardinfoJson) {
-            cardPasscodesList.add(card.getPassCode());
-            List<Integer> numbers = enJson.get(card.getName());
+        IntListIndex.Builder passCodeToOtherPassCodesBuilder = new IntListIndex.Builder(cardinfoJson.size() * 2);
+        IntListIndex.Builder konamiIdToOtherKonamiIdsBuilder = new IntListIndex.Builder(enJson.size());
+        Map<Integer, String> archetypes = new HashMap<>();
+        int[] passCodes = new int[cardinfoJson.size()];
+
+        for (int c = 0; c < cardinfoJson.size(); c++) {
+            CardInfo card = cardinfoJson.get(c);
+            passCodes[c] = card.getPassCode();
+            IntList numbers = enJson.get(card.getName());
             if (numbers != null && !numbers.isEmpty()) {
-                for (Integer number : numbers) {
-                    konamiIdToOtherKonamiIds.put(number, numbers);
-                    konamiIdToArchetype.put(number, card.getArchetype());
+                int firstKonamiId = numbers.getInt(0);
+                for (int n = 0; n < numbers.size(); n++) {
+                    konamiIdToOtherKonamiIdsBuilder.put(numbers.getInt(n), numbers);
+                    archetypes.put(numbers.getInt(n), card.getArchetype());
                 }
 
-                List<Integer> cardImageIds = new ArrayList<>();
-                for (CardImage cardImage : card.getCardImages()) {
-                    cardImageIds.add(cardImage.getId());
-                    if (!passCodeToKonamiId.containsKey(cardImage.getId())) {
-                        passCodeToKonamiId.put(cardImage.getId(), numbers.get(0));
-                    }
-                    if (!konamiIdToPassCode.containsKey(numbers.get(0))) {
-                        konamiIdToPassCode.put(numbers.get(0), cardImage.getId());
-                    }
+                List<CardImage> cardImages = card.getCardImages();
+                int[] cardImageIds = new int[cardImages.size()];
+                for (int i = 0; i < cardImageIds.length; i++) {
+                    int imageId = cardImages.get(i).getId();
+                    cardImageIds[i] = imageId;
+                    passCodeToKonamiIdBuilder.putIfAbsent(imageId, firstKonamiId);
+                    konamiIdToPassCodeBuilder.putIfAbsent(firstKonamiId, imageId);
                 }
-                for (Integer cardImageId : cardImageIds) {
-                    passCodeToOtherPassCodes.put(cardImageId, cardImageIds);
+                IntList siblings = IntList.wrap(cardImageIds);
+                for (int imageId : cardImageIds) {
+                    passCodeToOtherPassCodesBuilder.put(imageId, siblings);
                 }
             }
         }
 
         // For each Konami ID from the English names dictionary, if its mapping is missing, try to complete it.
-        for (String key : enJson.keySet()) {
-            List<Integer> konamiIds = enJson.get(key);
-            if (konamiIds != null) {
-                for (Integer konamiId : konamiIds) {
-                    if (!konamiIdToPassCode.containsKey(konamiId)) {
-                        logger.debug("Trying to complete Konami ID: {}", konamiId);
-                        completeKonamiIdToPassCode(konamiId);
+        for (IntList konamiIds : enJson.values()) {
+            for (int n = 0; n < konamiIds.size(); n++) {
+                int konamiId = konamiIds.getInt(n);
+                if (!konamiIdToPassCodeBuilder.containsKey(konamiId)) {
+                    logger.debug("Trying to complete Konami ID: {}", konamiId);
+                    Integer passCode = completeKonamiIdToPassCode(konamiId);
+                    if (passCode != null) {
+                        konamiIdToPassCodeBuilder.put(konamiId, passCode);
                     }
                 }
             }
         }
+
+        passCodeToKonamiId = passCodeToKonamiIdBuilder.build();
+        konamiIdToPassCode = konamiIdToPassCodeBuilder.build();
+        passCodeToOtherPassCodes = passCodeToOtherPassCodesBuilder.build();
+        konamiIdToOtherKonamiIds = konamiIdToOtherKonamiIdsBuilder.build();
+        konamiIdToArchetype = Collections.unmodifiableMap(archetypes);
+        cardPasscodesList = IntList.wrap(passCodes);
     }
 
     /**
-     * Completes the mapping of a given Konami ID to its corresponding passcode.
+     * Looks up the passcode of a Konami ID missing from en.json's cards, so
+     * that the caller can complete its Konami ID to passcode mapping.
      *
      * Before attempting any network access, the ID is checked against
      * {@link NotFoundCache}.  If it was previously returned a 4xx response and
@@ -177,12 +266,13 @@ public class CardDatabaseManager {
      * are retried on the next startup.
      *
      * @param konamiId the Konami ID that needs its passcode mapping completed
+     * @return the passcode, or null if it could not be found
      */
-    public static void completeKonamiIdToPassCode(Integer konamiId) {
+    public static Integer completeKonamiIdToPassCode(Integer konamiId) {
         // Skip IDs that are known to be absent from the database until their
         // retry window expires.
         if (NotFoundCache.isKnownNotFound(konamiId)) {
-            return;
+            return null;
         }
 
         String fileName = konamiId + ".json";
@@ -193,8 +283,7 @@ public class CardDatabaseManager {
                 JSONArray dataArray = jsonObject.getJSONArray("data");
                 if (dataArray.length() > 0) {
                     JSONObject cardData = dataArray.getJSONObject(0);
-                    int passcode = cardData.getInt("id");
-                    konamiIdToPassCode.put(konamiId, passcode);
+                    return cardData.getInt("id");
                 } else {
                     logger.warn("No card data found for Konami ID {}", konamiId);
                     // Empty data array = the server knows of no such card.
@@ -220,6 +309,7 @@ public class CardDatabaseManager {
             // so the next startup retries automatically.
             logger.error("Error loading file for Konami ID {}: {}", konamiId, e.getMessage());
         }
+        return null;
     }
 
     // Dummy method for createPassCodeToIdMap; assume it's implemented elsewhere.
@@ -233,48 +323,19 @@ public class CardDatabaseManager {
      * @param enJsonObject the English JSON file as a JSONObject
      * @return a map from card names to lists of their corresponding Konami IDs
      */
-    private static Map<String, List<Integer>> parseEnJson(JSONObject enJsonObject) {
-        Map<String, List<Integer>> enJson = new HashMap<>();
+    private static Map<String, IntList> parseEnJson(JSONObject enJsonObject) {
+        Map<String, IntList> enJson = new HashMap<>();
         for (String key : enJsonObject.keySet()) {
             JSONArray jsonArray = enJsonObject.getJSONArray(key);
-            List<Integer> list = new ArrayList<>();
-            for (int i = 0; i < jsonArray.length(); i++) {
-                list.add(jsonArray.getInt(i));
+            int[] konamiIds = new int[jsonArray.length()];
+            for (int i = 0; i < konamiIds.length; i++) {
+                konamiIds[i] = jsonArray.getInt(i);
             }
-            enJson.put(key, list);
+            enJson.put(key, IntList.wrap(konamiIds));
         }
         return enJson;
     }
 
-    /**
-     * Parses the cardinfo JSON file and returns a list of CardInfo objects.
-     *
-     * @param cardinfoJsonObject the cardinfo JSON file as a JSONObject
-     * @return a list of CardInfo objects
-     */
-    private static List<CardInfo> parseCardInfoJson(JSONObject cardinfoJsonObject) {
-        List<CardInfo> cardinfoJson = new ArrayList<>();
-        JSONArray dataArray = cardinfoJsonObject.getJSONArray("data");
-        for (int i = 0; i < dataArray.length(); i++) {
-            JSONObject dataObject = dataArray.getJSONObject(i);
-            CardInfo cardInfo = new CardInfo();
-            cardInfo.setPassCode(dataObject.getInt("id"));
-            cardInfo.setName(dataObject.getString("name"));
-            cardInfo.setArchetype(dataObject.optString("archetype", ""));
-            JSONArray cardImagesArray = dataObject.getJSONArray("card_images");
-            List<CardImage> cardImages = new ArrayList<>();
-            for (int j = 0; j < cardImagesArray.length(); j++) {
-                JSONObject cardImageObject = cardImagesArray.getJSONObject(j);
-                CardImage cardImage = new CardImage();
-                cardImage.setId(cardImageObject.getInt("id"));
-                cardImages.add(cardImage);
-            }
-            cardInfo.setCardImages(cardImages);
-            cardinfoJson.add(cardInfo);
-        }
-        return cardinfoJson;
-    }
-
     // Other methods (such as passCodeToId, passCodeToArtNumber, artPassCodeToPassCode, etc.) would be here.
 
     /**
@@ -301,7 +362,7 @@ public class CardDatabaseManager {
             createDatabaseMaps();
         }
         Map<Integer, Model.CardsLists.Card> allCards = Database.getAllCardsList();
-        List<Integer> siblings = passCodeToOtherPassCodes.get(passCode);
+        IntList siblings = passCodeToOtherPassCodes.get(passCode);
 
         if (siblings == null || siblings.isEmpty()) {
             // Single-artwork card or passCode not in the map — return just itself
@@ -309,9 +370,9 @@ public class CardDatabaseManager {
             return self != null ? List.of(self) : List.of();
         }
 
-        List<Model.CardsLists.Card> result = new ArrayList<>();
-        for (Integer sibling : siblings) {
-            Model.CardsLists.Card card = allCards.get(sibling);
+        List<Model.CardsLists.Card> result = new ArrayList<>(siblings.size());
+        for (int i = 0; i < siblings.size(); i++) {
+            Model.CardsLists.Card card = allCards.get(siblings.getInt(i));
             if (card != null) result.add(card);
         }
         return result;
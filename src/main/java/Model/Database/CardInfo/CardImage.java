@@ -2,6 +2,7 @@ package Model.Database.CardInfo;
 
 public class CardImage {
     private int id;
+    private String imageUrl;
 
     /**
      * Gets the id of the card image.
@@ -20,4 +21,22 @@ public class CardImage {
     public void setId(int id) {
         this.id = id;
     }
+
+    /**
+     * Gets the remote URL of the full-size artwork.
+     *
+     * @return the image URL, or null if the database entry has none.
+     */
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    /**
+     * Sets the remote URL of the full-size artwork.
+     *
+     * @param imageUrl the new image URL.
+     */
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
 }
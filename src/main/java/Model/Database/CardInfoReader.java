@@ -0,0 +1,278 @@
+package Model.Database;
+
+import Model.CardsLists.Card;
+import Model.CardsLists.CardRarity;
+import Model.Database.CardInfo.CardImage;
+import Model.Database.CardInfo.CardInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for ygoprodeck's {@code cardinfo.json}.
+ *
+ * <p>The file is walked token by token with a {@link JsonStreamReader} and
+ * each {@code data[]} entry is turned straight into its {@link CardInfo} (the
+ * identity data {@link CardDatabaseManager} indexes) and one {@link Card} per
+ * artwork, so the raw JSON tree for the ~22k entries never exists in memory.
+ *
+ * <p>The cards come back without Konami ID or localized names: those depend
+ * on the ID maps built from the whole file, and are filled in by
+ * {@link Database} afterwards.
+ */
+final class CardInfoReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CardInfoReader.class);
+
+    /**
+     * One {@code data[]} entry: its identity data and one card per artwork,
+     * in {@code card_images} order.
+     */
+    static final class Entry {
+        final CardInfo info;
+        final List<Card> artworks;
+
+        Entry(CardInfo info, List<Card> artworks) {
+            this.info = info;
+            this.artworks = artworks;
+        }
+    }
+
+    private CardInfoReader() {
+    }
+
+    /**
+     * Reads every entry of the {@code cardinfo.json} file at {@code file}.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON
+     */
+    static List<Entry> read(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    /**
+     * Reads every entry of a {@code cardinfo.json} document.
+     *
+     * @throws IOException if the document cannot be read or is not valid JSON
+     */
+    static List<Entry> read(Reader source) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        JsonStreamReader reader = new JsonStreamReader(source);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("data")) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    entries.add(readEntry(reader));
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return entries;
+    }
+
+    private static Entry readEntry(JsonStreamReader reader) throws IOException {
+        Integer passCode = null;
+        String name = null;
+        String type = null;
+        String description = "";
+        String race = null;
+        String attribute = "";
+        String archetype = null;
+        int atk = 0;
+        int def = 0;
+        int level = 0;
+        int rank = 0;
+        int linkVal = 0;
+        int scale = 0;
+        List<String> linkMarkers = null;
+        List<String> typeline = null;
+        List<CardRarity> availableRarities = new ArrayList<>();
+        List<CardImage> cardImages = new ArrayList<>();
+        String price = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            if (reader.peek() == JsonStreamReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (key) {
+                case "id" -> passCode = reader.nextInt();
+                case "name" -> name = reader.nextString();
+                case "type" -> type = reader.nextString();
+                case "desc" -> description = reader.nextString();
+                case "race" -> race = reader.nextString();
+                case "attribute" -> attribute = reader.nextString();
+                case "archetype" -> archetype = reader.nextString();
+                case "atk" -> atk = reader.nextInt();
+                case "def" -> def = reader.nextInt();
+                case "level" -> level = reader.nextInt();
+                case "rank" -> rank = reader.nextInt();
+                case "linkval" -> linkVal = reader.nextInt();
+                case "scale" -> scale = reader.nextInt();
+                case "linkmarkers" -> linkMarkers = readStringArray(reader);
+                case "typeline" -> typeline = readStringArray(reader);
+                case "card_sets" -> readRarities(reader, availableRarities);
+                case "card_images" -> readImages(reader, cardImages);
+                case "card_prices" -> price = readCardmarketPrice(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        CardInfo info = new CardInfo();
+        info.setPassCode(passCode != null ? passCode : 0);
+        info.setName(name);
+        info.setArchetype(archetype != null ? archetype : "");
+        info.setCardImages(cardImages);
+
+        List<Card> artworks = new ArrayList<>(cardImages.size());
+        if (passCode == null || type == null) {
+            logger.warn("Skipping cardinfo entry without id or type: {}", name);
+            return new Entry(info, artworks);
+        }
+        for (int j = 0; j < cardImages.size(); j++) {
+            Card card = new Card();
+            card.setPassCode(String.valueOf(passCode));
+            card.setDescription(description);
+            card.setImagePath(String.valueOf(cardImages.get(j).getId()));
+            card.setArtNumber(String.valueOf(j + 1));
+            if (!availableRarities.isEmpty()) {
+                card.setAvailableRarities(new ArrayList<>(availableRarities));
+            }
+            if (archetype != null) {
+                card.setArchetypes(new ArrayList<>(List.of(archetype)));
+            }
+            card.setCardType(type);
+
+            // Set additional attributes for Monster cards
+            if (type.contains("Monster")) {
+                card.setMonsterType(race != null ? race : "");
+                card.setAtk(atk);
+                card.setDef(def);
+                card.setLevel(level);
+                card.setRank(rank);
+                card.setAttribute(attribute);
+                card.setLinkVal(linkVal);
+                if (linkMarkers != null) {
+                    card.setLinkMarker(new ArrayList<>(linkMarkers));
+                }
+                card.setScale(scale);
+            }
+
+            if (price != null) {
+                card.setPrice(price);
+            }
+
+            // Add properties using typeline
+            if (typeline != null) {
+                card.setCardProperties(new ArrayList<>(typeline));
+            } else if (race != null) {
+                List<String> properties = new ArrayList<>();
+                properties.add(race);
+                card.setCardProperties(properties);
+            }
+            artworks.add(card);
+        }
+        return new Entry(info, artworks);
+    }
+
+    private static List<String> readStringArray(JsonStreamReader reader) throws IOException {
+        List<String> values = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(reader.nextString());
+        }
+        reader.endArray();
+        return values;
+    }
+
+    /**
+     * Collects the distinct rarities of {@code card_sets[].set_rarity_code},
+     * in first-seen order.
+     */
+    private static void readRarities(JsonStreamReader reader, List<CardRarity> rarities) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("set_rarity_code")
+                        && reader.peek() != JsonStreamReader.Token.NULL) {
+                    CardRarity rarity = CardRarity.fromCode(reader.nextString());
+                    if (rarity != null && !rarities.contains(rarity)) {
+                        rarities.add(rarity);
+                    }
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        reader.endArray();
+    }
+
+    private static void readImages(JsonStreamReader reader, List<CardImage> images) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            CardImage image = new CardImage();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                if (key.equals("id")) {
+                    image.setId(reader.nextInt());
+                } else if (key.equals("image_url") && reader.peek() != JsonStreamReader.Token.NULL) {
+                    image.setImageUrl(reader.nextString());
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            images.add(image);
+        }
+        reader.endArray();
+    }
+
+    /**
+     * Returns {@code card_prices[0].cardmarket_price} ({@code "0.0"} when that
+     * first entry has none), or {@code null} for an empty price list.
+     */
+    private static String readCardmarketPrice(JsonStreamReader reader) throws IOException {
+        String price = null;
+        boolean first = true;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (!first) {
+                reader.skipValue();
+                continue;
+            }
+            first = false;
+            price = "0.0";
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("cardmarket_price")
+                        && reader.peek() != JsonStreamReader.Token.NULL) {
+                    price = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        reader.endArray();
+        return price;
+    }
+}
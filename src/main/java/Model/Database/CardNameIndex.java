@@ -4,6 +4,7 @@ import Utils.CardNameUtils;
 
 import java.net.URISyntaxException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Fast lookup structures for resolving card text read from a physical card
@@ -17,10 +18,19 @@ import java.util.*;
  * ever compared against the small, closed set of print codes that are
  * actually valid for the name-matched candidate(s) (see
  * {@link #matchPrintCode(String, Set)}), rather than the whole database.
+ *
+ * <p>A title misread by a character or two can still be recovered through
+ * {@link #findClosestNames(String, int, int)}, which searches the same names
+ * through a {@link FuzzyNameIndex} instead of requiring an exact match.
  */
 public final class CardNameIndex {
 
+    private static final ThreadLocal<int[][]> DISTANCE_ROWS =
+            ThreadLocal.withInitial(() -> new int[][]{new int[32], new int[32]});
+    private static final Map<Integer, NormalizedPrintCodes> normalizedPrintCodes = new ConcurrentHashMap<>();
+
     private static Map<String, Set<Integer>> normalizedNameToKonamiIds;
+    private static FuzzyNameIndex fuzzyNameIndex;
 
     private CardNameIndex() {
     }
@@ -47,6 +57,40 @@ public final class CardNameIndex {
         return matches != null ? matches : Set.of();
     }
 
+    /**
+     * Returns the names closest to {@code rawName}, across every language
+     * {@link #getKonamiIdsForName(String)} covers, that are within
+     * {@code maxDistance} edits of it once both are normalized — closest
+     * first, at most {@code limit} of them.
+     *
+     * <p>As with an exact match, a {@link FuzzyNameIndex.Match} carrying more
+     * than one Konami ID, or several matches at the same distance, is
+     * ambiguous and should not be resolved by silently picking one.
+     *
+     * @param rawName     the name as read (e.g. from OCR), in any covered language
+     * @param maxDistance the largest edit distance to accept
+     * @param limit       the maximum number of names to return
+     * @return the closest names, never {@code null}, possibly empty
+     */
+    public static List<FuzzyNameIndex.Match> findClosestNames(String rawName, int maxDistance, int limit) {
+        return getFuzzyNameIndex().search(CardNameUtils.normalizeForCompare(rawName), maxDistance, limit);
+    }
+
+    /**
+     * Builds the {@link FuzzyNameIndex} behind
+     * {@link #findClosestNames(String, int, int)} on first use; later calls
+     * return the same instance.
+     */
+    public static synchronized FuzzyNameIndex getFuzzyNameIndex() {
+        if (fuzzyNameIndex == null) {
+            if (normalizedNameToKonamiIds == null) {
+                buildNormalizedNameIndex();
+            }
+            fuzzyNameIndex = FuzzyNameIndex.build(normalizedNameToKonamiIds);
+        }
+        return fuzzyNameIndex;
+    }
+
     /**
      * Builds the combined normalized-name -> Konami ID index from every
      * language {@link KonamiIdToNames} currently exposes.
@@ -104,22 +148,33 @@ public final class CardNameIndex {
      */
     public static List<PrintCodeMatch> matchPrintCode(String rawPrintCode, Set<Integer> candidateKonamiIds)
             throws URISyntaxException {
+        return matchPrintCode(rawPrintCode, candidateKonamiIds, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Same as {@link #matchPrintCode(String, Set)}, but only returns the
+     * print codes within {@code maxDistance} edits of {@code rawPrintCode}.
+     * Each comparison stops as soon as it can no longer end within that
+     * bound, so a caller that already has a threshold should prefer this
+     * overload.
+     *
+     * @param maxDistance the largest edit distance to return
+     */
+    public static List<PrintCodeMatch> matchPrintCode(
+            String rawPrintCode, Set<Integer> candidateKonamiIds, int maxDistance) throws URISyntaxException {
         if (candidateKonamiIds.isEmpty()) {
             return List.of();
         }
         String normalizedOcrCode = CardNameUtils.normalizeForCompare(rawPrintCode);
-        Map<String, List<String>> konamiIdToPrintCodes = PrintCodeToKonamiId.getKonamiIdToPrintCodes();
 
         List<PrintCodeMatch> matches = new ArrayList<>();
         for (Integer konamiId : candidateKonamiIds) {
-            List<String> validPrintCodes = konamiIdToPrintCodes.get(String.valueOf(konamiId));
-            if (validPrintCodes == null) {
-                continue;
-            }
-            for (String validPrintCode : validPrintCodes) {
-                int editDistance = levenshteinDistance(
-                        normalizedOcrCode, CardNameUtils.normalizeForCompare(validPrintCode));
-                matches.add(new PrintCodeMatch(validPrintCode, konamiId, editDistance));
+            NormalizedPrintCodes validPrintCodes = getNormalizedPrintCodes(konamiId);
+            for (int i = 0; i < validPrintCodes.printCodes.length; i++) {
+                int editDistance = levenshteinDistance(normalizedOcrCode, validPrintCodes.normalized[i], maxDistance);
+                if (editDistance <= maxDistance) {
+                    matches.add(new PrintCodeMatch(validPrintCodes.printCodes[i], konamiId, editDistance));
+                }
             }
         }
         matches.sort(Comparator.comparingInt(PrintCodeMatch::getEditDistance));
@@ -127,29 +182,144 @@ public final class CardNameIndex {
     }
 
     /**
-     * Classic dynamic-programming Levenshtein (single-character insertion,
-     * deletion, or substitution) edit distance between two strings.
+     * Returns the print codes valid for {@code konamiId}, each with its
+     * normalized form, normalizing them on first use only.
+     */
+    private static NormalizedPrintCodes getNormalizedPrintCodes(int konamiId) throws URISyntaxException {
+        NormalizedPrintCodes cached = normalizedPrintCodes.get(konamiId);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> validPrintCodes = PrintCodeToKonamiId.getKonamiIdToPrintCodes().get(String.valueOf(konamiId));
+        NormalizedPrintCodes computed = NormalizedPrintCodes.of(validPrintCodes);
+        if (computed == NormalizedPrintCodes.NONE) {
+            // Not cached: the print-code maps may still be filling in, and a
+            // card without print codes costs nothing to look up again.
+            return computed;
+        }
+        NormalizedPrintCodes existing = normalizedPrintCodes.putIfAbsent(konamiId, computed);
+        return existing != null ? existing : computed;
+    }
+
+    /**
+     * Drops the normalized print codes cached by
+     * {@link #matchPrintCode(String, Set, int)}, so that they are read again
+     * from the print-code maps they were derived from. Called whenever those
+     * maps or the cards behind them are replaced.
+     */
+    static void invalidatePrintCodes() {
+        normalizedPrintCodes.clear();
+    }
+
+    /**
+     * Levenshtein (single-character insertion, deletion, or substitution)
+     * edit distance between two strings.
      *
      * <p>Package-private rather than private so {@code CardNameIndexTest} can
      * exercise it directly without needing a live database.
      */
     static int levenshteinDistance(String first, String second) {
-        int[][] distances = new int[first.length() + 1][second.length() + 1];
-        for (int i = 0; i <= first.length(); i++) {
-            distances[i][0] = i;
-        }
-        for (int j = 0; j <= second.length(); j++) {
-            distances[0][j] = j;
-        }
-        for (int i = 1; i <= first.length(); i++) {
-            for (int j = 1; j <= second.length(); j++) {
-                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
-                distances[i][j] = Math.min(
-                        Math.min(distances[i - 1][j] + 1, distances[i][j - 1] + 1),
-                        distances[i - 1][j - 1] + substitutionCost);
+        return levenshteinDistance(first, second, Math.max(first.length(), second.length()));
+    }
+
+    /**
+     * Levenshtein edit distance between two strings, bounded by
+     * {@code maxDistance}: only the diagonal band of width
+     * {@code 2 * maxDistance + 1} that can still lead to a result within the
+     * bound is computed (Ukkonen's cut-off), over two rows reused from one
+     * call to the next on the same thread, and the computation stops as soon
+     * as a whole row exceeds the bound.
+     *
+     * @return the distance if it is at most {@code maxDistance}, otherwise
+     * {@code maxDistance + 1}
+     */
+    static int levenshteinDistance(String first, String second, int maxDistance) {
+        int firstLength = first.length();
+        int secondLength = second.length();
+        int longestLength = Math.max(firstLength, secondLength);
+        if (maxDistance >= longestLength) {
+            // No result can exceed the longer length, so the bound cuts nothing off.
+            maxDistance = longestLength;
+        }
+        if (Math.abs(firstLength - secondLength) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int outOfBand = maxDistance + 1;
+        int[][] rows = distanceRows(secondLength + 1);
+        int[] previous = rows[0];
+        int[] current = rows[1];
+        for (int j = 0; j <= secondLength; j++) {
+            previous[j] = j <= maxDistance ? j : outOfBand;
+        }
+        for (int i = 1; i <= firstLength; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(secondLength, i + maxDistance);
+            current[0] = i <= maxDistance ? i : outOfBand;
+            if (from > 1) {
+                current[from - 1] = outOfBand;
+            }
+            int rowMinimum = current[0];
+            char firstChar = first.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int substitutionCost = firstChar == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(
+                        Math.min(previous[j] + 1, current[j - 1] + 1),
+                        previous[j - 1] + substitutionCost);
+                current[j] = Math.min(distance, outOfBand);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < secondLength) {
+                current[to + 1] = outOfBand;
+            }
+            if (rowMinimum > maxDistance) {
+                return outOfBand;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[secondLength], outOfBand);
+    }
+
+    /**
+     * Returns this thread's two scratch rows for {@link #levenshteinDistance(String, String, int)},
+     * grown to at least {@code length}.
+     */
+    private static int[][] distanceRows(int length) {
+        int[][] rows = DISTANCE_ROWS.get();
+        if (rows[0].length < length) {
+            int capacity = Math.max(length, rows[0].length * 2);
+            rows[0] = new int[capacity];
+            rows[1] = new int[capacity];
+        }
+        return rows;
+    }
+
+    /**
+     * The print codes valid for one Konami ID, as stored and normalized.
+     */
+    private static final class NormalizedPrintCodes {
+        private static final NormalizedPrintCodes NONE = new NormalizedPrintCodes(new String[0], new String[0]);
+
+        final String[] printCodes;
+        final String[] normalized;
+
+        private NormalizedPrintCodes(String[] printCodes, String[] normalized) {
+            this.printCodes = printCodes;
+            this.normalized = normalized;
+        }
+
+        static NormalizedPrintCodes of(List<String> printCodes) {
+            if (printCodes == null || printCodes.isEmpty()) {
+                return NONE;
+            }
+            String[] stored = printCodes.toArray(new String[0]);
+            String[] normalized = new String[stored.length];
+            for (int i = 0; i < stored.length; i++) {
+                normalized[i] = CardNameUtils.normalizeForCompare(stored[i]);
             }
+            return new NormalizedPrintCodes(stored, normalized);
         }
-        return distances[first.length()][second.length()];
     }
 
     /**
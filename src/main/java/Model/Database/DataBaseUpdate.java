@@ -1,11 +1,11 @@
 package Model.Database;
 
+import Utils.Metrics;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -13,6 +13,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static Model.FilePaths.databaseDir;
 
@@ -32,15 +34,21 @@ public class DataBaseUpdate {
      * The actual heap usage of this application at steady state is well under 1 GB.
      */
 
+    private static final String MANIFEST_BASE_URL = "https://db.ygoresources.com/manifest/";
+
     /**
      * Updates the local cache to the latest revision available online.
      *
      * Compares the local revision with the remote one and fetches every
-     * manifest in between. Each manifest lists the files that changed; those
-     * files are marked stale via {@link FileFetcher#addInvalidatedPath(String)}
-     * so that they survive a restart (the old copy stays on disk and keeps the
+     * manifest in between, concurrently (see {@link #fetchManifestChanges}).
+     * Each manifest lists the files that changed; the union of those files is
+     * marked stale in one go via {@link FileFetcher#addInvalidatedPaths}, so
+     * that they survive a restart (the old copy stays on disk and keeps the
      * application working offline).
      *
+     * If some manifests could not be fetched, the local revision only moves
+     * up to the first of them, so that the next update fetches them again.
+     *
      * After invalidation, {@link FileFetcher#refetchInvalidatedFiles()} is
      * called eagerly so that, when online, fresh data is available immediately
      * without waiting for the next lazy access.
@@ -50,15 +58,15 @@ public class DataBaseUpdate {
             int localRevision = readLocalRevision();
             int remoteRevision = getRemoteRevision();
 
-            if (localRevision != 0) {
-                for (int revision = localRevision; revision < remoteRevision; revision++) {
-                    String manifestContent = fetchManifest(revision);
-                    JSONObject manifestJson = new JSONObject(manifestContent);
-                    invalidatePaths(manifestJson);
-                }
+            int newRevision = remoteRevision;
+            if (localRevision != 0 && localRevision < remoteRevision) {
+                ManifestChanges changes = fetchManifestChanges(MANIFEST_BASE_URL, localRevision, remoteRevision,
+                        BulkDownloader.Settings.defaults());
+                invalidatePaths(changes.keys());
+                newRevision = changes.replayedUpTo();
             }
 
-            updateLocalRevision(remoteRevision);
+            updateLocalRevision(newRevision);
 
             // Mark ygoprodeck / mdpro3 files stale if they are at least one day
             // old.  These databases have no revision system of their own, so they
@@ -71,6 +79,9 @@ public class DataBaseUpdate {
             // set is persisted so the next startup retries automatically.
             FileFetcher.refetchInvalidatedFiles();
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("updateCache interrupted");
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -108,36 +119,86 @@ public class DataBaseUpdate {
      * Fetches the manifest JSON for the given revision from the remote server.
      */
     public static String fetchManifest(int revision) throws IOException {
-        URL url = new URL("https://db.ygoresources.com/manifest/" + revision);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("GET");
-        try (InputStream inputStream = connection.getInputStream()) {
-            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-        }
+        return FileFetcher.fetchText(MANIFEST_BASE_URL + revision);
     }
 
     /**
-     * Marks local paths as stale based on the provided manifest JSON.
+     * The files changed by a run of manifests.
      *
-     * <p><b>Bug fixed:</b> The ygoresources manifest uses bare identifiers
-     * without file-extensions (e.g. {@code "en"}, {@code "fr"}, {@code "ja"},
-     * {@code "_sets"}).  Previously these were passed as-is to
-     * {@link #getAddresses(String)}, which looks keys up in {@code addresses.json}
-     * under names like {@code "en.json"} — so the lookup always failed and
-     * those files were never invalidated.
+     * @param keys         the changed files' manifest keys, deduplicated, in
+     *                     the order the manifests first mention them
+     * @param replayedUpTo the revision the local copy may advance to: the end
+     *                     of the run if every manifest was fetched, otherwise
+     *                     the first revision whose manifest was not
+     */
+    record ManifestChanges(Set<String> keys, int replayedUpTo) {
+    }
+
+    /**
+     * Fetches the manifests of revisions {@code fromRevision} (inclusive) to
+     * {@code toRevision} (exclusive) concurrently through a
+     * {@link BulkDownloader}, and merges the keys they list.
      *
-     * <p>The fix is {@link #normalizeManifestKey(String)}, which maps bare
-     * manifest keys to the corresponding filenames used in
-     * {@code addresses.json} before the lookup is performed.
+     * <p>Each manifest is parsed on the downloader thread that fetched it and
+     * only its keys are kept. Keys of manifests past a failed one are kept
+     * too: they will be listed again when the failed revision is retried, and
+     * marking a file stale twice is harmless.
      *
-     * <p>Invalidation is now done via
-     * {@link FileFetcher#addInvalidatedPath(String)}, which persists the stale
-     * set to disk so that files are still retried after a restart even when the
-     * download failed because the app was offline.
+     * @param baseUrl the manifest URL without the revision number
+     */
+    static ManifestChanges fetchManifestChanges(String baseUrl, int fromRevision, int toRevision,
+                                                BulkDownloader.Settings settings) throws InterruptedException {
+        Map<Integer, List<String>> keysByRevision = new ConcurrentHashMap<>();
+        List<String> revisions = new ArrayList<>();
+        for (int revision = fromRevision; revision < toRevision; revision++) {
+            revisions.add(String.valueOf(revision));
+        }
+        String host = hostOf(baseUrl);
+        long startNanos = Metrics.start();
+        BulkDownloader.Result result = new BulkDownloader("manifest-fetcher", settings, revision -> host,
+                revision -> {
+                    List<String> keys = new ArrayList<>();
+                    collectManifestKeys(new JSONObject(FileFetcher.fetchText(baseUrl + revision)), keys);
+                    keysByRevision.put(Integer.parseInt(revision), keys);
+                })
+                .addAll(revisions)
+                .run();
+        Metrics.timer("database.manifestReplay").recordSince(startNanos);
+
+        int replayedUpTo = toRevision;
+        for (List<String> failed : List.of(result.notFound(), result.failed())) {
+            for (String revision : failed) {
+                replayedUpTo = Math.min(replayedUpTo, Integer.parseInt(revision));
+            }
+        }
+        if (replayedUpTo < toRevision) {
+            logger.warn("{} of {} manifest(s) could not be fetched; the local revision stays at {}",
+                    result.notFound().size() + result.failed().size(), revisions.size(), replayedUpTo);
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        new TreeMap<>(keysByRevision).values().forEach(keys::addAll);
+        logger.debug("{} manifest(s) list {} changed file(s)", keysByRevision.size(), keys.size());
+        return new ManifestChanges(keys, replayedUpTo);
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = new URL(url).getHost();
+            return host == null ? "" : host;
+        } catch (java.net.MalformedURLException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Adds the keys of the files listed in {@code manifestJson} to
+     * {@code keys}. A manifest maps categories to groups to changed files:
+     * only the innermost keys are files.
      *
      * @param manifestJson the manifest JSON object returned by the remote server
      */
-    private static void invalidatePaths(JSONObject manifestJson) {
+    static void collectManifestKeys(JSONObject manifestJson, Collection<String> keys) {
         for (String key : manifestJson.keySet()) {
             Object value = manifestJson.get(key);
             if (!(value instanceof JSONObject)) continue;
@@ -148,12 +209,45 @@ public class DataBaseUpdate {
                 if (!(subValue instanceof JSONObject)) continue;
                 JSONObject subSubJson = (JSONObject) subValue;
 
-                for (String subSubKey : subSubJson.keySet()) {
-                    markStale(subSubKey);
-                }
+                keys.addAll(subSubJson.keySet());
             }
         }
+    }
 
+    /**
+     * Marks the local files of the given manifest keys as stale.
+     *
+     * <p><b>Bug fixed:</b> The ygoresources manifest uses bare identifiers
+     * without file-extensions (e.g. {@code "en"}, {@code "fr"}, {@code "ja"},
+     * {@code "_sets"}).  Previously these were passed as-is to
+     * {@link #getAddresses(String)}, which looks keys up in {@code addresses.json}
+     * under names like {@code "en.json"} — so the lookup always failed and
+     * those files were never invalidated.
+     *
+     * <p>The fix is {@link #normalizeManifestKey(String)}, which maps bare
+     * manifest keys to the corresponding filenames used in
+     * {@code addresses.json} before the lookup is performed.
+     *
+     * <p>Invalidation is now done via
+     * {@link FileFetcher#addInvalidatedPaths(Collection)}, which persists the
+     * stale set to disk so that files are still retried after a restart even
+     * when the download failed because the app was offline.
+     *
+     * @param manifestKeys the keys exactly as they appear in the manifests
+     */
+    private static void invalidatePaths(Collection<String> manifestKeys) {
+        Set<String> localPaths = new LinkedHashSet<>();
+        for (String rawKey : manifestKeys) {
+            String filename = normalizeManifestKey(rawKey);
+            String[] addresses = getAddresses(filename);
+            if (addresses.length > 0) {
+                localPaths.add(addresses[0]);
+            } else {
+                logger.warn("Could not resolve address for manifest key: {} (normalized: {})", rawKey, filename);
+            }
+        }
+        FileFetcher.addInvalidatedPaths(localPaths);
+        logger.debug("Invalidated {} local path(s)", localPaths.size());
     }
 
     /**
@@ -187,25 +281,6 @@ public class DataBaseUpdate {
         return key + ".json";
     }
 
-    /**
-     * Resolves {@code rawKey} to a local path via {@link #getAddresses(String)}
-     * and adds that path to the persisted stale set.
-     *
-     * @param rawKey the key exactly as it appears in the manifest (or a fixed
-     *               filename such as {@code "cardinfo.json"})
-     */
-    private static void markStale(String rawKey) {
-        String filename = normalizeManifestKey(rawKey);
-        String[] addresses = getAddresses(filename);
-        if (addresses.length > 0) {
-            String localPath = addresses[0];
-            FileFetcher.addInvalidatedPath(localPath);
-            logger.debug("Invalidated local path: {}", localPath);
-        } else {
-            logger.warn("Could not resolve address for manifest key: {} (normalized: {})", rawKey, filename);
-        }
-    }
-
     /**
      * Writes the new revision number to
      * {@code <databaseDir>/ygoresources/revision.txt}.
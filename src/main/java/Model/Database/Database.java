@@ -1,9 +1,12 @@
 package Model.Database;
 
 import Model.CardsLists.Card;
-import Model.CardsLists.CardRarity;
+import Model.Database.CardInfo.CardImage;
+import Model.Database.CardInfo.CardInfo;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -11,11 +14,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static Model.Database.CardDatabaseManager.getKonamiIdToPassCode;
-import static Model.Database.CardDatabaseManager.getPassCodeToKonamiId;
+import static Model.Database.CardDatabaseManager.getKonamiIdForPassCode;
+import static Model.Database.CardDatabaseManager.getPassCodeForKonamiId;
 import static Model.Database.FileFetcher.fetchFile;
 import static Model.Database.KonamiIdToNames.*;
 import static Model.Database.PrintCodeToKonamiId.getPrintCodeToKonamiId;
@@ -24,14 +28,34 @@ import static Model.Database.PrintCodeToKonamiId.getPrintCodeToKonamiId;
 // A DAO (Data Access Object) pattern would decouple the data-access layer from callers
 // and make it easier to swap storage backends, but requires a larger refactor.
 public class Database {
-    private static final Map<String, JSONObject> jsonContentMap = new HashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(Database.class);
+
+    private static final Map<String, JSONObject> jsonContentMap = new ConcurrentHashMap<>();
     private static final List<String> setsList = new ArrayList<>();
-    private static final Map<Integer, Card> allCardsList = new HashMap<>();
+    // Built off to the side, then published whole: a map reachable from here is
+    // never modified again, so readers that skip bootstrapLock see it complete.
+    private static volatile Map<Integer, Card> allCardsList = Map.of();
+    /** Bumped, under bootstrapLock, after each new allCardsList is published. */
+    private static volatile int cardsRevision;
     private static final Map<String, Card> allPrintedCardsList = new HashMap<>();
+    private static final Object bootstrapLock = new Object();
+    private static volatile Map<String, Long> bootstrapTimings = Map.of();
+    /** The tasks that failed in the last bootstrap if it built no cards, else null. */
+    private static volatile Set<String> bootstrapFailure;
+
+    /**
+     * Streamed by {@link #readCardInfo()} rather than opened as a JSON tree.
+     */
+    static final String CARD_INFO_FILE = "cardinfo.json";
 
-    // Static block to initialize the Map
+    // Static block to initialize the Map from a fresh binary snapshot (see
+    // DatabaseSnapshot), which already holds everything the JSON files would
+    // be parsed for. When it is missing or stale, getAllCardsList() builds the
+    // database with DatabaseBootstrap instead.
     static {
-        populateJsonContentMap();
+        Map<Integer, Card> cards = new HashMap<>();
+        DatabaseSnapshot.load(cards);
+        allCardsList = cards;
     }
 
     /**
@@ -113,13 +137,14 @@ public class Database {
 
 
     /**
-     * Populates the jsonContentMap from the JSON object in the addresses.json file.
-     * This method is called at the start of the program to initialize the map.
-     * If an error occurs while reading the file, it is printed to the console.
+     * Returns the name of every file of the addresses.json file that has a
+     * fixed name (i.e. not the "&lt;passcode&gt;.jpg" style templates).
+     * If an error occurs while reading the file, it is printed to the console
+     * and an empty list is returned.
      */
-    public static void populateJsonContentMap() {
+    static List<String> listedFiles() {
+        List<String> elements = new ArrayList<>();
         try {
-            //String content = new String(Files.readAllBytes(Paths.get("./src/main/java/Model/Database/addresses.json")));
             byte[] encoded;
             // Two-path resolution: the dev-time path works when running from source;
             // the fallback handles the packaged JAR layout where resources are at the root.
@@ -130,209 +155,185 @@ public class Database {
             }
             String content = new String(encoded, StandardCharsets.UTF_8);
             JSONObject json = new JSONObject(content);
-            populateMapFromJson(json, "");
+            collectListedFiles(json, "", elements);
         } catch (IOException e) {
             e.printStackTrace();
         }
+        return elements;
     }
 
     /**
-     * Populates the jsonContentMap and setsList from a given JSON object.
+     * Collects the file names of a given JSON object of the addresses.json file.
      * This method is called recursively to traverse the JSON object.
      * If a JSON object is encountered, the method is called recursively with the JSON object and the path + key + "/".
-     * If a string is encountered and it does not contain "<" or ">", it is added to the jsonContentMap or setsList depending on whether the element ends with ".json" or ".txt".
-     * The jsonContentMap contains the JSON objects with the key being the element without the part before "/" and the "/".
-     * The setsList contains the strings from the JSON array with the key being the element without the part before "/" and the "/".
-     * If an error occurs while reading the file, it is not printed to the console.
+     * If a string is encountered and it does not contain "<" or ">", the element is added without the part before
+     * "/" and the "/".
      *
-     * @param json the JSON object to populate the jsonContentMap and setsList from
-     * @param path the current path to append to
+     * @param json     the JSON object to read the elements from
+     * @param path     the current path to append to
+     * @param elements the list the file names are added to
      */
-    private static void populateMapFromJson(JSONObject json, String path) {
+    private static void collectListedFiles(JSONObject json, String path, List<String> elements) {
         for (String key : json.keySet()) {
             Object value = json.get(key);
             if (value instanceof JSONObject) {
-                populateMapFromJson((JSONObject) value, path + key + "/");
+                collectListedFiles((JSONObject) value, path + key + "/", elements);
             } else if (!key.contains("<") && !key.contains(">")) {
                 String element = path + key;
                 // Remove the part of the string before "/" and the "/" if there is one or more
-                String modifiedElement = element.contains("/") ? element.substring(element.lastIndexOf("/") + 1) : element;
-                if (modifiedElement.endsWith(".json")) {
-                    JSONObject jsonContent = openJson(modifiedElement);
-                    if (jsonContent != null) {
-                        jsonContentMap.put(modifiedElement, jsonContent);
-                    }
-                } else if (modifiedElement.endsWith(".txt")) {
-                    List<String> setsContent = openSets(modifiedElement);
-                    if (setsContent != null) {
-                        setsList.addAll(setsContent);
-                    }
-                }
+                elements.add(element.contains("/") ? element.substring(element.lastIndexOf("/") + 1) : element);
             }
         }
     }
 
     /**
-     * Populates the allCardsList map with all the cards from the cardinfo.json file.
+     * Makes sure one of the addresses.json files is downloaded. A ".txt" file
+     * is also read into the setsList.
      *
-     * <p>This method reads the cardinfo.json file and creates a Card object for each card in the JSON array.
-     * The method then populates the allCardsList map with the Card objects.
-     * </p>
+     * @param element the file name, as returned by {@link #listedFiles()}
+     */
+    static void fetchListedFile(String element) {
+        if (element.endsWith(".json")) {
+            // Only make sure it is downloaded: cardinfo.json is streamed by
+            // createAllCardsList(), the others are parsed by getJsonContent().
+            fetchFile(element);
+        } else if (element.endsWith(".txt")) {
+            List<String> setsContent = openSets(element);
+            if (setsContent != null) {
+                synchronized (setsList) {
+                    setsList.addAll(setsContent);
+                }
+            }
+        }
+    }
+
+    /**
+     * Populates {@code cards} with all the cards from the cardinfo.json file.
      *
-     * <p>The Card objects are created with the following attributes:
+     * <p>The file has been streamed through {@link CardInfoReader}, which builds one
+     * Card per artwork (type, stats, archetype, rarities, price, typeline...)
+     * while reading, so the raw JSON tree is never held in memory. The same
+     * entries feed {@link CardDatabaseManager#createDatabaseMaps(List)}, whose
+     * passCode to Konami ID map is then used to complete each card with its
+     * Konami ID and localized names:
      * <ul>
-     * <li>passCode: the id of the card</li>
      * <li>konamiId: the Konami ID of the card</li>
-     * <li>name_EN: the English name of the card</li>
-     * <li>name_FR: the French name of the card</li>
-     * <li>name_JA: the Japanese name of the card</li>
-     * <li>imagePath: the path to the image of the card</li>
-     * <li>archetypes: the archetypes of the card</li>
-     * <li>cardType: the type of the card (Monster, Spell, Trap)</li>
-     * <li>monsterType: the type of the Monster card (e.g. Normal, Effect, Ritual)</li>
-     * <li>level: the level of the Monster card</li>
-     * <li>rank: the rank of the Monster card</li>
-     * <li>attribute: the attribute of the Monster card (e.g. LIGHT, DARK)</li>
-     * <li>linkVal: the link value of the Monster card</li>
-     * <li>linkMarker: the link markers of the Monster card</li>
-     * <li>scale: the scale of the Monster card</li>
-     * <li>price: the price of the card</li>
+     * <li>name_EN / name_FR / name_JA / name_ES / name_DE / name_IT / name_PT / name_KR:
+     * the localized names of the card</li>
      * </ul>
+     * Cards unknown to the Konami ID maps fall back to their English
+     * cardinfo.json name. The passCode to Konami ID maps are only created
+     * here if they don't exist yet.
      * </p>
+     *
+     * @param entries the cardinfo.json entries, as returned by {@link #readCardInfo()}
+     * @param cards   the map the cards are added to, keyed by passCode
      */
-    private static void createAllCardsList() {
-        JSONObject jsonObject = Database.jsonContentMap.get("cardinfo.json");
+    static void createAllCardsList(List<CardInfoReader.Entry> entries, Map<Integer, Card> cards) {
         try {
-            if (jsonObject != null) {
-                JSONArray dataArray = jsonObject.getJSONArray("data");
-                for (int i = 0; i < dataArray.length(); i++) {
-                    JSONObject dataObject = dataArray.getJSONObject(i);
-
-                    // ── Parse available rarities once per card entry (shared by all artworks) ──
-                    List<CardRarity> availableRarities = new ArrayList<>();
-                    if (dataObject.has("card_sets")) {
-                        JSONArray cardSetsArray = dataObject.getJSONArray("card_sets");
-                        for (int s = 0; s < cardSetsArray.length(); s++) {
-                            JSONObject setObj = cardSetsArray.getJSONObject(s);
-                            String rarityCode = setObj.optString("set_rarity_code", "");
-                            CardRarity rarity = CardRarity.fromCode(rarityCode);
-                            if (rarity != null && !availableRarities.contains(rarity)) {
-                                availableRarities.add(rarity);
+            if (!CardDatabaseManager.hasDatabaseMaps()) {
+                CardDatabaseManager.createDatabaseMaps(toCardInfos(entries));
+            }
+        } catch (Exception e) {
+            System.out.println("Error during the creation of allCardsList: " + e.getMessage());
+            return;
+        }
+
+        for (CardInfoReader.Entry entry : entries) {
+            for (int j = 0; j < entry.artworks.size(); j++) {
+                try {
+                    Card card = entry.artworks.get(j);
+                    CardImage cardImage = entry.info.getCardImages().get(j);
+                    int imageId = cardImage.getId();
+                    int konamiId = getKonamiIdForPassCode(imageId);
+                    if (konamiId != CardDatabaseManager.MISSING_ID) {
+                        card.setKonamiId(String.valueOf(konamiId));
+                        setLocalizedNames(card, konamiId);
+                    } else {
+                        String name = entry.info.getName();
+                        if (name != null) {
+                            card.setName_EN(name);
+                            Integer enKonamiId = getEnNamesToKonamiId().get(name);
+                            if (enKonamiId != null) {
+                                card.setKonamiId(String.valueOf(enKonamiId));
                             }
                         }
                     }
 
-                    for (int j = 0; j < dataObject.getJSONArray("card_images").length(); j++) {
-                        try {
-                            Card card = new Card();
-                            card.setPassCode(String.valueOf(dataObject.getInt("id")));
-                            card.setDescription(dataObject.optString("desc", ""));
-                            card.setImagePath(String.valueOf(dataObject.getJSONArray("card_images").getJSONObject(j).getInt("id")));
-
-                            Integer imageId = dataObject.getJSONArray("card_images").getJSONObject(j).getInt("id");
-                            String cardId = String.valueOf(getPassCodeToKonamiId().get(imageId));
-                            if (cardId != null && !cardId.equals("null")) {
-                                card.setKonamiId(cardId);
-                                Integer cardIdInt = Integer.valueOf(cardId);
-                                if (getKonamiIdToEnNames().get(cardIdInt) != null) {
-                                    card.setName_EN(getKonamiIdToEnNames().get(cardIdInt));
-                                }
-                                if (getKonamiIdToFrNames().get(cardIdInt) != null) {
-                                    card.setName_FR(getKonamiIdToFrNames().get(cardIdInt));
-                                }
-                                if (getKonamiIdToJaNames().get(cardIdInt) != null) {
-                                    card.setName_JA(getKonamiIdToJaNames().get(cardIdInt));
-                                }
-                                if (getKonamiIdToEsNames().get(cardIdInt) != null) {
-                                    card.setName_ES(getKonamiIdToEsNames().get(cardIdInt));
-                                }
-                                if (getKonamiIdToDeNames().get(cardIdInt) != null) {
-                                    card.setName_DE(getKonamiIdToDeNames().get(cardIdInt));
-                                }
-                                if (getKonamiIdToItNames().get(cardIdInt) != null) {
-                                    card.setName_IT(getKonamiIdToItNames().get(cardIdInt));
-                                }
-                                if (getKonamiIdToPtNames().get(cardIdInt) != null) {
-                                    card.setName_PT(getKonamiIdToPtNames().get(cardIdInt));
-                                }
-                                if (getKonamiIdToKrNames().get(cardIdInt) != null) {
-                                    card.setName_KR(getKonamiIdToKrNames().get(cardIdInt));
-                                }
-                            } else {
-                                String name = dataObject.optString("name", null);
-                                if (name != null) {
-                                    card.setName_EN(name);
-                                    String enCardId = String.valueOf(getEnNamesToKonamiId().get(name));
-                                    if (enCardId != null && !enCardId.equals("null")) {
-                                        card.setKonamiId(enCardId);
-                                    }
-                                }
-                            }
-
-                            fetchFile(imageId + ".jpg", dataObject.getJSONArray("card_images").getJSONObject(j).getString("image_url"));
-                            card.setArtNumber(String.valueOf(j + 1));
-                            if (!availableRarities.isEmpty())
-                                card.setAvailableRarities(new ArrayList<>(availableRarities));
-                            if (dataObject.has("archetype")) {
-                                card.setArchetypes(new ArrayList<>(List.of(dataObject.getString("archetype"))));
-                            }
-                            card.setCardType(dataObject.getString("type"));
-
-                            // Set additional attributes for Monster cards
-                            if (dataObject.getString("type").contains("Monster")) {
-                                card.setMonsterType(dataObject.optString("race", ""));
-                                card.setAtk(dataObject.optInt("atk", 0));
-                                card.setDef(dataObject.optInt("def", 0));
-                                card.setLevel(dataObject.optInt("level", 0));
-                                card.setRank(dataObject.optInt("rank", 0));
-                                card.setAttribute(dataObject.optString("attribute", ""));
-                                card.setLinkVal(dataObject.optInt("linkval", 0));
-                                if (dataObject.has("linkmarkers")) {
-                                    JSONArray linkMarkersArray = dataObject.getJSONArray("linkmarkers");
-                                    List<String> linkMarkers = new ArrayList<>();
-                                    for (int k = 0; k < linkMarkersArray.length(); k++) {
-                                        linkMarkers.add(linkMarkersArray.getString(k));
-                                    }
-                                    card.setLinkMarker(linkMarkers);
-                                }
-                                card.setScale(dataObject.optInt("scale", 0));
-                            }
-
-                            // Set the price of the card
-                            if (dataObject.has("card_prices")) {
-                                JSONArray cardPricesArray = dataObject.getJSONArray("card_prices");
-                                if (!cardPricesArray.isEmpty()) {
-                                    JSONObject cardPriceObject = cardPricesArray.getJSONObject(0);
-                                    card.setPrice(cardPriceObject.optString("cardmarket_price", "0.0"));
-                                }
-                            }
-
-                            // Add properties using typeline
-                            if (dataObject.has("typeline")) {
-                                JSONArray typelineArray = dataObject.getJSONArray("typeline");
-                                List<String> typeline = new ArrayList<>();
-                                for (int k = 0; k < typelineArray.length(); k++) {
-                                    typeline.add(typelineArray.getString(k));
-                                }
-                                card.setCardProperties(typeline);
-                            } else if (dataObject.has("race")) {
-                                String race = dataObject.getString("race");
-                                List<String> typeline = new ArrayList<>();
-                                typeline.add(race);
-                                card.setCardProperties(typeline);
-                            }
-
-                            allCardsList.put(imageId, card);
-                        } catch (Exception e) {
-                            System.out.println("Error during the creation of allCardsList: " + e.getMessage());
-                        }
+                    if (cardImage.getImageUrl() != null) {
+                        fetchFile(imageId + ".jpg", cardImage.getImageUrl());
                     }
+                    cards.put(imageId, card);
+                } catch (Exception e) {
+                    System.out.println("Error during the creation of allCardsList: " + e.getMessage());
                 }
-                System.out.println("allCardsList created");
             }
-        } catch (Exception e) {
-            System.out.println("Error during the creation of allCardsList: " + e.getMessage());
         }
+        System.out.println("allCardsList created");
+    }
+
+    private static void setLocalizedNames(Card card, int konamiId) {
+        if (getKonamiIdToEnNames().get(konamiId) != null) {
+            card.setName_EN(getKonamiIdToEnNames().get(konamiId));
+        }
+        if (getKonamiIdToFrNames().get(konamiId) != null) {
+            card.setName_FR(getKonamiIdToFrNames().get(konamiId));
+        }
+        if (getKonamiIdToJaNames().get(konamiId) != null) {
+            card.setName_JA(getKonamiIdToJaNames().get(konamiId));
+        }
+        if (getKonamiIdToEsNames().get(konamiId) != null) {
+            card.setName_ES(getKonamiIdToEsNames().get(konamiId));
+        }
+        if (getKonamiIdToDeNames().get(konamiId) != null) {
+            card.setName_DE(getKonamiIdToDeNames().get(konamiId));
+        }
+        if (getKonamiIdToItNames().get(konamiId) != null) {
+            card.setName_IT(getKonamiIdToItNames().get(konamiId));
+        }
+        if (getKonamiIdToPtNames().get(konamiId) != null) {
+            card.setName_PT(getKonamiIdToPtNames().get(konamiId));
+        }
+        if (getKonamiIdToKrNames().get(konamiId) != null) {
+            card.setName_KR(getKonamiIdToKrNames().get(konamiId));
+        }
+    }
+
+    /**
+     * Fetches cardinfo.json if needed and streams it through
+     * {@link CardInfoReader}.
+     *
+     * <p>A file that isn't valid JSON is handled like in {@link #openJson}:
+     * it is marked stale for re-fetch and treated as unavailable.</p>
+     *
+     * @return every cardinfo.json entry, or null if the file is missing or unreadable
+     */
+    static List<CardInfoReader.Entry> readCardInfo() {
+        FileFetcher.fetchFile(CARD_INFO_FILE);
+        String[] addresses = DataBaseUpdate.getAddresses(CARD_INFO_FILE);
+        if (addresses.length == 0) {
+            return null;
+        }
+        String localPath = addresses[0];
+        if (!Files.exists(Paths.get(localPath))) {
+            return null;
+        }
+        try {
+            return CardInfoReader.read(Paths.get(localPath));
+        } catch (IOException e) {
+            System.out.println("Corrupted local file for '" + CARD_INFO_FILE + "' (" + localPath
+                    + "): " + e.getMessage() + " -- marking stale for re-fetch.");
+            FileFetcher.addInvalidatedPath(localPath);
+            return null;
+        }
+    }
+
+    static List<CardInfo> toCardInfos(List<CardInfoReader.Entry> entries) {
+        List<CardInfo> cardInfos = new ArrayList<>(entries.size());
+        for (CardInfoReader.Entry entry : entries) {
+            cardInfos.add(entry.info);
+        }
+        return cardInfos;
     }
 
     private static void createAllPrintedCardsList() throws URISyntaxException {
@@ -342,14 +343,14 @@ public class Database {
 
         // Iterate through the print codes
         for (String printCode : printCodeToKonamiId.keySet()) {
-            Integer konamiId = Integer.valueOf(printCodeToKonamiId.get(printCode));
-            Integer passCode = null;
+            int konamiId = Integer.parseInt(printCodeToKonamiId.get(printCode));
+            int passCode;
             try {
-                passCode = getKonamiIdToPassCode().get(konamiId);
+                passCode = getPassCodeForKonamiId(konamiId);
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
-            Card originalCard = allCards.get(passCode);
+            Card originalCard = passCode != CardDatabaseManager.MISSING_ID ? allCards.get(passCode) : null;
 
             if (originalCard != null) {
                 try {
@@ -367,21 +368,122 @@ public class Database {
     /**
      * Retrieves the list of all cards in the database.
      *
-     * <p>If the list is empty, it will be created first. After creation the
-     * {@code jsonContentMap} is cleared because it is no longer needed: all
-     * data has been extracted into the typed maps held by
-     * {@link CardDatabaseManager} and {@link KonamiIdToNames}. Clearing it
-     * frees several hundred MB of heap that would otherwise be retained for
-     * the lifetime of the JVM.</p>
+     * <p>If the list is empty, it will be created first by running the
+     * {@link DatabaseBootstrap} task graph (see {@link #getBootstrapTimings()}
+     * for how long each step took). After creation the
+     * raw JSON trees are released (see {@link #releaseJsonContent()}) because
+     * all data has been extracted into the typed maps held by
+     * {@link CardDatabaseManager} and {@link KonamiIdToNames}. Keeping them
+     * would retain several hundred MB of heap for the lifetime of the JVM.</p>
+     *
+     * <p>A successful build is also written out as a {@link DatabaseSnapshot}
+     * so the next launch can skip the JSON parse entirely.</p>
+     *
+     * <p>A bootstrap that builds no cards (e.g. offline, with nothing cached)
+     * is remembered: later calls return the same empty map at once instead of
+     * running the downloads and parsing again, until {@link #retryBootstrap()}
+     * is called.</p>
      *
      * @return the map of all cards in the database, keyed by passCode
      */
     public static Map<Integer, Card> getAllCardsList() {
-        if (allCardsList.isEmpty()) {
-            createAllCardsList();
-            jsonContentMap.clear();
+        Map<Integer, Card> cards = allCardsList;
+        if (cards.isEmpty() && bootstrapFailure == null) {
+            // A dedicated lock rather than Database.class, which no
+            // bootstrap worker thread may ever need while this one waits.
+            synchronized (bootstrapLock) {
+                cards = allCardsList;
+                if (cards.isEmpty() && bootstrapFailure == null) {
+                    cards = bootstrap();
+                }
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * Runs the bootstrap into a new map, and publishes it if it holds any card.
+     *
+     * @return the published cards: the new map, or the current one if none were built
+     */
+    private static Map<Integer, Card> bootstrap() {
+        Map<Integer, Card> cards = new HashMap<>();
+        DatabaseBootstrap.Outcome outcome = DatabaseBootstrap.run(cards);
+        bootstrapTimings = outcome.timings();
+        if (cards.isEmpty()) {
+            releaseJsonContent();
+            // An interrupted run says nothing about the data: let the next call try again.
+            if (!outcome.interrupted()) {
+                bootstrapFailure = outcome.failedTasks();
+                logger.warn("Database bootstrap built no cards (failed tasks: {}); "
+                        + "not retrying until retryBootstrap() is called", outcome.failedTasks());
+            }
+            return allCardsList;
         }
-        return allCardsList;
+        allCardsList = cards;
+        cardsRevision++;
+        DatabaseSnapshot.save(cards);
+        releaseJsonContent();
+        HeapAccounting.logReport();
+        return cards;
+    }
+
+    /**
+     * Forgets a failed bootstrap, so that the next {@link #getAllCardsList()}
+     * call runs it again. Does nothing if the last bootstrap succeeded.
+     */
+    public static void retryBootstrap() {
+        bootstrapFailure = null;
+    }
+
+    /**
+     * Returns whether the last bootstrap built no cards, in which case
+     * {@link #getAllCardsList()} keeps returning an empty map until
+     * {@link #retryBootstrap()}.
+     */
+    public static boolean hasBootstrapFailed() {
+        return bootstrapFailure != null;
+    }
+
+    /**
+     * Replaces the in-memory card list with {@code cards} without running the
+     * bootstrap or touching the snapshot, and drops the printed-card list and
+     * the normalized print codes derived from the previous one.
+     *
+     * <p>Meant for the offline benchmarks, which work on synthetic cards; the
+     * application itself never calls it.</p>
+     *
+     * @param cards the cards to install, keyed by passCode
+     */
+    public static void replaceAllCardsList(Map<Integer, Card> cards) {
+        synchronized (bootstrapLock) {
+            allPrintedCardsList.clear();
+            allCardsList = new HashMap<>(cards);
+            cardsRevision++;
+        }
+        CardNameIndex.invalidatePrintCodes();
+    }
+
+    /**
+     * Returns a number that changes every time {@link #getAllCardsList()}
+     * starts returning a different map, whether a bootstrap built it or
+     * {@link #replaceAllCardsList(Map)} installed it, so that structures
+     * derived from the cards can tell when to rebuild.
+     *
+     * <p>Read it before the map: a structure built from that map and tagged
+     * with that revision is then at worst rebuilt once too often, never kept
+     * when it is stale.</p>
+     */
+    public static int getCardsRevision() {
+        return cardsRevision;
+    }
+
+    /**
+     * Returns how long each step of the last database bootstrap took, in
+     * milliseconds, or an empty map if the cards came from the snapshot.
+     */
+    public static Map<String, Long> getBootstrapTimings() {
+        return bootstrapTimings;
     }
 
     public static Map<String, Card> getAllPrintedCardsList() throws URISyntaxException {
@@ -391,7 +493,47 @@ public class Database {
         return allPrintedCardsList;
     }
 
+    /**
+     * Returns the parsed tree of one of the JSON files listed in addresses.json.
+     *
+     * <p>Trees are parsed on first use and kept until
+     * {@link #releaseJsonContent()}; a tree requested after a release is
+     * simply parsed again from the local cache.</p>
+     *
+     * @param element the file name, e.g. "en.json"
+     * @return the parsed JSONObject, or null if the file is not listed in addresses.json or not readable
+     */
+    public static JSONObject getJsonContent(String element) {
+        JSONObject jsonContent = jsonContentMap.get(element);
+        if (jsonContent == null && DataBaseUpdate.getAddresses(element).length > 0) {
+            // Parsed outside any lock so that different files load in parallel.
+            jsonContent = openJson(element);
+            if (jsonContent != null) {
+                JSONObject existing = jsonContentMap.putIfAbsent(element, jsonContent);
+                if (existing != null) {
+                    jsonContent = existing;
+                }
+            }
+        }
+        return jsonContent;
+    }
+
+    /**
+     * Drops every parsed JSON tree.
+     *
+     * <p>Called once the derived maps ({@link CardDatabaseManager},
+     * {@link KonamiIdToNames}, allCardsList) have been built from them. The
+     * files stay in the local cache, so {@link #getJsonContent(String)} can
+     * still reload one on demand.</p>
+     */
+    public static void releaseJsonContent() {
+        jsonContentMap.clear();
+    }
+
+    /**
+     * Returns a snapshot of the JSON trees currently held in memory.
+     */
     public static Map<String, JSONObject> getJsonContentMap() {
-        return jsonContentMap;
+        return new HashMap<>(jsonContentMap);
     }
 }
\ No newline at end of file
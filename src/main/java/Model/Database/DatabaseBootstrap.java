@@ -0,0 +1,146 @@
+package Model.Database;
+
+import Model.CardsLists.Card;
+import Model.CardsLists.SubListCreator;
+import Utils.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Builds the card database as a graph of {@link BootstrapScheduler} tasks
+ * instead of one long sequential pass.
+ *
+ * <p>The graph, for a cold start:
+ * <pre>
+ * fetch &lt;file&gt;  (one per addresses.json file)
+ *   ├─ parse cardinfo.json ─┬─────────────────────────┐
+ *   ├─ parse en.json ───────┴─ passCode maps ─┐        │
+ *   ├─ parse fr/ja/... ─────── konamiId names ┴─ all cards ─ archetypes
+ *   └─ fetch _sets.txt ─────── print codes
+ * </pre>
+ * Downloads, the streamed cardinfo.json parse and each language file parse
+ * all run side by side, so a cold start costs roughly as much as its largest
+ * file rather than the sum of all of them.
+ */
+final class DatabaseBootstrap {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseBootstrap.class);
+
+    private static final int MAX_PARALLELISM = 8;
+
+    static final String PARSE_CARD_INFO = "parse " + Database.CARD_INFO_FILE;
+    static final String PASS_CODE_MAPS = "passCode maps";
+    static final String KONAMI_ID_NAMES = "konamiId names";
+    static final String ALL_CARDS = "all cards";
+    static final String PRINT_CODES = "print codes";
+    static final String ARCHETYPES = "archetypes";
+
+    private DatabaseBootstrap() {
+    }
+
+    /**
+     * What a run of the graph left behind.
+     *
+     * @param timings     the wall-clock time of each task, in milliseconds
+     * @param failedTasks the names of the tasks that threw
+     * @param interrupted whether the calling thread was interrupted before the graph finished
+     */
+    record Outcome(Map<String, Long> timings, Set<String> failedTasks, boolean interrupted) {
+    }
+
+    /**
+     * Runs the whole graph and waits for it to finish.
+     *
+     * @param allCardsList the map the cards are added to, also used for the archetype lists
+     * @return the timings and failures of the run
+     */
+    static Outcome run(Map<Integer, Card> allCardsList) {
+        BootstrapScheduler scheduler = createScheduler(allCardsList);
+        long startNanos = Metrics.start();
+        boolean interrupted = false;
+        try {
+            scheduler.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interrupted = true;
+            logger.warn("Database bootstrap interrupted");
+        }
+        Metrics.timer("database.bootstrap.total").recordSince(startNanos);
+        Map<String, Long> timings = scheduler.getTimings();
+        timings.forEach((name, millis) ->
+                Metrics.timer("database.bootstrap." + name.replace(' ', '_')).record(millis * 1_000_000));
+        return new Outcome(timings, Set.copyOf(scheduler.getFailedTasks()), interrupted);
+    }
+
+    static BootstrapScheduler createScheduler(Map<Integer, Card> allCardsList) {
+        int parallelism = Math.max(2, Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+        BootstrapScheduler scheduler = new BootstrapScheduler("db-bootstrap", parallelism);
+
+        for (String element : Database.listedFiles()) {
+            scheduler.addTask(fetchTask(element), () -> Database.fetchListedFile(element));
+        }
+
+        AtomicReference<List<CardInfoReader.Entry>> entries = new AtomicReference<>();
+        scheduler.addTask(PARSE_CARD_INFO, () -> {
+            List<CardInfoReader.Entry> read = Database.readCardInfo();
+            if (read == null) {
+                throw new IOException(Database.CARD_INFO_FILE + " is not available");
+            }
+            entries.set(read);
+        }, dependencies(scheduler, fetchTask(Database.CARD_INFO_FILE)));
+
+        List<String> nameTasks = new ArrayList<>();
+        for (String nameFile : KonamiIdToNames.NAME_INDEX_FILES) {
+            String task = parseTask(nameFile);
+            scheduler.addTask(task, () -> Database.getJsonContent(nameFile),
+                    dependencies(scheduler, fetchTask(nameFile)));
+            nameTasks.add(task);
+        }
+
+        scheduler.addTask(KONAMI_ID_NAMES, KonamiIdToNames::CreateKonamiIdToNamesMaps,
+                nameTasks.toArray(new String[0]));
+        scheduler.addTask(PASS_CODE_MAPS, () -> {
+            if (!CardDatabaseManager.hasDatabaseMaps()) {
+                CardDatabaseManager.createDatabaseMaps(Database.toCardInfos(entries.get()));
+            }
+        }, PARSE_CARD_INFO, parseTask("en.json"));
+        scheduler.addTask(ALL_CARDS, () -> Database.createAllCardsList(entries.get(), allCardsList),
+                PASS_CODE_MAPS, KONAMI_ID_NAMES);
+
+        scheduler.addTask(PRINT_CODES, PrintCodeToKonamiId::createKonamiIdPrintCodeMaps,
+                dependencies(scheduler, fetchTask("_sets.txt")));
+
+        List<String> archetypeDependencies = new ArrayList<>(List.of(ALL_CARDS));
+        archetypeDependencies.addAll(List.of(dependencies(scheduler, fetchTask("archetypes.json"))));
+        scheduler.addTask(ARCHETYPES, () -> {
+            if (!allCardsList.isEmpty()) {
+                SubListCreator.CreateArchetypeLists(allCardsList);
+                SubListCreator.UpdateCardArchetypes();
+            }
+        }, archetypeDependencies.toArray(new String[0]));
+        return scheduler;
+    }
+
+    static String fetchTask(String element) {
+        return "fetch " + element;
+    }
+
+    static String parseTask(String element) {
+        return "parse " + element;
+    }
+
+    /**
+     * Returns {@code task} as a dependency if it exists: files missing from
+     * addresses.json (e.g. the name indexes it doesn't list) have no fetch task.
+     */
+    private static String[] dependencies(BootstrapScheduler scheduler, String task) {
+        return scheduler.hasTask(task) ? new String[]{task} : new String[0];
+    }
+}
@@ -0,0 +1,604 @@
+package Model.Database;
+
+import Model.CardsLists.Card;
+import Model.CardsLists.CardRarity;
+import Utils.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static Model.FilePaths.databaseDir;
+
+/**
+ * Compact binary snapshot of the fully-built card database, so that a normal
+ * launch doesn't have to re-parse {@code cardinfo.json} and every name index
+ * through org.json before the first card can be shown.
+ *
+ * <p>The snapshot holds everything {@link Database#getAllCardsList()} needs to
+ * hand out without touching JSON: the {@link Card} map itself, the
+ * {@link KonamiIdToNames} language maps and the {@link CardDatabaseManager}
+ * ID maps. It is written once after a successful JSON build and memory-mapped
+ * on the next launch.
+ *
+ * <p>A snapshot is only trusted when it was built from exactly the files that
+ * are on disk now: the header records the ygoresources revision (see
+ * {@link DataBaseUpdate#readLocalRevision()}) plus the size and modification
+ * time of every source file. Any mismatch, a source marked stale in
+ * {@link FileFetcher#getInvalidatedPaths()}, or a format-version bump makes
+ * {@link #load(Map)} return {@code false} and the caller falls back to JSON.
+ *
+ * <p>Print-code maps ({@link PrintCodeToKonamiId}) are not part of the
+ * snapshot: they are built lazily from hundreds of per-set files, only when a
+ * print-code lookup is first needed, and don't weigh on startup.
+ */
+public final class DatabaseSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseSnapshot.class);
+
+    private static final int MAGIC = 0x50474442; // "PGDB"
+
+    /**
+     * Bump whenever the layout written by {@link #writeTo(Path, Contents)}
+     * changes, so older snapshots are discarded instead of misread.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final Path SNAPSHOT_FILE = databaseDir.resolve(Paths.get("snapshot", "cards.bin"));
+
+    private DatabaseSnapshot() {
+    }
+
+    // ── Public API ───────────────────────────────────────────────────────────
+
+    /**
+     * Restores the card database from the on-disk snapshot when it is still
+     * fresh.
+     *
+     * <p>On success {@code allCards} is filled and the
+     * {@link KonamiIdToNames} / {@link CardDatabaseManager} maps are installed;
+     * on failure nothing is touched.
+     *
+     * @param allCards the map to fill, keyed by image passCode
+     * @return {@code true} if the snapshot was fresh and fully loaded
+     */
+    static boolean load(Map<Integer, Card> allCards) {
+        if (!Files.exists(SNAPSHOT_FILE)) {
+            return false;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            Contents contents = readFrom(SNAPSHOT_FILE, currentFingerprint());
+            if (contents == null) {
+                logger.info("Card database snapshot is stale, rebuilding from JSON.");
+                return false;
+            }
+            KonamiIdToNames.restoreMaps(contents.namesByLanguage, contents.enNamesToKonamiId);
+            CardDatabaseManager.setPassCodeToKonamiId(contents.passCodeToKonamiId);
+            CardDatabaseManager.setKonamiIdToPassCode(contents.konamiIdToPassCode);
+            CardDatabaseManager.setPassCodeToOtherPassCodes(contents.passCodeToOtherPassCodes);
+            CardDatabaseManager.setKonamiIdToOtherKonamiIds(contents.konamiIdToOtherKonamiIds);
+            CardDatabaseManager.setKonamiIdToArchetype(contents.konamiIdToArchetype);
+            CardDatabaseManager.setCardPasscodesList(contents.cardPasscodesList);
+            allCards.putAll(contents.cards);
+            long elapsedNanos = Metrics.timer("database.snapshot.load").recordSince(startNanos);
+            logger.info("Card database loaded from snapshot: {} cards in {} ms",
+                    contents.cards.size(), elapsedNanos / 1_000_000);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Could not read card database snapshot, rebuilding from JSON: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the current in-memory database. Called right after
+     * a successful JSON build; failures are logged and otherwise ignored since
+     * the snapshot is purely an optimisation.
+     *
+     * @param allCards the freshly built card map
+     */
+    static void save(Map<Integer, Card> allCards) {
+        if (allCards.isEmpty() || !CardDatabaseManager.hasDatabaseMaps()) {
+            return;
+        }
+        try {
+            Contents contents = new Contents();
+            contents.fingerprint = currentFingerprint();
+            contents.namesByLanguage = KonamiIdToNames.getAllLanguageMaps();
+            contents.enNamesToKonamiId = KonamiIdToNames.getEnNamesToKonamiId();
+            contents.passCodeToKonamiId = CardDatabaseManager.getPassCodeToKonamiId();
+            contents.konamiIdToPassCode = CardDatabaseManager.getKonamiIdToPassCode();
+            contents.passCodeToOtherPassCodes = CardDatabaseManager.getPassCodeToOtherPassCodes();
+            contents.konamiIdToOtherKonamiIds = CardDatabaseManager.getKonamiIdToOtherKonamiIds();
+            contents.konamiIdToArchetype = CardDatabaseManager.getKonamiIdToArchetype();
+            contents.cardPasscodesList = CardDatabaseManager.getCardPasscodesList();
+            contents.cards = allCards;
+            writeTo(SNAPSHOT_FILE, contents);
+            logger.debug("Card database snapshot written to {}", SNAPSHOT_FILE);
+        } catch (Exception e) {
+            logger.warn("Could not write card database snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the snapshot so the next launch rebuilds from JSON.
+     */
+    public static void invalidate() {
+        try {
+            Files.deleteIfExists(SNAPSHOT_FILE);
+        } catch (IOException e) {
+            logger.warn("Could not delete card database snapshot: {}", e.getMessage());
+        }
+    }
+
+    // ── Freshness ────────────────────────────────────────────────────────────
+
+    /**
+     * Describes the inputs a snapshot was built from: the ygoresources
+     * revision and, for each source file, its local path, size and
+     * modification time ({@code -1} when absent).
+     */
+    static final class Fingerprint {
+        final int revision;
+        final List<String> paths = new ArrayList<>();
+        final List<Long> sizes = new ArrayList<>();
+        final List<Long> modifiedTimes = new ArrayList<>();
+        boolean anySourceStale;
+
+        Fingerprint(int revision) {
+            this.revision = revision;
+        }
+
+        void add(String path, long size, long modifiedTime) {
+            paths.add(path);
+            sizes.add(size);
+            modifiedTimes.add(modifiedTime);
+        }
+
+        boolean matches(Fingerprint other) {
+            return !anySourceStale
+                    && revision == other.revision
+                    && paths.equals(other.paths)
+                    && sizes.equals(other.sizes)
+                    && modifiedTimes.equals(other.modifiedTimes);
+        }
+    }
+
+    /**
+     * The files the snapshot contents are built from: cardinfo.json, the name
+     * indexes, and archetypes.json for the archetypes set on the cards.
+     */
+    static List<String> sourceFiles() {
+        List<String> sources = new ArrayList<>();
+        sources.add("cardinfo.json");
+        sources.addAll(Arrays.asList(KonamiIdToNames.NAME_INDEX_FILES));
+        sources.add("archetypes.json");
+        return sources;
+    }
+
+    private static Fingerprint currentFingerprint() throws Exception {
+        List<String> localPaths = new ArrayList<>();
+        for (String element : sourceFiles()) {
+            String[] addresses = DataBaseUpdate.getAddresses(element);
+            if (addresses.length > 0) {
+                localPaths.add(addresses[0]);
+            }
+        }
+        return fingerprintOf(DataBaseUpdate.readLocalRevision(), localPaths, FileFetcher.getInvalidatedPaths());
+    }
+
+    /**
+     * Fingerprints the given local source files.
+     *
+     * @param invalidated local paths marked stale; any of them among
+     *                    {@code localPaths} makes the fingerprint match nothing
+     */
+    static Fingerprint fingerprintOf(int revision, List<String> localPaths, Set<String> invalidated) throws IOException {
+        Fingerprint fingerprint = new Fingerprint(revision);
+        for (String localPath : localPaths) {
+            Path file = Paths.get(localPath);
+            if (Files.exists(file)) {
+                fingerprint.add(localPath, Files.size(file), Files.getLastModifiedTime(file).toMillis());
+            } else {
+                fingerprint.add(localPath, -1L, -1L);
+            }
+            if (invalidated.contains(localPath)) {
+                fingerprint.anySourceStale = true;
+            }
+        }
+        return fingerprint;
+    }
+
+    // ── Encoding ─────────────────────────────────────────────────────────────
+
+    /**
+     * Everything a snapshot carries, decoupled from the static holders so the
+     * encoding can be exercised on its own.
+     */
+    static final class Contents {
+        Fingerprint fingerprint;
+        List<Map<Integer, String>> namesByLanguage;
+        Map<String, Integer> enNamesToKonamiId;
+        Map<Integer, Integer> passCodeToKonamiId;
+        Map<Integer, Integer> konamiIdToPassCode;
+        Map<Integer, List<Integer>> passCodeToOtherPassCodes;
+        Map<Integer, List<Integer>> konamiIdToOtherKonamiIds;
+        Map<Integer, String> konamiIdToArchetype;
+        List<Integer> cardPasscodesList;
+        Map<Integer, Card> cards;
+    }
+
+    /**
+     * Writes {@code contents} to {@code file} through a temporary sibling and
+     * an atomic rename, so a crash mid-write never leaves a truncated
+     * snapshot behind.
+     *
+     * <p>Layout: header (magic, format version, fingerprint), a table of every
+     * distinct string, then the body where each string is an index into that
+     * table ({@code -1} for {@code null}). Card types, attributes, archetypes
+     * and the like repeat thousands of times, so the table keeps the file
+     * small and lets the loaded cards share one {@link String} per value.
+     */
+    static void writeTo(Path file, Contents contents) throws IOException {
+        StringTable strings = new StringTable();
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(1 << 20);
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        body.writeInt(contents.namesByLanguage.size());
+        for (Map<Integer, String> languageMap : contents.namesByLanguage) {
+            writeIntToString(body, strings, languageMap);
+        }
+        body.writeInt(contents.enNamesToKonamiId.size());
+        for (Map.Entry<String, Integer> entry : contents.enNamesToKonamiId.entrySet()) {
+            body.writeInt(strings.indexOf(entry.getKey()));
+            body.writeInt(entry.getValue());
+        }
+        writeIntToInt(body, contents.passCodeToKonamiId);
+        writeIntToInt(body, contents.konamiIdToPassCode);
+        writeIntToSharedLists(body, contents.passCodeToOtherPassCodes);
+        writeIntToSharedLists(body, contents.konamiIdToOtherKonamiIds);
+        writeIntToString(body, strings, contents.konamiIdToArchetype);
+        body.writeInt(contents.cardPasscodesList.size());
+        for (Integer passCode : contents.cardPasscodesList) {
+            body.writeInt(passCode);
+        }
+        body.writeInt(contents.cards.size());
+        for (Map.Entry<Integer, Card> entry : contents.cards.entrySet()) {
+            body.writeInt(entry.getKey());
+            writeCard(body, strings, entry.getValue());
+        }
+        body.flush();
+
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream fileOut = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            Fingerprint fingerprint = contents.fingerprint;
+            out.writeInt(fingerprint.revision);
+            out.writeInt(fingerprint.paths.size());
+            for (int i = 0; i < fingerprint.paths.size(); i++) {
+                writeRawString(out, fingerprint.paths.get(i));
+                out.writeLong(fingerprint.sizes.get(i));
+                out.writeLong(fingerprint.modifiedTimes.get(i));
+            }
+            out.writeInt(strings.values.size());
+            for (String value : strings.values) {
+                writeRawString(out, value);
+            }
+            bodyBytes.writeTo(out);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeCard(DataOutputStream out, StringTable strings, Card card) throws IOException {
+        out.writeInt(strings.indexOf(card.getKonamiId()));
+        out.writeInt(strings.indexOf(card.getPassCode()));
+        out.writeInt(strings.indexOf(card.getPrintCode()));
+        out.writeInt(strings.indexOf(card.getImagePath()));
+        out.writeInt(strings.indexOf(card.getCardType()));
+        writeStringList(out, strings, card.getCardProperties());
+        out.writeInt(strings.indexOf(card.getDescription()));
+        out.writeInt(strings.indexOf(card.getMonsterType()));
+        out.writeInt(card.getAtk());
+        out.writeInt(card.getDef());
+        out.writeInt(card.getLevel());
+        out.writeInt(card.getRank());
+        out.writeInt(strings.indexOf(card.getAttribute()));
+        out.writeInt(card.getLinkVal());
+        writeStringList(out, strings, card.getLinkMarker());
+        out.writeInt(card.getScale());
+        out.writeInt(strings.indexOf(card.getName_EN()));
+        out.writeInt(strings.indexOf(card.getName_FR()));
+        out.writeInt(strings.indexOf(card.getName_JA()));
+        out.writeInt(strings.indexOf(card.getName_ES()));
+        out.writeInt(strings.indexOf(card.getName_DE()));
+        out.writeInt(strings.indexOf(card.getName_IT()));
+        out.writeInt(strings.indexOf(card.getName_CN()));
+        out.writeInt(strings.indexOf(card.getName_KR()));
+        out.writeInt(strings.indexOf(card.getName_PT()));
+        out.writeInt(strings.indexOf(card.getPrice()));
+        writeStringList(out, strings, card.getArchetypes());
+        out.writeInt(strings.indexOf(card.getArtNumber()));
+        List<CardRarity> rarities = card.getAvailableRarities();
+        if (rarities == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(rarities.size());
+            for (CardRarity rarity : rarities) {
+                out.writeInt(strings.indexOf(rarity.name()));
+            }
+        }
+    }
+
+    private static void writeIntToInt(DataOutputStream out, Map<Integer, Integer> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    private static void writeIntToString(DataOutputStream out, StringTable strings, Map<Integer, String> map)
+            throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<Integer, String> entry : map.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(strings.indexOf(entry.getValue()));
+        }
+    }
+
+    /**
+     * The alias maps point every sibling at one shared list instance; the
+     * lists are written once each and referenced by index so that sharing
+     * survives the round trip.
+     */
+    private static void writeIntToSharedLists(DataOutputStream out, Map<Integer, List<Integer>> map)
+            throws IOException {
+        Map<List<Integer>, Integer> listIndexes = new IdentityHashMap<>();
+        List<List<Integer>> lists = new ArrayList<>();
+        for (List<Integer> list : map.values()) {
+            if (listIndexes.putIfAbsent(list, lists.size()) == null) {
+                lists.add(list);
+            }
+        }
+        out.writeInt(lists.size());
+        for (List<Integer> list : lists) {
+            out.writeInt(list.size());
+            for (Integer value : list) {
+                out.writeInt(value);
+            }
+        }
+        out.writeInt(map.size());
+        for (Map.Entry<Integer, List<Integer>> entry : map.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(listIndexes.get(entry.getValue()));
+        }
+    }
+
+    private static void writeStringList(DataOutputStream out, StringTable strings, List<String> list)
+            throws IOException {
+        if (list == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(list.size());
+        for (String value : list) {
+            out.writeInt(strings.indexOf(value));
+        }
+    }
+
+    private static void writeRawString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static final class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int indexOf(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = values.size();
+                indexes.put(value, index);
+                values.add(value);
+            }
+            return index;
+        }
+    }
+
+    // ── Decoding ─────────────────────────────────────────────────────────────
+
+    /**
+     * Memory-maps and decodes {@code file}.
+     *
+     * @param expected the fingerprint of the current source files; the
+     *                 snapshot is rejected unless it was built from the same
+     * @return the decoded contents, or {@code null} if the snapshot has a
+     * different format version or was built from different sources
+     * @throws IOException if the file cannot be read or is truncated/corrupt
+     */
+    static Contents readFrom(Path file, Fingerprint expected) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            Fingerprint stored = new Fingerprint(buffer.getInt());
+            int sourceCount = buffer.getInt();
+            for (int i = 0; i < sourceCount; i++) {
+                stored.add(readRawString(buffer), buffer.getLong(), buffer.getLong());
+            }
+            if (!expected.matches(stored)) {
+                return null;
+            }
+
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readRawString(buffer);
+            }
+
+            Contents contents = new Contents();
+            contents.fingerprint = stored;
+            int languageCount = buffer.getInt();
+            contents.namesByLanguage = new ArrayList<>(languageCount);
+            for (int i = 0; i < languageCount; i++) {
+                contents.namesByLanguage.add(readIntToString(buffer, strings));
+            }
+            int reverseCount = buffer.getInt();
+            contents.enNamesToKonamiId = new HashMap<>(capacityFor(reverseCount));
+            for (int i = 0; i < reverseCount; i++) {
+                contents.enNamesToKonamiId.put(strings[buffer.getInt()], buffer.getInt());
+            }
+            contents.passCodeToKonamiId = readIntToInt(buffer);
+            contents.konamiIdToPassCode = readIntToInt(buffer);
+            contents.passCodeToOtherPassCodes = readIntToSharedLists(buffer);
+            contents.konamiIdToOtherKonamiIds = readIntToSharedLists(buffer);
+            contents.konamiIdToArchetype = readIntToString(buffer, strings);
+            int passCodeCount = buffer.getInt();
+            contents.cardPasscodesList = new ArrayList<>(passCodeCount);
+            for (int i = 0; i < passCodeCount; i++) {
+                contents.cardPasscodesList.add(buffer.getInt());
+            }
+            int cardCount = buffer.getInt();
+            contents.cards = new HashMap<>(capacityFor(cardCount));
+            for (int i = 0; i < cardCount; i++) {
+                int key = buffer.getInt();
+                contents.cards.put(key, readCard(buffer, strings));
+            }
+            return contents;
+        } catch (RuntimeException e) {
+            // BufferUnderflowException / IndexOutOfBoundsException from a
+            // truncated or hand-edited file.
+            throw new IOException("Corrupted snapshot " + file + ": " + e, e);
+        }
+    }
+
+    private static Card readCard(MappedByteBuffer in, String[] strings) {
+        Card card = new Card();
+        card.setKonamiId(string(in, strings));
+        card.setPassCode(string(in, strings));
+        card.setPrintCode(string(in, strings));
+        card.setImagePath(string(in, strings));
+        card.setCardType(string(in, strings));
+        card.setCardProperties(readStringList(in, strings));
+        card.setDescription(string(in, strings));
+        card.setMonsterType(string(in, strings));
+        card.setAtk(in.getInt());
+        card.setDef(in.getInt());
+        card.setLevel(in.getInt());
+        card.setRank(in.getInt());
+        card.setAttribute(string(in, strings));
+        card.setLinkVal(in.getInt());
+        card.setLinkMarker(readStringList(in, strings));
+        card.setScale(in.getInt());
+        card.setName_EN(string(in, strings));
+        card.setName_FR(string(in, strings));
+        card.setName_JA(string(in, strings));
+        card.setName_ES(string(in, strings));
+        card.setName_DE(string(in, strings));
+        card.setName_IT(string(in, strings));
+        card.setName_CN(string(in, strings));
+        card.setName_KR(string(in, strings));
+        card.setName_PT(string(in, strings));
+        card.setPrice(string(in, strings));
+        card.setArchetypes(readStringList(in, strings));
+        card.setArtNumber(string(in, strings));
+        int rarityCount = in.getInt();
+        if (rarityCount >= 0) {
+            List<CardRarity> rarities = new ArrayList<>(rarityCount);
+            for (int i = 0; i < rarityCount; i++) {
+                rarities.add(CardRarity.valueOf(strings[in.getInt()]));
+            }
+            card.setAvailableRarities(rarities);
+        }
+        return card;
+    }
+
+    private static Map<Integer, Integer> readIntToInt(MappedByteBuffer in) {
+        int count = in.getInt();
+        Map<Integer, Integer> map = new HashMap<>(capacityFor(count));
+        for (int i = 0; i < count; i++) {
+            map.put(in.getInt(), in.getInt());
+        }
+        return map;
+    }
+
+    private static Map<Integer, String> readIntToString(MappedByteBuffer in, String[] strings) {
+        int count = in.getInt();
+        Map<Integer, String> map = new HashMap<>(capacityFor(count));
+        for (int i = 0; i < count; i++) {
+            map.put(in.getInt(), strings[in.getInt()]);
+        }
+        return map;
+    }
+
+    private static Map<Integer, List<Integer>> readIntToSharedLists(MappedByteBuffer in) {
+        int listCount = in.getInt();
+        List<List<Integer>> lists = new ArrayList<>(listCount);
+        for (int i = 0; i < listCount; i++) {
+            int size = in.getInt();
+            List<Integer> list = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                list.add(in.getInt());
+            }
+            lists.add(list);
+        }
+        int count = in.getInt();
+        Map<Integer, List<Integer>> map = new HashMap<>(capacityFor(count));
+        for (int i = 0; i < count; i++) {
+            map.put(in.getInt(), lists.get(in.getInt()));
+        }
+        return map;
+    }
+
+    private static List<String> readStringList(MappedByteBuffer in, String[] strings) {
+        int size = in.getInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(strings[in.getInt()]);
+        }
+        return list;
+    }
+
+    private static String string(MappedByteBuffer in, String[] strings) {
+        int index = in.getInt();
+        return index < 0 ? null : strings[index];
+    }
+
+    private static String readRawString(MappedByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+}
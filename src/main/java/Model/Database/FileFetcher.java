@@ -1,14 +1,17 @@
 package Model.Database;
 
-import org.json.JSONArray;
-import org.json.JSONException;
+import Utils.Metrics;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -16,10 +19,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static Model.Database.Database.getAllCardsList;
 import static Model.Database.PrintCodeToKonamiId.getPrintCodeToKonamiId;
@@ -36,27 +40,49 @@ public class FileFetcher {
     // intact until the new version has been successfully downloaded, so the
     // application continues to work when offline.
     // -------------------------------------------------------------------------
-    private static final Set<String> invalidatedPaths = new HashSet<>();
+    // Concurrent: DatabaseBootstrap fetches files from several threads at once.
+    private static final Set<String> invalidatedPaths = ConcurrentHashMap.newKeySet();
+
+    private static final WriteBehindJournal invalidatedPathsJournal = new WriteBehindJournal(
+            databaseDir.resolve(Paths.get("ygoresources", "invalidated_paths.jsonl")),
+            () -> {
+                Map<String, String> entries = new LinkedHashMap<>();
+                invalidatedPaths.forEach(path -> entries.put(path, ""));
+                return entries;
+            });
 
     static {
         loadInvalidatedPaths();
     }
 
     /**
-     * Marks a local path as stale and persists the updated set to disk.
+     * Marks a local path as stale. The change reaches the disk on the next
+     * journal flush, within about a second.
      */
-    public static void addInvalidatedPath(String path) {
-        invalidatedPaths.add(path);
-        persistInvalidatedPaths();
+    public static synchronized void addInvalidatedPath(String path) {
+        if (invalidatedPaths.add(path)) {
+            invalidatedPathsJournal.put(path, "");
+        }
     }
 
     /**
      * Removes a local path from the stale set (called after a successful
-     * re-fetch) and persists the updated set to disk.
+     * re-fetch). The change reaches the disk on the next journal flush.
+     */
+    public static synchronized void removeInvalidatedPath(String path) {
+        if (invalidatedPaths.remove(path)) {
+            invalidatedPathsJournal.remove(path);
+        }
+    }
+
+    /**
+     * Marks every path of {@code paths} as stale in one go, e.g. all the files
+     * changed by a run of manifests.
      */
-    public static void removeInvalidatedPath(String path) {
-        invalidatedPaths.remove(path);
-        persistInvalidatedPaths();
+    public static synchronized void addInvalidatedPaths(Collection<String> paths) {
+        for (String path : paths) {
+            addInvalidatedPath(path);
+        }
     }
 
     /** Read-only view of the current stale-path set (used by DataBaseUpdate). */
@@ -66,50 +92,42 @@ public class FileFetcher {
 
     // -------------------------------------------------------------------------
 
-    private static final int MAX_CALLS_PER_SECOND = 20;
-    private static final Semaphore semaphore = new Semaphore(MAX_CALLS_PER_SECOND);
+    private static final int CONNECT_TIMEOUT_MILLIS = 15_000;
+    private static final int READ_TIMEOUT_MILLIS = 60_000;
+    // Large enough that a multi-megabyte body is copied in a few dozen reads and writes.
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
 
     // ------------------------------------------------------------------
     // Persistence helpers
     // ------------------------------------------------------------------
 
-    private static Path getInvalidatedPathsFile() {
-        return databaseDir.resolve(Paths.get("ygoresources", "invalidated_paths.txt"));
-    }
-
     /**
      * Loads the persisted stale-path set from disk into memory.
      * Called once in the static initialiser. A missing file is silently ignored
      * (it simply means there are no previously-known stale files).
+     *
+     * <p>The set used to be saved as a plain list, rewritten on every change;
+     * such a file is merged into the journal once and then deleted.
      */
     private static void loadInvalidatedPaths() {
-        Path file = getInvalidatedPathsFile();
-        if (!Files.exists(file)) return;
-        try {
-            Files.readAllLines(file, StandardCharsets.UTF_8).stream()
-                    .map(String::trim)
-                    .filter(s -> !s.isEmpty())
-                    .forEach(invalidatedPaths::add);
-            if (!invalidatedPaths.isEmpty()) {
-                logger.debug("Restored {} stale file(s) from previous session.", invalidatedPaths.size());
+        invalidatedPaths.addAll(invalidatedPathsJournal.load().keySet());
+        Path legacyFile = databaseDir.resolve(Paths.get("ygoresources", "invalidated_paths.txt"));
+        if (Files.exists(legacyFile)) {
+            try {
+                Files.readAllLines(legacyFile, StandardCharsets.UTF_8).stream()
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .forEach(invalidatedPaths::add);
+                invalidatedPathsJournal.rewrite();
+                if (invalidatedPathsJournal.flush()) {
+                    Files.delete(legacyFile);
+                }
+            } catch (IOException e) {
+                logger.warn("Could not migrate invalidated paths: {}", e.getMessage());
             }
-        } catch (IOException e) {
-            logger.warn("Could not load invalidated paths: {}", e.getMessage());
         }
-    }
-
-    /**
-     * Writes the current stale-path set to disk so it survives restarts.
-     * An empty set clears the file, which is correct — there is nothing left to
-     * retry.
-     */
-    private static void persistInvalidatedPaths() {
-        Path file = getInvalidatedPathsFile();
-        try {
-            Files.createDirectories(file.getParent());
-            Files.write(file, invalidatedPaths, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            logger.warn("Could not persist invalidated paths: {}", e.getMessage());
+        if (!invalidatedPaths.isEmpty()) {
+            logger.debug("Restored {} stale file(s) from previous session.", invalidatedPaths.size());
         }
     }
 
@@ -168,7 +186,12 @@ public class FileFetcher {
         }
 
         try {
+            // A 304 confirms the file without rewriting it, so it counts as fresh from then on.
             Instant lastModified = Files.getLastModifiedTime(file).toInstant();
+            HttpValidators.Entry known = HttpValidators.getInstance().get(localPath);
+            if (known != null && known.checkedAtMillis() > lastModified.toEpochMilli()) {
+                lastModified = Instant.ofEpochMilli(known.checkedAtMillis());
+            }
             long ageInDays = ChronoUnit.DAYS.between(lastModified, Instant.now());
             if (ageInDays >= maxAgeDays) {
                 addInvalidatedPath(localPath);
@@ -196,42 +219,20 @@ public class FileFetcher {
             logger.warn("Element not found in addresses.json: {}", element);
             return;
         }
-        String localPath  = addresses[0];
-        String remotePath = addresses[1];
-        Path localFilePath = Paths.get(localPath);
-
-        if (Files.exists(localFilePath) && !invalidatedPaths.contains(localPath)) {
-            // File exists and is not stale — nothing to do.
-            return;
-        }
-
+        Path localFilePath = Paths.get(addresses[0]);
         try {
-            semaphore.acquire();
-            try {
-                if (!Files.exists(localFilePath.getParent())) {
-                    Files.createDirectories(localFilePath.getParent());
-                }
-                byte[] fileBytes = fetchRemoteFile(remotePath);
-                if (!isPlausibleContent(element, fileBytes)) {
-                    // The server responded (no 4xx/network exception), but the body
-                    // doesn't actually look like the file we asked for -- e.g. a rate
-                    // limit page, a maintenance/redirect page, or a truncated response.
-                    // Writing this over a previously-good local cache file would corrupt
-                    // it silently, and since Database.openJson() parses every cached
-                    // .json file at application startup, that corruption would crash the
-                    // whole app on every future launch until someone noticed and fixed
-                    // the file by hand. Keep the existing file (if any) and leave this
-                    // path in invalidatedPaths so the next call retries.
-                    logger.warn("Fetched content for {} doesn't look valid, keeping existing local file", element);
-                    return;
-                }
-                Files.write(localFilePath, fileBytes);
-                logger.debug("File fetched and saved locally: {}", localPath);
-                // Remove from stale set only after a confirmed successful write.
-                removeInvalidatedPath(localPath);
-            } finally {
-                semaphore.release();
-            }
+            downloadIfStale(element);
+        } catch (ImplausibleContentException e) {
+            // The server responded (no 4xx/network exception), but the body
+            // doesn't actually look like the file we asked for -- e.g. a rate
+            // limit page, a maintenance/redirect page, or a truncated response.
+            // Writing this over a previously-good local cache file would corrupt
+            // it silently, and since Database.openJson() parses every cached
+            // .json file at application startup, that corruption would crash the
+            // whole app on every future launch until someone noticed and fixed
+            // the file by hand. Keep the existing file (if any) and leave this
+            // path in invalidatedPaths so the next call retries.
+            logger.warn("Fetched content for {} doesn't look valid, keeping existing local file", element);
         } catch (java.io.FileNotFoundException e) {
             if (Files.exists(localFilePath)) {
                 // A local copy already exists, so this is a periodic refresh
@@ -254,6 +255,104 @@ public class FileFetcher {
         }
     }
 
+    /**
+     * Returns {@code true} if the local file for {@code element} is absent or
+     * marked stale, i.e. if {@link #fetchFile(String)} would download it.
+     */
+    static boolean needsDownload(String element) {
+        String[] addresses = DataBaseUpdate.getAddresses(element);
+        if (addresses.length == 0) {
+            return false;
+        }
+        return !Files.exists(Paths.get(addresses[0])) || invalidatedPaths.contains(addresses[0]);
+    }
+
+    /**
+     * Downloads {@code element} if its local file is absent or stale, and
+     * reports failures by throwing, for {@link BulkDownloader}.
+     *
+     * @throws java.io.FileNotFoundException if the server does not have it
+     * @throws BulkDownloader.RetryLaterException if the server asked to back off
+     * @throws IOException on any other network or I/O error, including a
+     *                     response that does not look like the requested file
+     */
+    static void downloadIfStale(String element) throws IOException {
+        String[] addresses = DataBaseUpdate.getAddresses(element);
+        if (addresses.length == 0) {
+            logger.warn("Element not found in addresses.json: {}", element);
+            return;
+        }
+        String localPath = addresses[0];
+        Path localFilePath = Paths.get(localPath);
+        if (Files.exists(localFilePath) && !invalidatedPaths.contains(localPath)) {
+            // File exists and is not stale — nothing to do.
+            return;
+        }
+        download(element, addresses[1], localPath);
+    }
+
+    /**
+     * Downloads {@code remotePath} to {@code localPath} and clears its stale
+     * mark.
+     *
+     * <p>The body is streamed into a temporary file next to the local one,
+     * checked as it arrives (see {@link #copyValidated}), and only then moved
+     * over the local file in one atomic rename. The local file is therefore
+     * always either the previous version or the complete new one, even if the
+     * transfer fails or the application dies half way.
+     */
+    private static void download(String element, String remotePath, String localPath) throws IOException {
+        Path localFilePath = Paths.get(localPath);
+        if (!Files.exists(localFilePath.getParent())) {
+            Files.createDirectories(localFilePath.getParent());
+        }
+        // Only a file we still have can be revalidated: a 304 has no body to restore it from.
+        HttpValidators validators = HttpValidators.getInstance();
+        HttpValidators.Entry known = Files.exists(localFilePath) ? validators.get(localPath) : null;
+        RemoteFile remoteFile = fetchRemoteFile(remotePath, known);
+        if (remoteFile.notModified()) {
+            validators.recordNotModified(localPath, System.currentTimeMillis());
+            Metrics.counter("download.notModified").increment();
+            logger.debug("File unchanged on the server, keeping local copy: {}", localPath);
+            removeInvalidatedPath(localPath);
+            return;
+        }
+        HttpURLConnection connection = remoteFile.connection();
+        Path temp = Files.createTempFile(localFilePath.getParent(), localFilePath.getFileName() + ".", ".part");
+        try {
+            long copied;
+            try (InputStream body = connection.getInputStream();
+                 OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), COPY_BUFFER_SIZE)) {
+                copied = copyValidated(element, body, out);
+            }
+            long expected = connection.getContentLengthLong();
+            if (expected >= 0 && copied != expected) {
+                throw new IOException("Transfer of " + element + " cut short: " + copied + " of " + expected
+                        + " bytes");
+            }
+            Files.move(temp, localFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        Metrics.counter("download.bytes").add(Files.size(localFilePath));
+        validators.recordDownloaded(localPath, remoteFile.etag(), remoteFile.lastModified(),
+                System.currentTimeMillis());
+        logger.debug("File fetched and saved locally: {}", localPath);
+        // Remove from stale set only after a confirmed successful write.
+        removeInvalidatedPath(localPath);
+    }
+
+    /**
+     * A response body that {@link #copyValidated} rejected.
+     */
+    static final class ImplausibleContentException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        ImplausibleContentException(String message) {
+            super(message);
+        }
+    }
+
     /**
      * Fetches a file from the remote location, using a caller-supplied remote
      * URL instead of the one stored in addresses.json.
@@ -268,55 +367,93 @@ public class FileFetcher {
             return;
         }
 
-        String localPath   = addresses[0];
-        Path localFilePath = Paths.get(localPath);
-
-        if (Files.exists(localFilePath) && !invalidatedPaths.contains(localPath)) {
+        String localPath = addresses[0];
+        if (Files.exists(Paths.get(localPath)) && !invalidatedPaths.contains(localPath)) {
             return;
         }
 
         try {
-            semaphore.acquire();
-            try {
-                if (!Files.exists(localFilePath.getParent())) {
-                    Files.createDirectories(localFilePath.getParent());
-                }
-                byte[] fileBytes = fetchRemoteFile(remotePath);
-                if (!isPlausibleContent(element, fileBytes)) {
-                    logger.warn("Fetched content for {} doesn't look valid, keeping existing local file", element);
-                    return;
-                }
-                Files.write(localFilePath, fileBytes);
-                logger.debug("File fetched and saved locally: {}", localPath);
-                removeInvalidatedPath(localPath);
-            } finally {
-                // FIX: release moved to finally so it is always called, even on
-                // exception. Previously the release() was inside the try block,
-                // causing a semaphore leak on any I/O failure.
-                semaphore.release();
-            }
+            download(element, remotePath, localPath);
+        } catch (ImplausibleContentException e) {
+            logger.warn("Fetched content for {} doesn't look valid, keeping existing local file", element);
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
     /**
-     * Fetches a file from the remote location using its URL.
+     * Fetches a small text resource, such as a manifest, into memory, with the
+     * same timeouts and status handling as file downloads.
+     *
+     * @throws java.io.FileNotFoundException      if the server returns a 4xx status code
+     * @throws BulkDownloader.RetryLaterException if the server returns HTTP 429 or 503
+     * @throws IOException                        for any other network or I/O error
+     */
+    static String fetchText(String remotePath) throws IOException {
+        HttpURLConnection connection = fetchRemoteFile(remotePath, null).connection();
+        try (InputStream body = connection.getInputStream()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * A response to {@link #fetchRemoteFile}: either a connection whose body
+     * is ready to read, with the validators that came with it, or "not
+     * modified".
+     */
+    private record RemoteFile(HttpURLConnection connection, boolean notModified, String etag,
+                              String lastModified) {
+    }
+
+    /**
+     * Fetches a file from the remote location using its URL, conditionally on
+     * {@code known}'s validators when there are any.
      *
      * @param remotePath the remote URL of the file
-     * @return the file's contents as a byte array
+     * @param known      what is known about the local copy, or {@code null}
+     *                   for an unconditional request
+     * @return the response, whose body the caller must read and close, or a
+     * not-modified response if the request was conditional and the server
+     * copy is unchanged
      * @throws java.io.FileNotFoundException if the server returns a 4xx status
      *         code (card/resource genuinely absent from the database) — callers
      *         should catch this specifically and record the ID in
      *         {@link NotFoundCache} so the request is not retried too soon
+     * @throws BulkDownloader.RetryLaterException if the server is rate-limiting
+     *         (HTTP 429) or temporarily unavailable (HTTP 503) — not a sign the
+     *         resource is missing
      * @throws IOException for any other network or I/O error
      */
-    private static byte[] fetchRemoteFile(String remotePath) throws IOException {
+    private static RemoteFile fetchRemoteFile(String remotePath, HttpValidators.Entry known) throws IOException {
         URL url = new URL(remotePath);
         HttpURLConnection connection = (HttpURLConnection) url.openConnection();
         connection.setRequestMethod("GET");
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        boolean conditional = known != null && known.hasValidator();
+        if (conditional) {
+            if (known.etag() != null) {
+                connection.setRequestProperty("If-None-Match", known.etag());
+            }
+            if (known.lastModified() != null) {
+                // Echoed verbatim, as servers compare it as a string as often as a date.
+                connection.setRequestProperty("If-Modified-Since", known.lastModified());
+            }
+        }
 
         int responseCode = connection.getResponseCode();
+        if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            connection.disconnect();
+            if (!conditional) {
+                throw new IOException("Server returned HTTP 304 to an unconditional request for URL: " + remotePath);
+            }
+            return new RemoteFile(null, true, null, null);
+        }
+        if (responseCode == 429 || responseCode == HttpURLConnection.HTTP_UNAVAILABLE) {
+            throw new BulkDownloader.RetryLaterException(
+                    "Server returned HTTP " + responseCode + " for URL: " + remotePath,
+                    parseRetryAfterMillis(connection.getHeaderField("Retry-After")));
+        }
         if (responseCode >= 400 && responseCode < 500) {
             // 4xx — the resource does not exist on the server.
             // Throw FileNotFoundException (a subclass of IOException) so the
@@ -325,57 +462,128 @@ public class FileFetcher {
                     "Server returned HTTP " + responseCode + " for URL: " + remotePath);
         }
 
-        try (InputStream inputStream = connection.getInputStream();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            byte[] buffer = new byte[1024];
-            int bytesRead;
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
-            return outputStream.toByteArray();
+        return new RemoteFile(connection, false, connection.getHeaderField("ETag"),
+                connection.getHeaderField("Last-Modified"));
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given in seconds. The HTTP-date form
+     * is not used by the hosts this application talks to and reads as
+     * {@code 0}, leaving the delay to the caller's own backoff.
+     */
+    static long parseRetryAfterMillis(String retryAfter) {
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(retryAfter.trim())) * 1000;
+        } catch (NumberFormatException e) {
+            return 0;
         }
     }
 
     /**
-     * Light validation of freshly-fetched bytes before they are allowed to overwrite the
-     * local cache file for {@code element}.
+     * Copies a response body to {@code out}, checking on the way that it
+     * plausibly is the file {@code element} names before it is allowed to
+     * replace the local cache file.
      *
      * <p>{@link #fetchRemoteFile} only throws when the connection itself fails or the
      * server returns a 4xx — a "successful" (2xx/3xx) response can still carry a body
      * that isn't actually the requested file (a rate-limit or maintenance page, a
-     * redirect target's HTML, or a connection cut short mid-transfer). Since a write here
+     * redirect target's HTML, or a connection cut short mid-transfer). Since the copy
      * replaces whatever local copy already exists, and {@link Database#openJson} parses
      * every cached {@code .json} file at application startup, letting an implausible
      * response through would silently corrupt a previously-good file and crash the whole
      * application on every future launch.
      *
-     * @param element   the filename being fetched (its extension decides which check applies)
-     * @param fileBytes the bytes returned by {@link #fetchRemoteFile}
-     * @return {@code false} if the content is empty or, for {@code .json} elements,
-     * fails to parse as JSON — {@code true} otherwise
+     * <p>A {@code .json} body is run through {@link JsonStreamReader} as it is copied,
+     * skipping over every value without building it, and must be a single object or
+     * array. Any other body must not be empty: that is the best validation available
+     * without hardcoding per-format magic bytes.
+     *
+     * @param element the filename being fetched (its extension decides which check applies)
+     * @param body    the response body
+     * @param out     where to copy it
+     * @return the number of bytes copied
+     * @throws ImplausibleContentException if the body does not look like {@code element}
+     * @throws IOException                 if reading or writing fails
      */
-    private static boolean isPlausibleContent(String element, byte[] fileBytes) {
-        if (fileBytes == null || fileBytes.length == 0) {
-            return false;
-        }
+    static long copyValidated(String element, InputStream body, OutputStream out) throws IOException {
+        CopyingInputStream copying = new CopyingInputStream(body, out);
         if (element != null && element.endsWith(".json")) {
-            String text = new String(fileBytes, StandardCharsets.UTF_8).trim();
-            if (text.isEmpty()) {
-                return false;
-            }
+            JsonStreamReader reader = new JsonStreamReader(new InputStreamReader(copying, StandardCharsets.UTF_8));
             try {
-                if (text.startsWith("[")) {
-                    new JSONArray(text);
-                } else {
-                    new JSONObject(text);
+                JsonStreamReader.Token first = reader.peek();
+                if (first != JsonStreamReader.Token.BEGIN_OBJECT && first != JsonStreamReader.Token.BEGIN_ARRAY) {
+                    throw new ImplausibleContentException(element + " is not a JSON object or array");
                 }
-            } catch (JSONException e) {
-                return false;
+                reader.skipValue();
+                // Also reads up to the end of the stream, so everything has been copied.
+                if (reader.peek() != JsonStreamReader.Token.END_DOCUMENT) {
+                    throw new ImplausibleContentException(element + " has content after its JSON value");
+                }
+            } catch (JsonStreamReader.MalformedJsonException e) {
+                throw new ImplausibleContentException(element + " is not valid JSON: " + e.getMessage());
             }
+        } else {
+            copying.transferTo(OutputStream.nullOutputStream());
+        }
+        if (copying.getCount() == 0) {
+            throw new ImplausibleContentException(element + " is empty");
+        }
+        return copying.getCount();
+    }
+
+    /**
+     * Reads through a large buffer and writes every byte read to a second
+     * stream, so that a body can be validated and saved in one pass.
+     */
+    private static final class CopyingInputStream extends FilterInputStream {
+
+        private final OutputStream copy;
+        private long count;
+
+        CopyingInputStream(InputStream in, OutputStream copy) {
+            super(new BufferedInputStream(in, COPY_BUFFER_SIZE));
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                copy.write(b);
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                copy.write(buffer, offset, read);
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes must be copied too.
+            byte[] discard = new byte[(int) Math.min(n, COPY_BUFFER_SIZE)];
+            int read = read(discard, 0, discard.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        long getCount() {
+            return count;
         }
-        // Non-JSON files (images, .txt set lists, etc.): a non-empty response is the
-        // best validation available without hardcoding per-format magic bytes.
-        return true;
     }
 
     /**
@@ -418,8 +626,22 @@ public class FileFetcher {
 
     /**
      * Fetches all files from remote locations specified in the addresses.json file.
+     *
+     * <p>The files named in addresses.json are fetched one by one first, since
+     * the card and print-code lists depend on them. Then every missing or
+     * stale {@code <passcode>.jpg} and {@code <printcode>.json} is downloaded
+     * by a {@link BulkDownloader}, with its default settings.
      */
     public static void fetchAllFiles() {
+        fetchAllFiles(progress -> {
+        });
+    }
+
+    /**
+     * Same as {@link #fetchAllFiles()}, telling {@code progressListener} about
+     * each bulk-downloaded file as it finishes.
+     */
+    public static void fetchAllFiles(BulkDownloader.ProgressListener progressListener) {
         try {
             byte[] encoded;
             try {
@@ -433,19 +655,48 @@ public class FileFetcher {
             JSONObject json = new JSONObject(content);
             fetchFilesFromJson(json);
 
-            // Process <passcode>.jpg files
-            List<String> passcodes = getPasscodesList();
-            for (String passcode : passcodes) {
-                fetchFile(passcode + ".jpg");
+            List<String> elements = new ArrayList<>();
+            for (String passcode : getPasscodesList()) {
+                elements.add(passcode + ".jpg");
             }
-
-            // Process <printcode>.json files
-            List<String> printcodes = getPrintcodesList();
-            for (String printcode : printcodes) {
-                fetchFile(printcode + ".json");
+            for (String printcode : getPrintcodesList()) {
+                elements.add(printcode + ".json");
             }
+            elements.removeIf(element -> !needsDownload(element));
+            logger.info("{} card image(s) and print-code file(s) to download", elements.size());
+
+            BulkDownloader.Result result = new BulkDownloader(
+                    "file-fetcher", BulkDownloader.Settings.defaults(), FileFetcher::hostOf,
+                    FileFetcher::downloadIfStale)
+                    .addAll(elements)
+                    .onProgress(progressListener)
+                    .run();
+            if (!result.notFound().isEmpty()) {
+                logger.info("{} file(s) are not on the server, e.g. {}", result.notFound().size(),
+                        result.notFound().get(0));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("fetchAllFiles interrupted");
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Returns the host {@code element} is downloaded from, or {@code ""} if it
+     * cannot be resolved.
+     */
+    private static String hostOf(String element) {
+        String[] addresses = DataBaseUpdate.getAddresses(element);
+        if (addresses.length < 2) {
+            return "";
+        }
+        try {
+            String host = new URL(addresses[1]).getHost();
+            return host == null ? "" : host;
+        } catch (java.net.MalformedURLException e) {
+            return "";
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+package Model.Database;
+
+import java.util.*;
+
+/**
+ * Approximate-match index over normalized card names: returns the names
+ * closest to a (possibly OCR-noisy) query within an edit-distance bound,
+ * without comparing the query against every name.
+ *
+ * <p>Each name is split into its distinct trigrams (three-character windows,
+ * padded at both ends so that the first and last characters count as much as
+ * the middle ones), and an inverted index maps each trigram to the names
+ * containing it. One edit destroys at most three of a string's trigrams, so a
+ * name within {@code k} edits of the query must share at least
+ * {@code |trigrams(query)| - 3k} of the query's trigrams — and therefore at
+ * least one of its {@code 3k + 1} rarest ones. Candidates are drawn from those
+ * rarest posting lists only, and just the ones reaching that count, with a
+ * length within {@code k} of the query's, are checked with an actual (bounded)
+ * Levenshtein distance. A query too short for that bound to rule anything out
+ * falls back to checking the names of a compatible length.
+ *
+ * <p>Instances are immutable once built and can be shared between threads.
+ */
+public final class FuzzyNameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char PADDING = '\u0000';
+    private static final int[] NO_IDS = new int[0];
+
+    private final String[] names;
+    private final List<Set<Integer>> konamiIds;
+    private final Map<Long, int[]> postings;
+    /**
+     * Name ids grouped by name length, for queries too short to be filtered by trigrams.
+     */
+    private final Map<Integer, int[]> idsByLength;
+
+    private FuzzyNameIndex(String[] names, List<Set<Integer>> konamiIds,
+                           Map<Long, int[]> postings, Map<Integer, int[]> idsByLength) {
+        this.names = names;
+        this.konamiIds = konamiIds;
+        this.postings = postings;
+        this.idsByLength = idsByLength;
+    }
+
+    /**
+     * Builds an index over the keys of {@code normalizedNameToKonamiIds}.
+     *
+     * @param normalizedNameToKonamiIds names, already normalized the way queries will be,
+     *                                  with the Konami IDs each one belongs to
+     */
+    public static FuzzyNameIndex build(Map<String, Set<Integer>> normalizedNameToKonamiIds) {
+        int size = normalizedNameToKonamiIds.size();
+        String[] names = new String[size];
+        List<Set<Integer>> konamiIds = new ArrayList<>(size);
+        Map<Long, IdListBuilder> postingBuilders = new HashMap<>();
+        Map<Integer, IdListBuilder> lengthBuilders = new HashMap<>();
+
+        int id = 0;
+        for (Map.Entry<String, Set<Integer>> entry : normalizedNameToKonamiIds.entrySet()) {
+            String name = entry.getKey();
+            names[id] = name;
+            konamiIds.add(Collections.unmodifiableSet(entry.getValue()));
+            for (long gram : distinctGrams(name)) {
+                postingBuilders.computeIfAbsent(gram, unusedKey -> new IdListBuilder()).add(id);
+            }
+            lengthBuilders.computeIfAbsent(name.length(), unusedKey -> new IdListBuilder()).add(id);
+            id++;
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(postingBuilders.size() * 2);
+        postingBuilders.forEach((gram, builder) -> postings.put(gram, builder.toArray()));
+        Map<Integer, int[]> idsByLength = new HashMap<>();
+        lengthBuilders.forEach((length, builder) -> idsByLength.put(length, builder.toArray()));
+        return new FuzzyNameIndex(names, konamiIds, postings, idsByLength);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the indexed names within {@code maxDistance} edits of
+     * {@code normalizedQuery}, closest first, at most {@code limit} of them.
+     * Names at the same distance are ordered by how close their length is to
+     * the query's, then alphabetically, so the result is deterministic.
+     *
+     * @param normalizedQuery the text to look up, normalized the same way as the indexed names
+     * @param maxDistance     the largest Levenshtein distance to accept
+     * @param limit           the maximum number of matches to return
+     * @return the matches, never {@code null}, possibly empty
+     */
+    public List<Match> search(String normalizedQuery, int maxDistance, int limit) {
+        if (normalizedQuery == null || normalizedQuery.isEmpty() || maxDistance < 0 || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        int queryLength = normalizedQuery.length();
+
+        long[] queryGrams = distinctGrams(normalizedQuery);
+        int minSharedGrams = queryGrams.length - GRAM_LENGTH * maxDistance;
+        if (minSharedGrams > 0) {
+            // A name missing all of the query's (3k + 1) rarest trigrams shares too few of them, so
+            // only those posting lists are read in full; the others are only probed for the
+            // candidates found so far.
+            int[][] gramPostings = new int[queryGrams.length][];
+            for (int i = 0; i < queryGrams.length; i++) {
+                gramPostings[i] = postings.getOrDefault(queryGrams[i], NO_IDS);
+            }
+            Arrays.sort(gramPostings, Comparator.comparingInt(ids -> ids.length));
+            int candidateGrams = queryGrams.length - minSharedGrams + 1;
+
+            int[] sharedCounts = new int[names.length];
+            IdListBuilder candidates = new IdListBuilder();
+            for (int i = 0; i < candidateGrams; i++) {
+                for (int id : gramPostings[i]) {
+                    if (sharedCounts[id]++ == 0 && Math.abs(names[id].length() - queryLength) <= maxDistance) {
+                        candidates.add(id);
+                    }
+                }
+            }
+            int[] candidateIds = candidates.toArray();
+            for (int i = candidateGrams; i < gramPostings.length; i++) {
+                for (int id : candidateIds) {
+                    // Posting lists are sorted, ids being assigned in insertion order.
+                    if (Arrays.binarySearch(gramPostings[i], id) >= 0) {
+                        sharedCounts[id]++;
+                    }
+                }
+            }
+            for (int id : candidateIds) {
+                if (sharedCounts[id] >= minSharedGrams) {
+                    addIfClose(matches, id, normalizedQuery, maxDistance);
+                }
+            }
+        } else {
+            for (int length = Math.max(1, queryLength - maxDistance); length <= queryLength + maxDistance; length++) {
+                int[] ids = idsByLength.get(length);
+                if (ids == null) {
+                    continue;
+                }
+                for (int id : ids) {
+                    addIfClose(matches, id, normalizedQuery, maxDistance);
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(Match::getEditDistance)
+                .thenComparingInt(match -> Math.abs(match.getName().length() - queryLength))
+                .thenComparing(Match::getName));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    private void addIfClose(List<Match> matches, int id, String normalizedQuery, int maxDistance) {
+        int distance = CardNameIndex.levenshteinDistance(normalizedQuery, names[id], maxDistance);
+        if (distance <= maxDistance) {
+            matches.add(new Match(names[id], konamiIds.get(id), distance));
+        }
+    }
+
+    /**
+     * Returns the distinct padded trigrams of {@code text}, each packed into a
+     * {@code long} (three 16-bit chars).
+     */
+    static long[] distinctGrams(String text) {
+        int paddedLength = text.length() + 2 * (GRAM_LENGTH - 1);
+        char[] padded = new char[paddedLength];
+        Arrays.fill(padded, PADDING);
+        text.getChars(0, text.length(), padded, GRAM_LENGTH - 1);
+
+        long[] grams = new long[paddedLength - GRAM_LENGTH + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) padded[i] << 32) | ((long) padded[i + 1] << 16) | padded[i + 2];
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * Growable {@code int[]} used while collecting posting lists.
+     */
+    private static final class IdListBuilder {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+    /**
+     * One name returned by {@link #search(String, int, int)}, with the Konami
+     * IDs it belongs to and its edit distance from the query.
+     */
+    public static final class Match {
+        private final String name;
+        private final Set<Integer> konamiIds;
+        private final int editDistance;
+
+        Match(String name, Set<Integer> konamiIds, int editDistance) {
+            this.name = name;
+            this.konamiIds = konamiIds;
+            this.editDistance = editDistance;
+        }
+
+        /**
+         * The matched name, normalized as stored in the index.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Every Konami ID with this name; more than one means the name itself
+         * is ambiguous (see {@link CardNameIndex#getKonamiIdsForName(String)}).
+         */
+        public Set<Integer> getKonamiIds() {
+            return konamiIds;
+        }
+
+        /**
+         * Levenshtein distance between the query and {@link #getName()}.
+         */
+        public int getEditDistance() {
+            return editDistance;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package Model.Database;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Rough retained-size report for the database's static structures.
+ *
+ * <p>Each static field of {@link Database}, {@link KonamiIdToNames},
+ * {@link CardDatabaseManager}, {@link PrintCodeToKonamiId} and
+ * {@link CardNameIndex} is walked and its deep size estimated for a 64-bit
+ * JVM with compressed oops (12-byte object headers, 4-byte references,
+ * 8-byte alignment). The figures are estimates meant to compare structures
+ * and spot dead weight such as unreleased JSON trees, not exact heap-dump
+ * numbers: objects shared between structures (e.g. a name String used both
+ * as a map value and by a Card) are counted in each of them.
+ */
+public final class HeapAccounting {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeapAccounting.class);
+
+    private static final Class<?>[] HOLDERS = {
+            Database.class, KonamiIdToNames.class, CardDatabaseManager.class,
+            PrintCodeToKonamiId.class, CardNameIndex.class
+    };
+
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    // HashMap.Node / LinkedHashMap.Entry: header + hash + key + value + next (+ before/after)
+    private static final int HASH_NODE = 32;
+    private static final int LINKED_HASH_NODE = 40;
+    private static final int TREE_NODE = 40;
+
+    private HeapAccounting() {
+    }
+
+    /**
+     * Returns the estimated retained size in bytes of every non-null static
+     * structure, keyed by {@code Class.field}. The entries of
+     * {@code Database.jsonContentMap} are reported one by one, so a JSON tree
+     * that is still held shows up under its own file name.
+     */
+    public static Map<String, Long> report() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        for (Class<?> holder : HOLDERS) {
+            for (Field field : holder.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()
+                        || field.getType() == Logger.class) {
+                    continue;
+                }
+                Object value;
+                try {
+                    field.setAccessible(true);
+                    value = field.get(null);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    continue;
+                }
+                if (value == null) {
+                    continue;
+                }
+                String name = holder.getSimpleName() + "." + field.getName();
+                sizes.put(name, deepSize(value));
+                if (holder == Database.class && field.getName().equals("jsonContentMap")) {
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                        sizes.put(name + "[" + entry.getKey() + "]", deepSize(entry.getValue()));
+                    }
+                }
+            }
+        }
+        return sizes;
+    }
+
+    /**
+     * Logs {@link #report()} at DEBUG, largest structure first. The walk
+     * itself is skipped when DEBUG is disabled.
+     */
+    public static void logReport() {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        Map<String, Long> sizes = report();
+        long total = 0;
+        for (Map.Entry<String, Long> entry : sizes.entrySet()) {
+            if (!entry.getKey().contains("[")) {
+                total += entry.getValue();
+            }
+        }
+        logger.debug("Database heap usage, ~{} KB in total:", total / 1024);
+        sizes.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> logger.debug("  {}: ~{} KB", entry.getKey(), entry.getValue() / 1024));
+    }
+
+    /**
+     * Estimates the size of {@code root} and everything reachable from it,
+     * counting each object once.
+     */
+    static long deepSize(Object root) {
+        Map<Object, Boolean> visited = new IdentityHashMap<>();
+        Deque<Object> pending = new ArrayDeque<>();
+        queue(pending, root);
+        long total = 0;
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (object instanceof Class || object instanceof Enum
+                    || visited.put(object, Boolean.TRUE) != null) {
+                continue;
+            }
+            total += shallowSize(object, pending);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the size of {@code object} itself and queues the objects it
+     * references.
+     */
+    private static long shallowSize(Object object, Deque<Object> pending) {
+        if (object instanceof String string) {
+            // String + its byte[] (Latin-1 strings are compacted to one byte per char)
+            boolean latin1 = string.chars().allMatch(c -> c < 256);
+            return align(HEADER + 12) + align(ARRAY_HEADER + (long) string.length() * (latin1 ? 1 : 2));
+        }
+        if (object instanceof Integer || object instanceof Float || object instanceof Short
+                || object instanceof Byte || object instanceof Character || object instanceof Boolean) {
+            return align(HEADER + 4);
+        }
+        if (object instanceof Long || object instanceof Double) {
+            return align(HEADER + 8);
+        }
+        if (isPrimitiveBacked(object)) {
+            // Before the Map / Collection cases: an IntList iterates as boxed
+            // Integers it does not hold, so its int[] is counted instead.
+            return fieldsSize(object, object.getClass(), pending);
+        }
+        if (object instanceof JSONObject json) {
+            // JSONObject wraps a HashMap
+            long size = align(HEADER + REFERENCE) + mapSize(json.length(), HASH_NODE);
+            for (String key : json.keySet()) {
+                queue(pending, key);
+                queue(pending, json.opt(key));
+            }
+            return size;
+        }
+        if (object instanceof JSONArray json) {
+            // JSONArray wraps an ArrayList
+            long size = align(HEADER + REFERENCE) + listSize(json.length());
+            for (int i = 0; i < json.length(); i++) {
+                queue(pending, json.opt(i));
+            }
+            return size;
+        }
+        if (object instanceof Map<?, ?> map) {
+            int nodeSize = map instanceof TreeMap ? TREE_NODE
+                    : map instanceof LinkedHashMap ? LINKED_HASH_NODE : HASH_NODE;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                queue(pending, entry.getKey());
+                queue(pending, entry.getValue());
+            }
+            return mapSize(map.size(), nodeSize);
+        }
+        if (object instanceof Collection<?> collection) {
+            for (Object element : collection) {
+                queue(pending, element);
+            }
+            if (collection instanceof Set) {
+                // HashSet / LinkedHashSet are backed by a map of the same size
+                int nodeSize = collection instanceof LinkedHashSet ? LINKED_HASH_NODE : HASH_NODE;
+                return align(HEADER + REFERENCE) + mapSize(collection.size(), nodeSize);
+            }
+            return listSize(collection.size());
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            Class<?> component = type.getComponentType();
+            if (!component.isPrimitive()) {
+                for (int i = 0; i < length; i++) {
+                    queue(pending, Array.get(object, i));
+                }
+                return align(ARRAY_HEADER + (long) length * REFERENCE);
+            }
+            return align(ARRAY_HEADER + (long) length * primitiveSize(component));
+        }
+        return fieldsSize(object, type, pending);
+    }
+
+    /**
+     * Returns whether {@code object} is one of the int-array-backed
+     * structures, whose size is that of their arrays rather than of the boxed
+     * values their List and Map views hand out.
+     */
+    private static boolean isPrimitiveBacked(Object object) {
+        return object instanceof IntList || object instanceof IntIntIndex || object instanceof IntListIndex;
+    }
+
+    private static long fieldsSize(Object object, Class<?> type, Deque<Object> pending) {
+        // Application classes are walked; JDK internals are only counted shallowly.
+        boolean walk = !type.getName().startsWith("java.") && !type.getName().startsWith("javax.")
+                && !type.getName().startsWith("jdk.") && !type.getName().startsWith("sun.");
+        // The cached Map view of an int-backed index only re-exposes its arrays.
+        boolean skipViews = isPrimitiveBacked(object);
+        long size = HEADER;
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                Class<?> fieldType = field.getType();
+                size += fieldType.isPrimitive() ? primitiveSize(fieldType) : REFERENCE;
+                if (walk && !fieldType.isPrimitive()
+                        && !(skipViews && Map.class.isAssignableFrom(fieldType))) {
+                    try {
+                        field.setAccessible(true);
+                        queue(pending, field.get(object));
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        // Inaccessible field: counted as a reference only.
+                    }
+                }
+            }
+        }
+        return align(size);
+    }
+
+    private static void queue(Deque<Object> pending, Object object) {
+        if (object != null) {
+            pending.push(object);
+        }
+    }
+
+    private static long mapSize(int entries, int nodeSize) {
+        // HashMap object + table sized for the default 0.75 load factor
+        int table = 0;
+        if (entries > 0) {
+            int needed = (int) Math.ceil(entries / 0.75);
+            table = Math.max(16, needed == 1 ? 1 : Integer.highestOneBit(needed - 1) << 1);
+        }
+        return align(HEADER + 36) + align(ARRAY_HEADER + (long) table * REFERENCE) + (long) entries * nodeSize;
+    }
+
+    private static long listSize(int elements) {
+        // ArrayList object + its Object[] (capacity approximated by the size)
+        return align(HEADER + 12) + align(ARRAY_HEADER + (long) elements * REFERENCE);
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,156 @@
+package Model.Database;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import static Model.FilePaths.databaseDir;
+
+/**
+ * Persistent store of the HTTP validators ({@code ETag} and
+ * {@code Last-Modified}) last received for each downloaded file, keyed by
+ * local path, so that {@link FileFetcher} can re-fetch a stale file with a
+ * conditional GET and get a bodiless 304 when the server copy has not
+ * changed.
+ *
+ * <p>Each entry also records when the server last confirmed the file, since
+ * a 304 leaves the file itself untouched: its modification time stays that
+ * of the last real download, which the {@link DatabaseSnapshot} fingerprint
+ * relies on.
+ *
+ * <p>Entries live in memory and are persisted through a
+ * {@link WriteBehindJournal}, so recording one of thousands of bulk
+ * downloads neither waits on the disk nor holds a lock other downloads need.
+ */
+final class HttpValidators {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpValidators.class);
+
+    /**
+     * What is known about one local file's server copy.
+     *
+     * @param etag            the last {@code ETag} received, or {@code null}
+     * @param lastModified    the last {@code Last-Modified} received, verbatim, or {@code null}
+     * @param checkedAtMillis when the server last sent or confirmed the file
+     */
+    record Entry(String etag, String lastModified, long checkedAtMillis) {
+
+        /**
+         * Returns {@code true} if there is something to make a request conditional on.
+         */
+        boolean hasValidator() {
+            return etag != null || lastModified != null;
+        }
+    }
+
+    private static final class Holder {
+        static final HttpValidators INSTANCE = new HttpValidators(
+                databaseDir.resolve("http_validators.jsonl"));
+    }
+
+    /**
+     * Returns the store under the database directory, loading it on first use.
+     */
+    static HttpValidators getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final WriteBehindJournal journal;
+
+    /**
+     * Loads the store journaled in {@code file}. A missing or partly
+     * unreadable file loses only the validators it cannot provide, which costs
+     * full downloads, not errors.
+     */
+    HttpValidators(Path file) {
+        this.journal = new WriteBehindJournal(file, () -> {
+            Map<String, String> encoded = new LinkedHashMap<>();
+            entries.forEach((localPath, entry) -> encoded.put(localPath, encode(entry)));
+            return encoded;
+        });
+        journal.load().forEach((localPath, value) -> {
+            Entry entry = decode(value);
+            if (entry != null) {
+                entries.put(localPath, entry);
+            }
+        });
+    }
+
+    /**
+     * Returns what is known about {@code localPath}, or {@code null}.
+     */
+    Entry get(String localPath) {
+        return entries.get(localPath);
+    }
+
+    /**
+     * Records a full download of {@code localPath} and the validators that
+     * came with it (either may be {@code null}).
+     */
+    void recordDownloaded(String localPath, String etag, String lastModified, long nowMillis) {
+        update(localPath, previous -> new Entry(etag, lastModified, nowMillis));
+    }
+
+    /**
+     * Records that the server answered 304 for {@code localPath}: the
+     * validators stay, the check time moves to {@code nowMillis}.
+     */
+    void recordNotModified(String localPath, long nowMillis) {
+        update(localPath, previous -> new Entry(previous == null ? null : previous.etag(),
+                previous == null ? null : previous.lastModified(), nowMillis));
+    }
+
+    /**
+     * Writes the pending changes to disk now rather than on the journal's
+     * next flush.
+     *
+     * @return {@code false} if there were changes and they could not be written
+     */
+    boolean flush() {
+        return journal.flush();
+    }
+
+    private void update(String localPath, UnaryOperator<Entry> change) {
+        // Journaled within compute(), so that the lines of one path reach the
+        // journal in the order its entry changed.
+        entries.compute(localPath, (key, previous) -> {
+            Entry entry = change.apply(previous);
+            journal.put(key, encode(entry));
+            return entry;
+        });
+    }
+
+    private static String encode(Entry entry) {
+        JSONObject json = new JSONObject();
+        if (entry.etag() != null) {
+            json.put("etag", entry.etag());
+        }
+        if (entry.lastModified() != null) {
+            json.put("lastModified", entry.lastModified());
+        }
+        json.put("checkedAt", entry.checkedAtMillis());
+        return json.toString();
+    }
+
+    private static Entry decode(String value) {
+        try {
+            return fromJson(new JSONObject(value));
+        } catch (JSONException e) {
+            logger.debug("Skipping unreadable HTTP validators entry: {}", value);
+            return null;
+        }
+    }
+
+    private static Entry fromJson(JSONObject json) {
+        return new Entry(json.optString("etag", null), json.optString("lastModified", null),
+                json.optLong("checkedAt", 0));
+    }
+}
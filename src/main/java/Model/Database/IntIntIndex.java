@@ -0,0 +1,347 @@
+package Model.Database;
+
+import java.util.*;
+
+/**
+ * Immutable {@code int → int} hash map with open addressing (linear probing)
+ * over two parallel {@code int[]} arrays.
+ *
+ * <p>Unlike a {@code HashMap<Integer, Integer>} it allocates no Integer key,
+ * Integer value or entry object per mapping, and a lookup is a couple of
+ * array reads. It is built once through a {@link Builder} and never changes
+ * afterwards, so it can be shared between threads freely.
+ *
+ * <p>{@link #asMap()} exposes it as a read-only {@code Map<Integer, Integer>}
+ * for code written against the boxed API; boxing then only happens for the
+ * values actually read.
+ */
+public final class IntIntIndex {
+
+    /**
+     * Target ratio of used slots; kept low so that probe chains stay short.
+     */
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private static final IntIntIndex EMPTY = new Builder().build();
+
+    // A 0 key marks a free slot; the key 0 itself is kept aside in zeroKeyValue.
+    private final int[] keys;
+    private final int[] values;
+    private final int mask;
+    private final int size;
+    private final boolean hasZeroKey;
+    private final int zeroKeyValue;
+    private Map<Integer, Integer> mapView;
+
+    private IntIntIndex(int[] keys, int[] values, int size, boolean hasZeroKey, int zeroKeyValue) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+        this.hasZeroKey = hasZeroKey;
+        this.zeroKeyValue = zeroKeyValue;
+    }
+
+    /**
+     * Returns an index without any mapping.
+     */
+    public static IntIntIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an index holding the same mappings as {@code map}. A view
+     * returned by {@link #asMap()} is unwrapped rather than copied.
+     *
+     * @throws NullPointerException if the map contains a null key or value
+     */
+    public static IntIntIndex copyOf(Map<Integer, Integer> map) {
+        if (map instanceof IntIntIndex.MapView view) {
+            return view.index();
+        }
+        Builder builder = new Builder(map.size());
+        for (Map.Entry<Integer, Integer> entry : map.entrySet()) {
+            builder.put(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or {@code missingValue} if there
+     * is none.
+     */
+    public int get(int key, int missingValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroKeyValue : missingValue;
+        }
+        int[] keys = this.keys;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            int candidate = keys[slot];
+            if (candidate == key) {
+                return values[slot];
+            }
+            if (candidate == 0) {
+                return missingValue;
+            }
+        }
+    }
+
+    public boolean containsKey(int key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        int[] keys = this.keys;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            int candidate = keys[slot];
+            if (candidate == key) {
+                return true;
+            }
+            if (candidate == 0) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a read-only {@code Map} view of this index. Mutators throw
+     * {@link UnsupportedOperationException}.
+     */
+    public Map<Integer, Integer> asMap() {
+        Map<Integer, Integer> view = mapView;
+        if (view == null) {
+            view = new MapView();
+            mapView = view;
+        }
+        return view;
+    }
+
+    static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(1, expectedSize) / LOAD_FACTOR);
+        return Math.max(4, Integer.highestOneBit(needed - 1) << 1);
+    }
+
+    // ── Map view ─────────────────────────────────────────────────────────────
+
+    private final class MapView extends AbstractMap<Integer, Integer> {
+
+        IntIntIndex index() {
+            return IntIntIndex.this;
+        }
+
+        @Override
+        public Integer get(Object key) {
+            if (!(key instanceof Integer intKey)) {
+                return null;
+            }
+            int value = IntIntIndex.this.get(intKey, Integer.MIN_VALUE);
+            if (value == Integer.MIN_VALUE && !IntIntIndex.this.containsKey(intKey)) {
+                return null;
+            }
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer intKey && IntIntIndex.this.containsKey(intKey);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<Integer, Integer>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Integer, Integer>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<Integer, Integer>> {
+        // -1 stands for the zero key, which is returned first
+        private int slot = hasZeroKey ? -1 : nextUsedSlot(0);
+
+        @Override
+        public boolean hasNext() {
+            return slot < keys.length;
+        }
+
+        @Override
+        public Map.Entry<Integer, Integer> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Integer, Integer> entry = slot < 0
+                    ? new AbstractMap.SimpleImmutableEntry<>(0, zeroKeyValue)
+                    : new AbstractMap.SimpleImmutableEntry<>(keys[slot], values[slot]);
+            slot = nextUsedSlot(slot + 1);
+            return entry;
+        }
+
+        private int nextUsedSlot(int from) {
+            int next = from;
+            while (next < keys.length && keys[next] == 0) {
+                next++;
+            }
+            return next;
+        }
+    }
+
+    // ── Builder ──────────────────────────────────────────────────────────────
+
+    /**
+     * Accumulates mappings for a new {@link IntIntIndex}. A builder is
+     * single-use: its arrays are handed over by {@link #build()}.
+     */
+    public static final class Builder {
+        private int[] keys;
+        private int[] values;
+        private int size;
+        private boolean hasZeroKey;
+        private int zeroKeyValue;
+
+        public Builder() {
+            this(0);
+        }
+
+        /**
+         * @param expectedSize the number of mappings expected, to size the table up front
+         */
+        public Builder(int expectedSize) {
+            int capacity = tableSizeFor(expectedSize);
+            keys = new int[capacity];
+            values = new int[capacity];
+        }
+
+        /**
+         * Maps {@code key} to {@code value}, replacing any previous value.
+         */
+        public Builder put(int key, int value) {
+            insert(key, value, true);
+            return this;
+        }
+
+        /**
+         * Maps {@code key} to {@code value} unless {@code key} is already mapped.
+         *
+         * @return {@code true} if the mapping was added
+         */
+        public boolean putIfAbsent(int key, int value) {
+            return insert(key, value, false);
+        }
+
+        /**
+         * Returns the value mapped to {@code key} so far, or {@code missingValue}.
+         */
+        public int get(int key, int missingValue) {
+            checkNotBuilt();
+            if (key == 0) {
+                return hasZeroKey ? zeroKeyValue : missingValue;
+            }
+            int slot = find(key);
+            return keys[slot] == key ? values[slot] : missingValue;
+        }
+
+        public boolean containsKey(int key) {
+            checkNotBuilt();
+            return key == 0 ? hasZeroKey : keys[find(key)] == key;
+        }
+
+        public IntIntIndex build() {
+            checkNotBuilt();
+            IntIntIndex index = new IntIntIndex(keys, values, size, hasZeroKey, zeroKeyValue);
+            keys = null;
+            values = null;
+            return index;
+        }
+
+        private boolean insert(int key, int value, boolean replace) {
+            checkNotBuilt();
+            if (key == 0) {
+                boolean added = !hasZeroKey;
+                if (added || replace) {
+                    zeroKeyValue = value;
+                }
+                if (added) {
+                    hasZeroKey = true;
+                    size++;
+                }
+                return added;
+            }
+            int slot = find(key);
+            if (keys[slot] == key) {
+                if (replace) {
+                    values[slot] = value;
+                }
+                return false;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+            if (size > keys.length * LOAD_FACTOR) {
+                rehash(keys.length * 2);
+            }
+            return true;
+        }
+
+        /**
+         * Returns the slot holding {@code key}, or the free slot where it
+         * would be inserted.
+         */
+        private int find(int key) {
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash(int capacity) {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[capacity];
+            values = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                int key = oldKeys[i];
+                if (key != 0) {
+                    int slot = mix(key) & mask;
+                    while (keys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = key;
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private void checkNotBuilt() {
+            if (keys == null) {
+                throw new IllegalStateException("IntIntIndex.Builder has already been built");
+            }
+        }
+    }
+}
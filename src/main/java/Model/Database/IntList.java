@@ -0,0 +1,119 @@
+package Model.Database;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of ints backed by an {@code int[]}.
+ *
+ * <p>It is a {@code List<Integer>} so it can be handed to code written
+ * against the boxed API without copying, while {@link #getInt(int)} and
+ * {@link #contains(int)} let primitive-aware callers skip the boxing.
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess {
+
+    private static final IntList EMPTY = new IntList(new int[0]);
+
+    private final int[] values;
+
+    private IntList(int[] values) {
+        this.values = values;
+    }
+
+    public static IntList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list of a copy of {@code values}.
+     */
+    public static IntList of(int... values) {
+        return values.length == 0 ? EMPTY : new IntList(values.clone());
+    }
+
+    /**
+     * Returns an IntList with the elements of {@code values}, which is
+     * returned as is when it already is one.
+     *
+     * @throws NullPointerException if {@code values} contains null
+     */
+    public static IntList copyOf(Collection<Integer> values) {
+        if (values instanceof IntList intList) {
+            return intList;
+        }
+        int[] copy = new int[values.size()];
+        int i = 0;
+        for (Integer value : values) {
+            copy[i++] = value;
+        }
+        return copy.length == 0 ? EMPTY : new IntList(copy);
+    }
+
+    /**
+     * Wraps {@code values} without copying; the caller must not modify the
+     * array afterwards.
+     */
+    static IntList wrap(int[] values) {
+        return new IntList(values);
+    }
+
+    public int getInt(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Integer get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return value instanceof Integer intValue && contains(intValue.intValue());
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        return value instanceof Integer intValue ? indexOf(intValue.intValue()) : -1;
+    }
+
+    /**
+     * Returns a copy of the elements.
+     */
+    public int[] toIntArray() {
+        return values.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof IntList intList) {
+            return Arrays.equals(values, intList.values);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as List.hashCode(): 31 * h + Integer.hashCode(value)
+        return Arrays.hashCode(values);
+    }
+}
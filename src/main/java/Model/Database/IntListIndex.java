@@ -0,0 +1,171 @@
+package Model.Database;
+
+import java.util.*;
+
+/**
+ * Immutable {@code int → IntList} map: an {@link IntIntIndex} from each key
+ * to a slot of an {@code IntList[]}.
+ *
+ * <p>Several keys may share one list (every artwork of a card maps to the
+ * same list of sibling passCodes); it is then stored once, and
+ * {@link #copyOf(Map)} preserves that sharing when converting a boxed map.
+ */
+public final class IntListIndex {
+
+    private final IntIntIndex slots;
+    private final IntList[] lists;
+    private Map<Integer, List<Integer>> mapView;
+
+    private IntListIndex(IntIntIndex slots, IntList[] lists) {
+        this.slots = slots;
+        this.lists = lists;
+    }
+
+    /**
+     * Returns an index holding the same mappings as {@code map}. Lists shared
+     * by several keys (by identity) stay shared, and a view returned by
+     * {@link #asMap()} is unwrapped rather than copied.
+     *
+     * @throws NullPointerException if the map contains a null key, list or element
+     */
+    public static IntListIndex copyOf(Map<Integer, ? extends List<Integer>> map) {
+        if (map instanceof IntListIndex.MapView view) {
+            return view.index();
+        }
+        Map<List<Integer>, IntList> converted = new IdentityHashMap<>();
+        Builder builder = new Builder(map.size());
+        for (Map.Entry<Integer, ? extends List<Integer>> entry : map.entrySet()) {
+            IntList list = converted.computeIfAbsent(entry.getValue(), IntList::copyOf);
+            builder.put(entry.getKey(), list);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the list mapped to {@code key}, or null if there is none.
+     */
+    public IntList get(int key) {
+        int slot = slots.get(key, -1);
+        return slot < 0 ? null : lists[slot];
+    }
+
+    public boolean containsKey(int key) {
+        return slots.containsKey(key);
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Returns a read-only {@code Map} view of this index. Mutators throw
+     * {@link UnsupportedOperationException}.
+     */
+    public Map<Integer, List<Integer>> asMap() {
+        Map<Integer, List<Integer>> view = mapView;
+        if (view == null) {
+            view = new MapView();
+            mapView = view;
+        }
+        return view;
+    }
+
+    private final class MapView extends AbstractMap<Integer, List<Integer>> {
+
+        IntListIndex index() {
+            return IntListIndex.this;
+        }
+
+        @Override
+        public List<Integer> get(Object key) {
+            return key instanceof Integer intKey ? IntListIndex.this.get(intKey) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer intKey && slots.containsKey(intKey);
+        }
+
+        @Override
+        public int size() {
+            return slots.size();
+        }
+
+        @Override
+        public Set<Entry<Integer, List<Integer>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Integer, List<Integer>>> iterator() {
+                    Iterator<Entry<Integer, Integer>> slotIterator = slots.asMap().entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return slotIterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Integer, List<Integer>> next() {
+                            Entry<Integer, Integer> slot = slotIterator.next();
+                            return new SimpleImmutableEntry<>(slot.getKey(), lists[slot.getValue()]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return slots.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * Accumulates mappings for a new {@link IntListIndex}. A builder is
+     * single-use.
+     */
+    public static final class Builder {
+        private final IntIntIndex.Builder slots;
+        private IntList[] lists;
+        private int count;
+
+        public Builder() {
+            this(0);
+        }
+
+        /**
+         * @param expectedSize the number of keys expected, to size the tables up front
+         */
+        public Builder(int expectedSize) {
+            slots = new IntIntIndex.Builder(expectedSize);
+            lists = new IntList[Math.max(4, expectedSize)];
+        }
+
+        /**
+         * Maps {@code key} to {@code list}, replacing any previous list.
+         */
+        public Builder put(int key, IntList list) {
+            Objects.requireNonNull(list, "list");
+            int existing = slots.get(key, -1);
+            if (existing >= 0) {
+                lists[existing] = list;
+                return this;
+            }
+            if (count == lists.length) {
+                lists = Arrays.copyOf(lists, count * 2);
+            }
+            slots.put(key, count);
+            lists[count++] = list;
+            return this;
+        }
+
+        public boolean containsKey(int key) {
+            return slots.containsKey(key);
+        }
+
+        public IntListIndex build() {
+            IntListIndex index = new IntListIndex(slots.build(), Arrays.copyOf(lists, count));
+            lists = null;
+            return index;
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package Model.Database;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Minimal pull parser for JSON, reading one token at a time from a
+ * {@link Reader} instead of materialising the whole document as an org.json
+ * tree the way {@link Database#openJson(String)} does.
+ *
+ * <p>Used for the large database files (chiefly {@code cardinfo.json}) where
+ * the DOM would otherwise dominate peak heap during startup. Callers walk the
+ * document with {@link #beginObject()} / {@link #nextName()} /
+ * {@link #nextString()} and friends, and {@link #skipValue()} anything they
+ * don't need without allocating for it.
+ *
+ * <p>Malformed input is reported as a {@link MalformedJsonException} carrying
+ * the character offset where parsing stopped, so that callers reading from
+ * the network can tell it from a failed read.
+ */
+final class JsonStreamReader implements Closeable {
+
+    /**
+     * The kind of the next token, as returned by {@link #peek()}.
+     */
+    enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    /**
+     * The input is not well-formed JSON.
+     */
+    static final class MalformedJsonException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        MalformedJsonException(String message) {
+            super(message);
+        }
+    }
+
+    // Scopes kept on the nesting stack.
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private final Reader in;
+    private final char[] buffer = new char[16 * 1024];
+    private int position;
+    private int limit;
+    private long consumedBeforeBuffer;
+
+    private int[] stack = new int[32];
+    private int stackSize = 1;
+
+    private Token peeked;
+    private String peekedLiteral;
+    private boolean peekedBoolean;
+
+    private final StringBuilder scratch = new StringBuilder();
+
+    JsonStreamReader(Reader in) {
+        this.in = in;
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    // ── Structure ────────────────────────────────────────────────────────────
+
+    void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        stackSize--;
+    }
+
+    void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        stackSize--;
+    }
+
+    /**
+     * Returns {@code true} while the current array or object has more
+     * elements.
+     */
+    boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    // ── Values ───────────────────────────────────────────────────────────────
+
+    String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString(true);
+    }
+
+    /**
+     * Returns the next string value; numbers are returned as their literal
+     * text, matching org.json's {@code optString} on a numeric value.
+     */
+    String nextString() throws IOException {
+        Token token = peek();
+        if (token == Token.STRING) {
+            peeked = null;
+            return readString(true);
+        }
+        if (token == Token.NUMBER) {
+            peeked = null;
+            return peekedLiteral;
+        }
+        throw syntaxError("Expected a string but was " + token);
+    }
+
+    /**
+     * Returns the next value as an int. Numeric strings are accepted the same
+     * way org.json's {@code optInt} accepts them.
+     */
+    int nextInt() throws IOException {
+        String literal = nextNumberLiteral();
+        try {
+            return Integer.parseInt(literal);
+        } catch (NumberFormatException e) {
+            try {
+                return (int) Double.parseDouble(literal);
+            } catch (NumberFormatException notANumber) {
+                throw syntaxError("Expected an int but was \"" + literal + "\"");
+            }
+        }
+    }
+
+    double nextDouble() throws IOException {
+        String literal = nextNumberLiteral();
+        try {
+            return Double.parseDouble(literal);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected a number but was \"" + literal + "\"");
+        }
+    }
+
+    boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        return peekedBoolean;
+    }
+
+    void nextNull() throws IOException {
+        expect(Token.NULL);
+    }
+
+    /**
+     * Consumes the next value, including every nested element of an array or
+     * object, without decoding it.
+     */
+    void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            Token token = peek();
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    depth++;
+                }
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    depth++;
+                }
+                case END_OBJECT -> {
+                    endObject();
+                    depth--;
+                }
+                case END_ARRAY -> {
+                    endArray();
+                    depth--;
+                }
+                case NAME, STRING -> {
+                    peeked = null;
+                    readString(false);
+                }
+                case END_DOCUMENT -> throw syntaxError("Unexpected end of document");
+                default -> peeked = null;
+            }
+        } while (depth > 0);
+    }
+
+    // ── Tokenizer ────────────────────────────────────────────────────────────
+
+    Token peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+        int scope = stack[stackSize - 1];
+        switch (scope) {
+            case EMPTY_ARRAY -> {
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                int c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = Token.END_ARRAY;
+                }
+                if (c == -1) {
+                    throw syntaxError("Unterminated array");
+                }
+                position--;
+            }
+            case NONEMPTY_ARRAY -> {
+                int c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = Token.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                int c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = Token.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected a quoted name");
+                }
+                stack[stackSize - 1] = DANGLING_NAME;
+                return peeked = Token.NAME;
+            }
+            case DANGLING_NAME -> {
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+            }
+            case EMPTY_DOCUMENT -> stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+            case NONEMPTY_DOCUMENT -> {
+                if (nextNonWhitespace() == -1) {
+                    return peeked = Token.END_DOCUMENT;
+                }
+                throw syntaxError("Expected end of document");
+            }
+            default -> throw new IllegalStateException("Unknown scope " + scope);
+        }
+        return peeked = readValueToken();
+    }
+
+    private Token readValueToken() throws IOException {
+        int c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+                expectLiteral("rue");
+                peekedBoolean = true;
+                return Token.BOOLEAN;
+            case 'f':
+                expectLiteral("alse");
+                peekedBoolean = false;
+                return Token.BOOLEAN;
+            case 'n':
+                expectLiteral("ull");
+                return Token.NULL;
+            case -1:
+                throw syntaxError("Unexpected end of document");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    peekedLiteral = readNumberLiteral((char) c);
+                    return Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private String nextNumberLiteral() throws IOException {
+        Token token = peek();
+        if (token == Token.NUMBER) {
+            peeked = null;
+            return peekedLiteral;
+        }
+        if (token == Token.STRING) {
+            peeked = null;
+            return readString(true).trim();
+        }
+        throw syntaxError("Expected a number but was " + token);
+    }
+
+    private String readNumberLiteral(char first) throws IOException {
+        scratch.setLength(0);
+        scratch.append(first);
+        while (position < limit || fill()) {
+            char c = buffer[position];
+            if ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                scratch.append(c);
+                position++;
+            } else {
+                break;
+            }
+        }
+        return scratch.toString();
+    }
+
+    /**
+     * Reads the body of a string whose opening quote has already been
+     * consumed, up to and including the closing quote.
+     *
+     * @param keep {@code false} to skip the content without building it
+     */
+    private String readString(boolean keep) throws IOException {
+        scratch.setLength(0);
+        while (true) {
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position++];
+                if (c == '"') {
+                    if (!keep) {
+                        return null;
+                    }
+                    if (scratch.length() == 0) {
+                        return new String(buffer, start, position - start - 1);
+                    }
+                    scratch.append(buffer, start, position - start - 1);
+                    return scratch.toString();
+                }
+                if (c == '\\') {
+                    if (keep) {
+                        scratch.append(buffer, start, position - start - 1);
+                    }
+                    char escaped = readEscape();
+                    if (keep) {
+                        scratch.append(escaped);
+                    }
+                    start = position;
+                }
+            }
+            if (keep) {
+                scratch.append(buffer, start, position - start);
+            }
+            if (!fill()) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        int c = nextChar();
+        switch (c) {
+            case '"', '\\', '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(nextChar(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Malformed \\u escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private void expectLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (nextChar() != rest.charAt(i)) {
+                throw syntaxError("Malformed literal");
+            }
+        }
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw syntaxError("Expected " + expected + " but was " + token);
+        }
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (position < limit || fill()) {
+            char c = buffer[position++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t' && c != '\uFEFF') {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private int nextChar() throws IOException {
+        if (position < limit || fill()) {
+            return buffer[position++];
+        }
+        throw syntaxError("Unexpected end of document");
+    }
+
+    private boolean fill() throws IOException {
+        consumedBeforeBuffer += limit;
+        position = 0;
+        limit = 0;
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        limit = read;
+        return true;
+    }
+
+    private IOException syntaxError(String message) {
+        return new MalformedJsonException(message + " at offset " + (consumedBeforeBuffer + position));
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
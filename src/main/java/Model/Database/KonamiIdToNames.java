@@ -5,6 +5,7 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -14,6 +15,14 @@ public class KonamiIdToNames {
 
     private static final Logger logger = LoggerFactory.getLogger(KonamiIdToNames.class);
 
+    /**
+     * Name-index files read by {@link #CreateKonamiIdToNamesMaps()}, in the
+     * order of {@link #getAllLanguageMaps()}.
+     */
+    static final String[] NAME_INDEX_FILES = {
+            "en.json", "fr.json", "ja.json", "es.json", "de.json", "it.json", "pt.json", "ko.json"
+    };
+
     private static Map<Integer, String> konamiIdToEnNames;
     private static Map<String, Integer> enNamesToKonamiId;
     private static Map<Integer, String> konamiIdToFrNames;
@@ -320,16 +329,14 @@ public class KonamiIdToNames {
      * @throws Exception if there is an issue during the map creation process
      */
     public static void CreateKonamiIdToNamesMaps() {
-        String[] keys = {
-                "en.json", "fr.json", "ja.json", "es.json", "de.json", "it.json", "pt.json", "ko.json"
-        };
+        String[] keys = NAME_INDEX_FILES;
         Map<Integer, String>[] dictionaries = new HashMap[keys.length];
         Map<String, Integer>[] reverseDictionaries = new HashMap[keys.length];
 
         for (int i = 0; i < keys.length; i++) {
             dictionaries[i] = new HashMap<>();
             reverseDictionaries[i] = new HashMap<>();
-            JSONObject jsonObject = Database.getJsonContentMap().get(keys[i]);
+            JSONObject jsonObject = Database.getJsonContent(keys[i]);
 
             if (jsonObject != null) {
                 Iterator<String> jsonKeys = jsonObject.keys();
@@ -360,6 +367,37 @@ public class KonamiIdToNames {
         enNamesToKonamiId = reverseDictionaries[0];
     }
 
+    /**
+     * Returns every language map, in the order of {@link #NAME_INDEX_FILES},
+     * building them first if needed.
+     */
+    static List<Map<Integer, String>> getAllLanguageMaps() {
+        if (konamiIdToEnNames == null) {
+            CreateKonamiIdToNamesMaps();
+        }
+        return Arrays.asList(konamiIdToEnNames, konamiIdToFrNames, konamiIdToJaNames, konamiIdToEsNames,
+                konamiIdToDeNames, konamiIdToItNames, konamiIdToPtNames, konamiIdToKrNames);
+    }
+
+    /**
+     * Installs maps restored by {@link DatabaseSnapshot} instead of building
+     * them from the JSON name indexes.
+     *
+     * @param languageMaps      one map per entry of {@link #NAME_INDEX_FILES}, same order
+     * @param enNamesToKonamiId the reverse English map
+     */
+    static void restoreMaps(List<Map<Integer, String>> languageMaps, Map<String, Integer> enNamesToKonamiId) {
+        konamiIdToEnNames = languageMaps.get(0);
+        konamiIdToFrNames = languageMaps.get(1);
+        konamiIdToJaNames = languageMaps.get(2);
+        konamiIdToEsNames = languageMaps.get(3);
+        konamiIdToDeNames = languageMaps.get(4);
+        konamiIdToItNames = languageMaps.get(5);
+        konamiIdToPtNames = languageMaps.get(6);
+        konamiIdToKrNames = languageMaps.get(7);
+        KonamiIdToNames.enNamesToKonamiId = enNamesToKonamiId;
+    }
+
     /**
      * Sets the map of English names to their corresponding Konami IDs.
      *
@@ -4,13 +4,15 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static Model.FilePaths.databaseDir;
 
@@ -19,9 +21,11 @@ import static Model.FilePaths.databaseDir;
  * (HTTP 400 / 404).  Avoids hammering the server with the same failing request
  * on every startup.
  *
- * <p>The cache is stored as a JSON file at
- * {@code <databaseDir>/ygoprodeck/konamiId/not_found_cache.json} in the form
- * {@code {"9248": <epoch-millis>, ...}}.  An entry expires after
+ * <p>The cache is kept in memory and persisted through a
+ * {@link WriteBehindJournal} at
+ * {@code <databaseDir>/ygoprodeck/konamiId/not_found_cache.jsonl}, mapping each
+ * ID to the epoch millis it was recorded at, so that recording an ID costs an
+ * append rather than a rewrite of the whole cache.  An entry expires after
  * {@link #RETRY_DAYS} days, at which point the ID is tried again automatically.
  *
  * <p>Call {@link #clearAll()} to force an immediate retry of every cached ID
@@ -37,11 +41,21 @@ public class NotFoundCache {
      */
     public static final int RETRY_DAYS = 7;
 
-    private static final Path CACHE_FILE = databaseDir.resolve(
-            Paths.get("ygoprodeck", "konamiId", "not_found_cache.json"));
+    private static final Path CACHE_DIR = databaseDir.resolve(Paths.get("ygoprodeck", "konamiId"));
 
-    // Lazy-loaded; null means "not yet read from disk".
-    private static JSONObject cache = null;
+    // Konami ID → epoch millis it was recorded at.
+    private static final Map<String, Long> cache = new ConcurrentHashMap<>();
+
+    private static final WriteBehindJournal journal = new WriteBehindJournal(
+            CACHE_DIR.resolve("not_found_cache.jsonl"),
+            () -> {
+                Map<String, String> entries = new LinkedHashMap<>();
+                cache.forEach((key, millis) -> entries.put(key, String.valueOf(millis)));
+                return entries;
+            });
+
+    // Loaded on first use.
+    private static volatile boolean loaded = false;
 
     // ------------------------------------------------------------------
     // Public API
@@ -52,21 +66,22 @@ public class NotFoundCache {
      * its entry has not yet expired, meaning we should skip the fetch entirely.
      */
     public static boolean isKnownNotFound(int konamiId) {
-        String key = String.valueOf(konamiId);
-        JSONObject c = getCache();
-        if (!c.has(key)) return false;
-        Instant recorded = Instant.ofEpochMilli(c.getLong(key));
+        Long recordedMillis = getCache().get(String.valueOf(konamiId));
+        if (recordedMillis == null) return false;
+        Instant recorded = Instant.ofEpochMilli(recordedMillis);
         // Still within the retry window → treat as not-found.
         return Instant.now().isBefore(recorded.plus(RETRY_DAYS, ChronoUnit.DAYS));
     }
 
     /**
-     * Records {@code konamiId} as not found at the current time and persists
-     * the cache to disk immediately.
+     * Records {@code konamiId} as not found at the current time. The entry
+     * reaches the disk on the next journal flush, within about a second.
      */
-    public static void markAsNotFound(int konamiId) {
-        getCache().put(String.valueOf(konamiId), Instant.now().toEpochMilli());
-        save();
+    public static synchronized void markAsNotFound(int konamiId) {
+        String key = String.valueOf(konamiId);
+        long now = Instant.now().toEpochMilli();
+        getCache().put(key, now);
+        journal.put(key, String.valueOf(now));
         logger.debug("NotFoundCache: marked Konami ID {} as not found (will retry in {} days).", konamiId, RETRY_DAYS);
     }
 
@@ -75,9 +90,9 @@ public class NotFoundCache {
      * Every Konami ID will be retried on the next startup.
      * Hook this to the "force reload" button.
      */
-    public static void clearAll() {
-        cache = new JSONObject();
-        save();
+    public static synchronized void clearAll() {
+        getCache().clear();
+        journal.rewrite();
         logger.debug("NotFoundCache: cleared — all IDs will be retried.");
     }
 
@@ -86,36 +101,50 @@ public class NotFoundCache {
      * Useful for diagnostics.
      */
     public static int size() {
-        return getCache().length();
+        return getCache().size();
     }
 
     // ------------------------------------------------------------------
     // Internal helpers
     // ------------------------------------------------------------------
 
-    private static JSONObject getCache() {
-        if (cache == null) load();
+    private static Map<String, Long> getCache() {
+        if (!loaded) load();
         return cache;
     }
 
-    private static void load() {
-        cache = new JSONObject();
-        if (!Files.exists(CACHE_FILE)) return;
-        try {
-            String content = Files.readString(CACHE_FILE, StandardCharsets.UTF_8);
-            cache = new JSONObject(content);
-            logger.debug("NotFoundCache: loaded {} {} from disk.", cache.length(), cache.length() == 1 ? "entry" : "entries");
-        } catch (Exception e) {
-            logger.warn("NotFoundCache: could not load cache — {}", e.getMessage());
-        }
+    private static synchronized void load() {
+        if (loaded) return;
+        journal.load().forEach((key, millis) -> {
+            try {
+                cache.put(key, Long.parseLong(millis));
+            } catch (NumberFormatException e) {
+                logger.debug("NotFoundCache: skipping invalid entry {}={}", key, millis);
+            }
+        });
+        migrateLegacyFile();
+        loaded = true;
+        logger.debug("NotFoundCache: loaded {} {} from disk.", cache.size(), cache.size() == 1 ? "entry" : "entries");
     }
 
-    private static void save() {
+    /**
+     * Merges the cache saved by earlier versions, a single JSON object
+     * rewritten on every change, into the journal, then deletes it.
+     */
+    private static void migrateLegacyFile() {
+        Path legacyFile = CACHE_DIR.resolve("not_found_cache.json");
+        if (!Files.exists(legacyFile)) return;
         try {
-            Files.createDirectories(CACHE_FILE.getParent());
-            Files.writeString(CACHE_FILE, cache.toString(2), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            logger.warn("NotFoundCache: could not save cache — {}", e.getMessage());
+            JSONObject legacy = new JSONObject(Files.readString(legacyFile, StandardCharsets.UTF_8));
+            for (String key : legacy.keySet()) {
+                cache.merge(key, legacy.getLong(key), Math::max);
+            }
+            journal.rewrite();
+            if (journal.flush()) {
+                Files.delete(legacyFile);
+            }
+        } catch (Exception e) {
+            logger.warn("NotFoundCache: could not migrate cache — {}", e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
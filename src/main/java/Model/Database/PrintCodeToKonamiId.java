@@ -70,6 +70,7 @@ public class PrintCodeToKonamiId {
      */
     public void setKonamiIdToPrintCodes(HashMap<String, List<String>> konamiIdToPrintCodes) {
         PrintCodeToKonamiId.konamiIdToPrintCodes = konamiIdToPrintCodes;
+        CardNameIndex.invalidatePrintCodes();
     }
 
     /**
@@ -149,6 +150,7 @@ public class PrintCodeToKonamiId {
                 }
             }
         }
+        CardNameIndex.invalidatePrintCodes();
     }
 
     /**
@@ -0,0 +1,68 @@
+package Model.Database;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token-bucket rate limiter: up to {@code burst} permits are available at
+ * once, refilled at {@code permitsPerSecond}.
+ *
+ * <p>Permits are reserved rather than waited for under the lock: a caller
+ * that finds the bucket empty books the next free slot, then sleeps outside
+ * the lock until that slot comes. Concurrent callers therefore queue up one
+ * slot apart instead of waking together and all retrying.
+ */
+final class TokenBucket {
+
+    private final double nanosPerPermit;
+    private final long burst;
+    // The time at which the bucket would be full again if nobody took a permit
+    // in the meantime; a value in the past means the bucket is full.
+    private long fullAtNanos;
+
+    /**
+     * @param permitsPerSecond the sustained rate, must be positive
+     * @param burst            how many permits may be taken back to back after
+     *                         an idle period, at least 1
+     * @param nowNanos         the current {@link System#nanoTime()}; the bucket
+     *                         starts full
+     */
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.burst = burst;
+        this.fullAtNanos = nowNanos;
+    }
+
+    /**
+     * Takes one permit, sleeping until it is available.
+     *
+     * @throws InterruptedException if interrupted while waiting; the permit
+     *                              stays booked
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve(System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Books one permit and returns how long the caller must wait before
+     * using it.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the wait in nanoseconds, {@code 0} if a permit is available now
+     */
+    synchronized long reserve(long nowNanos) {
+        // An idle bucket is full, never fuller: start from now at the earliest.
+        fullAtNanos = Math.max(fullAtNanos, nowNanos) + (long) nanosPerPermit;
+        // The permit is usable once at most burst permits' worth of refill is still owed.
+        long permitAtNanos = fullAtNanos - (long) (burst * nanosPerPermit);
+        return Math.max(0, permitAtNanos - nowNanos);
+    }
+}
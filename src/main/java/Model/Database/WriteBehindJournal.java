@@ -0,0 +1,245 @@
+package Model.Database;
+
+import Utils.Metrics;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind persistence for a small string-to-string map whose live copy
+ * is kept in memory by its owner, such as {@link FileFetcher}'s stale-path set
+ * or the {@link NotFoundCache}.
+ *
+ * <p>The owner updates its map, then reports the change here. Changes are
+ * queued and appended to the journal file, one JSON object per line, by a
+ * background flush shortly afterwards, so a burst of thousands of changes
+ * (a manifest replay, a bulk image refresh) costs a single append instead of
+ * one full-file rewrite each. When the journal has grown well beyond one line
+ * per live entry, a flush rewrites it from the owner's map and atomically
+ * replaces it.
+ *
+ * <p>Pending changes are also flushed by {@link #flushAll()}, which the
+ * application calls when it stops, and by a JVM shutdown hook. A crash can
+ * lose at most the last {@value #FLUSH_DELAY_MILLIS} ms of changes; for the
+ * stores this is used for, that costs a repeated download or request, not
+ * wrong data. A line cut short by a crash is skipped when the journal is
+ * replayed.
+ */
+public final class WriteBehindJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindJournal.class);
+
+    private static final long FLUSH_DELAY_MILLIS = 1_000;
+    private static final int COMPACTION_SLACK_LINES = 1_000;
+
+    private static final List<WriteBehindJournal> journals = new ArrayList<>();
+
+    private static final class FlusherHolder {
+        static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(WriteBehindJournal::flushAll, "journal-shutdown-flush"));
+        }
+    }
+
+    private final Path file;
+    private final Supplier<Map<String, String>> liveEntries;
+    private final List<String> pendingLines = new ArrayList<>();
+    private boolean rewritePending;
+    private boolean flushScheduled;
+    private int linesOnDisk;
+
+    /**
+     * @param file        the journal file; its directory is created on first flush
+     * @param liveEntries returns a copy of the owner's current map, read when
+     *                    the journal is compacted; must be safe to call from the
+     *                    flush thread
+     */
+    WriteBehindJournal(Path file, Supplier<Map<String, String>> liveEntries) {
+        this.file = file;
+        this.liveEntries = liveEntries;
+        synchronized (journals) {
+            journals.add(this);
+        }
+    }
+
+    /**
+     * Replays the journal file and returns the map it describes, in the order
+     * the entries were first added. A missing file is an empty map.
+     */
+    synchronized Map<String, String> load() {
+        Map<String, String> entries = new LinkedHashMap<>();
+        linesOnDisk = 0;
+        if (!Files.exists(file)) {
+            return entries;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Could not load {}: {}", file.getFileName(), e.getMessage());
+            return entries;
+        }
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            linesOnDisk++;
+            try {
+                JSONObject json = new JSONObject(line);
+                if (json.has("v")) {
+                    entries.put(json.getString("k"), json.getString("v"));
+                } else {
+                    entries.remove(json.getString("k"));
+                }
+            } catch (JSONException e) {
+                // Most likely a line cut short by a crash mid-append.
+                logger.debug("Skipping unreadable line of {}: {}", file.getFileName(), line);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Records that {@code key} now maps to {@code value}.
+     */
+    synchronized void put(String key, String value) {
+        JSONObject json = new JSONObject();
+        json.put("k", key);
+        json.put("v", value);
+        append(json.toString());
+    }
+
+    /**
+     * Records that {@code key} was removed.
+     */
+    synchronized void remove(String key) {
+        JSONObject json = new JSONObject();
+        json.put("k", key);
+        append(json.toString());
+    }
+
+    /**
+     * Records that the map was replaced wholesale, e.g. cleared: the next
+     * flush rewrites the journal from the owner's map.
+     */
+    synchronized void rewrite() {
+        pendingLines.clear();
+        rewritePending = true;
+        scheduleFlush();
+    }
+
+    private void append(String line) {
+        pendingLines.add(line);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        try {
+            FlusherHolder.FLUSHER.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // The flusher is gone (JVM shutting down): write now instead.
+            flush();
+        }
+    }
+
+    /**
+     * Writes every pending change to disk, compacting the journal if it has
+     * grown well beyond the live map. Failures are logged; the changes stay
+     * pending for the next flush.
+     *
+     * @return {@code false} if there were changes and they could not be written
+     */
+    synchronized boolean flush() {
+        flushScheduled = false;
+        if (pendingLines.isEmpty() && !rewritePending) {
+            return true;
+        }
+        long startNanos = Metrics.start();
+        try {
+            Files.createDirectories(file.getParent());
+            Map<String, String> live = null;
+            if (!rewritePending && linesOnDisk + pendingLines.size() > COMPACTION_SLACK_LINES) {
+                live = liveEntries.get();
+                rewritePending = linesOnDisk + pendingLines.size() > live.size() + COMPACTION_SLACK_LINES;
+            }
+            if (rewritePending) {
+                writeSnapshot(live != null ? live : liveEntries.get());
+            } else {
+                try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (String line : pendingLines) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+                linesOnDisk += pendingLines.size();
+            }
+            pendingLines.clear();
+            rewritePending = false;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not persist {}: {}", file.getFileName(), e.getMessage());
+            return false;
+        } finally {
+            Metrics.timer("journal.flush").recordSince(startNanos);
+        }
+    }
+
+    private void writeSnapshot(Map<String, String> live) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : live.entrySet()) {
+                JSONObject json = new JSONObject();
+                json.put("k", entry.getKey());
+                json.put("v", entry.getValue());
+                writer.write(json.toString());
+                writer.write('\n');
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        linesOnDisk = live.size();
+    }
+
+    /**
+     * Returns the number of lines the journal file holds, as far as this
+     * instance knows.
+     */
+    synchronized int getLinesOnDisk() {
+        return linesOnDisk;
+    }
+
+    /**
+     * Writes every journal's pending changes to disk now. Called when the
+     * application stops; safe to call at any time.
+     */
+    public static void flushAll() {
+        List<WriteBehindJournal> snapshot;
+        synchronized (journals) {
+            snapshot = new ArrayList<>(journals);
+        }
+        snapshot.forEach(WriteBehindJournal::flush);
+    }
+}
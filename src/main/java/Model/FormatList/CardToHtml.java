@@ -3,7 +3,9 @@ package Model.FormatList;
 import Model.CardsLists.Card;
 import Model.Database.CardDatabaseManager;
 import Model.Database.Database;
+import Model.Database.IntList;
 import Model.Database.PrintCodeToKonamiId;
+import Utils.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +49,7 @@ public class CardToHtml {
      *                      {@code Decks\}, {@code Images\}, {@code Cards\}, etc.)
      */
     public static void generateAllCardPages(String outputRootDir) {
+        long startNanos = Metrics.start();
         String cardsDirPath = outputRootDir + "Cards\\";
         File cardsDir = new File(cardsDirPath);
         if (!cardsDir.exists()) {
@@ -62,6 +65,7 @@ public class CardToHtml {
                         card.getImagePath(), ioException.getMessage());
             }
         }
+        Metrics.timer("html.cardPages").recordSince(startNanos);
     }
 
     /**
@@ -147,7 +151,7 @@ public class CardToHtml {
 
     /**
      * Returns all passCodes sharing the same card name via
-     * {@link CardDatabaseManager#getPassCodeToOtherPassCodes()}.
+     * {@link CardDatabaseManager#getOtherPassCodes(int)}.
      */
     private static List<Integer> resolveAllPassCodes(Card card) {
         if (card.getPassCode() == null || card.getPassCode().isEmpty()) {
@@ -155,8 +159,8 @@ public class CardToHtml {
         }
         try {
             int passCodeInt = Integer.parseInt(card.getPassCode());
-            List<Integer> others = CardDatabaseManager.getPassCodeToOtherPassCodes().get(passCodeInt);
-            if (others != null && !others.isEmpty()) {
+            IntList others = CardDatabaseManager.getOtherPassCodes(passCodeInt);
+            if (!others.isEmpty()) {
                 return others;
             }
             return List.of(passCodeInt);
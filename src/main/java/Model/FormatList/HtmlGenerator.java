@@ -4,6 +4,7 @@ import Model.CardsLists.Card;
 import Model.CardsLists.CardElement;
 import Model.CardsLists.Deck;
 import Model.CardsLists.OwnershipStatus;
+import Utils.Metrics;
 import Utils.PriceFormat;
 
 import java.io.BufferedWriter;
@@ -67,6 +68,7 @@ public class HtmlGenerator {
                 throw new IOException("File was not created: " + file.getAbsolutePath());
             }
         }
+        Metrics.counter("html.files").increment();
     }
 
     /**
@@ -0,0 +1,218 @@
+package Utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * A concurrent least-recently-used cache bounded by the total weight of its
+ * values, in bytes, rather than by their number.
+ * <p>
+ * The keys are spread over a fixed number of stripes, each an access-ordered
+ * map behind its own lock and holding an equal share of the budget, so
+ * threads touching different keys rarely wait on each other. Eviction is
+ * least-recently-used within a stripe, which approximates a global LRU once
+ * the cache holds more than a few entries per stripe.
+ * <p>
+ * A value heavier than a stripe's share is not cached at all. Hits, misses
+ * and evictions are counted in {@link Metrics} under the cache's name, and
+ * the current weight and entry count are registered as gauges.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class ByteBudgetCache<K, V> {
+
+    private static final int STRIPE_COUNT = 16;
+
+    private final Stripe<K, V>[] stripes;
+    private final ToLongFunction<? super V> weigher;
+    private final long budgetBytes;
+    private final AtomicLong weightBytes = new AtomicLong();
+    private final Metrics.Counter hits;
+    private final Metrics.Counter misses;
+    private final Metrics.Counter evictions;
+
+    /**
+     * @param name        the metrics prefix, e.g. {@code image.cache.thumbnail}
+     * @param budgetBytes the total weight the cache may hold
+     * @param weigher     returns a value's weight in bytes; must not change
+     *                    while the value is cached
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ByteBudgetCache(String name, long budgetBytes, ToLongFunction<? super V> weigher) {
+        if (budgetBytes < STRIPE_COUNT) {
+            throw new IllegalArgumentException("budget too small: " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+        this.weigher = weigher;
+        this.stripes = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe<>(budgetBytes / STRIPE_COUNT);
+        }
+        this.hits = Metrics.counter(name + ".hits");
+        this.misses = Metrics.counter(name + ".misses");
+        this.evictions = Metrics.counter(name + ".evictions");
+        Metrics.gauge(name + ".bytes", weightBytes::get);
+        Metrics.gauge(name + ".entries", this::size);
+    }
+
+    /**
+     * Returns the value cached under {@code key}, marking it recently used, or
+     * {@code null}.
+     */
+    public V get(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        V value;
+        stripe.lock.lock();
+        try {
+            Entry<V> entry = stripe.entries.get(key);
+            value = entry == null ? null : entry.value();
+        } finally {
+            stripe.lock.unlock();
+        }
+        (value == null ? misses : hits).increment();
+        return value;
+    }
+
+    /**
+     * Returns {@code true} if a value is cached under {@code key}, marking it
+     * recently used, without counting a hit or miss.
+     */
+    public boolean contains(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            return stripe.entries.get(key) != null;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Caches {@code value} under {@code key}, replacing any previous value,
+     * then evicts the stripe's least recently used entries until it is back
+     * within its budget.
+     *
+     * @return {@code false} if the value is too heavy to cache; a previous
+     * value under the key is removed in that case
+     */
+    public boolean put(K key, V value) {
+        Objects.requireNonNull(value);
+        long weight = Math.max(0, weigher.applyAsLong(value));
+        Stripe<K, V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Entry<V> previous = stripe.entries.remove(key);
+            if (previous != null) {
+                stripe.weight -= previous.weight();
+                weightBytes.addAndGet(-previous.weight());
+            }
+            if (weight > stripe.budget) {
+                return false;
+            }
+            stripe.entries.put(key, new Entry<>(value, weight));
+            stripe.weight += weight;
+            weightBytes.addAndGet(weight);
+            Iterator<Entry<V>> eldestFirst = stripe.entries.values().iterator();
+            while (stripe.weight > stripe.budget) {
+                Entry<V> eldest = eldestFirst.next();
+                eldestFirst.remove();
+                stripe.weight -= eldest.weight();
+                weightBytes.addAndGet(-eldest.weight());
+                evictions.increment();
+            }
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the value cached under {@code key}, if any.
+     */
+    public void remove(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Entry<V> previous = stripe.entries.remove(key);
+            if (previous != null) {
+                stripe.weight -= previous.weight();
+                weightBytes.addAndGet(-previous.weight());
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.entries.clear();
+                weightBytes.addAndGet(-stripe.weight);
+                stripe.weight = 0;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the total weight of the cached entries, in bytes.
+     */
+    public long weightBytes() {
+        return weightBytes.get();
+    }
+
+    /**
+     * Returns the total weight the cache may hold, in bytes.
+     */
+    public long budgetBytes() {
+        return budgetBytes;
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int hash = key.hashCode();
+        // Spread the high bits into the low ones that pick the stripe.
+        hash ^= hash >>> 16;
+        return stripes[hash & (STRIPE_COUNT - 1)];
+    }
+
+    private record Entry<V>(V value, long weight) {
+    }
+
+    private static final class Stripe<K, V> {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        final long budget;
+        long weight;
+
+        Stripe(long budget) {
+            this.budget = budget;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package Utils;
+
+import Model.CardsLists.Card;
+import Model.Database.Database;
+
+import java.net.URISyntaxException;
+import java.util.*;
+
+/**
+ * Precomputed lookups behind {@link CardTextMatcher}'s exact tiers, so that
+ * resolving one detection costs a few hash lookups instead of a walk over the
+ * ~22,000 entries of {@link Database#getAllCardsList()}.
+ *
+ * <p>Two independent indexes are kept, each built lazily from the database map
+ * it reads and reused afterwards:
+ * <ul>
+ *   <li>a card index over {@link Database#getAllCardsList()}: pass code to
+ *       cards, and normalized name (every language {@link Card} declares, see
+ *       {@link CardTextMatcher#normalizeForNameCompare(String)}) to cards;</li>
+ *   <li>a print-code index over {@link Database#getAllPrintedCardsList()}:
+ *       upper-cased print code to card.</li>
+ * </ul>
+ * They are separate so that a pass-code or name lookup never forces the
+ * printed-card list to be built. Both are tagged with the
+ * {@link Database#getCardsRevision()} they were built at and rebuilt once the
+ * database publishes another card list; a print-code index built while the
+ * printed-card list was still empty is rebuilt too, as that list is itself
+ * retried until it holds a card.
+ *
+ * <p>Every list of cards keeps the iteration order of the source map, so the
+ * first card returned is the same one the former linear scans stopped at.
+ */
+final class CardTextIndex {
+
+    private static volatile CardIndex cardIndex;
+    private static volatile PrintCodeIndex printCodeIndex;
+
+    private CardTextIndex() {
+    }
+
+    /**
+     * Builds both indexes now if they don't exist yet.
+     */
+    static void prepare() throws URISyntaxException {
+        cardIndex();
+        printCodeIndex();
+    }
+
+    /**
+     * Returns the cards whose pass code is exactly {@code passCode}, in
+     * {@link Database#getAllCardsList()} order; empty if there are none.
+     */
+    static List<Card> findByPassCode(String passCode) {
+        return cardIndex().byPassCode(passCode);
+    }
+
+    /**
+     * Returns the cards with a name that normalizes to {@code normalizedName}
+     * in any language, in {@link Database#getAllCardsList()} order; empty if
+     * there are none.
+     *
+     * @param normalizedName a name already passed through
+     *                       {@link CardTextMatcher#normalizeForNameCompare(String)}
+     */
+    static List<Card> findByNormalizedName(String normalizedName) {
+        return cardIndex().byNormalizedName(normalizedName);
+    }
+
+    /**
+     * Returns the printed card for {@code printCode}, compared
+     * case-insensitively, or {@code null}.
+     */
+    static Card findByPrintCode(String printCode) throws URISyntaxException {
+        return printCodeIndex().byPrintCode(printCode);
+    }
+
+    private static CardIndex cardIndex() {
+        int revision = Database.getCardsRevision();
+        CardIndex index = cardIndex;
+        if (index == null || index.revision != revision) {
+            synchronized (CardTextIndex.class) {
+                index = cardIndex;
+                if (index == null || index.revision != revision) {
+                    index = CardIndex.build(revision, Database.getAllCardsList());
+                    cardIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static PrintCodeIndex printCodeIndex() throws URISyntaxException {
+        int revision = Database.getCardsRevision();
+        PrintCodeIndex index = printCodeIndex;
+        if (index == null || index.isStale(revision)) {
+            synchronized (CardTextIndex.class) {
+                index = printCodeIndex;
+                if (index == null || index.isStale(revision)) {
+                    index = PrintCodeIndex.build(revision, Database.getAllPrintedCardsList());
+                    printCodeIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    // ── Card index ───────────────────────────────────────────────────────────
+
+    /**
+     * Pass code and normalized name lookups over one snapshot of
+     * {@link Database#getAllCardsList()}.
+     */
+    static final class CardIndex {
+        final int revision;
+        private final Map<String, List<Card>> passCodeToCards;
+        private final Map<String, List<Card>> normalizedNameToCards;
+
+        private CardIndex(int revision, Map<String, List<Card>> passCodeToCards,
+                          Map<String, List<Card>> normalizedNameToCards) {
+            this.revision = revision;
+            this.passCodeToCards = passCodeToCards;
+            this.normalizedNameToCards = normalizedNameToCards;
+        }
+
+        static CardIndex build(int revision, Map<Integer, Card> cards) {
+            Map<String, List<Card>> passCodeToCards = new HashMap<>(cards.size() * 2);
+            Map<String, List<Card>> normalizedNameToCards = new HashMap<>(cards.size() * 4);
+            for (Card card : cards.values()) {
+                if (card.getPassCode() != null) {
+                    passCodeToCards.computeIfAbsent(card.getPassCode(), unusedKey -> new ArrayList<>(1)).add(card);
+                }
+                // A card whose names coincide in several languages is only listed once per name.
+                Set<String> cardNames = new HashSet<>();
+                for (String name : languageNames(card)) {
+                    String normalizedName = CardTextMatcher.normalizeForNameCompare(name);
+                    if (!normalizedName.isEmpty() && cardNames.add(normalizedName)) {
+                        normalizedNameToCards.computeIfAbsent(normalizedName, unusedKey -> new ArrayList<>(1))
+                                .add(card);
+                    }
+                }
+            }
+            return new CardIndex(revision, passCodeToCards, normalizedNameToCards);
+        }
+
+        List<Card> byPassCode(String passCode) {
+            List<Card> matches = passCodeToCards.get(passCode);
+            return matches != null ? Collections.unmodifiableList(matches) : List.of();
+        }
+
+        List<Card> byNormalizedName(String normalizedName) {
+            List<Card> matches = normalizedNameToCards.get(normalizedName);
+            return matches != null ? Collections.unmodifiableList(matches) : List.of();
+        }
+
+        private static String[] languageNames(Card card) {
+            return new String[]{
+                    card.getName_EN(), card.getName_FR(), card.getName_JA(),
+                    card.getName_ES(), card.getName_DE(), card.getName_IT(),
+                    card.getName_CN(), card.getName_KR(), card.getName_PT()};
+        }
+    }
+
+    // ── Print-code index ─────────────────────────────────────────────────────
+
+    /**
+     * Case-insensitive print code lookup over one snapshot of
+     * {@link Database#getAllPrintedCardsList()}.
+     */
+    static final class PrintCodeIndex {
+        final int revision;
+        private final Map<String, Card> upperCasePrintCodeToCard;
+
+        private PrintCodeIndex(int revision, Map<String, Card> upperCasePrintCodeToCard) {
+            this.revision = revision;
+            this.upperCasePrintCodeToCard = upperCasePrintCodeToCard;
+        }
+
+        static PrintCodeIndex build(int revision, Map<String, Card> printedCards) {
+            Map<String, Card> upperCasePrintCodeToCard = new HashMap<>(printedCards.size() * 2);
+            for (Map.Entry<String, Card> entry : printedCards.entrySet()) {
+                String printCode = entry.getKey();
+                String upperCasePrintCode = printCode.toUpperCase(Locale.ROOT);
+                if (printCode.equals(upperCasePrintCode)) {
+                    // An exact key wins over one that only matches case-insensitively.
+                    upperCasePrintCodeToCard.put(upperCasePrintCode, entry.getValue());
+                } else {
+                    upperCasePrintCodeToCard.putIfAbsent(upperCasePrintCode, entry.getValue());
+                }
+            }
+            return new PrintCodeIndex(revision, upperCasePrintCodeToCard);
+        }
+
+        boolean isStale(int currentRevision) {
+            return revision != currentRevision || upperCasePrintCodeToCard.isEmpty();
+        }
+
+        Card byPrintCode(String printCode) {
+            return upperCasePrintCodeToCard.get(printCode.toUpperCase(Locale.ROOT));
+        }
+    }
+}
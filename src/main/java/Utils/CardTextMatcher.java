@@ -4,6 +4,7 @@ import Model.CardsLists.Card;
 import Model.Database.CardDatabaseManager;
 import Model.Database.CardNameIndex;
 import Model.Database.Database;
+import Model.Database.FuzzyNameIndex;
 import Model.Database.PrintCodeToKonamiId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +75,15 @@ public final class CardTextMatcher {
      */
     private static final int PRINT_CODE_MAX_EDIT_DISTANCE = 2;
 
+    /**
+     * Bounds on {@link #matchByApproximateName}'s edit-distance tolerance — see
+     * {@link #approximateNameMaxEditDistance}. Starting values, not tuned against real scans yet,
+     * same caveat as {@link #PRINT_CODE_MAX_EDIT_DISTANCE}.
+     */
+    private static final int APPROXIMATE_NAME_MIN_LENGTH = 6;
+    private static final int APPROXIMATE_NAME_LENGTH_PER_EDIT = 6;
+    private static final int APPROXIMATE_NAME_MAX_EDIT_DISTANCE = 3;
+
     /**
      * Matches the letters immediately after a print code's last hyphen, up to (not including)
      * the first digit — see {@link #parseLanguagesFromPrintCode} for how the captured letters are
@@ -85,6 +95,21 @@ public final class CardTextMatcher {
     private CardTextMatcher() {
     }
 
+    /**
+     * Builds the lookup indexes behind the pass-code, print-code and name tiers (see
+     * {@link CardTextIndex} and {@link CardNameIndex#getFuzzyNameIndex()}) ahead of the first
+     * detection, which would otherwise pay for them. Blocks while they are built, so call it off
+     * the JavaFX application thread; calling it again once they exist is cheap.
+     */
+    public static void prepareIndexes() {
+        try {
+            CardTextIndex.prepare();
+            CardNameIndex.getFuzzyNameIndex();
+        } catch (URISyntaxException uriSyntaxException) {
+            throw new RuntimeException(uriSyntaxException);
+        }
+    }
+
     /**
      * Resolves raw recognized text into a {@link Card}, trying pass code,
      * then print code, then name, in that order, stopping at the first tier
@@ -169,8 +194,10 @@ public final class CardTextMatcher {
      *   <li>{@link #matchByFuzzyNameAndPrintCode} — an exact name match (via
      *       {@link CardNameIndex}, covering languages {@link #findByName} still can't) narrowed
      *       by an edit-distance-tolerant print-code read from another candidate in the same
-     *       cycle, falling back to a representative card (or {@link #findByName}'s own linear
-     *       scan) only once no candidate narrows it.</li>
+     *       cycle, falling back to a representative card (or {@link #findByName}) only once no
+     *       candidate narrows it.</li>
+     *   <li>{@link #matchByApproximateName} — only once no candidate names a card exactly, the
+     *       closest name within a few edits, to tolerate OCR typos in the title.</li>
      * </ol>
      *
      * @param recognizedCandidates OCR candidate lines for one detection cycle, ideally ordered
@@ -218,7 +245,7 @@ public final class CardTextMatcher {
      * {@link #findRepresentativeCard} — the same "pick the card the primary artwork's pass code
      * points to" resolution {@link Database} itself already uses when building
      * {@link Database#getAllPrintedCardsList()}. Only once no candidate resolves a Konami ID at
-     * all does this fall further back to {@link #findByName}'s own linear scan, as a last resort
+     * all does this fall further back to {@link #findByName}, as a last resort
      * for a name that exists as a live {@link Card} object but isn't reachable via
      * {@link CardNameIndex} (e.g. a gap between its data source and {@link Database}'s).
      */
@@ -230,11 +257,10 @@ public final class CardTextMatcher {
             }
             Integer konamiId = konamiIds.iterator().next();
 
-            Optional<MatchResult> printCodeNarrowed =
+            Optional<Resolution> printCodeNarrowed =
                     tryNarrowByPrintCode(konamiId, nameCandidate, recognizedCandidates);
             if (printCodeNarrowed.isPresent()) {
-                Resolution resolution = printCodeNarrowed.get();
-                return Optional.of(resolution);
+                return printCodeNarrowed;
             }
 
             Optional<Card> representativeCard = findRepresentativeCard(konamiId);
@@ -251,19 +277,78 @@ public final class CardTextMatcher {
                         parseKonamiId(matchedCard.getKonamiId()), matchedCard, MatchField.NAME, nameCandidate);
             }
         }
+        return matchByApproximateName(recognizedCandidates);
+    }
+
+    /**
+     * The last tier of {@link #matchCandidates}, reached only once no candidate matched a name
+     * exactly: looks each candidate up through {@link CardNameIndex#findClosestNames}, so a title
+     * OCR misread by a character or two still resolves without comparing it to every name in the
+     * database.
+     *
+     * <p>A candidate only counts if its closest name is unique — a single name at the best
+     * distance, belonging to a single Konami ID — for the same reason
+     * {@link #matchByFuzzyNameAndPrintCode} skips an ambiguous exact name. The Konami ID is then
+     * narrowed by print code and resolved exactly as an exact name match would be, but reported
+     * as {@link MatchField#APPROXIMATE_NAME}.
+     */
+    private static Optional<Resolution> matchByApproximateName(List<String> recognizedCandidates) {
+        for (String nameCandidate : recognizedCandidates) {
+            if (nameCandidate == null) {
+                continue;
+            }
+            int maxDistance = approximateNameMaxEditDistance(CardNameUtils.normalizeForCompare(nameCandidate));
+            if (maxDistance == 0) {
+                continue;
+            }
+            List<FuzzyNameIndex.Match> closestNames = CardNameIndex.findClosestNames(nameCandidate, maxDistance, 2);
+            if (closestNames.isEmpty()
+                    || closestNames.get(0).getKonamiIds().size() != 1
+                    || (closestNames.size() > 1
+                    && closestNames.get(1).getEditDistance() == closestNames.get(0).getEditDistance())) {
+                continue;
+            }
+            Integer konamiId = closestNames.get(0).getKonamiIds().iterator().next();
+
+            Optional<Resolution> printCodeNarrowed =
+                    tryNarrowByPrintCode(konamiId, nameCandidate, recognizedCandidates);
+            if (printCodeNarrowed.isPresent()) {
+                return printCodeNarrowed;
+            }
+
+            Optional<Card> representativeCard = findRepresentativeCard(konamiId);
+            if (representativeCard.isPresent()) {
+                return resolveKonamiId(konamiId, representativeCard.get(), MatchField.APPROXIMATE_NAME, nameCandidate);
+            }
+        }
         return Optional.empty();
     }
 
+    /**
+     * How many edits {@link #matchByApproximateName} tolerates for a normalized candidate of this
+     * length: none below {@link #APPROXIMATE_NAME_MIN_LENGTH} characters, where one or two edits
+     * already turn most short words into other card names (or a print code into a name), then
+     * one edit per {@link #APPROXIMATE_NAME_LENGTH_PER_EDIT} characters up to
+     * {@link #APPROXIMATE_NAME_MAX_EDIT_DISTANCE}.
+     */
+    static int approximateNameMaxEditDistance(String normalizedCandidate) {
+        if (normalizedCandidate.length() < APPROXIMATE_NAME_MIN_LENGTH) {
+            return 0;
+        }
+        return Math.min(APPROXIMATE_NAME_MAX_EDIT_DISTANCE,
+                normalizedCandidate.length() / APPROXIMATE_NAME_LENGTH_PER_EDIT);
+    }
+
     /**
      * Tries to narrow {@code konamiId} to one specific print code by running every candidate
-     * other than {@code nameCandidate} itself through {@link CardNameIndex#matchPrintCode},
+     * other than {@code nameCandidate} itself through {@link CardNameIndex#matchPrintCode}
+     * (bounded by {@link #PRINT_CODE_MAX_EDIT_DISTANCE}, so each comparison can stop early),
      * keeping whichever produces the closest (lowest edit-distance) match across all of them.
      *
      * @return a {@link MatchResult} resolved via {@link Database#getAllPrintedCardsList()} if
      * the closest match is within {@link #PRINT_CODE_MAX_EDIT_DISTANCE}, otherwise empty
      */
-    private static Optional<MatchResult> tryNarrowByPrintCode(
-
+    private static Optional<Resolution> tryNarrowByPrintCode(
             Integer konamiId, String nameCandidate, List<String> recognizedCandidates) {
         try {
             CardNameIndex.PrintCodeMatch bestMatch = null;
@@ -271,14 +356,14 @@ public final class CardTextMatcher {
                 if (otherCandidate.equals(nameCandidate)) {
                     continue;
                 }
-                List<CardNameIndex.PrintCodeMatch> matches =
-                        CardNameIndex.matchPrintCode(otherCandidate, Set.of(konamiId));
+                List<CardNameIndex.PrintCodeMatch> matches = CardNameIndex.matchPrintCode(
+                        otherCandidate, Set.of(konamiId), PRINT_CODE_MAX_EDIT_DISTANCE);
                 if (!matches.isEmpty()
                         && (bestMatch == null || matches.get(0).getEditDistance() < bestMatch.getEditDistance())) {
                     bestMatch = matches.get(0);
                 }
             }
-            if (bestMatch == null || bestMatch.getEditDistance() > PRINT_CODE_MAX_EDIT_DISTANCE) {
+            if (bestMatch == null) {
                 return Optional.empty();
             }
             Card printedCard = Database.getAllPrintedCardsList().get(bestMatch.getPrintCode());
@@ -297,13 +382,16 @@ public final class CardTextMatcher {
      * Resolves a Konami ID to a representative {@link Card} when no print code narrowed it to a
      * specific artwork — the same primary-artwork lookup chain
      * {@code Database#createAllPrintedCardsList} already uses internally (Konami ID to pass
-     * code via {@link CardDatabaseManager#getKonamiIdToPassCode()}, then pass code to
+     * code via {@link CardDatabaseManager#getPassCodeForKonamiId(int)}, then pass code to
      * {@link Card} via {@link Database#getAllCardsList()}), reused here rather than duplicated.
      */
     private static Optional<Card> findRepresentativeCard(Integer konamiId) {
         try {
-            Integer representativePassCode = CardDatabaseManager.getKonamiIdToPassCode().get(konamiId);
-            if (representativePassCode == null) {
+            if (konamiId == null) {
+                return Optional.empty();
+            }
+            int representativePassCode = CardDatabaseManager.getPassCodeForKonamiId(konamiId);
+            if (representativePassCode == CardDatabaseManager.MISSING_ID) {
                 return Optional.empty();
             }
             return Optional.ofNullable(Database.getAllCardsList().get(representativePassCode));
@@ -497,8 +585,10 @@ public final class CardTextMatcher {
                     printCode, displayLanguage.isEmpty() ? null : displayLanguage));
         }
 
-        Integer representativePassCode = CardDatabaseManager.getKonamiIdToPassCode().get(konamiId);
-        List<Card> artworkOptions = representativePassCode != null
+        int representativePassCode = konamiId != null
+                ? CardDatabaseManager.getPassCodeForKonamiId(konamiId)
+                : CardDatabaseManager.MISSING_ID;
+        List<Card> artworkOptions = representativePassCode != CardDatabaseManager.MISSING_ID
                 ? CardDatabaseManager.getAliasCards(representativePassCode)
                 : List.of();
 
@@ -602,35 +692,32 @@ public final class CardTextMatcher {
      * Looks up a card by exact pass code among all loaded cards.
      * <p>
      * {@link Database#getAllCardsList()} is keyed by card-image id, not by
-     * pass code, so this is a linear scan rather than a map lookup — the same
-     * cost {@code Controller.CardFilterMatcher} already pays scanning the
-     * same ~22,000-card list on every filter keystroke.
+     * pass code, so this goes through {@link CardTextIndex}'s pass code index
+     * rather than a map lookup on the database itself.
      * </p>
      * <p>
      * A pass code is shared across every reprint and artwork of a card, so the returned
-     * {@link Card} is just whichever one this scan hits first — never hand it straight back to a
-     * caller; every current caller routes it through {@link #resolveKonamiId} instead.
+     * {@link Card} is just the first one in {@link Database#getAllCardsList()} order — never hand
+     * it straight back to a caller; every current caller routes it through
+     * {@link #resolveKonamiId} instead.
      * </p>
      *
      * @param normalizedPassCode the candidate pass code, digits only
      * @return the matching card, or empty if no card has this pass code
      */
     static Optional<Card> findByPassCode(String normalizedPassCode) {
-        for (Card card : Database.getAllCardsList().values()) {
-            if (normalizedPassCode.equals(card.getPassCode())) {
-                return Optional.of(card);
-            }
-        }
-        return Optional.empty();
+        List<Card> matches = CardTextIndex.findByPassCode(normalizedPassCode);
+        return matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0));
     }
 
     /**
-     * Looks up a card by print code via {@link Database#getAllPrintedCardsList()},
-     * which is already keyed by print code — an O(1) lookup in the common
-     * case. Falls back to a case-insensitive scan, since stored print codes
-     * come straight from the source JSON with no case normalization applied
-     * (see {@code Model.Database.PrintCodeToKonamiId}), so their casing isn't
-     * guaranteed to be uppercase.
+     * Looks up a card by print code via {@link CardTextIndex}'s upper-cased
+     * print code index over {@link Database#getAllPrintedCardsList()}. Stored
+     * print codes come straight from the source JSON with no case
+     * normalization applied (see {@code Model.Database.PrintCodeToKonamiId}),
+     * so their casing isn't guaranteed to be uppercase; the index compares
+     * them case-insensitively, preferring a stored code that is already
+     * uppercase.
      *
      * @param normalizedPrintCode the candidate print code, uppercased and
      *                            whitespace-stripped
@@ -638,17 +725,7 @@ public final class CardTextMatcher {
      */
     static Optional<Card> findByPrintCode(String normalizedPrintCode) {
         try {
-            Map<String, Card> printedCards = Database.getAllPrintedCardsList();
-            Card directMatch = printedCards.get(normalizedPrintCode);
-            if (directMatch != null) {
-                return Optional.of(directMatch);
-            }
-            for (Map.Entry<String, Card> entry : printedCards.entrySet()) {
-                if (entry.getKey().equalsIgnoreCase(normalizedPrintCode)) {
-                    return Optional.of(entry.getValue());
-                }
-            }
-            return Optional.empty();
+            return Optional.ofNullable(CardTextIndex.findByPrintCode(normalizedPrintCode));
         } catch (URISyntaxException uriSyntaxException) {
             throw new RuntimeException(uriSyntaxException);
         }
@@ -656,15 +733,16 @@ public final class CardTextMatcher {
 
     /**
      * Looks up a card by exact name (case-insensitive, diacritic-insensitive)
-     * against every language name field {@link Card} declares, via a linear
-     * scan over {@link Database#getAllCardsList()}.
+     * against every language name field {@link Card} declares, via
+     * {@link CardTextIndex}'s normalized name index over
+     * {@link Database#getAllCardsList()}.
      * <p>
      * {@code name_CN} has no data source in this project yet (nothing populates
-     * it in {@link Database#createAllCardsList}) so that branch stays inert;
+     * it in {@link Database#createAllCardsList}) so that language stays inert;
      * the other eight are all populated today. This method intentionally stays
-     * a linear scan over live {@link Card} objects rather than switching to
-     * {@link Model.Database.CardNameIndex}'s faster Konami-ID-keyed lookup,
-     * so it keeps resolving cards that only exist as live objects in
+     * keyed on live {@link Card} objects rather than switching to
+     * {@link Model.Database.CardNameIndex}'s Konami-ID-keyed lookup, so it
+     * keeps resolving cards that only exist as live objects in
      * {@link Database#getAllCardsList()} (as opposed to a Konami ID in
      * {@link Model.Database.KonamiIdToNames}) — {@link #matchCandidates}'s
      * fuzzy fallback tier is where {@link Model.Database.CardNameIndex}
@@ -672,9 +750,9 @@ public final class CardTextMatcher {
      * </p>
      * <p>
      * {@link Database#getAllCardsList()} holds one entry per artwork sharing the same name, so
-     * the returned {@link Card} is just whichever artwork this scan hits first — never hand it
-     * straight back to a caller; every current caller routes it through {@link #resolveKonamiId}
-     * instead.
+     * the returned {@link Card} is just the first such artwork in that map's order — never hand
+     * it straight back to a caller; every current caller routes it through
+     * {@link #resolveKonamiId} instead.
      * </p>
      *
      * @param rawName the candidate name, not yet normalized
@@ -685,32 +763,8 @@ public final class CardTextMatcher {
         if (normalizedTarget.isEmpty()) {
             return Optional.empty();
         }
-        for (Card card : Database.getAllCardsList().values()) {
-            if (matchesAnyLanguageName(card, normalizedTarget)) {
-                return Optional.of(card);
-            }
-        }
-        return Optional.empty();
-    }
-
-    /**
-     * Checks whether {@code card}'s name in any declared language normalizes
-     * to {@code normalizedTarget}.
-     *
-     * @param card             the card whose name fields to check
-     * @param normalizedTarget the already-normalized name being searched for
-     * @return {@code true} if any language's name matches
-     */
-    private static boolean matchesAnyLanguageName(Card card, String normalizedTarget) {
-        return normalizedTarget.equals(normalizeForNameCompare(card.getName_EN()))
-                || normalizedTarget.equals(normalizeForNameCompare(card.getName_FR()))
-                || normalizedTarget.equals(normalizeForNameCompare(card.getName_JA()))
-                || normalizedTarget.equals(normalizeForNameCompare(card.getName_ES()))
-                || normalizedTarget.equals(normalizeForNameCompare(card.getName_DE()))
-                || normalizedTarget.equals(normalizeForNameCompare(card.getName_IT()))
-                || normalizedTarget.equals(normalizeForNameCompare(card.getName_CN()))
-                || normalizedTarget.equals(normalizeForNameCompare(card.getName_KR()))
-                || normalizedTarget.equals(normalizeForNameCompare(card.getName_PT()));
+        List<Card> matches = CardTextIndex.findByNormalizedName(normalizedTarget);
+        return matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0));
     }
 
     /**
@@ -739,7 +793,8 @@ public final class CardTextMatcher {
      * {@link CardCandidates} — was resolved through. {@link #PRINT_CODE} and
      * {@link #NAME_AND_PRINT_CODE} are always unambiguous and so never appear on a
      * {@link CardCandidates}; {@link #PASS_CODE} and {@link #NAME} can go either way, depending
-     * on how many print codes {@link #resolveKonamiId} finds for the underlying Konami ID.
+     * on how many print codes {@link #resolveKonamiId} finds for the underlying Konami ID, and so
+     * can {@link #APPROXIMATE_NAME}.
      */
     public enum MatchField {
         PASS_CODE,
@@ -750,7 +805,13 @@ public final class CardTextMatcher {
          * specific print/artwork by an edit-distance-tolerant print-code match on a separate
          * candidate line, rather than either exact tier in {@link #matchText}.
          */
-        NAME_AND_PRINT_CODE
+        NAME_AND_PRINT_CODE,
+        /**
+         * Resolved via {@link #matchByApproximateName}: no candidate matched a name exactly, but
+         * one was within a few edits of exactly one card's name. Like {@link #PASS_CODE}, it
+         * carries no exact name text to narrow print codes by language with.
+         */
+        APPROXIMATE_NAME
     }
 
     /**
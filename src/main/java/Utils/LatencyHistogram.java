@@ -0,0 +1,157 @@
+package Utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, lock-free histogram of non-negative {@code long} values
+ * (nanosecond durations, in practice), laid out like an HdrHistogram with
+ * two significant digits.
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} are counted exactly. Above that,
+ * every power-of-two range is split into {@value #HALF_SUB_BUCKET_COUNT}
+ * equal buckets, so a recorded value is off by less than 1/64 (about 1.6%)
+ * of itself, from one nanosecond to {@link Long#MAX_VALUE}, in
+ * {@value #BUCKET_COUNT} counters. Recording is a handful of atomic updates and
+ * never allocates, so it is cheap enough for the FX thread.
+ * <p>
+ * Percentiles are read from a {@link Snapshot}, which copies the counters
+ * once so that count, sum and percentiles agree with each other while other
+ * threads keep recording.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    // The highest index is the one of Long.MAX_VALUE: shift 56, sub-bucket 127.
+    private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Records one value. Negative values are recorded as {@code 0}.
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts.incrementAndGet(indexOf(clamped));
+        sum.addAndGet(clamped);
+        min.accumulateAndGet(clamped, Math::min);
+        max.accumulateAndGet(clamped, Math::max);
+    }
+
+    /**
+     * Forgets every recorded value. A value recorded concurrently with the
+     * reset may be partly kept (e.g. in the count but not in the sum).
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        sum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+
+    /**
+     * Copies the current counters into an immutable {@link Snapshot}.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, sum.get(), min.get(), max.get());
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the highest value that {@link #indexOf} maps to {@code index}.
+     */
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+        long subBucket = index % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        long nextLowest = (subBucket + 1) << shift;
+        // The top bucket's next lowest value overflows to Long.MIN_VALUE.
+        return nextLowest > 0 ? nextLowest - 1 : Long.MAX_VALUE;
+    }
+
+    /**
+     * A consistent, immutable copy of a {@link LatencyHistogram}'s counters.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long min, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = count == 0 ? 0 : min;
+            this.max = count == 0 ? 0 : max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMin() {
+            return min;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Returns the smallest recorded value that at least {@code percentile}
+         * percent of the recorded values are less than or equal to, to within
+         * the histogram's precision and never above the largest recorded value.
+         *
+         * @param percentile between {@code 0} and {@code 100}
+         * @return the value, or {@code 0} if nothing was recorded
+         */
+        public long valueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            double clamped = Math.min(100, Math.max(0, percentile));
+            long rank = Math.max(1, (long) Math.ceil(clamped / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueAt(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
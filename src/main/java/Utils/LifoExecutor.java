@@ -0,0 +1,86 @@
+package Utils;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fixed pool of daemon threads that runs the most recently submitted task
+ * first.
+ * <p>
+ * Suited to loading what is on screen: when the user scrolls past many items,
+ * the loads queued for the items they stopped on run next, rather than after
+ * every load queued on the way. Cancelled tasks are dropped from the queue
+ * without running, so a caller can cancel loads that are no longer needed.
+ * The number of queued tasks is registered as a {@link Metrics} gauge under
+ * {@code <name>.queued}.
+ */
+public final class LifoExecutor {
+
+    private final ThreadPoolExecutor pool;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param name           the thread-name prefix and metrics name
+     * @param threads        the number of threads
+     * @param threadPriority the threads' {@link Thread#setPriority priority}
+     */
+    public LifoExecutor(String name, int threads, int threadPriority) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(threadPriority);
+            return thread;
+        });
+        Metrics.gauge(name + ".queued", () -> pool.getQueue().size());
+    }
+
+    /**
+     * Queues {@code task} ahead of every task already waiting.
+     *
+     * @return the task's future; cancelling it before it starts removes it
+     * from the queue
+     */
+    public Future<?> submit(Runnable task) {
+        NewestFirstTask future = new NewestFirstTask(task, sequence.incrementAndGet());
+        pool.execute(future);
+        return future;
+    }
+
+    /**
+     * Stops the threads, interrupting running tasks and dropping queued ones.
+     */
+    public void shutdownNow() {
+        pool.shutdownNow();
+    }
+
+    private final class NewestFirstTask extends FutureTask<Void> implements Comparable<NewestFirstTask> {
+        private final long sequenceNumber;
+
+        NewestFirstTask(Runnable task, long sequenceNumber) {
+            super(task, null);
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            // Otherwise it would wait in the queue until a thread takes it.
+            if (cancelled) {
+                pool.remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public int compareTo(NewestFirstTask other) {
+            return Long.compare(other.sequenceNumber, sequenceNumber);
+        }
+    }
+}
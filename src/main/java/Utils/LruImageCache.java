@@ -2,54 +2,49 @@ package Utils;
 
 import javafx.scene.image.Image;
 
-import java.lang.ref.SoftReference;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 /**
  * LruImageCache.java
  * <p>
- * An enhanced image cache using a least-recently-used (LRU) algorithm.
- * Images are stored in memory via SoftReferences to allow JVM garbage collection when needed.
- * This version uses the original caching logic (with file path as the key).
+ * Application-wide cache of decoded card images, keyed by file path, and
+ * bounded by the memory the decoded pixels take (width × height × 4 bytes)
+ * rather than by a number of entries.
+ * <p>
+ * Images are kept in two tiers, each a {@link ByteBudgetCache} with its own
+ * budget, so that a few full-size images opened in the detail pane cannot
+ * push out the hundreds of thumbnails the grids are showing:
+ * <ul>
+ *   <li>thumbnails — images of at most {@value #THUMBNAIL_MAX_PIXELS} pixels,
+ *       an eighth of the maximum heap by default;</li>
+ *   <li>full-size — everything larger, a sixteenth of the heap by default.</li>
+ * </ul>
+ * The budgets can be set in bytes with the
+ * {@code potofgreed.imageCache.thumbnailBytes} and
+ * {@code potofgreed.imageCache.fullSizeBytes} system properties.
+ * <p>
+ * Access is lock-striped, so the image-loader threads and the FX thread do
+ * not contend on a single monitor. Hits, misses, evictions, entries and bytes
+ * are reported in {@link Metrics} under {@code image.cache.thumbnail} and
+ * {@code image.cache.fullSize}.
  */
 public class LruImageCache {
 
-    // Dynamically determine the maximum number of cached images based on available JVM memory.
-    private static final int MAX_ENTRIES;
+    /**
+     * Images of at most this many pixels go to the thumbnail tier: a card
+     * loaded at up to roughly 256 × 374, twice the largest grid size.
+     */
+    static final long THUMBNAIL_MAX_PIXELS = 256L * 374;
 
-    static {
-        long maxMemory = Runtime.getRuntime().maxMemory();
-        if (maxMemory < 128L * 1024 * 1024) {  // Less than 128 MB.
-            MAX_ENTRIES = 50;
-        } else if (maxMemory < 256L * 1024 * 1024) {  // 128 MB to 256 MB.
-            MAX_ENTRIES = 150;
-        } else if (maxMemory < 512L * 1024 * 1024) {  // 256 MB to 512 MB.
-            MAX_ENTRIES = 300;
-        } else if (maxMemory < 1024L * 1024 * 1024) {  // 512 MB to 1024 MB.
-            MAX_ENTRIES = 600;
-        } else if (maxMemory < 2048L * 1024 * 1024) {  // 1024 MB to 2048 MB.
-            MAX_ENTRIES = 1200;
-        } else if (maxMemory < 4096L * 1024 * 1024) {  // 2048 MB to 4096 MB.
-            MAX_ENTRIES = 2400;
-        } else if (maxMemory < 8192L * 1024 * 1024) {  // 4096 MB to 8192 MB.
-            MAX_ENTRIES = 4800;
-        } else if (maxMemory < 16384L * 1024 * 1024) {  // 8192 MB to 16384 MB.
-            MAX_ENTRIES = 9600;
-        } else {
-            MAX_ENTRIES = 19200;
-        }
-        System.out.println("LruImageCache: Max cache entries: " + MAX_ENTRIES);
-    }
+    // Charged for an image whose size is not known yet (still loading in the background).
+    private static final long UNKNOWN_IMAGE_BYTES = THUMBNAIL_MAX_PIXELS * 4;
 
-    // The cache stores images using SoftReferences, keyed by their file path.
-    private static final Map<String, SoftReference<Image>> imageCache =
-            new LinkedHashMap<String, SoftReference<Image>>(MAX_ENTRIES, 0.75f, true) {
-                @Override
-                protected boolean removeEldestEntry(Map.Entry<String, SoftReference<Image>> eldest) {
-                    return size() > MAX_ENTRIES;
-                }
-            };
+    private static final ByteBudgetCache<String, Image> thumbnails = new ByteBudgetCache<>(
+            "image.cache.thumbnail",
+            Long.getLong("potofgreed.imageCache.thumbnailBytes", Runtime.getRuntime().maxMemory() / 8),
+            LruImageCache::weigh);
+    private static final ByteBudgetCache<String, Image> fullSize = new ByteBudgetCache<>(
+            "image.cache.fullSize",
+            Long.getLong("potofgreed.imageCache.fullSizeBytes", Runtime.getRuntime().maxMemory() / 16),
+            LruImageCache::weigh);
 
     /**
      * Retrieves an image from the cache by its file path.
@@ -57,33 +52,69 @@ public class LruImageCache {
      * @param imagePath the file path of the image
      * @return the cached Image if available; otherwise, null.
      */
-    public static synchronized Image getImage(String imagePath) {
-        SoftReference<Image> ref = imageCache.get(imagePath);
-        if (ref != null) {
-            Image image = ref.get();
-            if (image != null) {
-                return image;
-            } else {
-                imageCache.remove(imagePath);
-            }
+    public static Image getImage(String imagePath) {
+        if (imagePath == null) {
+            return null;
         }
-        return null;
+        // Most lookups are for thumbnails; checking first keeps a full-size hit
+        // from also counting as a thumbnail miss.
+        Image image = thumbnails.contains(imagePath) ? thumbnails.get(imagePath) : null;
+        return image != null ? image : fullSize.get(imagePath);
     }
 
     /**
-     * Caches an image under its file path.
+     * Caches an image under its file path, in the tier its pixel size
+     * belongs to.
      *
      * @param imagePath the file path of the image
      * @param image     the Image to cache
      */
-    public static synchronized void addImage(String imagePath, Image image) {
-        imageCache.put(imagePath, new SoftReference<>(image));
+    public static void addImage(String imagePath, Image image) {
+        if (imagePath == null || image == null) {
+            return;
+        }
+        // The same file may be loaded at another size: keep one tier's copy only.
+        if (isThumbnail(image)) {
+            fullSize.remove(imagePath);
+            thumbnails.put(imagePath, image);
+        } else {
+            thumbnails.remove(imagePath);
+            fullSize.put(imagePath, image);
+        }
+    }
+
+    /**
+     * Returns {@code true} if an image is cached under {@code imagePath},
+     * without counting a hit or miss. Used by prefetching to skip images that
+     * need no load; it does refresh the entry's recency, which suits an image
+     * about to scroll into view.
+     */
+    public static boolean containsImage(String imagePath) {
+        return imagePath != null && (thumbnails.contains(imagePath) || fullSize.contains(imagePath));
+    }
+
+    /**
+     * Returns the number of cached images, both tiers together.
+     */
+    public static int size() {
+        return thumbnails.size() + fullSize.size();
     }
 
     /**
      * Clears the image cache.
      */
-    public static synchronized void clearCache() {
-        imageCache.clear();
+    public static void clearCache() {
+        thumbnails.clear();
+        fullSize.clear();
+    }
+
+    private static boolean isThumbnail(Image image) {
+        double pixels = image.getWidth() * image.getHeight();
+        return pixels <= THUMBNAIL_MAX_PIXELS;
+    }
+
+    private static long weigh(Image image) {
+        long pixels = (long) image.getWidth() * (long) image.getHeight();
+        return pixels > 0 ? pixels * 4 : UNKNOWN_IMAGE_BYTES;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,275 @@
+package Utils;
+
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process registry of named timers, counters and gauges, which the
+ * database bootstrap, OuicheList generation, image loading, HTML export, the
+ * scanner pipeline and the add-to-refresh path of the Owned Collection report
+ * into.
+ * <p>
+ * A {@link Timer} keeps a {@link LatencyHistogram} of its durations, so the
+ * diagnostics window and the JSON dump can show p50/p99 rather than single
+ * log lines. Each timer still logs its durations at DEBUG under the
+ * {@code [PERF]} prefix, for reading one interaction back in call order.
+ * <p>
+ * Names are dot-separated and stable (no card or group names in them), so
+ * that every occurrence of a stage lands in the same timer. Metrics are
+ * created on first use and never removed; {@link #reset()} only zeroes them.
+ * <p>
+ * If the {@value #DUMP_FILE_PROPERTY} system property is set, the application
+ * writes every metric to that file as JSON when it exits.
+ */
+public final class Metrics {
+
+    /**
+     * System property naming the file {@link #dumpIfRequested()} writes to.
+     */
+    public static final String DUMP_FILE_PROPERTY = "potofgreed.metrics.file";
+
+    private static final Logger logger = LoggerFactory.getLogger(Metrics.class);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    static {
+        gauge("jvm.heap.usedBytes", () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+        gauge("jvm.heap.maxBytes", () -> Runtime.getRuntime().maxMemory());
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns the current timestamp to later pass to {@link Timer#recordSince}.
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Returns the timer called {@code name}, creating it on first use.
+     */
+    public static Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    /**
+     * Returns the counter called {@code name}, creating it on first use.
+     */
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Registers (or replaces) a gauge: a value read only when the metrics are
+     * displayed or dumped, such as a cache size.
+     */
+    public static void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Returns every timer, sorted by name.
+     */
+    public static SortedMap<String, Timer> timers() {
+        return new TreeMap<>(timers);
+    }
+
+    /**
+     * Returns every counter, sorted by name.
+     */
+    public static SortedMap<String, Counter> counters() {
+        return new TreeMap<>(counters);
+    }
+
+    /**
+     * Reads every gauge, sorted by name. A gauge that throws reads as
+     * {@code -1}.
+     */
+    public static SortedMap<String, Long> readGauges() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, LongSupplier> entry : gauges.entrySet()) {
+            long value;
+            try {
+                value = entry.getValue().getAsLong();
+            } catch (RuntimeException exception) {
+                logger.debug("Gauge {} failed", entry.getKey(), exception);
+                value = -1;
+            }
+            values.put(entry.getKey(), value);
+        }
+        return values;
+    }
+
+    /**
+     * Zeroes every timer and counter. Gauges are left alone, since they read
+     * their value from elsewhere.
+     */
+    public static void reset() {
+        timers.values().forEach(timer -> timer.histogram.reset());
+        counters.values().forEach(counter -> counter.count.reset());
+    }
+
+    /**
+     * Returns every metric as JSON: timers in milliseconds with their
+     * percentiles, counters and gauges as plain numbers.
+     */
+    public static JSONObject toJson() {
+        JSONObject timersJson = new JSONObject();
+        for (Timer timer : timers().values()) {
+            LatencyHistogram.Snapshot snapshot = timer.snapshot();
+            JSONObject timerJson = new JSONObject();
+            timerJson.put("count", snapshot.getCount());
+            timerJson.put("totalMs", toMillis(snapshot.getSum()));
+            timerJson.put("meanMs", toMillis(snapshot.getMean()));
+            timerJson.put("minMs", toMillis(snapshot.getMin()));
+            timerJson.put("p50Ms", toMillis(snapshot.valueAtPercentile(50)));
+            timerJson.put("p90Ms", toMillis(snapshot.valueAtPercentile(90)));
+            timerJson.put("p99Ms", toMillis(snapshot.valueAtPercentile(99)));
+            timerJson.put("maxMs", toMillis(snapshot.getMax()));
+            timersJson.put(timer.getName(), timerJson);
+        }
+        JSONObject countersJson = new JSONObject();
+        for (Counter counter : counters().values()) {
+            countersJson.put(counter.getName(), counter.get());
+        }
+        JSONObject gaugesJson = new JSONObject();
+        readGauges().forEach(gaugesJson::put);
+
+        JSONObject json = new JSONObject();
+        json.put("timestamp", Instant.now().toString());
+        json.put("timers", timersJson);
+        json.put("counters", countersJson);
+        json.put("gauges", gaugesJson);
+        return json;
+    }
+
+    /**
+     * Writes {@link #toJson()} to {@code file}, replacing it atomically.
+     */
+    public static void writeJson(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, toJson().toString(2), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the metrics to the file named by {@value #DUMP_FILE_PROPERTY}, if
+     * that property is set. Failures are logged, not thrown, since this runs
+     * while the application shuts down.
+     */
+    public static void dumpIfRequested() {
+        String fileName = System.getProperty(DUMP_FILE_PROPERTY);
+        if (fileName == null || fileName.isBlank()) {
+            return;
+        }
+        try {
+            writeJson(Paths.get(fileName));
+            logger.info("Wrote metrics to {}", fileName);
+        } catch (IOException | RuntimeException exception) {
+            logger.warn("Could not write metrics to {}", fileName, exception);
+        }
+    }
+
+    private static double toMillis(double nanos) {
+        return Math.round(nanos / NANOS_PER_MILLI * 1000) / 1000.0;
+    }
+
+    /**
+     * A named histogram of durations, in nanoseconds.
+     */
+    public static final class Timer {
+
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private Timer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Records one duration.
+         */
+        public void record(long elapsedNanos) {
+            histogram.record(elapsedNanos);
+        }
+
+        /**
+         * Records the time elapsed since {@code startNanos} and logs it at
+         * DEBUG.
+         *
+         * @param startNanos the value returned by {@link Metrics#start()} at
+         *                   the stage's beginning
+         * @return the recorded duration, in nanoseconds
+         */
+        public long recordSince(long startNanos) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            histogram.record(elapsedNanos);
+            if (logger.isDebugEnabled()) {
+                logger.debug("[PERF] {} took {} ms", name, toMillis(elapsedNanos));
+            }
+            return elapsedNanos;
+        }
+
+        public LatencyHistogram.Snapshot snapshot() {
+            return histogram.snapshot();
+        }
+    }
+
+    /**
+     * A named count of events.
+     */
+    public static final class Counter {
+
+        private final String name;
+        private final LongAdder count = new LongAdder();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void increment() {
+            count.increment();
+        }
+
+        public void add(long amount) {
+            count.add(amount);
+        }
+
+        public long get() {
+            return count.sum();
+        }
+    }
+}
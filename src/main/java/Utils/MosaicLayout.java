@@ -0,0 +1,43 @@
+package Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a list of fixed-size cells into rows that fit a given width, for
+ * mosaics rendered as a virtualized list of rows.
+ */
+public final class MosaicLayout {
+
+    private MosaicLayout() {
+    }
+
+    /**
+     * Returns how many cells of {@code cellWidth} fit side by side in
+     * {@code availableWidth} with {@code gap} between them; at least one, so
+     * that a too narrow view still shows every cell.
+     */
+    public static int cellsPerRow(double availableWidth, double cellWidth, double gap) {
+        int cellsPerRow = (int) Math.floor((availableWidth + gap) / (cellWidth + gap));
+        return Math.max(1, cellsPerRow);
+    }
+
+    /**
+     * Splits {@code items} into consecutive rows of {@code cellsPerRow}, the
+     * last one possibly shorter.
+     * <p>
+     * The rows are {@link List#subList views} of {@code items}, so building
+     * them costs one small object per row; {@code items} must not be
+     * structurally modified while they are in use.
+     */
+    public static <T> List<List<T>> rows(List<T> items, int cellsPerRow) {
+        if (cellsPerRow < 1) {
+            throw new IllegalArgumentException("cellsPerRow must be positive: " + cellsPerRow);
+        }
+        List<List<T>> rows = new ArrayList<>((items.size() + cellsPerRow - 1) / cellsPerRow);
+        for (int start = 0; start < items.size(); start += cellsPerRow) {
+            rows.add(items.subList(start, Math.min(start + cellsPerRow, items.size())));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,75 @@
+package Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Which rows of a virtualized list to load ahead of time, given the rows
+ * currently on screen and the direction the user is scrolling in.
+ * <p>
+ * The window covers {@code ahead} rows past the visible range in the scroll
+ * direction and {@code behind} rows on the other side, so that a reversal
+ * does not immediately run into unloaded rows. {@link #rows()} lists them
+ * nearest first, in the order their loads should be queued.
+ *
+ * @param firstVisible the first visible row, inclusive
+ * @param lastVisible  the last visible row, inclusive
+ * @param rows         the rows to prefetch, nearest to the visible range first
+ */
+public record PrefetchWindow(int firstVisible, int lastVisible, List<Integer> rows) {
+
+    /**
+     * Which way the list last moved.
+     */
+    public enum Direction {
+        FORWARD, BACKWARD;
+
+        /**
+         * Returns the direction of a move from position {@code previous} to
+         * {@code current}, or {@code fallback} if the position did not change.
+         */
+        public static Direction of(double previous, double current, Direction fallback) {
+            if (current > previous) {
+                return FORWARD;
+            }
+            if (current < previous) {
+                return BACKWARD;
+            }
+            return fallback;
+        }
+    }
+
+    /**
+     * Computes the window around a visible range.
+     *
+     * @param firstVisible the first visible row, inclusive
+     * @param lastVisible  the last visible row, inclusive
+     * @param rowCount     the number of rows in the list
+     * @param direction    the direction of the last scroll
+     * @param ahead        rows to prefetch in the scroll direction
+     * @param behind       rows to prefetch in the other direction
+     */
+    public static PrefetchWindow around(int firstVisible, int lastVisible, int rowCount, Direction direction,
+                                        int ahead, int behind) {
+        if (firstVisible > lastVisible || ahead < 0 || behind < 0) {
+            throw new IllegalArgumentException("invalid window " + firstVisible + ".." + lastVisible
+                    + " (" + ahead + " ahead, " + behind + " behind)");
+        }
+        List<Integer> rows = new ArrayList<>(ahead + behind);
+        // The leading side first, then the trailing one, each nearest first.
+        if (direction == Direction.FORWARD) {
+            addRange(rows, lastVisible + 1, ahead, 1, rowCount);
+            addRange(rows, firstVisible - 1, behind, -1, rowCount);
+        } else {
+            addRange(rows, firstVisible - 1, ahead, -1, rowCount);
+            addRange(rows, lastVisible + 1, behind, 1, rowCount);
+        }
+        return new PrefetchWindow(firstVisible, lastVisible, List.copyOf(rows));
+    }
+
+    private static void addRange(List<Integer> rows, int start, int count, int step, int rowCount) {
+        for (int i = 0, row = start; i < count && row >= 0 && row < rowCount; i++, row += step) {
+            rows.add(row);
+        }
+    }
+}
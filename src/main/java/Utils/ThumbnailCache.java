@@ -0,0 +1,238 @@
+package Utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static Model.FilePaths.databaseDir;
+
+/**
+ * Disk cache of downscaled copies of the card images, so that a grid cell
+ * decodes a small JPEG instead of a full card scan and having JavaFX shrink
+ * it.
+ * <p>
+ * Thumbnails are made per width bucket ({@value #BUCKET_STEP} px steps, so a
+ * few sizes serve every zoom level), in the background, the first time an
+ * image is asked for at that size; until then {@link #urlFor} returns the
+ * original. They are kept under {@code <databaseDir>/thumbnails} across
+ * sessions. Each thumbnail carries its source's modification time, so a
+ * re-downloaded source makes its thumbnails stale and they are made again.
+ * <p>
+ * A source is identified by its file name, which for card images is their
+ * unique {@code <passcode>.jpg}.
+ */
+public final class ThumbnailCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailCache.class);
+
+    /**
+     * Thumbnail widths are rounded up to a multiple of this.
+     */
+    static final int BUCKET_STEP = 40;
+    /**
+     * Wider requests are served from the original: at that size a thumbnail
+     * would save little over the 421 px wide card scans.
+     */
+    static final int MAX_BUCKET_WIDTH = 320;
+    private static final float JPEG_QUALITY = 0.9f;
+
+    private static final class Holder {
+        static final ThumbnailCache INSTANCE = new ThumbnailCache(databaseDir.resolve("thumbnails"),
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-generator");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }));
+    }
+
+    /**
+     * Returns the cache under the database directory.
+     */
+    public static ThumbnailCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final Path directory;
+    private final Executor generator;
+    private final Set<Path> queued = ConcurrentHashMap.newKeySet();
+    // Sources that could not be decoded, not retried this session.
+    private final Set<Path> failed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param directory where thumbnails are kept
+     * @param generator runs thumbnail generation
+     */
+    ThumbnailCache(Path directory, Executor generator) {
+        this.directory = directory;
+        this.generator = generator;
+    }
+
+    /**
+     * Returns the URL to load {@code sourceUrl} from at the given display
+     * width: an up-to-date thumbnail's if there is one, the original's
+     * otherwise, in which case the thumbnail is queued for generation.
+     * Checks the file system, so call it off the FX thread.
+     *
+     * @param sourceUrl the original's {@code file:} URL; other URLs are
+     *                  returned unchanged
+     * @param width     the width the image will be displayed at
+     */
+    public String urlFor(String sourceUrl, double width) {
+        if (sourceUrl == null || !sourceUrl.startsWith("file:") || width <= 0) {
+            return sourceUrl;
+        }
+        int bucketWidth = bucketWidth(width);
+        if (bucketWidth > MAX_BUCKET_WIDTH) {
+            return sourceUrl;
+        }
+        Path source;
+        try {
+            source = Paths.get(sourceUrl.substring("file:".length()));
+        } catch (InvalidPathException e) {
+            return sourceUrl;
+        }
+        Path thumbnail = thumbnailPath(source, bucketWidth);
+        if (isFresh(source, thumbnail)) {
+            Metrics.counter("thumbnail.hits").increment();
+            return thumbnail.toUri().toString();
+        }
+        Metrics.counter("thumbnail.misses").increment();
+        if (!failed.contains(source) && queued.add(thumbnail)) {
+            try {
+                generator.execute(() -> {
+                    try {
+                        generate(source, thumbnail, bucketWidth);
+                    } finally {
+                        queued.remove(thumbnail);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queued.remove(thumbnail);
+            }
+        }
+        return sourceUrl;
+    }
+
+    /**
+     * Returns the bucket a display width falls in.
+     */
+    static int bucketWidth(double width) {
+        return Math.max(BUCKET_STEP, (int) Math.ceil(width / BUCKET_STEP) * BUCKET_STEP);
+    }
+
+    Path thumbnailPath(Path source, int bucketWidth) {
+        return directory.resolve("w" + bucketWidth).resolve(source.getFileName().toString());
+    }
+
+    /**
+     * Returns {@code true} if {@code thumbnail} exists and was made from the
+     * current version of {@code source}. Times are compared to the second,
+     * the coarsest precision common file systems keep.
+     */
+    static boolean isFresh(Path source, Path thumbnail) {
+        try {
+            FileTime thumbnailTime = Files.getLastModifiedTime(thumbnail);
+            FileTime sourceTime = Files.getLastModifiedTime(source);
+            return thumbnailTime.to(TimeUnit.SECONDS) == sourceTime.to(TimeUnit.SECONDS);
+        } catch (IOException e) {
+            // Either file is missing.
+            return false;
+        }
+    }
+
+    /**
+     * Makes {@code thumbnail} from {@code source}, scaled to
+     * {@code bucketWidth} keeping the aspect ratio, and stamps it with the
+     * source's modification time. Failures are logged, not thrown.
+     */
+    void generate(Path source, Path thumbnail, int bucketWidth) {
+        long startNanos = Metrics.start();
+        try {
+            FileTime sourceTime = Files.getLastModifiedTime(source);
+            BufferedImage original = ImageIO.read(source.toFile());
+            if (original == null) {
+                failed.add(source);
+                logger.debug("Not a readable image, no thumbnail: {}", source);
+                return;
+            }
+            BufferedImage scaled = original.getWidth() > bucketWidth ? scale(original, bucketWidth) : original;
+            Files.createDirectories(thumbnail.getParent());
+            Path temp = Files.createTempFile(thumbnail.getParent(), thumbnail.getFileName() + ".", ".part");
+            try {
+                writeJpeg(scaled, temp);
+                Files.setLastModifiedTime(temp, sourceTime);
+                Files.move(temp, thumbnail, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            Metrics.timer("thumbnail.generate").recordSince(startNanos);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Could not make thumbnail of {}: {}", source, e.getMessage());
+        }
+    }
+
+    /**
+     * Scales {@code image} down to {@code width}, halving first while that
+     * stays above the target, which keeps bilinear filtering from skipping
+     * pixels on large reductions.
+     */
+    static BufferedImage scale(BufferedImage image, int width) {
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width) {
+            current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        return draw(current, width, height);
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height) {
+        // JPEG has no alpha channel: draw into an opaque RGB image.
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (OutputStream out = Files.newOutputStream(target);
+             ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
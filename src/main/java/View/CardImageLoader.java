@@ -3,7 +3,10 @@ package View;
 import Model.CardsLists.Card;
 import Model.CardsLists.CardElement;
 import Model.Database.DataBaseUpdate;
+import Utils.LifoExecutor;
 import Utils.LruImageCache;
+import Utils.Metrics;
+import Utils.ThumbnailCache;
 import javafx.application.Platform;
 import javafx.beans.property.DoubleProperty;
 import javafx.scene.image.Image;
@@ -28,10 +31,11 @@ import java.util.function.Consumer;
  * correct dimensions, and tracks per-cell outstanding loads so they can be
  * cancelled when the cell is reused.</p>
  *
- * <p>The two underlying executor services and the path-resolution cache are
+ * <p>The underlying executor services and the path-resolution cache are
  * static (shared across all cells) because they are global resources: there
- * is only one thread pool for loading images and one for resolving paths,
- * regardless of how many cells are alive.</p>
+ * is only one thread pool for loading images, one for resolving paths and
+ * one for {@link CardImagePrefetcher prefetching}, regardless of how many
+ * cells are alive.</p>
  */
 public final class CardImageLoader {
 
@@ -43,14 +47,21 @@ public final class CardImageLoader {
     static final ConcurrentHashMap<String, String> imagePathCache =
             new ConcurrentHashMap<>();
 
+    /**
+     * {@link ImageView#getProperties()} key of the {@link Future} of a
+     * {@link #loadInto} load still running for the view.
+     */
+    private static final String PENDING_LOAD_KEY = "CardImageLoader.pendingLoad";
+
     // ── Shared static resources ───────────────────────────────────────────────
     private static final Logger logger = LoggerFactory.getLogger(CardImageLoader.class);
     /**
      * Loads {@link Image} objects from disk. Four threads allow several images
-     * to load concurrently without starving the FX thread.
+     * to load concurrently without starving the FX thread; the most recent
+     * request runs first, as it is the likeliest to still be on screen.
      */
-    private static final ExecutorService imageLoadingExecutor =
-            Executors.newFixedThreadPool(4);
+    private static final LifoExecutor imageLoadingExecutor =
+            new LifoExecutor("image-loader", 4, Thread.NORM_PRIORITY);
 
     /**
      * Resolves image paths via {@link DataBaseUpdate#getAddresses} on a single
@@ -64,6 +75,20 @@ public final class CardImageLoader {
                 return thread;
             });
 
+    /**
+     * Loads images ahead of scrolling for {@link CardImagePrefetcher}. Kept
+     * apart from {@link #imageLoadingExecutor}, on two minimum-priority
+     * threads, so that prefetching never delays an image a cell is showing a
+     * placeholder for.
+     */
+    private static final ExecutorService prefetchExecutor =
+            Executors.newFixedThreadPool(2, runnable -> {
+                Thread thread = new Thread(runnable, "image-prefetch");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+
     // ── Per-instance state ────────────────────────────────────────────────────
     /**
      * Tracks outstanding load futures keyed by the {@link ImageView} they will
@@ -139,12 +164,38 @@ public final class CardImageLoader {
     // ── Public API ────────────────────────────────────────────────────────────
 
     /**
-     * Shuts down both executor services immediately. Called from
+     * Shuts down the executor services immediately. Called from
      * {@link CardTreeCell#shutdownImageLoadingExecutor()} on application exit.
      */
     public static void shutdown() {
         imageLoadingExecutor.shutdownNow();
         pathResolverExecutor.shutdownNow();
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * Queues a low-priority load of the image for {@code imageKey} into the
+     * LRU image cache, at the given size, unless it is cached already by the
+     * time the load runs.
+     *
+     * @param imageKey the card's image key, as returned by {@link #safeImageKey}
+     * @return the queued load, which the caller may cancel
+     */
+    static Future<?> prefetch(String imageKey, double width, double height) {
+        return prefetchExecutor.submit(() -> {
+            String resolvedPath = resolvePath(imageKey);
+            if (resolvedPath == null || LruImageCache.containsImage(resolvedPath)) {
+                return;
+            }
+            long startNanos = Metrics.start();
+            // Loaded synchronously: this already is a background thread.
+            Image image = new Image(ThumbnailCache.getInstance().urlFor(resolvedPath, width),
+                    width, height, true, true, false);
+            if (!image.isError()) {
+                LruImageCache.addImage(resolvedPath, image);
+                Metrics.timer("image.prefetch").recordSince(startNanos);
+            }
+        });
     }
 
     /**
@@ -199,6 +250,69 @@ public final class CardImageLoader {
         }
     }
 
+    /**
+     * Loads the image for {@code imageKey} into a standalone {@link ImageView}
+     * at the given size, for views that build their image views themselves
+     * rather than through a {@link CardTreeCell}.
+     *
+     * <p>A cached image is set immediately. Otherwise the path is resolved and
+     * the image decoded on the shared loader threads, and set on the FX thread
+     * once loaded. A new request for the same view cancels its previous one if
+     * that has not started yet, and keeps it from setting its image otherwise.
+     * Call on the FX thread.</p>
+     *
+     * @param imageKey  the card's image key (see {@link #safeImageKey}), or
+     *                  {@code null} to only cancel the view's pending load
+     * @param imageView the view to set the image on
+     * @param width     the width to decode the image at
+     * @param height    the height to decode the image at
+     */
+    public static void loadInto(String imageKey, ImageView imageView, double width, double height) {
+        if (imageView.getProperties().remove(PENDING_LOAD_KEY) instanceof Future<?> previous) {
+            previous.cancel(false);
+        }
+        if (imageKey == null) {
+            return;
+        }
+        String cachedPath = imagePathCache.get(imageKey);
+        Image cached = cachedPath == null ? null : LruImageCache.getImage(cachedPath);
+        if (cached != null) {
+            imageView.setImage(cached);
+            return;
+        }
+
+        long loadStartNanos = Metrics.start();
+        AtomicReference<Future<?>> futureRef = new AtomicReference<>();
+        Future<?> future = imageLoadingExecutor.submit(() -> {
+            String resolvedPath = resolvePath(imageKey);
+            if (resolvedPath == null) {
+                return;
+            }
+            Image image = LruImageCache.getImage(resolvedPath);
+            if (image == null) {
+                // Loaded synchronously: this already is a background thread.
+                image = new Image(ThumbnailCache.getInstance().urlFor(resolvedPath, width),
+                        width, height, true, true, false);
+                if (image.isError()) {
+                    logger.debug("Failed to load image {}", resolvedPath, image.getException());
+                    return;
+                }
+                LruImageCache.addImage(resolvedPath, image);
+                Metrics.timer("image.load").recordSince(loadStartNanos);
+            }
+            Image loaded = image;
+            Platform.runLater(() -> {
+                // Skipped if the view has since been given another image.
+                if (imageView.getProperties().get(PENDING_LOAD_KEY) == futureRef.get()) {
+                    imageView.getProperties().remove(PENDING_LOAD_KEY);
+                    imageView.setImage(loaded);
+                }
+            });
+        });
+        futureRef.set(future);
+        imageView.getProperties().put(PENDING_LOAD_KEY, future);
+    }
+
     /**
      * Resolves the on-disk path for {@code imageKey}, first checking
      * {@link #imagePathCache} and then delegating to
@@ -221,13 +335,7 @@ public final class CardImageLoader {
         }
         pathResolverExecutor.submit(() -> {
             try {
-                String[] addresses = DataBaseUpdate.getAddresses(imageKey + ".jpg");
-                String resolved = null;
-                if (addresses != null && addresses.length > 0) {
-                    resolved = "file:" + addresses[0];
-                    imagePathCache.put(imageKey, resolved);
-                }
-                callback.accept(resolved);
+                callback.accept(resolvePath(imageKey));
             } catch (Exception exception) {
                 logger.warn("Failed to resolve image path for key {}", imageKey, exception);
                 callback.accept(null);
@@ -235,6 +343,28 @@ public final class CardImageLoader {
         });
     }
 
+    /**
+     * Resolves the on-disk {@code file:} URL for {@code imageKey} on the
+     * calling thread, through {@link #imagePathCache}.
+     *
+     * @return the URL, or {@code null} if the key has no address
+     */
+    static String resolvePath(String imageKey) {
+        String cached = imagePathCache.get(imageKey);
+        if (cached != null) {
+            return cached;
+        }
+        long resolveStartNanos = Metrics.start();
+        String[] addresses = DataBaseUpdate.getAddresses(imageKey + ".jpg");
+        String resolved = null;
+        if (addresses != null && addresses.length > 0) {
+            resolved = "file:" + addresses[0];
+            imagePathCache.put(imageKey, resolved);
+        }
+        Metrics.timer("image.pathResolve").recordSince(resolveStartNanos);
+        return resolved;
+    }
+
     // ── Internal helpers ──────────────────────────────────────────────────────
 
     /**
@@ -273,17 +403,22 @@ public final class CardImageLoader {
 
         imageView.getProperties().put("expectedImagePath", resolvedPath);
 
+        // Timed from submission to a fully loaded image, queueing included, since
+        // that is how long the cell shows the placeholder.
+        long loadStartNanos = Metrics.start();
         AtomicReference<Future<?>> futureRef = new AtomicReference<>();
         Future<?> future = imageLoadingExecutor.submit(() -> {
             try {
+                // Cached under the original's path whichever file it was read from.
                 Image image = new Image(
-                        resolvedPath,
+                        ThumbnailCache.getInstance().urlFor(resolvedPath, cardWidthProperty.get()),
                         cardWidthProperty.get(),
                         cardHeightProperty.get(),
                         true, true, true);
 
                 if (image.getProgress() >= 1.0) {
                     LruImageCache.addImage(resolvedPath, image);
+                    Metrics.timer("image.load").recordSince(loadStartNanos);
                     Platform.runLater(() -> {
                         Object expected = imageView.getProperties().get("expectedImagePath");
                         if (Objects.equals(expected, resolvedPath)) {
@@ -296,6 +431,7 @@ public final class CardImageLoader {
                         image.progressProperty().addListener((obs, oldValue, newValue) -> {
                             if (newValue.doubleValue() >= 1.0) {
                                 LruImageCache.addImage(resolvedPath, image);
+                                Metrics.timer("image.load").recordSince(loadStartNanos);
                                 Object expected =
                                         imageView.getProperties().get("expectedImagePath");
                                 if (Objects.equals(expected, resolvedPath)) {
@@ -0,0 +1,263 @@
+package View;
+
+import Model.CardsLists.Card;
+import Model.CardsLists.CardElement;
+import Model.CardsLists.CardsGroup;
+import Utils.Metrics;
+import Utils.PrefetchWindow;
+import javafx.application.Platform;
+import javafx.beans.property.DoubleProperty;
+import javafx.scene.Node;
+import javafx.scene.control.Control;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeView;
+import javafx.scene.control.skin.VirtualFlow;
+
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntFunction;
+
+/**
+ * Loads card images ahead of scrolling in a virtualized {@link ListView} or
+ * {@link TreeView}, so that rows scrolled into view find their images in the
+ * {@link Utils.LruImageCache} instead of showing placeholders.
+ *
+ * <p>Whenever the rows on screen change, the prefetcher works out a
+ * {@link PrefetchWindow} of rows past them in the scroll direction (and a few
+ * behind), and queues low-priority loads of those rows' images through
+ * {@link CardImageLoader#prefetch}, nearest rows first. Queued loads for
+ * images that have left the window are cancelled, so a fast scroll does not
+ * leave a backlog of loads for rows it went past.</p>
+ *
+ * <p>All state is touched on the FX thread only.</p>
+ */
+public final class CardImagePrefetcher {
+
+    // Enough for a row cell's images even in the widest mosaic.
+    private static final int MAX_IMAGES_PER_ROW = 120;
+
+    private final Control view;
+    private final IntFunction<List<String>> imageKeysAt;
+    private final int rowsAhead;
+    private final int rowsBehind;
+    private final DoubleSupplier imageWidth;
+    private final DoubleSupplier imageHeight;
+
+    private final Map<String, Future<?>> pending = new LinkedHashMap<>();
+    private VirtualFlow<?> flow;
+    private PrefetchWindow.Direction direction = PrefetchWindow.Direction.FORWARD;
+    private double lastPosition;
+    private int lastFirstVisible = -1;
+    private int lastLastVisible = -1;
+
+    private CardImagePrefetcher(Control view, IntFunction<List<String>> imageKeysAt, int rowsAhead,
+                                int rowsBehind, DoubleSupplier imageWidth, DoubleSupplier imageHeight) {
+        this.view = view;
+        this.imageKeysAt = imageKeysAt;
+        this.rowsAhead = rowsAhead;
+        this.rowsBehind = rowsBehind;
+        this.imageWidth = imageWidth;
+        this.imageHeight = imageHeight;
+    }
+
+    /**
+     * Prefetches for a list whose rows each hold a single card, such as the
+     * right pane's list mode.
+     */
+    public static CardImagePrefetcher forCardList(ListView<Card> listView, double imageWidth,
+                                                  double imageHeight) {
+        return attach(listView, row -> imageKeysOf(listView.getItems().get(row)), 24, 6,
+                () -> imageWidth, () -> imageHeight);
+    }
+
+    /**
+     * Prefetches for a list whose rows each hold a row of cards, such as the
+     * right pane's mosaic mode.
+     */
+    public static CardImagePrefetcher forCardRows(ListView<List<Card>> listView, double imageWidth,
+                                                  double imageHeight) {
+        return attach(listView, row -> {
+            List<Card> cards = listView.getItems().get(row);
+            List<String> keys = new ArrayList<>();
+            if (cards != null) {
+                for (Card card : cards) {
+                    keys.addAll(imageKeysOf(card));
+                }
+            }
+            return keys;
+        }, 6, 2, () -> imageWidth, () -> imageHeight);
+    }
+
+    /**
+     * Prefetches for a tree of {@link CardTreeCell}s, where a row is a card
+     * group shown as a mosaic, at the tree's current card size.
+     */
+    public static CardImagePrefetcher forCardTree(TreeView<String> treeView, DoubleProperty cardWidthProperty,
+                                                  DoubleProperty cardHeightProperty) {
+        return attach(treeView, row -> imageKeysOf(groupOf(treeView.getTreeItem(row))), 3, 1,
+                cardWidthProperty::get, cardHeightProperty::get);
+    }
+
+    /**
+     * Attaches a prefetcher to {@code view}. It starts working once the view
+     * has a skin.
+     *
+     * @param imageKeysAt returns the image keys (see {@link CardImageLoader#safeImageKey})
+     *                    of the cards shown in a row, called on the FX thread
+     * @param rowsAhead   rows to prefetch in the scroll direction
+     * @param rowsBehind  rows to prefetch in the other direction
+     * @param imageWidth  the width to load images at, read when a load is queued
+     * @param imageHeight the height to load images at, read when a load is queued
+     */
+    public static CardImagePrefetcher attach(Control view, IntFunction<List<String>> imageKeysAt, int rowsAhead,
+                                             int rowsBehind, DoubleSupplier imageWidth, DoubleSupplier imageHeight) {
+        CardImagePrefetcher prefetcher =
+                new CardImagePrefetcher(view, imageKeysAt, rowsAhead, rowsBehind, imageWidth, imageHeight);
+        if (view.getSkin() != null) {
+            Platform.runLater(prefetcher::bindToFlow);
+        }
+        view.skinProperty().addListener((observable, oldSkin, newSkin) -> {
+            if (newSkin != null) {
+                // The flow is created with the skin but looked up after its first layout.
+                Platform.runLater(prefetcher::bindToFlow);
+            }
+        });
+        view.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) {
+                prefetcher.cancelAll();
+            }
+        });
+        return prefetcher;
+    }
+
+    private void bindToFlow() {
+        if (flow != null) {
+            return;
+        }
+        for (Node node : view.lookupAll(".virtual-flow")) {
+            if (node instanceof VirtualFlow<?> virtualFlow) {
+                flow = virtualFlow;
+                break;
+            }
+        }
+        if (flow == null) {
+            return;
+        }
+        lastPosition = flow.getPosition();
+        flow.positionProperty().addListener((observable, oldValue, newValue) -> update());
+        flow.cellCountProperty().addListener((observable, oldValue, newValue) -> {
+            lastFirstVisible = -1;
+            update();
+        });
+        update();
+    }
+
+    private void update() {
+        IndexedCell<?> firstCell = flow.getFirstVisibleCell();
+        IndexedCell<?> lastCell = flow.getLastVisibleCell();
+        if (firstCell == null || lastCell == null || firstCell.getIndex() < 0
+                || lastCell.getIndex() < firstCell.getIndex()) {
+            return;
+        }
+        double position = flow.getPosition();
+        PrefetchWindow.Direction newDirection = PrefetchWindow.Direction.of(lastPosition, position, direction);
+        lastPosition = position;
+        int firstVisible = firstCell.getIndex();
+        int lastVisible = lastCell.getIndex();
+        if (firstVisible == lastFirstVisible && lastVisible == lastLastVisible && newDirection == direction) {
+            return;
+        }
+        direction = newDirection;
+        lastFirstVisible = firstVisible;
+        lastLastVisible = lastVisible;
+
+        PrefetchWindow window = PrefetchWindow.around(firstVisible, lastVisible, flow.getCellCount(), direction,
+                rowsAhead, rowsBehind);
+        Set<String> wanted = new LinkedHashSet<>();
+        for (int row : window.rows()) {
+            List<String> keys = imageKeysAt.apply(row);
+            if (keys != null) {
+                wanted.addAll(keys.subList(0, Math.min(keys.size(), MAX_IMAGES_PER_ROW)));
+            }
+        }
+        schedule(wanted);
+    }
+
+    private void schedule(Set<String> wanted) {
+        Iterator<Map.Entry<String, Future<?>>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Future<?>> entry = iterator.next();
+            if (entry.getValue().isDone()) {
+                iterator.remove();
+            } else if (!wanted.contains(entry.getKey())) {
+                // A load already running is left to finish: its image is as good as done.
+                entry.getValue().cancel(false);
+                iterator.remove();
+                Metrics.counter("image.prefetch.cancelled").increment();
+            }
+        }
+        double width = imageWidth.getAsDouble();
+        double height = imageHeight.getAsDouble();
+        for (String imageKey : wanted) {
+            if (!pending.containsKey(imageKey)) {
+                pending.put(imageKey, CardImageLoader.prefetch(imageKey, width, height));
+                Metrics.counter("image.prefetch.queued").increment();
+            }
+        }
+    }
+
+    /**
+     * Cancels every queued load, e.g. when the view is taken off screen.
+     */
+    public void cancelAll() {
+        pending.values().forEach(future -> future.cancel(false));
+        pending.clear();
+        lastFirstVisible = -1;
+        lastLastVisible = -1;
+    }
+
+    private static List<String> imageKeysOf(Card card) {
+        if (card == null || card.getImagePath() == null) {
+            return List.of();
+        }
+        return List.of(card.getImagePath());
+    }
+
+    private static List<String> imageKeysOf(CardsGroup group) {
+        if (group == null || group.getCardList() == null) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>();
+        for (CardElement cardElement : group.getCardList()) {
+            if (keys.size() >= MAX_IMAGES_PER_ROW) {
+                break;
+            }
+            String key = CardImageLoader.safeImageKey(cardElement);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the card group a {@link CardTreeCell} shows for {@code treeItem},
+     * in either of the data shapes it accepts, or {@code null}.
+     */
+    private static CardsGroup groupOf(TreeItem<String> treeItem) {
+        if (!(treeItem instanceof DataTreeItem<?> dataTreeItem)) {
+            return null;
+        }
+        Object data = dataTreeItem.getData();
+        if (data instanceof CardsGroup group) {
+            return group;
+        }
+        if (data instanceof Map<?, ?> map && map.get("group") instanceof CardsGroup group) {
+            return group;
+        }
+        return null;
+    }
+}
@@ -1455,8 +1455,7 @@ public class CardTreeCell extends TreeCell<String> {
      * (cards that contain "Trap" in name_EN or "Piège" in name_FR) and set it as the GridView userData.
      */
     private void createCardsGroupCell(String itemName, CardsGroup group, Set<String> missingForThisGroup) {
-        long createCardsGroupCellStartNanos = Utils.PerfLog.start();
-        int cardCountForLogging = group.getCardList() == null ? 0 : group.getCardList().size();
+        long createCardsGroupCellStartNanos = Utils.Metrics.start();
         String rawGroupName = group.getName() == null ? "" : group.getName();
         boolean isArchetype;
         String displayName = rawGroupName;
@@ -1504,8 +1503,7 @@ public class CardTreeCell extends TreeCell<String> {
         // For Decks & Collections tab only; different menu per group type.
         wireGroupHeaderContextMenu(hbox, isArchetype);
 
-        Utils.PerfLog.stage(logger, "createCardsGroupCell: rebuilt group '" + rawGroupName
-                + "' (" + cardCountForLogging + " cards)", createCardsGroupCellStartNanos);
+        Utils.Metrics.timer("view.cardTreeCell.groupRebuild").recordSince(createCardsGroupCellStartNanos);
     }
 
     /**
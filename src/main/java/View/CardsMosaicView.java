@@ -1,21 +1,23 @@
 package View;
 
 import Model.CardsLists.Card;
-import Utils.LruImageCache;
+import Utils.MosaicLayout;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
-import javafx.scene.image.Image;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.skin.VirtualFlow;
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.text.TextAlignment;
 import javafx.stage.Popup;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -25,8 +27,24 @@ import java.util.Set;
  * Cards whose image is unavailable show a placeholder with all known
  * identifiers (print code, passcode, Konami ID) overlaid at the bottom.
  * Every card shows a hover popup with all available identifiers and names.
+ * <p>
+ * The mosaic is virtualized: it is a {@link ListView} whose rows each hold
+ * as many cards as fit the view's width, so only the rows on screen have
+ * nodes, and those are recycled as the view scrolls. The rows are laid out
+ * again when the width changes, keeping the first visible card in view. The
+ * view scrolls by itself and should not be put in a {@link
+ * javafx.scene.control.ScrollPane}.
  */
-public class CardsMosaicView extends FlowPane {
+public class CardsMosaicView extends ListView<List<Card>> {
+
+    private static final double GAP = 5;
+    // Room for the vertical scroll bar, which the rows must not run under.
+    private static final double SCROLL_BAR_ALLOWANCE = 16;
+
+    private final List<Card> cards;
+    private final double cellWidth;
+    private final double cellHeight;
+    private int cardsPerRow;
 
     // Single shared popup for the whole view — shown/hidden per-cell via
     // direct mouse event handlers on each StackPane cell.
@@ -43,18 +61,64 @@ public class CardsMosaicView extends FlowPane {
      * @param cellHeight the desired height for each card cell
      */
     public CardsMosaicView(List<Card> cards, double cellWidth, double cellHeight) {
-        setHgap(5);
-        setVgap(5);
-        setPadding(new Insets(5));
+        this.cards = Collections.unmodifiableList(new ArrayList<>(cards));
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
         this.getStyleClass().add("cards-mosaic-view");
+        setStyle("-fx-background-color: #100317; -fx-control-inner-background: #100317; "
+                + "-fx-padding: 5;");
+        setSelectionModel(null);
+        setFocusTraversable(false);
+        // Every row is one card high: lets the flow skip measuring cells.
+        setFixedCellSize(cellHeight + GAP);
+        setCellFactory(listView -> new MosaicRowCell());
 
         initHoverPopup();
 
-        for (Card card : cards) {
-            getChildren().add(createCardCell(card, cellWidth, cellHeight));
+        widthProperty().addListener((observable, oldWidth, newWidth) -> reflow());
+        reflow();
+
+        // The scroll bars are made with the skin.
+        skinProperty().addListener((observable, oldSkin, newSkin) -> Platform.runLater(this::styleScrollBars));
+    }
+
+    /**
+     * Returns the cards shown, in display order.
+     */
+    public List<Card> getCards() {
+        return cards;
+    }
+
+    // ------------------------------------------------------------------
+    // Layout
+    // ------------------------------------------------------------------
+
+    /**
+     * Splits the cards into rows for the current width, if that changes the
+     * number of cards per row.
+     */
+    private void reflow() {
+        double availableWidth = getWidth() - snappedLeftInset() - snappedRightInset() - SCROLL_BAR_ALLOWANCE;
+        int newCardsPerRow = MosaicLayout.cellsPerRow(availableWidth, cellWidth, GAP);
+        if (newCardsPerRow == cardsPerRow) {
+            return;
         }
+        int firstVisibleCard = firstVisibleRow() * cardsPerRow;
+        cardsPerRow = newCardsPerRow;
+        getItems().setAll(MosaicLayout.rows(cards, cardsPerRow));
+        if (firstVisibleCard > 0) {
+            scrollTo(firstVisibleCard / cardsPerRow);
+        }
+    }
 
-        Platform.runLater(this::styleAncestorScrollPane);
+    private int firstVisibleRow() {
+        for (Node node : lookupAll(".virtual-flow")) {
+            if (node instanceof VirtualFlow<?> flow
+                    && flow.getFirstVisibleCell() != null) {
+                return Math.max(0, flow.getFirstVisibleCell().getIndex());
+            }
+        }
+        return 0;
     }
 
     // ------------------------------------------------------------------
@@ -76,10 +140,6 @@ public class CardsMosaicView extends FlowPane {
         return lines.isEmpty() ? "(unknown)" : String.join("\n", lines);
     }
 
-    // ------------------------------------------------------------------
-    // Cell builder
-    // ------------------------------------------------------------------
-
     /**
      * Full tooltip text: all known identifiers and names, labeled, one per line.
      */
@@ -102,10 +162,6 @@ public class CardsMosaicView extends FlowPane {
         return sb.length() > 0 ? sb.toString() : "(no data)";
     }
 
-    // ------------------------------------------------------------------
-    // Text helpers
-    // ------------------------------------------------------------------
-
     private void initHoverPopup() {
         hoverLabel.setWrapText(true);
         hoverLabel.setMaxWidth(260);
@@ -125,26 +181,61 @@ public class CardsMosaicView extends FlowPane {
         hoverPopup.setAutoHide(false); // we control hide ourselves
     }
 
-    private Node createCardCell(Card card, double cellWidth, double cellHeight) {
-        Image image = LruImageCache.getImage(card.getImagePath());
-        boolean usedPlaceholder = (image == null || image.isError());
+    // ------------------------------------------------------------------
+    // Cells
+    // ------------------------------------------------------------------
 
-        if (usedPlaceholder) {
-            image = new Image("file:./src/main/resources/placeholder.jpg");
+    /**
+     * A row of the mosaic. Keeps the {@link CardTile}s it has made and rebinds
+     * them to the cards of whichever row it is given, so scrolling creates no
+     * nodes once every visible row has its tiles.
+     */
+    private final class MosaicRowCell extends ListCell<List<Card>> {
+        private final HBox rowContainer = new HBox(GAP);
+        private final List<CardTile> tiles = new ArrayList<>();
+
+        MosaicRowCell() {
+            setStyle("-fx-background-color: transparent; -fx-padding: 0;");
         }
 
-        ImageView iv = new ImageView(image);
-        iv.setFitWidth(cellWidth);
-        iv.setFitHeight(cellHeight);
-        iv.setPreserveRatio(true);
+        @Override
+        protected void updateItem(List<Card> row, boolean empty) {
+            super.updateItem(row, empty);
+            if (empty || row == null) {
+                for (CardTile tile : tiles) {
+                    tile.bind(null);
+                }
+                setGraphic(null);
+                return;
+            }
+            while (tiles.size() < row.size()) {
+                tiles.add(new CardTile());
+            }
+            for (int i = 0; i < tiles.size(); i++) {
+                tiles.get(i).bind(i < row.size() ? row.get(i) : null);
+            }
+            rowContainer.getChildren().setAll(tiles.subList(0, row.size()));
+            setGraphic(rowContainer);
+        }
+    }
+
+    /**
+     * One card of the mosaic: its image, and the identifier overlay shown
+     * while the image is the placeholder.
+     */
+    private final class CardTile extends StackPane {
+        private final ImageView imageView = new ImageView();
+        private final Label idLabel = new Label();
+        private Card card;
 
-        StackPane cell = new StackPane(iv);
-        cell.setMinSize(cellWidth, cellHeight);
-        cell.setPrefSize(cellWidth, cellHeight);
-        cell.setMaxSize(cellWidth, cellHeight);
+        CardTile() {
+            imageView.setFitWidth(cellWidth);
+            imageView.setFitHeight(cellHeight);
+            imageView.setPreserveRatio(true);
+            setMinSize(cellWidth, cellHeight);
+            setPrefSize(cellWidth, cellHeight);
+            setMaxSize(cellWidth, cellHeight);
 
-        if (usedPlaceholder) {
-            Label idLabel = new Label(buildIdentifierText(card));
             idLabel.setWrapText(true);
             idLabel.setTextAlignment(TextAlignment.CENTER);
             idLabel.setMaxWidth(cellWidth - 8);
@@ -158,94 +249,101 @@ public class CardsMosaicView extends FlowPane {
             );
             StackPane.setAlignment(idLabel, Pos.BOTTOM_CENTER);
             StackPane.setMargin(idLabel, new Insets(0, 4, 4, 4));
-            cell.getChildren().add(idLabel);
-        }
+            getChildren().addAll(imageView, idLabel);
 
-        // Hover popup: pre-build the text so the lambda captures a String,
-        // not the Card object, avoiding any closure retention issues.
-        String tooltipText = buildTooltipText(card);
+            // The overlay goes once the real image has loaded.
+            imageView.imageProperty().addListener((observable, oldImage, newImage) ->
+                    idLabel.setVisible(newImage == null || newImage == CardImageLoader.getPlaceholder()));
 
-        cell.setOnMouseEntered(e -> {
-            hoverLabel.setText(tooltipText);
-            hoverPopup.show(cell, e.getScreenX() + 14, e.getScreenY() + 14);
-        });
-        cell.setOnMouseMoved(e ->
-                hoverPopup.show(cell, e.getScreenX() + 14, e.getScreenY() + 14)
-        );
-        cell.setOnMouseExited(e -> hoverPopup.hide());
+            setOnMouseEntered(e -> {
+                if (card == null) {
+                    return;
+                }
+                hoverLabel.setText(buildTooltipText(card));
+                hoverPopup.show(this, e.getScreenX() + 14, e.getScreenY() + 14);
+            });
+            setOnMouseMoved(e -> {
+                if (card != null) {
+                    hoverPopup.show(this, e.getScreenX() + 14, e.getScreenY() + 14);
+                }
+            });
+            setOnMouseExited(e -> hoverPopup.hide());
+        }
 
-        return cell;
+        /**
+         * Shows {@code newCard}, or nothing if {@code null}. A cached image is
+         * shown at once; otherwise the placeholder is until the image has
+         * loaded in the background.
+         */
+        void bind(Card newCard) {
+            if (newCard == card) {
+                return;
+            }
+            card = newCard;
+            if (newCard == null) {
+                // Cancels a load still pending for the previous card.
+                CardImageLoader.loadInto(null, imageView, cellWidth, cellHeight);
+                imageView.setImage(null);
+                return;
+            }
+            idLabel.setText(buildIdentifierText(newCard));
+            imageView.setImage(CardImageLoader.getPlaceholder());
+            CardImageLoader.loadInto(newCard.getImagePath(), imageView, cellWidth, cellHeight);
+        }
     }
 
     // ------------------------------------------------------------------
-    // ScrollPane styling
+    // Scroll bar styling
     // ------------------------------------------------------------------
 
-    private void styleAncestorScrollPane() {
+    private void styleScrollBars() {
         try {
-            Node current = this;
-            while (current != null && !(current instanceof ScrollPane)) {
-                current = current.getParent();
-            }
-            if (current instanceof ScrollPane) {
-                applyStylesToScrollPane((ScrollPane) current);
+            Set<Node> bars = lookupAll(".scroll-bar");
+            bars.addAll(lookupAll(".overlay-scroll-bar"));
+            for (Node bar : bars) {
+                bar.setStyle(
+                        "-fx-background-color: transparent; " +
+                                "-fx-background-image: null; " +
+                                "-fx-padding: 0;"
+                );
+                Node track = bar.lookup(".track");
+                if (track != null) track.setStyle(
+                        "-fx-background-color: #100317; " +
+                                "-fx-background-image: null; " +
+                                "-fx-background-insets: 0; " +
+                                "-fx-background-radius: 4;"
+                );
+                Node thumb = bar.lookup(".thumb");
+                if (thumb != null) thumb.setStyle(
+                        "-fx-background-color: #cdfc04; " +
+                                "-fx-background: #cdfc04; " +
+                                "-fx-background-image: null; " +
+                                "-fx-background-insets: 2; " +
+                                "-fx-background-radius: 6; " +
+                                "-fx-pref-width: 10; " +
+                                "-fx-pref-height: 24; " +
+                                "-fx-opacity: 1; " +
+                                "-fx-effect: null;"
+                );
+                Node inc = bar.lookup(".increment-button");
+                if (inc != null) {
+                    inc.setStyle("-fx-background-color: #100317; -fx-background-image: null; " +
+                            "-fx-padding: 2; -fx-background-radius: 4;");
+                    Node arrow = inc.lookup(".increment-arrow");
+                    if (arrow == null) arrow = inc.lookup(".arrow");
+                    if (arrow != null) arrow.setStyle("-fx-background-color: #cdfc04;");
+                }
+                Node dec = bar.lookup(".decrement-button");
+                if (dec != null) {
+                    dec.setStyle("-fx-background-color: #100317; -fx-background-image: null; " +
+                            "-fx-padding: 2; -fx-background-radius: 4;");
+                    Node arrow = dec.lookup(".decrement-arrow");
+                    if (arrow == null) arrow = dec.lookup(".arrow");
+                    if (arrow != null) arrow.setStyle("-fx-background-color: #cdfc04;");
+                }
             }
         } catch (Exception ignored) {
             // best-effort -- never crash the UI
         }
     }
-
-    private void applyStylesToScrollPane(ScrollPane sp) {
-        if (sp == null) return;
-        Platform.runLater(() -> {
-            try {
-                Set<Node> bars = sp.lookupAll(".scroll-bar");
-                bars.addAll(sp.lookupAll(".overlay-scroll-bar"));
-                for (Node bar : bars) {
-                    bar.setStyle(
-                            "-fx-background-color: transparent; " +
-                                    "-fx-background-image: null; " +
-                                    "-fx-padding: 0;"
-                    );
-                    Node track = bar.lookup(".track");
-                    if (track != null) track.setStyle(
-                            "-fx-background-color: #100317; " +
-                                    "-fx-background-image: null; " +
-                                    "-fx-background-insets: 0; " +
-                                    "-fx-background-radius: 4;"
-                    );
-                    Node thumb = bar.lookup(".thumb");
-                    if (thumb != null) thumb.setStyle(
-                            "-fx-background-color: #cdfc04; " +
-                                    "-fx-background: #cdfc04; " +
-                                    "-fx-background-image: null; " +
-                                    "-fx-background-insets: 2; " +
-                                    "-fx-background-radius: 6; " +
-                                    "-fx-pref-width: 10; " +
-                                    "-fx-pref-height: 24; " +
-                                    "-fx-opacity: 1; " +
-                                    "-fx-effect: null;"
-                    );
-                    Node inc = bar.lookup(".increment-button");
-                    if (inc != null) {
-                        inc.setStyle("-fx-background-color: #100317; -fx-background-image: null; " +
-                                "-fx-padding: 2; -fx-background-radius: 4;");
-                        Node arrow = inc.lookup(".increment-arrow");
-                        if (arrow == null) arrow = inc.lookup(".arrow");
-                        if (arrow != null) arrow.setStyle("-fx-background-color: #cdfc04;");
-                    }
-                    Node dec = bar.lookup(".decrement-button");
-                    if (dec != null) {
-                        dec.setStyle("-fx-background-color: #100317; -fx-background-image: null; " +
-                                "-fx-padding: 2; -fx-background-radius: 4;");
-                        Node arrow = dec.lookup(".decrement-arrow");
-                        if (arrow == null) arrow = dec.lookup(".arrow");
-                        if (arrow != null) arrow.setStyle("-fx-background-color: #cdfc04;");
-                    }
-                }
-            } catch (Exception ignored) {
-                // best-effort
-            }
-        });
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,160 @@
+package View;
+
+import Utils.LatencyHistogram;
+import Utils.Metrics;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Non-modal window listing every {@link Metrics} timer, counter and gauge,
+ * with the timers' percentiles in milliseconds. Opened with
+ * {@code Ctrl+Shift+M} from the main window.
+ *
+ * <p>The table is a snapshot: <em>Refresh</em> re-reads the registry,
+ * <em>Reset</em> zeroes the timers and counters (e.g. before timing a batch
+ * of scanner adds), and <em>Save JSON</em> writes {@link Metrics#toJson()}
+ * to a file.</p>
+ */
+public class MetricsDiagnosticsWindow extends Stage {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsDiagnosticsWindow.class);
+
+    // ── Theme ────────────────────────────────────────────────────────────────
+    private static final String BG = "#100317";
+
+    private static MetricsDiagnosticsWindow openWindow;
+
+    private final ObservableList<Row> rows = FXCollections.observableArrayList();
+
+    /**
+     * Shows the diagnostics window, reusing it if it is already open.
+     *
+     * @param owner the window it belongs to (may be {@code null})
+     */
+    public static void showFor(Window owner) {
+        if (openWindow == null) {
+            openWindow = new MetricsDiagnosticsWindow(owner);
+            openWindow.setOnHidden(event -> openWindow = null);
+        }
+        openWindow.refresh();
+        openWindow.show();
+        openWindow.toFront();
+    }
+
+    private MetricsDiagnosticsWindow(Window owner) {
+        if (owner != null) {
+            initOwner(owner);
+        }
+        setTitle("Diagnostics — metrics");
+
+        TableView<Row> table = new TableView<>(rows);
+        table.getColumns().add(textColumn("Name", Row::name, 320));
+        table.getColumns().add(textColumn("Kind", Row::kind, 70));
+        table.getColumns().add(numberColumn("Count", Row::count));
+        table.getColumns().add(numberColumn("p50 ms", Row::p50Millis));
+        table.getColumns().add(numberColumn("p90 ms", Row::p90Millis));
+        table.getColumns().add(numberColumn("p99 ms", Row::p99Millis));
+        table.getColumns().add(numberColumn("Max ms", Row::maxMillis));
+        table.getColumns().add(numberColumn("Mean ms", Row::meanMillis));
+        table.setColumnResizePolicy(TableView.UNCONSTRAINED_RESIZE_POLICY);
+        VBox.setVgrow(table, Priority.ALWAYS);
+
+        Button refreshButton = new Button("Refresh");
+        refreshButton.setOnAction(event -> refresh());
+        Button resetButton = new Button("Reset");
+        resetButton.setOnAction(event -> {
+            Metrics.reset();
+            refresh();
+        });
+        Button saveButton = new Button("Save JSON…");
+        saveButton.setOnAction(event -> saveJson());
+        HBox buttons = new HBox(8, refreshButton, resetButton, saveButton);
+
+        VBox content = new VBox(8, buttons, table);
+        content.setPadding(new Insets(10));
+        content.setStyle("-fx-background-color: " + BG + ";");
+        setScene(new Scene(content, 900, 600));
+    }
+
+    private void refresh() {
+        rows.clear();
+        for (Metrics.Timer timer : Metrics.timers().values()) {
+            LatencyHistogram.Snapshot snapshot = timer.snapshot();
+            rows.add(new Row(timer.getName(), "timer", snapshot.getCount(),
+                    toMillis(snapshot.valueAtPercentile(50)),
+                    toMillis(snapshot.valueAtPercentile(90)),
+                    toMillis(snapshot.valueAtPercentile(99)),
+                    toMillis(snapshot.getMax()),
+                    toMillis(snapshot.getMean())));
+        }
+        for (Metrics.Counter counter : Metrics.counters().values()) {
+            rows.add(new Row(counter.getName(), "counter", counter.get(), null, null, null, null, null));
+        }
+        for (Map.Entry<String, Long> gauge : Metrics.readGauges().entrySet()) {
+            rows.add(new Row(gauge.getKey(), "gauge", gauge.getValue(), null, null, null, null, null));
+        }
+    }
+
+    private void saveJson() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Save metrics");
+        fileChooser.setInitialFileName("metrics.json");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON", "*.json"));
+        File file = fileChooser.showSaveDialog(this);
+        if (file == null) {
+            return;
+        }
+        try {
+            Metrics.writeJson(file.toPath());
+        } catch (IOException exception) {
+            logger.error("Could not write metrics to {}", file, exception);
+        }
+    }
+
+    private static Double toMillis(double nanos) {
+        return Math.round(nanos / 1_000) / 1_000.0;
+    }
+
+    private static TableColumn<Row, String> textColumn(String title, Function<Row, String> value, double width) {
+        TableColumn<Row, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+        column.setPrefWidth(width);
+        return column;
+    }
+
+    private static <T extends Number> TableColumn<Row, T> numberColumn(String title, Function<Row, T> value) {
+        TableColumn<Row, T> column = new TableColumn<>(title);
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(value.apply(cell.getValue())));
+        column.setPrefWidth(80);
+        column.setStyle("-fx-alignment: CENTER-RIGHT;");
+        return column;
+    }
+
+    /**
+     * One table line; the millisecond columns are {@code null} for counters
+     * and gauges.
+     */
+    private record Row(String name, String kind, long count, Double p50Millis, Double p90Millis,
+                       Double p99Millis, Double maxMillis, Double meanMillis) {
+    }
+}
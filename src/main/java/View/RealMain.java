@@ -1,5 +1,7 @@
 package View;
 
+import Model.Database.WriteBehindJournal;
+import Utils.Metrics;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
@@ -7,6 +9,9 @@ import javafx.geometry.Rectangle2D;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import org.slf4j.Logger;
@@ -76,6 +81,10 @@ public class RealMain extends Application {
 
         primaryStage.setScene(scene);
 
+        scene.getAccelerators().put(
+                new KeyCodeCombination(KeyCode.M, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN),
+                () -> MetricsDiagnosticsWindow.showFor(primaryStage));
+
         primaryStage.setOnCloseRequest(event -> {
             try {
                 if (controller != null) controller.dispose();
@@ -107,5 +116,7 @@ public class RealMain extends Application {
             CardTreeCell.shutdownImageLoadingExecutor();
         } catch (Exception ignored) {
         }
+        WriteBehindJournal.flushAll();
+        Metrics.dumpIfRequested();
     }
 }
\ No newline at end of file
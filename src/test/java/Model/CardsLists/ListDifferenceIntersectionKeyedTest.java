@@ -0,0 +1,159 @@
+package Model.CardsLists;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property-based tests for the keyed {@code ListDifIntersectByKey}: on random
+ * lists, with few distinct keys, missing keys and every flag combination, it must
+ * return exactly what the nested-scan {@code ListDifIntersect} returns for the
+ * matching key-equality comparator, order included, and the 6-arg variant must
+ * mark exactly the same elements.
+ */
+class ListDifferenceIntersectionKeyedTest {
+
+    private static final int RUNS_PER_SEED = 200;
+
+    private static final List<String> NO_FILTER = null;
+
+    /** The keys the wrappers match on; {@link #sameKey} gives the nested scan's comparator. */
+    private static final List<Function<Card, String>> KEYS = List.of(
+            Card::getImagePath, Card::getKonamiId, Card::getPrintCode, Card::getPassCode);
+
+    private static BiPredicate<Card, Card> sameKey(Function<Card, String> key) {
+        return (card1, card2) -> key.apply(card1) != null && key.apply(card1).equals(key.apply(card2));
+    }
+
+    // ── Random fixture ───────────────────────────────────────────────────────
+
+    /** A random value out of a handful, or {@code null} one time in five. */
+    private static String value(Random random, String prefix) {
+        return random.nextInt(5) == 0 ? null : prefix + random.nextInt(4);
+    }
+
+    private static CardElement element(Random random) {
+        Card card = new Card();
+        card.setKonamiId(value(random, "KID-"));
+        card.setImagePath(value(random, "img/"));
+        card.setPrintCode(value(random, "LOB-EN00"));
+        card.setPassCode(value(random, ""));
+        card.setArtNumber(String.valueOf(1 + random.nextInt(2)));
+        return new CardElement(card, random.nextInt(3) == 0, random.nextInt(3) == 0,
+                random.nextInt(3) == 0, random.nextInt(3) == 0);
+    }
+
+    private static List<CardElement> list(Random random) {
+        List<CardElement> list = new ArrayList<>();
+        int size = random.nextInt(12);
+        for (int i = 0; i < size; i++) {
+            list.add(element(random));
+        }
+        return list;
+    }
+
+    private static List<String> filter(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> NO_FILTER;
+            case 1 -> List.of("*");
+            case 2 -> List.of("+");
+            default -> List.of("O", "D");
+        };
+    }
+
+    private static List<String> describe(List<List<CardElement>> lists) {
+        List<String> out = new ArrayList<>();
+        for (List<CardElement> list : lists) {
+            out.add("|");
+            for (CardElement element : list) {
+                out.add(element.getCard().getKonamiId() + "/" + element);
+            }
+        }
+        return out;
+    }
+
+    // ── Properties ───────────────────────────────────────────────────────────
+
+    @ParameterizedTest(name = "seed {0}")
+    @CsvSource({"1", "2", "3", "42", "2024"})
+    void fiveArg_keyedMatchesNestedScan(long seed) {
+        Random random = new Random(seed);
+        for (int run = 0; run < RUNS_PER_SEED; run++) {
+            List<CardElement> listA = list(random);
+            List<CardElement> listB = list(random);
+            List<String> mustContain = filter(random);
+            List<String> mustNotContain = filter(random);
+            for (Function<Card, String> key : KEYS) {
+                List<List<CardElement>> expected = ListDifferenceIntersection.ListDifIntersect(
+                        listA, listB, sameKey(key), mustContain, mustNotContain);
+                List<List<CardElement>> actual = ListDifferenceIntersection.ListDifIntersectByKey(
+                        listA, listB, key, mustContain, mustNotContain);
+
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertSameElements(expected.get(i), actual.get(i));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "seed {0}")
+    @CsvSource({"1", "2", "3", "42", "2024"})
+    void sixArg_keyedMarksSameElementsAsNestedScan(long seed) {
+        Random random = new Random(seed);
+        for (int run = 0; run < RUNS_PER_SEED; run++) {
+            long fixtureSeed = random.nextLong();
+            List<String> mustContain = filter(random);
+            List<String> mustNotContain = filter(random);
+            // Some B elements share their Card: only one of them may be matched per call.
+            boolean shareCards = random.nextBoolean();
+            for (Function<Card, String> key : KEYS) {
+                for (String character : List.of("D", "O")) {
+                    List<List<CardElement>> expectedInput = sixArgFixture(fixtureSeed, shareCards);
+                    List<List<CardElement>> actualInput = sixArgFixture(fixtureSeed, shareCards);
+
+                    List<List<CardElement>> expected = ListDifferenceIntersection.ListDifIntersect(
+                            expectedInput.get(0), expectedInput.get(1), sameKey(key),
+                            mustContain, mustNotContain, character);
+                    List<List<CardElement>> actual = ListDifferenceIntersection.ListDifIntersectByKey(
+                            actualInput.get(0), actualInput.get(1), key,
+                            mustContain, mustNotContain, character);
+
+                    assertEquals(describe(expected), describe(actual));
+                    assertEquals(describe(expectedInput), describe(actualInput));
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the same A and B lists each time for a seed, as the 6-arg variants mark
+     * their input in place.
+     */
+    private static List<List<CardElement>> sixArgFixture(long seed, boolean shareCards) {
+        Random random = new Random(seed);
+        List<CardElement> listA = list(random);
+        List<CardElement> listB = list(random);
+        if (shareCards) {
+            for (int i = 1; i < listB.size(); i += 2) {
+                CardElement previous = listB.get(i - 1);
+                listB.set(i, new CardElement(previous.getCard(), false, false, false, false));
+            }
+        }
+        return List.of(listA, listB);
+    }
+
+    private static void assertSameElements(List<CardElement> expected, List<CardElement> actual) {
+        assertEquals(expected.size(), actual.size(), "sizes");
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), "element " + i);
+        }
+    }
+}
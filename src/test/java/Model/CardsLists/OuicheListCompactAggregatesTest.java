@@ -0,0 +1,182 @@
+package Model.CardsLists;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the compact maps kept up by the incremental hooks, through
+ * {@link OuicheListCompactAggregates}, hold the same counts as a full rebuild
+ * with {@link OuicheList#buildCompactMapForStatus}, including where the
+ * group-max, collection-sharing and loose-collection rules make a slot change
+ * leave a count unchanged, and where a loose collection adds its deck groups'
+ * needs to its cardsList's.
+ */
+class OuicheListCompactAggregatesTest {
+
+    private Card cardA;
+    private Card cardB;
+    private Deck deck1;
+    private Deck deck2;
+    private ThemeCollection collection;
+    private ThemeCollection looseCollection;
+
+    private static Card card(String konamiId, String imagePath) {
+        Card c = new Card();
+        c.setKonamiId(konamiId);
+        c.setImagePath(imagePath);
+        return c;
+    }
+
+    private static CardElement missingSlot(Card card) {
+        CardElement element = new CardElement(card);
+        element.setOwnershipStatus(OwnershipStatus.MISSING);
+        return element;
+    }
+
+    private static Deck deck(String name, Card... cards) {
+        Deck deck = new Deck();
+        deck.setName(name);
+        for (Card card : cards) {
+            deck.getMainDeck().add(missingSlot(card));
+        }
+        return deck;
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        OuicheListTestSupport.resetAll();
+
+        cardA = card("KID-001", "img/a.jpg");
+        cardB = card("KID-002", "img/b.jpg");
+
+        // One group of two alternative decks, sharing with the collection's cardsList:
+        // A needs max(max(2, 1), 1) = 2 copies.
+        deck1 = deck("Deck1", cardA, cardA);
+        deck2 = deck("Deck2", cardA);
+        collection = new ThemeCollection();
+        collection.setName("Collection");
+        collection.setLinkedDecks(new ArrayList<>(List.of(new ArrayList<>(List.of(deck1, deck2)))));
+        collection.setCardsList(new ArrayList<>(List.of(missingSlot(cardA))));
+
+        // Loose: B counts, A only once the collection no longer needs it.
+        looseCollection = new ThemeCollection();
+        looseCollection.setName("Loose");
+        looseCollection.setConnectToWholeCollection(true);
+        looseCollection.setCardsList(new ArrayList<>(List.of(missingSlot(cardA), missingSlot(cardB))));
+
+        DecksAndCollectionsList ouicheList = new DecksAndCollectionsList();
+        ouicheList.addCollection(collection);
+        ouicheList.addCollection(looseCollection);
+        OuicheList.setDetailedOuicheList(ouicheList);
+        OuicheList.setMyCardsCollection(new OwnedCardsCollection());
+        OuicheList.createOuicheList(null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        OuicheListTestSupport.resetAll();
+    }
+
+    private static String key(Card card) {
+        return OuicheList.cardKey(new CardElement(card));
+    }
+
+    private static void assertMatchesFullRebuild() {
+        for (OwnershipStatus status : List.of(OwnershipStatus.MISSING, OwnershipStatus.OWNED_SUBSTANDARD)) {
+            LinkedHashMap<String, CardElement> map = new LinkedHashMap<>();
+            LinkedHashMap<String, Integer> counts = new LinkedHashMap<>();
+            OuicheList.buildCompactMapForStatus(status, map, counts);
+            LinkedHashMap<String, Integer> incremental = status == OwnershipStatus.MISSING
+                    ? OuicheList.getMaOuicheListCounts()
+                    : OuicheList.getMaOuicheListSubstandardCounts();
+            assertEquals(new HashMap<>(counts), new HashMap<>(incremental), "counts for " + status);
+        }
+        assertEquals(OuicheList.getMaOuicheListCounts().keySet(), OuicheList.getMaOuicheList().keySet());
+    }
+
+    @Test
+    void ownedCopies_followGroupMaxAndSharing() {
+        assertEquals(2, OuicheList.getMaOuicheListCounts().get(key(cardA)));
+
+        OuicheList.onOwnedCardAdded(new CardElement(cardA));
+        assertMatchesFullRebuild();
+
+        OuicheList.onOwnedCardAdded(new CardElement(cardA));
+        assertMatchesFullRebuild();
+
+        OuicheList.onOwnedCardAdded(new CardElement(cardA));
+        assertMatchesFullRebuild();
+    }
+
+    @Test
+    void looseCollection_countsOnlyOnceOtherNeedsAreMet() {
+        for (int i = 0; i < 4; i++) {
+            OuicheList.onOwnedCardAdded(new CardElement(cardA));
+            assertMatchesFullRebuild();
+        }
+        // Every non-loose A slot is filled: the loose collection's need shows.
+        assertEquals(1, OuicheList.getMaOuicheListCounts().get(key(cardA)));
+        assertEquals(1, OuicheList.getMaOuicheListCounts().get(key(cardB)));
+    }
+
+    @Test
+    void looseCollectionWithDecks_addsGroupMaxesAndCardsList() throws Exception {
+        // A loose collection needing A in its linked deck and in its cardsList: 1 + 1.
+        Deck looseDeck = deck("LooseDeck", cardA);
+        ThemeCollection loose = new ThemeCollection();
+        loose.setName("LooseWithDecks");
+        loose.setConnectToWholeCollection(true);
+        loose.setLinkedDecks(new ArrayList<>(List.of(new ArrayList<>(List.of(looseDeck)))));
+        loose.setCardsList(new ArrayList<>(List.of(missingSlot(cardA))));
+
+        OuicheListTestSupport.resetAll();
+        DecksAndCollectionsList ouicheList = new DecksAndCollectionsList();
+        ouicheList.addCollection(loose);
+        OuicheList.setDetailedOuicheList(ouicheList);
+        OuicheList.setMyCardsCollection(new OwnedCardsCollection());
+        OuicheList.createOuicheList(null, null);
+        assertEquals(2, OuicheList.getMaOuicheListCounts().get(key(cardA)));
+
+        OuicheList.onDeckCardAdded(missingSlot(cardA), "LooseDeck", "main", null, Integer.MAX_VALUE);
+        assertMatchesFullRebuild();
+        assertEquals(3, OuicheList.getMaOuicheListCounts().get(key(cardA)));
+
+        OuicheList.onOwnedCardAdded(new CardElement(cardA));
+        assertMatchesFullRebuild();
+        assertEquals(2, OuicheList.getMaOuicheListCounts().get(key(cardA)));
+    }
+
+    @Test
+    void deckSlotsAddedAndRemoved_matchFullRebuild() {
+        OuicheList.onDeckCardAdded(missingSlot(cardA), "Deck2", "main", null, Integer.MAX_VALUE);
+        OuicheList.onDeckCardAdded(missingSlot(cardA), "Deck2", "main", null, Integer.MAX_VALUE);
+        assertMatchesFullRebuild();
+        assertEquals(3, OuicheList.getMaOuicheListCounts().get(key(cardA)));
+
+        OuicheList.onDeckCardRemoved(deck2.getMainDeck().get(0), "Deck2", "main", null, 0);
+        assertMatchesFullRebuild();
+
+        OuicheList.onDeckCardAdded(missingSlot(cardB), null, null, "Collection", Integer.MAX_VALUE);
+        assertMatchesFullRebuild();
+        assertEquals(1, OuicheList.getMaOuicheListCounts().get(key(cardB)));
+    }
+
+    @Test
+    void ownedCopyRemoved_matchesFullRebuild() {
+        CardElement owned = new CardElement(cardA);
+        OuicheList.onOwnedCardAdded(owned);
+        OuicheList.onOwnedCardAdded(new CardElement(cardA));
+        assertMatchesFullRebuild();
+
+        OuicheList.onOwnedCardRemoved(owned);
+        assertMatchesFullRebuild();
+    }
+}
@@ -0,0 +1,83 @@
+package Model.CardsLists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link OuicheListPoolIndex}: first eligible match in original pool
+ * order, and a card taken through one index leaving the other.
+ */
+class OuicheListPoolIndexTest {
+
+    private static Card card(String konamiId, String imagePath) {
+        Card c = new Card();
+        c.setKonamiId(konamiId);
+        c.setImagePath(imagePath);
+        return c;
+    }
+
+    private static CardElement owned(Card card, CardCondition condition) {
+        CardElement element = new CardElement(card);
+        element.setCondition(condition);
+        return element;
+    }
+
+    @Test
+    void take_returnsFirstMatchInPoolOrder() {
+        Card artworkA = card("KID-1", "img/1a.jpg");
+        Card artworkB = card("KID-1", "img/1b.jpg");
+        CardElement first = new CardElement(artworkB);
+        CardElement second = new CardElement(artworkA);
+        CardElement third = new CardElement(artworkA);
+        OuicheListPoolIndex pool = new OuicheListPoolIndex(List.of(first, second, third));
+
+        assertSame(second, pool.takeByImagePath("img/1a.jpg", new CardElement(artworkA), false));
+        assertSame(first, pool.takeByKonamiId("KID-1", new CardElement(artworkA), false));
+        assertSame(third, pool.takeByKonamiId("KID-1", new CardElement(artworkA), false));
+        assertNull(pool.takeByKonamiId("KID-1", new CardElement(artworkA), false));
+        assertNull(pool.takeByImagePath("img/1a.jpg", new CardElement(artworkA), false));
+    }
+
+    @Test
+    void takeByImagePath_leavesKonamiIdIndexToo() {
+        Card cardA = card("KID-1", "img/1.jpg");
+        CardElement only = new CardElement(cardA);
+        OuicheListPoolIndex pool = new OuicheListPoolIndex(List.of(only));
+
+        assertSame(only, pool.takeByImagePath("img/1.jpg", new CardElement(cardA), false));
+        assertNull(pool.takeByKonamiId("KID-1", new CardElement(cardA), false));
+        assertTrue(pool.toList().isEmpty());
+    }
+
+    @Test
+    void qualityRequired_skipsButKeepsIneligibleCards() {
+        Card cardA = card("KID-1", "img/1.jpg");
+        CardElement played = owned(cardA, CardCondition.PLAYED);
+        CardElement mint = owned(cardA, CardCondition.MINT);
+        OuicheListPoolIndex pool = new OuicheListPoolIndex(List.of(played, mint));
+        CardElement wantsNearMint = owned(cardA, CardCondition.NEAR_MINT);
+
+        assertSame(mint, pool.takeByKonamiId("KID-1", wantsNearMint, true));
+        assertNull(pool.takeByKonamiId("KID-1", wantsNearMint, true));
+        assertSame(played, pool.takeByImagePath("img/1.jpg", wantsNearMint, false));
+    }
+
+    @Test
+    void toList_keepsRemainingCardsInPoolOrder() {
+        Card cardA = card("KID-1", "img/1.jpg");
+        Card cardB = card("KID-2", "img/2.jpg");
+        CardElement a1 = new CardElement(cardA);
+        CardElement b1 = new CardElement(cardB);
+        CardElement a2 = new CardElement(cardA);
+        CardElement b2 = new CardElement(cardB);
+        OuicheListPoolIndex pool = new OuicheListPoolIndex(List.of(a1, b1, a2, b2));
+
+        pool.takeByKonamiId("KID-2", new CardElement(cardB), false);
+        pool.takeByImagePath("img/1.jpg", new CardElement(cardA), false);
+
+        assertEquals(List.of(a2, b2), pool.toList());
+    }
+}
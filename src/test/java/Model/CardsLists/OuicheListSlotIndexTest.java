@@ -0,0 +1,149 @@
+package Model.CardsLists;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OuicheListSlotIndex}: section order, lookups by KonamiId,
+ * artwork and name, and upkeep as slots are added and removed.
+ */
+class OuicheListSlotIndexTest {
+
+    private Card cardA;
+    private Card cardB;
+    private Deck standaloneDeck;
+    private Deck linkedDeck;
+    private ThemeCollection collection;
+    private ThemeCollection looseCollection;
+    private DecksAndCollectionsList ouicheList;
+
+    private static Card card(String konamiId, String imagePath) {
+        Card c = new Card();
+        c.setKonamiId(konamiId);
+        c.setImagePath(imagePath);
+        return c;
+    }
+
+    private static List<CardElement> slots(Card... cards) {
+        List<CardElement> slots = new ArrayList<>();
+        for (Card card : cards) {
+            slots.add(new CardElement(card));
+        }
+        return slots;
+    }
+
+    @BeforeEach
+    void setUp() {
+        cardA = card("KID-001", "img/a.jpg");
+        cardB = card("KID-002", "img/b.jpg");
+
+        standaloneDeck = new Deck();
+        standaloneDeck.setName("Standalone");
+        standaloneDeck.setMainDeck(slots(cardA));
+
+        linkedDeck = new Deck();
+        linkedDeck.setName("Linked");
+        linkedDeck.setExtraDeck(slots(cardA, cardB));
+
+        collection = new ThemeCollection();
+        collection.setName("Collection");
+        collection.setLinkedDecks(new ArrayList<>(List.of(new ArrayList<>(List.of(linkedDeck)))));
+        collection.setCardsList(slots(cardB));
+
+        looseCollection = new ThemeCollection();
+        looseCollection.setName("Loose");
+        looseCollection.setConnectToWholeCollection(true);
+        looseCollection.setCardsList(slots(cardA));
+
+        // The loose collection is listed first but is ranked last, as generated.
+        ouicheList = new DecksAndCollectionsList();
+        ouicheList.addCollection(looseCollection);
+        ouicheList.addCollection(collection);
+        ouicheList.addDeck(standaloneDeck);
+    }
+
+    private static List<List<CardElement>> slotLists(List<OuicheListSlotIndex.Section> sections) {
+        List<List<CardElement>> lists = new ArrayList<>();
+        for (OuicheListSlotIndex.Section section : sections) {
+            lists.add(section.slots());
+        }
+        return lists;
+    }
+
+    @Test
+    void sectionsWithKonamiId_areInGenerationOrder() {
+        OuicheListSlotIndex index = new OuicheListSlotIndex(ouicheList);
+
+        List<OuicheListSlotIndex.Section> sections = index.sectionsWithKonamiId("KID-001");
+
+        assertEquals(3, sections.size());
+        assertSame(linkedDeck.getExtraDeck(), sections.get(0).slots());
+        assertSame(standaloneDeck.getMainDeck(), sections.get(1).slots());
+        assertSame(looseCollection.getCardsList(), sections.get(2).slots());
+        assertEquals("Linked", sections.get(0).contextName());
+        assertFalse(sections.get(1).isLoose());
+        assertTrue(sections.get(2).isLoose());
+    }
+
+    @Test
+    void sectionsWithKonamiIdOrImagePath_mergesEachSectionOnce() {
+        OuicheListSlotIndex index = new OuicheListSlotIndex(ouicheList);
+
+        // Same KonamiId as cardA, cardB's artwork.
+        List<OuicheListSlotIndex.Section> sections = index.sectionsWithKonamiIdOrImagePath("KID-001", "img/b.jpg");
+
+        assertEquals(List.of(linkedDeck.getExtraDeck(), collection.getCardsList(),
+                        standaloneDeck.getMainDeck(), looseCollection.getCardsList()),
+                slotLists(sections));
+        assertTrue(index.sectionsWithKonamiIdOrImagePath("KID-404", null).isEmpty());
+    }
+
+    @Test
+    void slotAddedAndRemoved_keepSectionsCurrent() {
+        OuicheListSlotIndex index = new OuicheListSlotIndex(ouicheList);
+        CardElement added = new CardElement(cardB);
+        standaloneDeck.getMainDeck().add(added);
+
+        index.slotAdded(standaloneDeck.getMainDeck(), added);
+        assertEquals(List.of(linkedDeck.getExtraDeck(), collection.getCardsList(), standaloneDeck.getMainDeck()),
+                slotLists(index.sectionsWithKonamiId("KID-002")));
+
+        // Only cardB's slot leaves the linked deck; its cardA slot stays.
+        CardElement removed = linkedDeck.getExtraDeck().remove(1);
+        index.slotRemoved(linkedDeck.getExtraDeck(), removed);
+        assertEquals(List.of(collection.getCardsList(), standaloneDeck.getMainDeck()),
+                slotLists(index.sectionsWithKonamiId("KID-002")));
+        assertEquals(3, index.sectionsWithKonamiId("KID-001").size());
+    }
+
+    @Test
+    void slotRemoved_keepsSectionWhileAnotherSlotMatches() {
+        CardElement second = new CardElement(cardA);
+        standaloneDeck.getMainDeck().add(second);
+        OuicheListSlotIndex index = new OuicheListSlotIndex(ouicheList);
+
+        standaloneDeck.getMainDeck().remove(second);
+        index.slotRemoved(standaloneDeck.getMainDeck(), second);
+
+        assertTrue(slotLists(index.sectionsWithKonamiId("KID-001")).contains(standaloneDeck.getMainDeck()));
+    }
+
+    @Test
+    void findDeckAndCollection_byName() {
+        OuicheListSlotIndex index = new OuicheListSlotIndex(ouicheList);
+
+        assertSame(standaloneDeck, index.findDeck("Standalone", null));
+        assertSame(linkedDeck, index.findDeck("Linked", null));
+        assertSame(linkedDeck, index.findDeck("Linked", "Collection"));
+        assertNull(index.findDeck("Linked", "Loose"));
+        assertSame(collection, index.findCollection("Collection"));
+        assertNull(index.findCollection("Unknown"));
+        assertTrue(index.contains(looseCollection.getCardsList()));
+        assertFalse(index.contains(new ArrayList<>()));
+    }
+}
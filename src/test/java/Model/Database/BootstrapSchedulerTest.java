@@ -0,0 +1,116 @@
+package Model.Database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BootstrapScheduler}.
+ */
+class BootstrapSchedulerTest {
+
+    @Test
+    void run_respectsDependencies() throws InterruptedException {
+        List<String> order = new CopyOnWriteArrayList<>();
+        BootstrapScheduler scheduler = new BootstrapScheduler("test", 4)
+                .addTask("merge", () -> order.add("merge"), "left", "right")
+                .addTask("left", () -> order.add("left"), "root")
+                .addTask("right", () -> order.add("right"), "root")
+                .addTask("root", () -> order.add("root"));
+
+        scheduler.run();
+
+        assertEquals(4, order.size());
+        assertEquals("root", order.get(0));
+        assertEquals("merge", order.get(3));
+        assertEquals(Set.of("root", "left", "right", "merge"), scheduler.getTimings().keySet());
+    }
+
+    @Test
+    void run_independentTasksRunConcurrently() throws InterruptedException {
+        // Each task waits for the other to start: this only completes if both run at once.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        BootstrapScheduler.Action rendezvous = () -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("tasks did not overlap");
+            }
+        };
+        BootstrapScheduler scheduler = new BootstrapScheduler("test", 2)
+                .addTask("en.json", rendezvous)
+                .addTask("fr.json", rendezvous);
+
+        scheduler.run();
+
+        assertTrue(scheduler.getFailedTasks().isEmpty());
+    }
+
+    @Test
+    void run_failedTaskSkipsItsDependentsOnly() throws InterruptedException {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        BootstrapScheduler scheduler = new BootstrapScheduler("test", 2)
+                .addTask("broken", () -> {
+                    throw new IllegalStateException("boom");
+                })
+                .addTask("child", () -> ran.add("child"), "broken")
+                .addTask("grandchild", () -> ran.add("grandchild"), "child")
+                .addTask("unrelated", () -> ran.add("unrelated"));
+
+        scheduler.run();
+
+        assertEquals(List.of("unrelated"), ran);
+        assertEquals(Set.of("broken"), scheduler.getFailedTasks());
+        assertEquals(Set.of("child", "grandchild"), scheduler.getSkippedTasks());
+    }
+
+    @Test
+    void run_errorInTaskDoesNotHang() throws InterruptedException {
+        BootstrapScheduler scheduler = new BootstrapScheduler("test", 1)
+                .addTask("oom", () -> {
+                    throw new AssertionError("not an Exception");
+                })
+                .addTask("after", () -> {
+                }, "oom");
+
+        scheduler.run();
+
+        assertEquals(Set.of("after"), scheduler.getSkippedTasks());
+    }
+
+    @Test
+    void run_unknownDependency_throws() {
+        BootstrapScheduler scheduler = new BootstrapScheduler("test", 1)
+                .addTask("a", () -> {
+                }, "missing");
+
+        assertThrows(IllegalArgumentException.class, scheduler::run);
+    }
+
+    @Test
+    void run_cycle_throws() {
+        BootstrapScheduler scheduler = new BootstrapScheduler("test", 1)
+                .addTask("root", () -> {
+                })
+                .addTask("a", () -> {
+                }, "root", "b")
+                .addTask("b", () -> {
+                }, "a");
+
+        assertThrows(IllegalArgumentException.class, scheduler::run);
+    }
+
+    @Test
+    void addTask_duplicateName_throws() {
+        BootstrapScheduler scheduler = new BootstrapScheduler("test", 1).addTask("a", () -> {
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.addTask("a", () -> {
+        }));
+    }
+}
@@ -0,0 +1,159 @@
+package Model.Database;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BulkDownloader}, with in-memory download actions.
+ */
+class BulkDownloaderTest {
+
+    // No real backoff or rate limit, so the tests run in milliseconds.
+    private static final BulkDownloader.Settings FAST =
+            new BulkDownloader.Settings(4, 1_000_000, 1_000, 3, 0, 0);
+
+    @Test
+    void run_downloadsEveryDistinctItemOnce() throws InterruptedException {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        BulkDownloader downloader = new BulkDownloader("test", FAST, item -> "host",
+                item -> calls.computeIfAbsent(item, unused -> new AtomicInteger()).incrementAndGet());
+
+        BulkDownloader.Result result = downloader.addAll(List.of("1.jpg", "2.jpg", "1.jpg")).add("3.json").run();
+
+        assertEquals(3, result.downloaded());
+        assertEquals(Set.of("1.jpg", "2.jpg", "3.json"), calls.keySet());
+        calls.values().forEach(count -> assertEquals(1, count.get()));
+        assertTrue(result.notFound().isEmpty());
+        assertTrue(result.failed().isEmpty());
+    }
+
+    @Test
+    void run_downloadsConcurrently() throws InterruptedException {
+        // Each download waits for the other to start: this only completes if both run at once.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        BulkDownloader downloader = new BulkDownloader("test", FAST, item -> "host", item -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("downloads did not overlap");
+            }
+        });
+
+        BulkDownloader.Result result = downloader.add("1.jpg").add("2.jpg").run();
+
+        assertEquals(2, result.downloaded());
+    }
+
+    @Test
+    void run_retriesTransientFailuresUpToMaxAttempts() throws InterruptedException {
+        Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        BulkDownloader downloader = new BulkDownloader("test", FAST, item -> "host", item -> {
+            int attempt = attempts.computeIfAbsent(item, unused -> new AtomicInteger()).incrementAndGet();
+            if (item.equals("flaky.jpg") && attempt < 3) {
+                throw new IOException("connection reset");
+            }
+            if (item.equals("busy.jpg") && attempt < 2) {
+                throw new BulkDownloader.RetryLaterException("HTTP 429", 0);
+            }
+            if (item.equals("down.jpg")) {
+                throw new IOException("connection refused");
+            }
+        });
+
+        BulkDownloader.Result result = downloader.add("flaky.jpg").add("busy.jpg").add("down.jpg").run();
+
+        assertEquals(2, result.downloaded());
+        assertEquals(List.of("down.jpg"), result.failed());
+        assertEquals(3, attempts.get("flaky.jpg").get());
+        assertEquals(2, attempts.get("busy.jpg").get());
+        assertEquals(3, attempts.get("down.jpg").get());
+    }
+
+    @Test
+    void run_doesNotRetryNotFoundOrUnexpectedFailures() throws InterruptedException {
+        Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        BulkDownloader downloader = new BulkDownloader("test", FAST, item -> "host", item -> {
+            attempts.computeIfAbsent(item, unused -> new AtomicInteger()).incrementAndGet();
+            if (item.equals("missing.json")) {
+                throw new FileNotFoundException("HTTP 404");
+            }
+            throw new IllegalStateException("bad data");
+        });
+
+        BulkDownloader.Result result = downloader.add("missing.json").add("broken.json").run();
+
+        assertEquals(0, result.downloaded());
+        assertEquals(List.of("missing.json"), result.notFound());
+        assertEquals(List.of("broken.json"), result.failed());
+        assertEquals(1, attempts.get("missing.json").get());
+        assertEquals(1, attempts.get("broken.json").get());
+    }
+
+    @Test
+    void run_reportsProgressForEveryItem() throws InterruptedException {
+        List<BulkDownloader.Progress> reports = new CopyOnWriteArrayList<>();
+        BulkDownloader downloader = new BulkDownloader("test", FAST, item -> "host", item -> {
+            if (item.equals("2.jpg")) {
+                throw new FileNotFoundException("HTTP 404");
+            }
+        });
+
+        downloader.addAll(List.of("1.jpg", "2.jpg", "3.jpg")).onProgress(reports::add).run();
+
+        assertEquals(3, reports.size());
+        BulkDownloader.Progress last = reports.stream()
+                .max((left, right) -> Integer.compare(left.completed(), right.completed())).orElseThrow();
+        assertEquals(new BulkDownloader.Progress(3, 3, 1, 0), last);
+    }
+
+    @Test
+    void run_rateLimitsEachHostSeparately() throws InterruptedException {
+        // One request per host at once, then one every 200 ms: four items on two hosts
+        // need one refill per host, so about 200 ms rather than 600 ms.
+        BulkDownloader.Settings limited = new BulkDownloader.Settings(4, 5, 1, 1, 0, 0);
+        BulkDownloader downloader = new BulkDownloader("test", limited,
+                item -> item.startsWith("a") ? "a.example" : "b.example", item -> {
+        });
+
+        long startNanos = System.nanoTime();
+        BulkDownloader.Result result = downloader.addAll(List.of("a1", "a2", "b1", "b2")).run();
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        assertEquals(4, result.downloaded());
+        assertTrue(elapsedMillis >= 150, "expected the second request per host to wait, took " + elapsedMillis);
+        assertTrue(elapsedMillis < 550, "hosts should not share a limit, took " + elapsedMillis);
+    }
+
+    @Test
+    void run_withNothingQueuedReturnsEmptyResult() throws InterruptedException {
+        BulkDownloader.Result result = new BulkDownloader("test", FAST, item -> "host", item -> {
+            throw new AssertionError("nothing to download");
+        }).run();
+
+        assertEquals(new BulkDownloader.Result(0, List.of(), List.of()), result);
+    }
+
+    @Test
+    void backoffMillis_staysWithinTheDoublingCeiling() {
+        BulkDownloader downloader = new BulkDownloader("test",
+                new BulkDownloader.Settings(1, 1, 1, 10, 100, 1_000), item -> "host", item -> {
+        });
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(downloader.backoffMillis(1) <= 100);
+            assertTrue(downloader.backoffMillis(3) <= 400);
+            assertTrue(downloader.backoffMillis(40) <= 1_000);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package Model.Database;
+
+import Model.CardsLists.Card;
+import Model.CardsLists.CardRarity;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CardInfoReader}, fed small hand-written documents in the
+ * shape of ygoprodeck's {@code cardinfo.php} response so no live database is
+ * needed.
+ */
+class CardInfoReaderTest {
+
+    private static final String DOCUMENT = """
+            {
+              "data": [
+                {
+                  "id": 89631139,
+                  "name": "Blue-Eyes White Dragon",
+                  "typeline": ["Dragon", "Normal"],
+                  "type": "Normal Monster",
+                  "desc": "This legendary dragon is a powerful engine of destruction.",
+                  "race": "Dragon",
+                  "atk": 3000,
+                  "def": 2500,
+                  "level": 8,
+                  "attribute": "LIGHT",
+                  "archetype": "Blue-Eyes",
+                  "card_sets": [
+                    {"set_name": "Legend of Blue Eyes", "set_code": "LOB-001", "set_rarity_code": "(UR)"},
+                    {"set_name": "Starter Deck", "set_code": "SDK-001", "set_rarity_code": "(UR)"},
+                    {"set_name": "Battle Pack", "set_code": "BP01-001", "set_rarity_code": "(ScR)"}
+                  ],
+                  "card_images": [
+                    {"id": 89631139, "image_url": "https://images.ygoprodeck.com/images/cards/89631139.jpg"},
+                    {"id": 89631140, "image_url": "https://images.ygoprodeck.com/images/cards/89631140.jpg"}
+                  ],
+                  "card_prices": [
+                    {"cardmarket_price": "0.12", "tcgplayer_price": "0.20"},
+                    {"cardmarket_price": "9.99"}
+                  ]
+                },
+                {
+                  "id": 55144522,
+                  "name": "Pot of Greed",
+                  "type": "Spell Card",
+                  "frameType": "spell",
+                  "desc": "Draw 2 cards.\\nThat's it. \\u00c9",
+                  "race": "Normal",
+                  "archetype": null,
+                  "card_images": [{"id": 55144522, "image_url": "https://images.ygoprodeck.com/images/cards/55144522.jpg"}],
+                  "card_prices": []
+                },
+                {
+                  "id": 1861629,
+                  "name": "Decode Talker",
+                  "type": "Link Monster",
+                  "race": "Cyberse",
+                  "atk": 2300,
+                  "linkval": 3,
+                  "linkmarkers": ["Top", "Bottom-Left", "Bottom-Right"],
+                  "misc_info": [{"views": 1, "nested": {"deep": [1, 2, {"x": true}]}}],
+                  "card_images": [{"id": 1861629}]
+                }
+              ],
+              "meta": {"total_rows": 3}
+            }
+            """;
+
+    @Test
+    void read_buildsOneEntryPerDataElement() throws IOException {
+        List<CardInfoReader.Entry> entries = CardInfoReader.read(new StringReader(DOCUMENT));
+
+        assertEquals(3, entries.size());
+        assertEquals(89631139, entries.get(0).info.getPassCode());
+        assertEquals("Blue-Eyes White Dragon", entries.get(0).info.getName());
+        assertEquals("Blue-Eyes", entries.get(0).info.getArchetype());
+        assertEquals("", entries.get(1).info.getArchetype());
+    }
+
+    @Test
+    void read_buildsOneCardPerArtwork() throws IOException {
+        CardInfoReader.Entry blueEyes = CardInfoReader.read(new StringReader(DOCUMENT)).get(0);
+
+        assertEquals(2, blueEyes.artworks.size());
+        assertEquals("89631139", blueEyes.artworks.get(0).getImagePath());
+        assertEquals("1", blueEyes.artworks.get(0).getArtNumber());
+        assertEquals("89631140", blueEyes.artworks.get(1).getImagePath());
+        assertEquals("2", blueEyes.artworks.get(1).getArtNumber());
+        assertEquals("89631139", blueEyes.artworks.get(1).getPassCode());
+        assertEquals("https://images.ygoprodeck.com/images/cards/89631140.jpg",
+                blueEyes.info.getCardImages().get(1).getImageUrl());
+        assertNotSame(blueEyes.artworks.get(0).getArchetypes(), blueEyes.artworks.get(1).getArchetypes());
+    }
+
+    @Test
+    void read_monsterFields() throws IOException {
+        Card card = CardInfoReader.read(new StringReader(DOCUMENT)).get(0).artworks.get(0);
+
+        assertEquals("Normal Monster", card.getCardType());
+        assertEquals("Dragon", card.getMonsterType());
+        assertEquals(3000, card.getAtk());
+        assertEquals(2500, card.getDef());
+        assertEquals(8, card.getLevel());
+        assertEquals("LIGHT", card.getAttribute());
+        assertEquals(List.of("Dragon", "Normal"), card.getCardProperties());
+        assertEquals(List.of("Blue-Eyes"), card.getArchetypes());
+        assertEquals("0.12", card.getPrice());
+        assertNull(card.getKonamiId());
+        assertNull(card.getName_EN());
+    }
+
+    @Test
+    void read_raritiesAreDistinctInFirstSeenOrder() throws IOException {
+        Card card = CardInfoReader.read(new StringReader(DOCUMENT)).get(0).artworks.get(0);
+
+        assertEquals(List.of(CardRarity.ULTRA_RARE, CardRarity.SECRET_RARE), card.getAvailableRarities());
+    }
+
+    @Test
+    void read_spellCard_keepsMonsterFieldsUnsetAndUsesRaceAsProperty() throws IOException {
+        Card card = CardInfoReader.read(new StringReader(DOCUMENT)).get(1).artworks.get(0);
+
+        assertNull(card.getMonsterType());
+        assertEquals(List.of("Normal"), card.getCardProperties());
+        assertNull(card.getArchetypes());
+        assertNull(card.getAvailableRarities());
+        assertNull(card.getPrice());
+        assertEquals("Draw 2 cards.\nThat's it. É", card.getDescription());
+    }
+
+    @Test
+    void read_linkMonster_skipsUnknownNestedFields() throws IOException {
+        Card card = CardInfoReader.read(new StringReader(DOCUMENT)).get(2).artworks.get(0);
+
+        assertEquals(3, card.getLinkVal());
+        assertEquals(List.of("Top", "Bottom-Left", "Bottom-Right"), card.getLinkMarker());
+        assertEquals(0, card.getDef());
+        assertEquals("", card.getDescription());
+    }
+
+    @Test
+    void read_entryWithoutType_hasNoArtworks() throws IOException {
+        String document = "{\"data\":[{\"id\":1,\"name\":\"Token\",\"card_images\":[{\"id\":1}]}]}";
+
+        List<CardInfoReader.Entry> entries = CardInfoReader.read(new StringReader(document));
+
+        assertEquals(1, entries.size());
+        assertTrue(entries.get(0).artworks.isEmpty());
+    }
+
+    @Test
+    void read_truncatedDocument_throwsIOException() {
+        String truncated = DOCUMENT.substring(0, DOCUMENT.length() / 2);
+
+        assertThrows(IOException.class, () -> CardInfoReader.read(new StringReader(truncated)));
+    }
+
+    @Test
+    void read_htmlErrorPage_throwsIOException() {
+        assertThrows(IOException.class,
+                () -> CardInfoReader.read(new StringReader("<html><body>Too many requests</body></html>")));
+    }
+}
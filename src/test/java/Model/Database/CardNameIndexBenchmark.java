@@ -0,0 +1,110 @@
+package Model.Database;
+
+import Utils.CardNameUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Manual benchmark of {@link CardNameIndex#matchPrintCode}'s per-detection
+ * cost, comparing the full-matrix Levenshtein over freshly normalized print
+ * codes it used to run with the bounded two-row one over cached normalized
+ * codes.
+ *
+ * <p>Not a test (Surefire only runs {@code *Test} classes): run its
+ * {@code main} from the IDE, optionally passing how many print codes one
+ * Konami ID has and how many detections to time:
+ * <pre>
+ * CardNameIndexBenchmark [printCodes=40] [detections=200000]
+ * </pre>
+ */
+public final class CardNameIndexBenchmark {
+
+    private static final String[] LANGUAGES = {"EN", "FR", "DE", "IT", "SP", "PT", "JP", "KR"};
+    private static final int MAX_DISTANCE = 2;
+    private static final int ROUNDS = 5;
+
+    private CardNameIndexBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int printCodeCount = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+        int detectionCount = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+
+        Random random = new Random(42);
+        List<String> printCodes = new ArrayList<>();
+        for (int i = 0; i < printCodeCount; i++) {
+            printCodes.add(String.format("%s%d-%s%03d", randomLetters(random, 3), random.nextInt(10),
+                    LANGUAGES[random.nextInt(LANGUAGES.length)], random.nextInt(1000)));
+        }
+        String[] normalizedPrintCodes = printCodes.stream().map(CardNameUtils::normalizeForCompare)
+                .toArray(String[]::new);
+        String[] detections = new String[1_000];
+        for (int i = 0; i < detections.length; i++) {
+            // An OCR read of one of the codes, with one character misread.
+            char[] read = printCodes.get(random.nextInt(printCodeCount)).toCharArray();
+            read[random.nextInt(read.length)] = 'O';
+            detections[i] = CardNameUtils.normalizeForCompare(new String(read));
+        }
+
+        long checksum = 0;
+        double oldNanos = 0;
+        double newNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < detectionCount / 100; i++) {
+                // Re-normalizing is what dominated, so the old path gets a hundredth of the detections.
+                String detection = detections[i % detections.length];
+                for (String printCode : printCodes) {
+                    checksum += fullMatrixDistance(detection, CardNameUtils.normalizeForCompare(printCode));
+                }
+            }
+            oldNanos = (System.nanoTime() - start) / (double) (detectionCount / 100);
+
+            start = System.nanoTime();
+            for (int i = 0; i < detectionCount; i++) {
+                String detection = detections[i % detections.length];
+                for (String normalizedPrintCode : normalizedPrintCodes) {
+                    checksum += CardNameIndex.levenshteinDistance(detection, normalizedPrintCode, MAX_DISTANCE);
+                }
+            }
+            newNanos = (System.nanoTime() - start) / (double) detectionCount;
+        }
+
+        System.out.printf("%d print codes per Konami ID (checksum %d)%n", printCodeCount, checksum);
+        System.out.printf("full matrix, normalized per call: %10.1f ns/detection%n", oldNanos);
+        System.out.printf("bounded two-row, cached codes:    %10.1f ns/detection%n", newNanos);
+    }
+
+    private static String randomLetters(Random random, int count) {
+        StringBuilder letters = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            letters.append((char) ('A' + random.nextInt(26)));
+        }
+        return letters.toString();
+    }
+
+    /**
+     * The distance routine {@link CardNameIndex} used before: a fresh
+     * {@code (m + 1) x (n + 1)} matrix per comparison.
+     */
+    private static int fullMatrixDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            distances[i][0] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            distances[0][j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                distances[i][j] = Math.min(
+                        Math.min(distances[i - 1][j] + 1, distances[i][j - 1] + 1),
+                        distances[i - 1][j - 1] + substitutionCost);
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+}
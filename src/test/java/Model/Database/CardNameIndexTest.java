@@ -3,7 +3,10 @@ package Model.Database;
 import org.junit.jupiter.api.Test;
 
 import java.net.URISyntaxException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -78,6 +81,69 @@ class CardNameIndexTest {
         assertEquals(3, CardNameIndex.levenshteinDistance("lob", "LOB"));
     }
 
+    // ── levenshteinDistance, bounded ─────────────────────────────────────────
+
+    @Test
+    void levenshteinDistanceBounded_withinBound_matchesFullDistance() {
+        assertEquals(0, CardNameIndex.levenshteinDistance("dark magician", "dark magician", 2));
+        assertEquals(1, CardNameIndex.levenshteinDistance("dark magician", "dark magic1an", 2));
+        assertEquals(2, CardNameIndex.levenshteinDistance("dark magician", "drak magician", 2));
+        assertEquals(3, CardNameIndex.levenshteinDistance("", "abc", 3));
+    }
+
+    @Test
+    void levenshteinDistanceBounded_beyondBound_returnsBoundPlusOne() {
+        assertEquals(2, CardNameIndex.levenshteinDistance("pot of greed", "pot of gr", 1));
+        assertEquals(3, CardNameIndex.levenshteinDistance("raigeki", "monster reborn", 2));
+    }
+
+    @Test
+    void levenshteinDistanceBounded_agreesWithFullMatrix() {
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            String first = randomWord(random);
+            String second = randomWord(random);
+            int distance = fullMatrixDistance(first, second);
+            assertEquals(distance, CardNameIndex.levenshteinDistance(first, second), first + " / " + second);
+            for (int bound = 0; bound <= 4; bound++) {
+                assertEquals(Math.min(distance, bound + 1),
+                        CardNameIndex.levenshteinDistance(first, second, bound),
+                        first + " / " + second + " within " + bound);
+            }
+        }
+    }
+
+    /**
+     * The textbook full-matrix Levenshtein, as a reference for the banded two-row one.
+     */
+    private static int fullMatrixDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            distances[i][0] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            distances[0][j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                distances[i][j] = Math.min(
+                        Math.min(distances[i - 1][j] + 1, distances[i][j - 1] + 1),
+                        distances[i - 1][j - 1] + substitutionCost);
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
+    private static String randomWord(Random random) {
+        int length = random.nextInt(12);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
     // ── matchPrintCode ───────────────────────────────────────────────────────
 
     @Test
@@ -88,6 +154,27 @@ class CardNameIndexTest {
         assertTrue(matches.isEmpty());
     }
 
+    @Test
+    void matchPrintCode_printCodeMapsReplaced_seesNewPrintCodes() throws URISyntaxException {
+        PrintCodeToKonamiId printCodes = new PrintCodeToKonamiId();
+        try {
+            printCodes.setKonamiIdToPrintCodes(new HashMap<>());
+            assertTrue(CardNameIndex.matchPrintCode("LOB-EN001", Set.of(4007)).isEmpty());
+
+            printCodes.setKonamiIdToPrintCodes(new HashMap<>(Map.of("4007", List.of("LOB-EN001"))));
+            assertEquals(List.of("LOB-EN001"), printCodesOf(CardNameIndex.matchPrintCode("LOB-EN001", Set.of(4007))));
+
+            printCodes.setKonamiIdToPrintCodes(new HashMap<>(Map.of("4007", List.of("SDY-006"))));
+            assertEquals(List.of("SDY-006"), printCodesOf(CardNameIndex.matchPrintCode("LOB-EN001", Set.of(4007))));
+        } finally {
+            printCodes.setKonamiIdToPrintCodes(null);
+        }
+    }
+
+    private static List<String> printCodesOf(List<CardNameIndex.PrintCodeMatch> matches) {
+        return matches.stream().map(CardNameIndex.PrintCodeMatch::getPrintCode).toList();
+    }
+
     // ── getKonamiIdsForName ──────────────────────────────────────────────────
 
     @Test
@@ -1,14 +1,85 @@
 package Model.Database;
 
 import Model.FilePaths;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class DataBaseUpdateTest {
+
+    // No retries and no rate limit, so that the tests do not wait.
+    private static final BulkDownloader.Settings SETTINGS = new BulkDownloader.Settings(4, 1_000, 1_000, 1, 0, 0);
+
+    private HttpServer server;
+    private final Map<Integer, String> manifests = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/manifest/", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                // Long enough for requests to overlap if they are sent concurrently.
+                Thread.sleep(50);
+                int revision = Integer.parseInt(exchange.getRequestURI().getPath().substring("/manifest/".length()));
+                String body = manifests.get(revision);
+                if (body == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/manifest/";
+    }
+
+    private static String manifest(String... files) {
+        JSONObject group = new JSONObject();
+        for (String file : files) {
+            group.put(file, new JSONObject());
+        }
+        return new JSONObject().put("data", new JSONObject().put("idx", group)).toString();
+    }
+
     @ParameterizedTest
     @CsvSource({
             "cardinfo.json, ygoprodeck\\cardinfo.json, https://db.ygoprodeck.com/api/v7/cardinfo.php",
@@ -25,4 +96,40 @@ class DataBaseUpdateTest {
         assertEquals(FilePaths.databaseDir + "\\" + expectedPath, res[0]);
         assertEquals(expectedAddress, res[1]);
     }
-}
\ No newline at end of file
+
+    @Test
+    void fetchManifestChanges_mergesEveryManifestsKeysOnce() throws InterruptedException {
+        manifests.put(10, manifest("en", "LOB-EN"));
+        manifests.put(11, manifest("fr", "en"));
+        manifests.put(12, manifest("_sets", "LOB-EN", "12345"));
+        manifests.put(13, manifest());
+
+        DataBaseUpdate.ManifestChanges changes =
+                DataBaseUpdate.fetchManifestChanges(baseUrl(), 10, 14, SETTINGS);
+
+        assertEquals(Set.of("en", "LOB-EN", "fr", "_sets", "12345"), changes.keys());
+        assertEquals(14, changes.replayedUpTo());
+        assertTrue(maxInFlight.get() > 1, "manifests should be fetched concurrently");
+    }
+
+    @Test
+    void fetchManifestChanges_stopsTheRevisionAtTheFirstMissingManifest() throws InterruptedException {
+        manifests.put(20, manifest("en"));
+        manifests.put(22, manifest("fr"));
+
+        DataBaseUpdate.ManifestChanges changes =
+                DataBaseUpdate.fetchManifestChanges(baseUrl(), 20, 23, SETTINGS);
+
+        assertEquals(21, changes.replayedUpTo());
+        assertEquals(Set.of("en", "fr"), changes.keys());
+    }
+
+    @Test
+    void fetchManifestChanges_emptyRunFetchesNothing() throws InterruptedException {
+        DataBaseUpdate.ManifestChanges changes =
+                DataBaseUpdate.fetchManifestChanges(baseUrl(), 30, 30, SETTINGS);
+
+        assertTrue(changes.keys().isEmpty());
+        assertEquals(30, changes.replayedUpTo());
+    }
+}
@@ -0,0 +1,220 @@
+package Model.Database;
+
+import Model.CardsLists.Card;
+import Model.CardsLists.CardRarity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DatabaseSnapshot}'s on-disk encoding.
+ *
+ * <p>Only {@code writeTo}/{@code readFrom} and {@code fingerprintOf} are
+ * exercised: they take every input explicitly, so no live database, revision
+ * file or network access is needed.
+ */
+class DatabaseSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    // ── Round trip ───────────────────────────────────────────────────────────
+
+    @Test
+    void roundTrip_restoresCardsAndMaps() throws IOException {
+        Path file = tempDir.resolve("cards.bin");
+        DatabaseSnapshot.Contents written = sampleContents(fingerprint(42, 1000L));
+        DatabaseSnapshot.writeTo(file, written);
+
+        DatabaseSnapshot.Contents read = DatabaseSnapshot.readFrom(file, fingerprint(42, 1000L));
+
+        assertNotNull(read);
+        assertEquals(written.namesByLanguage, read.namesByLanguage);
+        assertEquals(written.enNamesToKonamiId, read.enNamesToKonamiId);
+        assertEquals(written.passCodeToKonamiId, read.passCodeToKonamiId);
+        assertEquals(written.konamiIdToPassCode, read.konamiIdToPassCode);
+        assertEquals(written.passCodeToOtherPassCodes, read.passCodeToOtherPassCodes);
+        assertEquals(written.konamiIdToOtherKonamiIds, read.konamiIdToOtherKonamiIds);
+        assertEquals(written.konamiIdToArchetype, read.konamiIdToArchetype);
+        assertEquals(written.cardPasscodesList, read.cardPasscodesList);
+
+        Card card = read.cards.get(89631139);
+        assertNotNull(card);
+        assertEquals("Blue-Eyes White Dragon", card.getName_EN());
+        assertEquals("Dragon aux Yeux Bleus", card.getName_FR());
+        assertNull(card.getName_CN());
+        assertEquals("4007", card.getKonamiId());
+        assertEquals("89631139", card.getImagePath());
+        assertEquals(3000, card.getAtk());
+        assertEquals(2500, card.getDef());
+        assertEquals(8, card.getLevel());
+        assertEquals(List.of("Dragon", "Normal"), card.getCardProperties());
+        assertEquals(List.of("Blue-Eyes"), card.getArchetypes());
+        assertEquals(List.of(CardRarity.ULTRA_RARE, CardRarity.SECRET_RARE), card.getAvailableRarities());
+        assertNull(card.getLinkMarker());
+
+        Card spell = read.cards.get(83764718);
+        assertEquals(List.of(), spell.getCardProperties());
+        assertNull(spell.getAvailableRarities());
+    }
+
+    @Test
+    void roundTrip_siblingsShareOneAliasList() throws IOException {
+        Path file = tempDir.resolve("cards.bin");
+        DatabaseSnapshot.writeTo(file, sampleContents(fingerprint(1, 1L)));
+
+        DatabaseSnapshot.Contents read = DatabaseSnapshot.readFrom(file, fingerprint(1, 1L));
+
+        assertSame(read.passCodeToOtherPassCodes.get(89631139), read.passCodeToOtherPassCodes.get(89631140));
+    }
+
+    @Test
+    void roundTrip_repeatedStringsAreShared() throws IOException {
+        Path file = tempDir.resolve("cards.bin");
+        DatabaseSnapshot.writeTo(file, sampleContents(fingerprint(1, 1L)));
+
+        DatabaseSnapshot.Contents read = DatabaseSnapshot.readFrom(file, fingerprint(1, 1L));
+
+        assertSame(read.cards.get(89631139).getCardType(), read.cards.get(89631140).getCardType());
+    }
+
+    // ── Freshness ────────────────────────────────────────────────────────────
+
+    @Test
+    void readFrom_differentRevision_returnsNull() throws IOException {
+        Path file = tempDir.resolve("cards.bin");
+        DatabaseSnapshot.writeTo(file, sampleContents(fingerprint(42, 1000L)));
+
+        assertNull(DatabaseSnapshot.readFrom(file, fingerprint(43, 1000L)));
+    }
+
+    @Test
+    void readFrom_sourceModifiedSinceWrite_returnsNull() throws IOException {
+        Path file = tempDir.resolve("cards.bin");
+        DatabaseSnapshot.writeTo(file, sampleContents(fingerprint(42, 1000L)));
+
+        assertNull(DatabaseSnapshot.readFrom(file, fingerprint(42, 2000L)));
+    }
+
+    @Test
+    void readFrom_sourceMarkedStale_returnsNull() throws IOException {
+        Path file = tempDir.resolve("cards.bin");
+        DatabaseSnapshot.writeTo(file, sampleContents(fingerprint(42, 1000L)));
+        DatabaseSnapshot.Fingerprint current = fingerprint(42, 1000L);
+        current.anySourceStale = true;
+
+        assertNull(DatabaseSnapshot.readFrom(file, current));
+    }
+
+    @Test
+    void sourceFiles_includeArchetypes() {
+        assertTrue(DatabaseSnapshot.sourceFiles().contains("archetypes.json"));
+    }
+
+    @Test
+    void readFrom_onlyArchetypesChanged_returnsNull() throws IOException {
+        Path cardInfo = Files.writeString(tempDir.resolve("cardinfo.json"), "{\"data\": []}");
+        Path archetypes = Files.writeString(tempDir.resolve("archetypes.json"), "[]");
+        List<String> sources = List.of(cardInfo.toString(), archetypes.toString());
+        Path file = tempDir.resolve("cards.bin");
+        DatabaseSnapshot.writeTo(file, sampleContents(DatabaseSnapshot.fingerprintOf(42, sources, Set.of())));
+        assertNotNull(DatabaseSnapshot.readFrom(file, DatabaseSnapshot.fingerprintOf(42, sources, Set.of())));
+
+        Files.writeString(archetypes, "[{\"archetype_name\": \"Blue-Eyes\"}]");
+
+        assertNull(DatabaseSnapshot.readFrom(file, DatabaseSnapshot.fingerprintOf(42, sources, Set.of())));
+    }
+
+    @Test
+    void readFrom_truncatedFile_throwsIOException() throws IOException {
+        Path file = tempDir.resolve("cards.bin");
+        DatabaseSnapshot.writeTo(file, sampleContents(fingerprint(42, 1000L)));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(IOException.class, () -> DatabaseSnapshot.readFrom(file, fingerprint(42, 1000L)));
+    }
+
+    @Test
+    void writeTo_leavesNoTemporaryFileBehind() throws IOException {
+        Path file = tempDir.resolve("cards.bin");
+        DatabaseSnapshot.writeTo(file, sampleContents(fingerprint(42, 1000L)));
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────
+
+    private static DatabaseSnapshot.Fingerprint fingerprint(int revision, long cardInfoModified) {
+        DatabaseSnapshot.Fingerprint fingerprint = new DatabaseSnapshot.Fingerprint(revision);
+        fingerprint.add("ygoprodeck/cardinfo.json", 123_456L, cardInfoModified);
+        fingerprint.add("ygoresources/name/en.json", 7_890L, 500L);
+        fingerprint.add("ygoresources/name/es.json", -1L, -1L);
+        return fingerprint;
+    }
+
+    private static DatabaseSnapshot.Contents sampleContents(DatabaseSnapshot.Fingerprint fingerprint) {
+        DatabaseSnapshot.Contents contents = new DatabaseSnapshot.Contents();
+        contents.fingerprint = fingerprint;
+
+        Map<Integer, String> en = new HashMap<>(Map.of(4007, "Blue-Eyes White Dragon", 4837, "Pot of Greed"));
+        Map<Integer, String> fr = new HashMap<>(Map.of(4007, "Dragon aux Yeux Bleus"));
+        contents.namesByLanguage = new ArrayList<>(List.of(en, fr));
+        for (int i = 2; i < 8; i++) {
+            contents.namesByLanguage.add(new HashMap<>());
+        }
+        contents.enNamesToKonamiId = new HashMap<>(Map.of("Blue-Eyes White Dragon", 4007, "Pot of Greed", 4837));
+
+        contents.passCodeToKonamiId = new HashMap<>(Map.of(89631139, 4007, 89631140, 4007, 55144522, 4837));
+        contents.konamiIdToPassCode = new HashMap<>(Map.of(4007, 89631139, 4837, 55144522));
+        List<Integer> blueEyesArts = new ArrayList<>(List.of(89631139, 89631140));
+        contents.passCodeToOtherPassCodes = new HashMap<>();
+        contents.passCodeToOtherPassCodes.put(89631139, blueEyesArts);
+        contents.passCodeToOtherPassCodes.put(89631140, blueEyesArts);
+        contents.konamiIdToOtherKonamiIds = new HashMap<>(Map.of(4007, List.of(4007)));
+        contents.konamiIdToArchetype = new HashMap<>(Map.of(4007, "Blue-Eyes", 4837, ""));
+        contents.cardPasscodesList = new ArrayList<>(List.of(89631139, 55144522));
+
+        contents.cards = new HashMap<>();
+        contents.cards.put(89631139, blueEyes("89631139", "1"));
+        contents.cards.put(89631140, blueEyes("89631140", "2"));
+        Card pot = new Card();
+        pot.setPassCode("55144522");
+        pot.setImagePath("83764718");
+        pot.setName_EN("Pot of Greed");
+        pot.setCardType("Spell Card");
+        pot.setCardProperties(new ArrayList<>());
+        contents.cards.put(83764718, pot);
+        return contents;
+    }
+
+    private static Card blueEyes(String imagePath, String artNumber) {
+        Card card = new Card();
+        card.setKonamiId("4007");
+        card.setPassCode("89631139");
+        card.setImagePath(imagePath);
+        card.setArtNumber(artNumber);
+        card.setName_EN("Blue-Eyes White Dragon");
+        card.setName_FR("Dragon aux Yeux Bleus");
+        card.setCardType("Normal Monster");
+        card.setMonsterType("Dragon");
+        card.setAttribute("LIGHT");
+        card.setAtk(3000);
+        card.setDef(2500);
+        card.setLevel(8);
+        card.setPrice("1.25");
+        card.setDescription("This legendary dragon is a powerful engine of destruction.");
+        card.setCardProperties(new ArrayList<>(List.of("Dragon", "Normal")));
+        card.setArchetypes(new ArrayList<>(List.of("Blue-Eyes")));
+        card.setAvailableRarities(new ArrayList<>(List.of(CardRarity.ULTRA_RARE, CardRarity.SECRET_RARE)));
+        return card;
+    }
+}
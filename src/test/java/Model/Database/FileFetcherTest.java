@@ -1,5 +1,61 @@
 package Model.Database;
 
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 class FileFetcherTest {
 
-}
\ No newline at end of file
+    @Test
+    void parseRetryAfterMillis_readsSecondsAndIgnoresOtherForms() {
+        assertEquals(120_000, FileFetcher.parseRetryAfterMillis("120"));
+        assertEquals(5_000, FileFetcher.parseRetryAfterMillis(" 5 "));
+        assertEquals(0, FileFetcher.parseRetryAfterMillis(null));
+        assertEquals(0, FileFetcher.parseRetryAfterMillis("Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertEquals(0, FileFetcher.parseRetryAfterMillis("-3"));
+    }
+
+    @Test
+    void copyValidated_copiesWellFormedJsonVerbatim() throws IOException {
+        String json = "{\"data\": [{\"id\": 1, \"name\": \"Pot of Greed\"}, {\"id\": 2}]}\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long copied = FileFetcher.copyValidated("cardinfo.json", stream(json), out);
+
+        assertEquals(json.getBytes(StandardCharsets.UTF_8).length, copied);
+        assertEquals(json, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void copyValidated_rejectsJsonThatIsNotAJsonDocument() {
+        for (String body : new String[]{"", "<html>Too many requests</html>", "{\"data\": [1, 2",
+                "\"just a string\"", "{} {}"}) {
+            assertThrows(FileFetcher.ImplausibleContentException.class,
+                    () -> FileFetcher.copyValidated("cardinfo.json", stream(body), new ByteArrayOutputStream()),
+                    body);
+        }
+    }
+
+    @Test
+    void copyValidated_acceptsAnyNonEmptyOtherFile() throws IOException {
+        byte[] image = new byte[200_000];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) i;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(image.length, FileFetcher.copyValidated("1234.jpg", new ByteArrayInputStream(image), out));
+        assertArrayEquals(image, out.toByteArray());
+        assertThrows(FileFetcher.ImplausibleContentException.class,
+                () -> FileFetcher.copyValidated("1234.jpg", stream(""), new ByteArrayOutputStream()));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,112 @@
+package Model.Database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link FuzzyNameIndex}, on synthetic names so no live database is
+ * needed.
+ */
+class FuzzyNameIndexTest {
+
+    private static FuzzyNameIndex indexOf(String... names) {
+        Map<String, Set<Integer>> nameToKonamiIds = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            nameToKonamiIds.computeIfAbsent(names[i], unusedKey -> new LinkedHashSet<>()).add(i + 1);
+        }
+        return FuzzyNameIndex.build(nameToKonamiIds);
+    }
+
+    // ── search ───────────────────────────────────────────────────────────────
+
+    @Test
+    void search_ocrTypo_findsClosestNameFirst() {
+        FuzzyNameIndex index = indexOf("dark magician", "dark magician girl", "dark paladin", "blue eyes white dragon");
+
+        List<FuzzyNameIndex.Match> matches = index.search("dark magic1an", 2, 5);
+
+        assertFalse(matches.isEmpty());
+        assertEquals("dark magician", matches.get(0).getName());
+        assertEquals(1, matches.get(0).getEditDistance());
+        assertEquals(Set.of(1), matches.get(0).getKonamiIds());
+    }
+
+    @Test
+    void search_respectsDistanceBoundAndLimit() {
+        FuzzyNameIndex index = indexOf("raigeki", "raigeki break", "monster reborn");
+
+        assertTrue(index.search("monster rebirth", 1, 5).isEmpty());
+        assertEquals(1, index.search("raigek", 1, 1).size());
+        assertTrue(index.search("raigeki", 2, 0).isEmpty());
+        assertTrue(index.search("", 2, 5).isEmpty());
+    }
+
+    @Test
+    void search_shortQuery_fallsBackToLengthBuckets() {
+        FuzzyNameIndex index = indexOf("ra", "rb", "abc", "longer name");
+
+        List<FuzzyNameIndex.Match> matches = index.search("rc", 1, 5);
+
+        assertEquals(List.of("ra", "rb"), matches.stream().map(FuzzyNameIndex.Match::getName).toList());
+    }
+
+    @Test
+    void search_sharedName_keepsEveryKonamiId() {
+        FuzzyNameIndex index = FuzzyNameIndex.build(Map.of("mirror force", new LinkedHashSet<>(List.of(10, 20))));
+
+        assertEquals(Set.of(10, 20), index.search("mirror forse", 1, 1).get(0).getKonamiIds());
+    }
+
+    @Test
+    void search_agreesWithBruteForce() {
+        Random random = new Random(11);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            names.add(randomWord(random) + " " + randomWord(random));
+        }
+        FuzzyNameIndex index = indexOf(names.toArray(new String[0]));
+
+        for (int i = 0; i < 200; i++) {
+            String query = mutate(names.get(random.nextInt(names.size())), random);
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Set<String> expected = new TreeSet<>();
+                for (String name : names) {
+                    if (CardNameIndex.levenshteinDistance(query, name) <= maxDistance) {
+                        expected.add(name);
+                    }
+                }
+                Set<String> actual = new TreeSet<>();
+                for (FuzzyNameIndex.Match match : index.search(query, maxDistance, Integer.MAX_VALUE)) {
+                    actual.add(match.getName());
+                }
+                assertEquals(expected, actual, query + " within " + maxDistance);
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        int length = 1 + random.nextInt(8);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(6)));
+        }
+        return word.toString();
+    }
+
+    private static String mutate(String name, Random random) {
+        StringBuilder mutated = new StringBuilder(name);
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits && mutated.length() > 0; i++) {
+            int position = random.nextInt(mutated.length());
+            switch (random.nextInt(3)) {
+                case 0 -> mutated.setCharAt(position, (char) ('a' + random.nextInt(6)));
+                case 1 -> mutated.deleteCharAt(position);
+                default -> mutated.insert(position, (char) ('a' + random.nextInt(6)));
+            }
+        }
+        return mutated.toString();
+    }
+}
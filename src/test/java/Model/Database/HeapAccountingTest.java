@@ -0,0 +1,110 @@
+package Model.Database;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link HeapAccounting#deepSize(Object)}.
+ *
+ * <p>{@code report()} itself reads the live static holders (and so triggers
+ * the database bootstrap), so only the size estimator is exercised here.
+ */
+class HeapAccountingTest {
+
+    @Test
+    void deepSize_growsWithContent() {
+        Map<Integer, String> small = new HashMap<>(Map.of(1, "a"));
+        Map<Integer, String> large = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            large.put(i, "Card name " + i);
+        }
+
+        assertTrue(HeapAccounting.deepSize(large) > 100 * HeapAccounting.deepSize(small));
+    }
+
+    @Test
+    void deepSize_countsSharedObjectsOnce() {
+        String shared = "x".repeat(10_000);
+        List<String> once = new ArrayList<>(List.of(shared));
+        List<String> twice = new ArrayList<>(List.of(shared, shared));
+
+        long difference = HeapAccounting.deepSize(twice) - HeapAccounting.deepSize(once);
+
+        assertTrue(difference < 100, "second reference counted as " + difference + " bytes");
+    }
+
+    @Test
+    void deepSize_walksJsonTrees() {
+        JSONObject tree = new JSONObject();
+        JSONArray ids = new JSONArray();
+        for (int i = 0; i < 500; i++) {
+            ids.put(i);
+        }
+        tree.put("Blue-Eyes White Dragon", ids);
+
+        long size = HeapAccounting.deepSize(tree);
+
+        // 500 boxed Integers alone take 16 bytes each
+        assertTrue(size > 500 * 16, "estimated " + size + " bytes");
+    }
+
+    @Test
+    void deepSize_nonLatin1StringsTakeTwoBytesPerChar() {
+        long latin1 = HeapAccounting.deepSize("a".repeat(1000));
+        long utf16 = HeapAccounting.deepSize("日".repeat(1000));
+
+        assertTrue(utf16 - latin1 >= 1000);
+    }
+
+    @Test
+    void deepSize_toleratesNullEntries() {
+        Map<Integer, String> map = new HashMap<>();
+        map.put(1, null);
+        List<String> list = new ArrayList<>();
+        list.add(null);
+
+        assertTrue(HeapAccounting.deepSize(map) > 0);
+        assertTrue(HeapAccounting.deepSize(new Object[]{list, null}) > 0);
+    }
+
+    @Test
+    void deepSize_intListCountsItsIntArrayNotBoxedElements() {
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100_000 + i;
+        }
+
+        long size = HeapAccounting.deepSize(IntList.of(values));
+
+        // One int[] of 1000 ints, where 1000 boxed Integers alone would take 16 bytes each
+        assertTrue(size >= 4000 && size < 4100, "estimated " + size + " bytes");
+    }
+
+    @Test
+    void deepSize_intIndexesIgnoreTheirMapViews() {
+        Map<Integer, Integer> ids = new HashMap<>();
+        Map<Integer, List<Integer>> siblings = new HashMap<>();
+        for (int i = 1; i <= 1000; i++) {
+            ids.put(i, 100_000 + i);
+            siblings.put(i, List.of(100_000 + i, 200_000 + i));
+        }
+        IntIntIndex intIndex = IntIntIndex.copyOf(ids);
+        IntListIndex listIndex = IntListIndex.copyOf(siblings);
+        long intIndexSize = HeapAccounting.deepSize(intIndex);
+        long listIndexSize = HeapAccounting.deepSize(listIndex);
+
+        intIndex.asMap().forEach((key, value) -> { });
+        listIndex.asMap().forEach((key, value) -> { });
+
+        assertEquals(intIndexSize, HeapAccounting.deepSize(intIndex));
+        assertEquals(listIndexSize, HeapAccounting.deepSize(listIndex));
+    }
+}
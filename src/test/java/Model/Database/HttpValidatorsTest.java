@@ -0,0 +1,78 @@
+package Model.Database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link HttpValidators}, on a store in a temporary directory.
+ */
+class HttpValidatorsTest {
+
+    private static final String JOURNAL = "http_validators.jsonl";
+
+    @Test
+    void recordDownloaded_survivesReload(@TempDir Path directory) {
+        Path file = directory.resolve(JOURNAL);
+        HttpValidators validators = new HttpValidators(file);
+
+        validators.recordDownloaded("db/cardinfo.json", "\"abc\"", "Tue, 01 Sep 2026 10:00:00 GMT", 1_000);
+        validators.recordDownloaded("db/42.jpg", null, null, 2_000);
+        assertTrue(validators.flush());
+
+        HttpValidators reloaded = new HttpValidators(file);
+        assertEquals(new HttpValidators.Entry("\"abc\"", "Tue, 01 Sep 2026 10:00:00 GMT", 1_000),
+                reloaded.get("db/cardinfo.json"));
+        assertEquals(new HttpValidators.Entry(null, null, 2_000), reloaded.get("db/42.jpg"));
+        assertFalse(reloaded.get("db/42.jpg").hasValidator());
+        assertNull(reloaded.get("db/unknown.json"));
+    }
+
+    @Test
+    void recordNotModified_keepsValidatorsAndMovesCheckTime(@TempDir Path directory) {
+        Path file = directory.resolve(JOURNAL);
+        HttpValidators validators = new HttpValidators(file);
+        validators.recordDownloaded("db/cardinfo.json", "\"abc\"", null, 1_000);
+
+        validators.recordNotModified("db/cardinfo.json", 5_000);
+        validators.flush();
+
+        HttpValidators.Entry expected = new HttpValidators.Entry("\"abc\"", null, 5_000);
+        assertEquals(expected, validators.get("db/cardinfo.json"));
+        assertEquals(expected, new HttpValidators(file).get("db/cardinfo.json"));
+    }
+
+    @Test
+    void load_skipsATruncatedLastLine(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve(JOURNAL);
+        HttpValidators validators = new HttpValidators(file);
+        validators.recordDownloaded("db/a.json", "\"1\"", null, 1_000);
+        validators.flush();
+        Files.writeString(file, "{\"k\":\"db/b.js", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        HttpValidators reloaded = new HttpValidators(file);
+
+        assertEquals("\"1\"", reloaded.get("db/a.json").etag());
+        assertNull(reloaded.get("db/b.json"));
+    }
+
+    @Test
+    void flush_compactsAJournalMuchLongerThanItsEntries(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve(JOURNAL);
+        HttpValidators validators = new HttpValidators(file);
+        for (int i = 0; i < 1_500; i++) {
+            validators.recordNotModified("db/cardinfo.json", i);
+        }
+
+        validators.flush();
+
+        assertEquals(1, Files.readAllLines(file).size());
+        assertEquals(1_499, new HttpValidators(file).get("db/cardinfo.json").checkedAtMillis());
+    }
+}
@@ -0,0 +1,88 @@
+package Model.Database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IntIntIndex}.
+ */
+class IntIntIndexTest {
+
+    @Test
+    void get_matchesHashMapOnRandomData() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        IntIntIndex.Builder builder = new IntIntIndex.Builder();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(200_000) - 100_000;
+            int value = random.nextInt();
+            expected.put(key, value);
+            builder.put(key, value);
+        }
+
+        IntIntIndex index = builder.build();
+
+        assertEquals(expected.size(), index.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().intValue(), index.get(entry.getKey(), -1));
+        }
+        for (int key = 100_000; key < 100_500; key++) {
+            assertFalse(index.containsKey(key));
+            assertEquals(-7, index.get(key, -7));
+        }
+        assertEquals(expected, index.asMap());
+    }
+
+    @Test
+    void zeroKey_isSupported() {
+        IntIntIndex index = new IntIntIndex.Builder().put(0, 5).put(3, 0).build();
+
+        assertTrue(index.containsKey(0));
+        assertEquals(5, index.get(0, -1));
+        assertEquals(0, index.get(3, -1));
+        assertEquals(Map.of(0, 5, 3, 0), index.asMap());
+    }
+
+    @Test
+    void putIfAbsent_keepsFirstValue() {
+        IntIntIndex.Builder builder = new IntIntIndex.Builder();
+
+        assertTrue(builder.putIfAbsent(89631139, 4007));
+        assertFalse(builder.putIfAbsent(89631139, 9999));
+
+        assertEquals(4007, builder.build().get(89631139, -1));
+    }
+
+    @Test
+    void asMap_isReadOnlyAndReturnsNullForUnknownKeys() {
+        IntIntIndex index = new IntIntIndex.Builder().put(1, Integer.MIN_VALUE).build();
+        Map<Integer, Integer> view = index.asMap();
+
+        assertEquals(Integer.MIN_VALUE, view.get(1));
+        assertNull(view.get(2));
+        assertNull(view.get("1"));
+        assertThrows(UnsupportedOperationException.class, () -> view.put(2, 2));
+        assertThrows(UnsupportedOperationException.class, () -> view.entrySet().iterator().next().setValue(3));
+    }
+
+    @Test
+    void copyOf_unwrapsItsOwnView() {
+        IntIntIndex index = new IntIntIndex.Builder().put(1, 2).build();
+
+        assertSame(index, IntIntIndex.copyOf(index.asMap()));
+        assertEquals(index.asMap(), IntIntIndex.copyOf(new HashMap<>(Map.of(1, 2))).asMap());
+    }
+
+    @Test
+    void builder_cannotBeReusedAfterBuild() {
+        IntIntIndex.Builder builder = new IntIntIndex.Builder().put(1, 1);
+        builder.build();
+
+        assertThrows(IllegalStateException.class, () -> builder.put(2, 2));
+    }
+}
@@ -0,0 +1,73 @@
+package Model.Database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IntListIndex} and {@link IntList}.
+ */
+class IntListIndexTest {
+
+    @Test
+    void copyOf_keepsSiblingsSharingOneList() {
+        List<Integer> blueEyesArts = new ArrayList<>(List.of(89631139, 89631140));
+        Map<Integer, List<Integer>> map = new HashMap<>();
+        map.put(89631139, blueEyesArts);
+        map.put(89631140, blueEyesArts);
+        map.put(55144522, List.of(55144522));
+
+        IntListIndex index = IntListIndex.copyOf(map);
+
+        assertSame(index.get(89631139), index.get(89631140));
+        assertEquals(List.of(89631139, 89631140), index.get(89631139));
+        assertNull(index.get(1));
+        assertEquals(map, index.asMap());
+    }
+
+    @Test
+    void builder_putReplacesPreviousList() {
+        IntListIndex index = new IntListIndex.Builder()
+                .put(7, IntList.of(1))
+                .put(7, IntList.of(2, 3))
+                .build();
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(2, 3), index.get(7));
+        assertEquals(1, index.asMap().entrySet().size());
+    }
+
+    @Test
+    void asMap_isReadOnly() {
+        Map<Integer, List<Integer>> view = new IntListIndex.Builder().put(1, IntList.of(1)).build().asMap();
+
+        assertThrows(UnsupportedOperationException.class, () -> view.put(2, List.of()));
+        assertThrows(UnsupportedOperationException.class, () -> view.get(1).add(5));
+    }
+
+    @Test
+    void intList_behavesLikeAList() {
+        IntList list = IntList.of(4007, 4008, 4007);
+
+        assertEquals(List.of(4007, 4008, 4007), list);
+        assertEquals(List.of(4007, 4008, 4007).hashCode(), list.hashCode());
+        assertEquals(1, list.indexOf(4008));
+        assertTrue(list.contains(Integer.valueOf(4008)));
+        assertFalse(list.contains("4008"));
+        assertEquals(4008, list.getInt(1));
+        assertSame(list, IntList.copyOf(list));
+    }
+
+    @Test
+    void intList_of_copiesItsArgument() {
+        int[] values = {1, 2};
+        IntList list = IntList.of(values);
+        values[0] = 9;
+
+        assertEquals(1, list.getInt(0));
+        list.toIntArray()[1] = 9;
+        assertEquals(2, list.getInt(1));
+    }
+}
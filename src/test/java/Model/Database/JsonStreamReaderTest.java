@@ -0,0 +1,105 @@
+package Model.Database;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link JsonStreamReader}.
+ */
+class JsonStreamReaderTest {
+
+    private static JsonStreamReader reader(String json) {
+        return new JsonStreamReader(new StringReader(json));
+    }
+
+    @Test
+    void readsNestedStructure() throws IOException {
+        JsonStreamReader reader = reader("{\"a\": [1, -2.5e1, true, null], \"b\": {}}");
+
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        reader.beginArray();
+        assertEquals(1, reader.nextInt());
+        assertEquals(-25.0, reader.nextDouble(), 0.0);
+        assertTrue(reader.nextBoolean());
+        assertEquals(JsonStreamReader.Token.NULL, reader.peek());
+        reader.nextNull();
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("b", reader.nextName());
+        reader.beginObject();
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        reader.endObject();
+        assertEquals(JsonStreamReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void decodesEscapes() throws IOException {
+        JsonStreamReader reader = reader("[\"a\\\"b\\\\c\\/d\\n\\u00e9\\u65e5\"]");
+
+        reader.beginArray();
+        assertEquals("a\"b\\c/d\né日", reader.nextString());
+    }
+
+    @Test
+    void readsStringsLongerThanTheBuffer() throws IOException {
+        String longValue = "x".repeat(100_000) + "\\n" + "y".repeat(40_000);
+        JsonStreamReader reader = reader("[\"" + longValue + "\"]");
+
+        reader.beginArray();
+        String value = reader.nextString();
+        assertEquals(140_001, value.length());
+        assertEquals('\n', value.charAt(100_000));
+    }
+
+    @Test
+    void numericStringsAndNumbersAreInterchangeable() throws IOException {
+        JsonStreamReader reader = reader("[\"42\", 7, 3.0]");
+
+        reader.beginArray();
+        assertEquals(42, reader.nextInt());
+        assertEquals("7", reader.nextString());
+        assertEquals(3, reader.nextInt());
+    }
+
+    @Test
+    void skipValue_skipsWholeSubtree() throws IOException {
+        JsonStreamReader reader = reader("{\"skip\": {\"x\": [1, {\"y\": \"z\"}], \"w\": \"q\\\"\"}, \"keep\": 5}");
+
+        reader.beginObject();
+        assertEquals("skip", reader.nextName());
+        reader.skipValue();
+        assertEquals("keep", reader.nextName());
+        assertEquals(5, reader.nextInt());
+        reader.endObject();
+    }
+
+    @Test
+    void missingComma_throwsIOException() throws IOException {
+        JsonStreamReader reader = reader("[1 2]");
+
+        reader.beginArray();
+        reader.nextInt();
+        assertThrows(IOException.class, reader::peek);
+    }
+
+    @Test
+    void unterminatedArray_throwsIOException() throws IOException {
+        JsonStreamReader reader = reader("[");
+
+        reader.beginArray();
+        assertThrows(IOException.class, reader::hasNext);
+    }
+
+    @Test
+    void wrongTokenType_throwsIOException() throws IOException {
+        JsonStreamReader reader = reader("{\"a\": 1}");
+
+        assertThrows(IOException.class, reader::beginArray);
+    }
+}
@@ -0,0 +1,47 @@
+package Model.Database;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TokenBucket}, on an explicit clock.
+ */
+class TokenBucketTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    void reserve_allowsBurstThenSpacesPermitsAtTheRate() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(100 * MILLI, bucket.reserve(0));
+        assertEquals(200 * MILLI, bucket.reserve(0));
+    }
+
+    @Test
+    void reserve_refillsOverTimeButNeverAboveBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+        bucket.reserve(0);
+        bucket.reserve(0);
+
+        // One permit back after 100 ms.
+        assertEquals(0, bucket.reserve(100 * MILLI));
+        assertEquals(100 * MILLI, bucket.reserve(100 * MILLI));
+
+        // A long idle period refills only up to the burst.
+        long later = 60_000 * MILLI;
+        assertEquals(0, bucket.reserve(later));
+        assertEquals(0, bucket.reserve(later));
+        assertEquals(100 * MILLI, bucket.reserve(later));
+    }
+
+    @Test
+    void constructor_rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0, 0));
+    }
+}
@@ -0,0 +1,94 @@
+package Model.Database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link WriteBehindJournal}, on a journal in a temporary directory.
+ */
+class WriteBehindJournalTest {
+
+    @Test
+    void flushedChanges_replayOnLoad(@TempDir Path directory) {
+        Path file = directory.resolve("store.jsonl");
+        Map<String, String> live = new LinkedHashMap<>();
+        WriteBehindJournal journal = new WriteBehindJournal(file, () -> new LinkedHashMap<>(live));
+
+        journal.put("a", "1");
+        journal.put("b", "2");
+        journal.put("a", "3");
+        journal.remove("b");
+        journal.put("c", "4");
+        assertTrue(journal.flush());
+
+        Map<String, String> replayed = new WriteBehindJournal(file, Map::of).load();
+        assertEquals(Map.of("a", "3", "c", "4"), replayed);
+    }
+
+    @Test
+    void changes_areNotWrittenUntilFlushed(@TempDir Path directory) {
+        Path file = directory.resolve("store.jsonl");
+        WriteBehindJournal journal = new WriteBehindJournal(file, Map::of);
+
+        journal.put("a", "1");
+
+        assertFalse(Files.exists(file));
+        journal.flush();
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void flush_compactsJournalThatOutgrewLiveEntries(@TempDir Path directory) {
+        Path file = directory.resolve("store.jsonl");
+        Map<String, String> live = new LinkedHashMap<>();
+        WriteBehindJournal journal = new WriteBehindJournal(file, () -> new LinkedHashMap<>(live));
+
+        for (int i = 0; i < 3_000; i++) {
+            String key = "path/" + i;
+            live.put(key, "");
+            journal.put(key, "");
+            live.remove(key);
+            journal.remove(key);
+        }
+        live.put("kept", "x");
+        journal.put("kept", "x");
+        journal.flush();
+
+        assertEquals(1, journal.getLinesOnDisk());
+        assertEquals(Map.of("kept", "x"), new WriteBehindJournal(file, Map::of).load());
+    }
+
+    @Test
+    void rewrite_replacesJournalWithLiveEntries(@TempDir Path directory) {
+        Path file = directory.resolve("store.jsonl");
+        Map<String, String> live = new LinkedHashMap<>();
+        WriteBehindJournal journal = new WriteBehindJournal(file, () -> new LinkedHashMap<>(live));
+        journal.put("a", "1");
+        journal.flush();
+
+        journal.rewrite();
+        journal.flush();
+
+        assertTrue(new WriteBehindJournal(file, Map::of).load().isEmpty());
+    }
+
+    @Test
+    void load_skipsLineCutShortByCrash(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("store.jsonl");
+        WriteBehindJournal journal = new WriteBehindJournal(file, Map::of);
+        journal.put("a", "1");
+        journal.flush();
+        Files.writeString(file, "{\"k\":\"b\",\"v\":", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(Map.of("a", "1"), new WriteBehindJournal(file, Map::of).load());
+    }
+}
@@ -0,0 +1,130 @@
+package Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ByteBudgetCache}'s budget accounting and eviction order.
+ */
+class ByteBudgetCacheTest {
+
+    // Values are byte arrays weighing their length.
+    private static ByteBudgetCache<String, byte[]> cache(long budgetBytes) {
+        return new ByteBudgetCache<>("test.cache", budgetBytes, value -> value.length);
+    }
+
+    @Test
+    void put_keepsTotalWeightWithinBudget() {
+        ByteBudgetCache<String, byte[]> cache = cache(16 * 1_000);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("image-" + i, new byte[100]);
+            assertTrue(cache.weightBytes() <= cache.budgetBytes());
+        }
+        assertEquals(cache.size() * 100L, cache.weightBytes());
+        assertTrue(cache.size() < 1_000);
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedFirst() {
+        // Keys that land in the same stripe: one stripe holds 3 values of 100 bytes.
+        ByteBudgetCache<Integer, byte[]> cache = new ByteBudgetCache<>("test.cache", 16 * 300, value -> value.length);
+        cache.put(0, new byte[100]);
+        cache.put(16, new byte[100]);
+        cache.put(32, new byte[100]);
+
+        assertNotNull(cache.get(0));
+        cache.put(48, new byte[100]);
+
+        assertNull(cache.get(16), "least recently used entry should be evicted");
+        assertNotNull(cache.get(0));
+        assertNotNull(cache.get(32));
+        assertNotNull(cache.get(48));
+    }
+
+    @Test
+    void put_replacingAValueUpdatesWeight() {
+        ByteBudgetCache<String, byte[]> cache = cache(16 * 1_000);
+        cache.put("a", new byte[100]);
+        cache.put("a", new byte[40]);
+
+        assertEquals(40, cache.weightBytes());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void put_rejectsValueHeavierThanAStripe() {
+        ByteBudgetCache<String, byte[]> cache = cache(16 * 100);
+        cache.put("a", new byte[10]);
+
+        assertFalse(cache.put("a", new byte[101]));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.weightBytes());
+    }
+
+    @Test
+    void remove_releasesWeight() {
+        ByteBudgetCache<String, byte[]> cache = cache(16 * 1_000);
+        cache.put("a", new byte[100]);
+        cache.put("b", new byte[60]);
+
+        cache.remove("a");
+        cache.remove("missing");
+
+        assertEquals(60, cache.weightBytes());
+        assertFalse(cache.contains("a"));
+    }
+
+    @Test
+    void clear_resetsWeight() {
+        ByteBudgetCache<String, byte[]> cache = cache(16 * 1_000);
+        cache.put("a", new byte[100]);
+        cache.put("b", new byte[100]);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weightBytes());
+        assertFalse(cache.contains("a"));
+    }
+
+    @Test
+    void concurrentPutsAndGets_keepAccountingConsistent() throws Exception {
+        ByteBudgetCache<String, byte[]> cache = cache(16 * 2_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int seed = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 5_000; i++) {
+                    String key = "image-" + ((i * 31 + seed) % 700);
+                    if (i % 3 == 0) {
+                        cache.get(key);
+                    } else {
+                        cache.put(key, new byte[50 + (i % 100)]);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertTrue(cache.weightBytes() <= cache.budgetBytes());
+        cache.clear();
+        assertEquals(0, cache.weightBytes());
+    }
+}
@@ -0,0 +1,127 @@
+package Utils;
+
+import Model.CardsLists.Card;
+import Model.Database.Database;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CardTextIndex}'s index builders, on synthetic cards so they
+ * need no loaded database, and for its rebuild once {@link Database} publishes
+ * another card list.
+ */
+class CardTextIndexTest {
+
+    private static Card card(String passCode, String englishName) {
+        Card card = new Card();
+        card.setPassCode(passCode);
+        card.setName_EN(englishName);
+        return card;
+    }
+
+    @Test
+    void cardIndex_passCode_returnsEveryArtworkInSourceOrder() {
+        Card firstArtwork = card("46986414", "Dark Magician");
+        Card secondArtwork = card("46986414", "Dark Magician");
+        Map<Integer, Card> cards = new LinkedHashMap<>();
+        cards.put(46986414, firstArtwork);
+        cards.put(36996508, secondArtwork);
+        cards.put(89631139, card("89631139", "Blue-Eyes White Dragon"));
+
+        CardTextIndex.CardIndex index = CardTextIndex.CardIndex.build(7, cards);
+
+        assertEquals(List.of(firstArtwork, secondArtwork), index.byPassCode("46986414"));
+        assertTrue(index.byPassCode("12345678").isEmpty());
+        assertEquals(7, index.revision);
+    }
+
+    @Test
+    void cardIndex_name_matchesAnyLanguageNormalized() {
+        Card card = card("1", "Raigeki");
+        card.setName_FR("Raïgeki Français");
+        card.setName_JA("サンダー・ボルト");
+        Map<Integer, Card> cards = Map.of(1, card);
+
+        CardTextIndex.CardIndex index = CardTextIndex.CardIndex.build(0, cards);
+
+        assertEquals(List.of(card), index.byNormalizedName(
+                CardTextMatcher.normalizeForNameCompare("  RAIGEKI ")));
+        assertEquals(List.of(card), index.byNormalizedName(
+                CardTextMatcher.normalizeForNameCompare("raigeki francais")));
+        assertEquals(List.of(card), index.byNormalizedName(
+                CardTextMatcher.normalizeForNameCompare("サンダー・ボルト")));
+        assertTrue(index.byNormalizedName("not a card").isEmpty());
+    }
+
+    @Test
+    void cardIndex_nameSharedAcrossLanguages_listsCardOnce() {
+        Card card = card("2", "Pot of Greed");
+        card.setName_DE("Pot of Greed");
+        Map<Integer, Card> cards = Map.of(2, card);
+
+        CardTextIndex.CardIndex index = CardTextIndex.CardIndex.build(0, cards);
+
+        assertEquals(1, index.byNormalizedName("pot of greed").size());
+    }
+
+    @Test
+    void cardIndex_cardsWithoutPassCodeOrNames_areSkipped() {
+        Map<Integer, Card> cards = Map.of(3, new Card());
+
+        CardTextIndex.CardIndex index = CardTextIndex.CardIndex.build(0, cards);
+
+        assertTrue(index.byNormalizedName("").isEmpty());
+    }
+
+    @Test
+    void printCodeIndex_isCaseInsensitiveAndPrefersUpperCaseKey() {
+        Card lowerCaseKeyCard = card("4", "Lower");
+        Card upperCaseKeyCard = card("4", "Upper");
+        Card mixedCaseCard = card("5", "Mixed");
+        Map<String, Card> printedCards = new LinkedHashMap<>();
+        printedCards.put("lob-en001", lowerCaseKeyCard);
+        printedCards.put("LOB-EN001", upperCaseKeyCard);
+        printedCards.put("Sdk-e002", mixedCaseCard);
+
+        CardTextIndex.PrintCodeIndex index = CardTextIndex.PrintCodeIndex.build(0, printedCards);
+
+        assertSame(upperCaseKeyCard, index.byPrintCode("LOB-EN001"));
+        assertSame(mixedCaseCard, index.byPrintCode("SDK-E002"));
+        assertSame(mixedCaseCard, index.byPrintCode("sdk-e002"));
+        assertNull(index.byPrintCode("LOB-EN002"));
+    }
+
+    @Test
+    void printCodeIndex_isStaleOnceRevisionMovesOrWhileEmpty() {
+        CardTextIndex.PrintCodeIndex index = CardTextIndex.PrintCodeIndex.build(
+                3, Map.of("LOB-EN001", card("4", "Upper")));
+        CardTextIndex.PrintCodeIndex emptyIndex = CardTextIndex.PrintCodeIndex.build(3, Map.of());
+
+        assertFalse(index.isStale(3));
+        assertTrue(index.isStale(4));
+        assertTrue(emptyIndex.isStale(3));
+    }
+
+    @Test
+    void findByPassCode_cardsReplacedBySameNumberOfCards_seesNewCards() {
+        Map<Integer, Card> original = new HashMap<>(Database.getAllCardsList());
+        Card before = card("11111111", "Before");
+        Card after = card("22222222", "After");
+        try {
+            Database.replaceAllCardsList(Map.of(11111111, before));
+            assertEquals(List.of(before), CardTextIndex.findByPassCode("11111111"));
+
+            Database.replaceAllCardsList(Map.of(22222222, after));
+            assertTrue(CardTextIndex.findByPassCode("11111111").isEmpty());
+            assertEquals(List.of(after), CardTextIndex.findByPassCode("22222222"));
+        } finally {
+            Database.replaceAllCardsList(original);
+        }
+    }
+}
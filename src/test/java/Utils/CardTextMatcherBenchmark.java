@@ -0,0 +1,154 @@
+package Utils;
+
+import Model.CardsLists.Card;
+
+import java.util.*;
+
+/**
+ * Manual benchmark of the lookups behind one {@link CardTextMatcher}
+ * detection, comparing {@link CardTextIndex} with the linear scans it
+ * replaced.
+ *
+ * <p>Not a test (the name doesn't end in {@code Test}, so Surefire never runs
+ * it): it builds a synthetic database the size of the live one, so it needs
+ * no network or local card files, and prints the mean time per detection for
+ * each tier. Run its {@code main} from the IDE, optionally passing the number
+ * of cards and of detections:
+ * <pre>
+ * CardTextMatcherBenchmark [cards=22000] [detections=100]
+ * </pre>
+ * Each detection is one pass code, one print code and one name lookup, as a
+ * camera frame that falls through to the name tier costs.
+ */
+public final class CardTextMatcherBenchmark {
+
+    private static final String[] LANGUAGE_PREFIXES = {"en", "fr", "ja", "es", "de", "it", "kr", "pt"};
+    private static final int WARMUP_ROUNDS = 1;
+    // The indexed lookups are too fast to time over a single pass of the detections.
+    private static final int INDEX_REPEATS = 1_000;
+
+    private CardTextMatcherBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int cardCount = args.length > 0 ? Integer.parseInt(args[0]) : 22_000;
+        int detectionCount = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+        Map<Integer, Card> cards = new LinkedHashMap<>();
+        Map<String, Card> printedCards = new LinkedHashMap<>();
+        for (int i = 0; i < cardCount; i++) {
+            Card card = new Card();
+            int passCode = 10_000_000 + i;
+            card.setPassCode(String.valueOf(passCode));
+            card.setName_EN("Synthetic Card " + i);
+            card.setName_FR("Carte Synthétique " + i);
+            card.setName_JA("合成カード" + i);
+            card.setName_ES("Carta Sintética " + i);
+            card.setName_DE("Synthetische Karte " + i);
+            card.setName_IT("Carta Sintetica " + i);
+            card.setName_KR("합성 카드 " + i);
+            card.setName_PT("Carta Sintética PT " + i);
+            cards.put(passCode, card);
+            // Print codes are stored as found in the source data, not always upper case.
+            String printCode = String.format("SYN%d-%s%03d", i / 1000, i % 5 == 0 ? "en" : "EN", i % 1000);
+            printedCards.put(printCode, card);
+        }
+
+        Random random = new Random(42);
+        String[][] detections = new String[detectionCount][3];
+        for (int i = 0; i < detectionCount; i++) {
+            int target = random.nextInt(cardCount);
+            String language = LANGUAGE_PREFIXES[random.nextInt(LANGUAGE_PREFIXES.length)];
+            detections[i][0] = String.valueOf(10_000_000 + target);
+            detections[i][1] = String.format("SYN%d-EN%03d", target / 1000, target % 1000);
+            detections[i][2] = nameIn(cards.get(10_000_000 + target), language);
+        }
+
+        long buildStart = System.nanoTime();
+        CardTextIndex.CardIndex cardIndex = CardTextIndex.CardIndex.build(0, cards);
+        CardTextIndex.PrintCodeIndex printCodeIndex = CardTextIndex.PrintCodeIndex.build(0, printedCards);
+        long buildNanos = System.nanoTime() - buildStart;
+
+        long scanNanos = 0;
+        long indexNanos = 0;
+        int checksum = 0;
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (String[] detection : detections) {
+                checksum += scanPassCode(cards, detection[0]) != null ? 1 : 0;
+                checksum += scanPrintCode(printedCards, detection[1]) != null ? 1 : 0;
+                checksum += scanName(cards, CardTextMatcher.normalizeForNameCompare(detection[2])) != null ? 1 : 0;
+            }
+            scanNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int repeat = 0; repeat < INDEX_REPEATS; repeat++) {
+                for (String[] detection : detections) {
+                    checksum += cardIndex.byPassCode(detection[0]).isEmpty() ? 0 : 1;
+                    checksum += printCodeIndex.byPrintCode(detection[1]) != null ? 1 : 0;
+                    checksum += cardIndex.byNormalizedName(
+                            CardTextMatcher.normalizeForNameCompare(detection[2])).isEmpty() ? 0 : 1;
+                }
+            }
+            indexNanos = (System.nanoTime() - start) / INDEX_REPEATS;
+        }
+
+        System.out.printf("%d cards, %d detections (checksum %d)%n", cardCount, detectionCount, checksum);
+        System.out.printf("index build:   %8.2f ms%n", buildNanos / 1e6);
+        System.out.printf("linear scans:  %8.2f us/detection%n", scanNanos / 1e3 / detectionCount);
+        System.out.printf("indexes:       %8.2f us/detection%n", indexNanos / 1e3 / detectionCount);
+    }
+
+    private static String nameIn(Card card, String language) {
+        return switch (language) {
+            case "fr" -> card.getName_FR();
+            case "ja" -> card.getName_JA();
+            case "es" -> card.getName_ES();
+            case "de" -> card.getName_DE();
+            case "it" -> card.getName_IT();
+            case "kr" -> card.getName_KR();
+            case "pt" -> card.getName_PT();
+            default -> card.getName_EN();
+        };
+    }
+
+    // ── The lookups CardTextMatcher used before CardTextIndex ────────────────
+
+    private static Card scanPassCode(Map<Integer, Card> cards, String passCode) {
+        for (Card card : cards.values()) {
+            if (passCode.equals(card.getPassCode())) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    private static Card scanPrintCode(Map<String, Card> printedCards, String printCode) {
+        Card directMatch = printedCards.get(printCode);
+        if (directMatch != null) {
+            return directMatch;
+        }
+        for (Map.Entry<String, Card> entry : printedCards.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(printCode)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static Card scanName(Map<Integer, Card> cards, String normalizedTarget) {
+        for (Card card : cards.values()) {
+            for (String name : List.of(
+                    Objects.toString(card.getName_EN(), ""), Objects.toString(card.getName_FR(), ""),
+                    Objects.toString(card.getName_JA(), ""), Objects.toString(card.getName_ES(), ""),
+                    Objects.toString(card.getName_DE(), ""), Objects.toString(card.getName_IT(), ""),
+                    Objects.toString(card.getName_CN(), ""), Objects.toString(card.getName_KR(), ""),
+                    Objects.toString(card.getName_PT(), ""))) {
+                if (normalizedTarget.equals(CardTextMatcher.normalizeForNameCompare(name))) {
+                    return card;
+                }
+            }
+        }
+        return null;
+    }
+}
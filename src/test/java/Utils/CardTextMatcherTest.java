@@ -4,6 +4,7 @@ import Model.CardsLists.Card;
 import Model.Database.Database;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -186,11 +187,24 @@ class CardTextMatcherTest {
         return new String(characters);
     }
 
+    /**
+     * Installs the current cards plus {@code syntheticCard} under
+     * {@code syntheticKey} as {@link Database}'s card list.
+     *
+     * @return the cards to restore once the test is done
+     */
+    private static Map<Integer, Card> withSyntheticCard(int syntheticKey, Card syntheticCard) {
+        Map<Integer, Card> original = Database.getAllCardsList();
+        Map<Integer, Card> cards = new HashMap<>(original);
+        cards.put(syntheticKey, syntheticCard);
+        Database.replaceAllCardsList(cards);
+        return original;
+    }
+
     @Test
     void matchText_syntheticCardWithAccentedSpanishName_matchesWithoutAccent() {
         Card syntheticCard = buildSyntheticCardWithAllLanguageNames();
-        Integer syntheticKey = -999002;
-        Database.getAllCardsList().put(syntheticKey, syntheticCard);
+        Map<Integer, Card> original = withSyntheticCard(-999002, syntheticCard);
         try {
             String nameWithoutAccent = "Nombre Espanol de Prueba Zzyx";
 
@@ -199,13 +213,13 @@ class CardTextMatcherTest {
             assertTrue(result.isPresent(), "a de-accented Spanish name should still resolve");
             assertEquals(CardTextMatcher.MatchField.NAME, result.get().getMatchedField());
         } finally {
-            Database.getAllCardsList().remove(syntheticKey);
+            Database.replaceAllCardsList(original);
         }
     }
 
     /**
      * Registers one synthetic card with a distinct name in all nine
-     * languages directly into {@link Database}'s live card map (there's no
+     * languages into {@link Database}'s card list (there's no
      * real card in the loaded data guaranteed to have a distinct,
      * predictable name in all nine at once), confirms every one of the nine
      * resolves back to it via {@link CardTextMatcher#matchText}'s exact
@@ -215,8 +229,7 @@ class CardTextMatcherTest {
     @Test
     void matchText_syntheticCardWithAllNineLanguageNames_resolvesViaEachOne() {
         Card syntheticCard = buildSyntheticCardWithAllLanguageNames();
-        Integer syntheticKey = -999001;
-        Database.getAllCardsList().put(syntheticKey, syntheticCard);
+        Map<Integer, Card> original = withSyntheticCard(-999001, syntheticCard);
         try {
             String[] namesToTry = {
                     syntheticCard.getName_EN(), syntheticCard.getName_FR(), syntheticCard.getName_JA(),
@@ -234,7 +247,7 @@ class CardTextMatcherTest {
                 assertEquals(syntheticCard.getPassCode(), matchResult.getCard().getPassCode());
             }
         } finally {
-            Database.getAllCardsList().remove(syntheticKey);
+            Database.replaceAllCardsList(original);
         }
     }
 
@@ -0,0 +1,98 @@
+package Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LatencyHistogram}'s bucket layout and percentiles.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void indexOf_isMonotonicAndHighestValueAtBoundsEachBucket() {
+        long[] values = {0, 1, 127, 128, 129, 255, 256, 1_000, 65_535, 1_000_000, 123_456_789_012L,
+                Long.MAX_VALUE / 3, Long.MAX_VALUE};
+        int previousIndex = -1;
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(index >= previousIndex, "index must not decrease at " + value);
+            assertTrue(LatencyHistogram.highestValueAt(index) >= value, "bucket must contain " + value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestValueAt(index - 1) < value,
+                        "previous bucket must end below " + value);
+            }
+            previousIndex = index;
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void smallValues_areExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.getCount());
+        assertEquals(5050, snapshot.getSum());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(100, snapshot.getMax());
+        assertEquals(50, snapshot.valueAtPercentile(50));
+        assertEquals(99, snapshot.valueAtPercentile(99));
+        assertEquals(100, snapshot.valueAtPercentile(100));
+        assertEquals(1, snapshot.valueAtPercentile(0));
+    }
+
+    @Test
+    void largeValues_percentilesStayWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] sorted = new long[10_000];
+        Random random = new Random(42);
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = 1_000 + (long) (random.nextDouble() * 500_000_000L);
+            histogram.record(sorted[i]);
+        }
+        java.util.Arrays.sort(sorted);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            long exact = sorted[(int) Math.ceil(percentile / 100 * sorted.length) - 1];
+            long reported = snapshot.valueAtPercentile(percentile);
+            assertTrue(reported >= exact, "p" + percentile + " must not under-report");
+            assertTrue(reported - exact <= exact / 64, "p" + percentile + " off by more than 1/64");
+        }
+        assertEquals(sorted[sorted.length - 1], snapshot.valueAtPercentile(100));
+    }
+
+    @Test
+    void negativeValues_areRecordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1, snapshot.getCount());
+        assertEquals(0, snapshot.getMax());
+    }
+
+    @Test
+    void reset_forgetsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+        histogram.reset();
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.valueAtPercentile(99));
+        assertEquals(0.0, snapshot.getMean());
+    }
+}
@@ -0,0 +1,72 @@
+package Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LifoExecutor}'s run order and cancellation.
+ */
+class LifoExecutorTest {
+
+    @Test
+    void submit_runsNewestQueuedTaskFirst() throws Exception {
+        LifoExecutor executor = new LifoExecutor("test-lifo", 1, Thread.NORM_PRIORITY);
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            List<Integer> order = new CopyOnWriteArrayList<>();
+            // Occupies the only thread while the others queue up.
+            executor.submit(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Future<?> last = null;
+            for (int i = 0; i < 4; i++) {
+                int task = i;
+                Future<?> future = executor.submit(() -> order.add(task));
+                if (i == 0) {
+                    last = future;
+                }
+            }
+            release.countDown();
+            last.get(5, TimeUnit.SECONDS);
+            assertEquals(List.of(3, 2, 1, 0), order);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancel_dropsQueuedTaskWithoutRunningIt() throws Exception {
+        LifoExecutor executor = new LifoExecutor("test-lifo", 1, Thread.NORM_PRIORITY);
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            List<String> ran = new CopyOnWriteArrayList<>();
+            executor.submit(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Future<?> kept = executor.submit(() -> ran.add("kept"));
+            Future<?> cancelled = executor.submit(() -> ran.add("cancelled"));
+            assertTrue(cancelled.cancel(false));
+            release.countDown();
+            kept.get(5, TimeUnit.SECONDS);
+            assertEquals(List.of("kept"), ran);
+            assertTrue(cancelled.isCancelled());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
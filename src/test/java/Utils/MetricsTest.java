@@ -0,0 +1,78 @@
+package Utils;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link Metrics} registry. Each test uses its own metric
+ * names, since the registry is shared by the whole JVM.
+ */
+class MetricsTest {
+
+    @Test
+    void timer_sameNameReturnsSameTimer() {
+        assertSame(Metrics.timer("test.timer.same"), Metrics.timer("test.timer.same"));
+        assertNotSame(Metrics.timer("test.timer.same"), Metrics.timer("test.timer.other"));
+    }
+
+    @Test
+    void timer_recordsDurations() {
+        Metrics.Timer timer = Metrics.timer("test.timer.records");
+        timer.record(2_000_000);
+        timer.record(4_000_000);
+        long elapsed = timer.recordSince(Metrics.start());
+
+        LatencyHistogram.Snapshot snapshot = timer.snapshot();
+
+        assertEquals(3, snapshot.getCount());
+        assertTrue(elapsed >= 0);
+        assertEquals(4_000_000, snapshot.getMax());
+    }
+
+    @Test
+    void counter_addsUp() {
+        Metrics.Counter counter = Metrics.counter("test.counter.addsUp");
+        counter.increment();
+        counter.add(4);
+
+        assertEquals(5, counter.get());
+        assertSame(counter, Metrics.counters().get("test.counter.addsUp"));
+    }
+
+    @Test
+    void readGauges_readsCurrentValueAndSurvivesFailures() {
+        long[] value = {7};
+        Metrics.gauge("test.gauge.value", () -> value[0]);
+        Metrics.gauge("test.gauge.failing", () -> {
+            throw new IllegalStateException("not ready");
+        });
+        value[0] = 9;
+
+        assertEquals(9, Metrics.readGauges().get("test.gauge.value"));
+        assertEquals(-1, Metrics.readGauges().get("test.gauge.failing"));
+        assertTrue(Metrics.readGauges().containsKey("jvm.heap.usedBytes"));
+    }
+
+    @Test
+    void writeJson_writesTimersCountersAndGauges(@TempDir Path directory) throws Exception {
+        Metrics.timer("test.json.timer").record(1_500_000);
+        Metrics.counter("test.json.counter").add(3);
+        Path file = directory.resolve("nested").resolve("metrics.json");
+
+        Metrics.writeJson(file);
+
+        JSONObject json = new JSONObject(Files.readString(file));
+        JSONObject timer = json.getJSONObject("timers").getJSONObject("test.json.timer");
+        assertTrue(timer.getLong("count") >= 1);
+        assertTrue(timer.getDouble("maxMs") >= 1.5);
+        assertTrue(json.getJSONObject("counters").getLong("test.json.counter") >= 3);
+        assertTrue(json.getJSONObject("gauges").has("jvm.heap.maxBytes"));
+        assertFalse(Files.exists(directory.resolve("nested").resolve("metrics.json.tmp")));
+    }
+}
@@ -0,0 +1,44 @@
+package Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MosaicLayout}'s row fitting and splitting.
+ */
+class MosaicLayoutTest {
+
+    @Test
+    void cellsPerRow_countsGapsBetweenCellsOnly() {
+        // 3 × 100 + 2 × 5 = 310
+        assertEquals(3, MosaicLayout.cellsPerRow(310, 100, 5));
+        assertEquals(2, MosaicLayout.cellsPerRow(309, 100, 5));
+        assertEquals(1, MosaicLayout.cellsPerRow(100, 100, 5));
+    }
+
+    @Test
+    void cellsPerRow_isAtLeastOne() {
+        assertEquals(1, MosaicLayout.cellsPerRow(0, 100, 5));
+        assertEquals(1, MosaicLayout.cellsPerRow(40, 100, 5));
+    }
+
+    @Test
+    void rows_splitsInOrderWithShorterLastRow() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            items.add(i);
+        }
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6)), MosaicLayout.rows(items, 3));
+        assertEquals(List.of(items), MosaicLayout.rows(items, 10));
+        assertTrue(MosaicLayout.rows(List.of(), 3).isEmpty());
+    }
+
+    @Test
+    void rows_rejectsNonPositiveRowLength() {
+        assertThrows(IllegalArgumentException.class, () -> MosaicLayout.rows(List.of(1), 0));
+    }
+}
@@ -0,0 +1,48 @@
+package Utils;
+
+import Utils.PrefetchWindow.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PrefetchWindow}'s row order and clamping.
+ */
+class PrefetchWindowTest {
+
+    @Test
+    void around_scrollingForward_listsRowsBelowFirstThenAbove() {
+        PrefetchWindow window = PrefetchWindow.around(10, 14, 100, Direction.FORWARD, 3, 2);
+
+        assertEquals(List.of(15, 16, 17, 9, 8), window.rows());
+    }
+
+    @Test
+    void around_scrollingBackward_listsRowsAboveFirstThenBelow() {
+        PrefetchWindow window = PrefetchWindow.around(10, 14, 100, Direction.BACKWARD, 3, 2);
+
+        assertEquals(List.of(9, 8, 7, 15, 16), window.rows());
+    }
+
+    @Test
+    void around_clampsToTheList() {
+        assertEquals(List.of(3, 4), PrefetchWindow.around(0, 2, 5, Direction.FORWARD, 4, 4).rows());
+        assertEquals(List.of(1, 0), PrefetchWindow.around(2, 4, 5, Direction.FORWARD, 4, 4).rows());
+        assertTrue(PrefetchWindow.around(0, 4, 5, Direction.BACKWARD, 4, 4).rows().isEmpty());
+    }
+
+    @Test
+    void around_rejectsInvertedRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PrefetchWindow.around(5, 4, 10, Direction.FORWARD, 1, 1));
+    }
+
+    @Test
+    void direction_followsPositionAndKeepsFallbackWhenUnchanged() {
+        assertEquals(Direction.FORWARD, Direction.of(0.2, 0.3, Direction.BACKWARD));
+        assertEquals(Direction.BACKWARD, Direction.of(0.3, 0.2, Direction.FORWARD));
+        assertEquals(Direction.BACKWARD, Direction.of(0.3, 0.3, Direction.BACKWARD));
+    }
+}
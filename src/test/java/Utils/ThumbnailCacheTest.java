@@ -0,0 +1,99 @@
+package Utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ThumbnailCache}'s bucketing, generation and invalidation.
+ */
+class ThumbnailCacheTest {
+
+    private static Path writeCardImage(Path directory, String fileName) throws Exception {
+        BufferedImage image = new BufferedImage(421, 614, BufferedImage.TYPE_INT_RGB);
+        Path path = directory.resolve(fileName);
+        ImageIO.write(image, "jpg", path.toFile());
+        return path;
+    }
+
+    @Test
+    void bucketWidth_roundsUpToStep() {
+        assertEquals(40, ThumbnailCache.bucketWidth(1));
+        assertEquals(120, ThumbnailCache.bucketWidth(100));
+        assertEquals(120, ThumbnailCache.bucketWidth(120));
+        assertEquals(160, ThumbnailCache.bucketWidth(120.5));
+    }
+
+    @Test
+    void urlFor_returnsSourceAndQueuesGenerationOnMiss(@TempDir Path directory) throws Exception {
+        Path source = writeCardImage(directory, "12345.jpg");
+        List<Runnable> queued = new ArrayList<>();
+        ThumbnailCache cache = new ThumbnailCache(directory.resolve("thumbnails"), queued::add);
+        String sourceUrl = "file:" + source;
+
+        assertEquals(sourceUrl, cache.urlFor(sourceUrl, 100));
+        // Asked again before generation ran: not queued twice.
+        assertEquals(sourceUrl, cache.urlFor(sourceUrl, 110));
+        assertEquals(1, queued.size());
+
+        queued.get(0).run();
+        Path thumbnail = cache.thumbnailPath(source, 120);
+        BufferedImage generated = ImageIO.read(thumbnail.toFile());
+        assertEquals(120, generated.getWidth());
+        assertEquals(175, generated.getHeight());
+        assertEquals(thumbnail.toUri().toString(), cache.urlFor(sourceUrl, 100));
+    }
+
+    @Test
+    void urlFor_regeneratesWhenSourceChanges(@TempDir Path directory) throws Exception {
+        Path source = writeCardImage(directory, "12345.jpg");
+        ThumbnailCache cache = new ThumbnailCache(directory.resolve("thumbnails"), Runnable::run);
+        String sourceUrl = "file:" + source;
+        cache.urlFor(sourceUrl, 80);
+        Path thumbnail = cache.thumbnailPath(source, 80);
+        assertEquals(thumbnail.toUri().toString(), cache.urlFor(sourceUrl, 80));
+
+        // A re-downloaded source.
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 60_000));
+        assertFalse(ThumbnailCache.isFresh(source, thumbnail));
+        // Generation ran inline: the miss was regenerated and the next lookup hits.
+        assertEquals(sourceUrl, cache.urlFor(sourceUrl, 80));
+        assertTrue(ThumbnailCache.isFresh(source, thumbnail));
+        assertEquals(thumbnail.toUri().toString(), cache.urlFor(sourceUrl, 80));
+    }
+
+    @Test
+    void urlFor_passesThroughWhatItDoesNotCache(@TempDir Path directory) throws Exception {
+        Path source = writeCardImage(directory, "12345.jpg");
+        List<Runnable> queued = new ArrayList<>();
+        ThumbnailCache cache = new ThumbnailCache(directory.resolve("thumbnails"), queued::add);
+
+        assertEquals("https://example.org/12345.jpg", cache.urlFor("https://example.org/12345.jpg", 100));
+        assertEquals("file:" + source, cache.urlFor("file:" + source, 0));
+        assertEquals("file:" + source, cache.urlFor("file:" + source, ThumbnailCache.MAX_BUCKET_WIDTH + 1));
+        assertTrue(queued.isEmpty());
+    }
+
+    @Test
+    void generate_skipsUnreadableSources(@TempDir Path directory) throws Exception {
+        Path source = Files.writeString(directory.resolve("broken.jpg"), "not an image");
+        List<Runnable> queued = new ArrayList<>();
+        ThumbnailCache cache = new ThumbnailCache(directory.resolve("thumbnails"), queued::add);
+
+        cache.urlFor("file:" + source, 100);
+        queued.get(0).run();
+        assertFalse(Files.exists(cache.thumbnailPath(source, 120)));
+        // Not queued again this session.
+        cache.urlFor("file:" + source, 100);
+        assertEquals(1, queued.size());
+    }
+}